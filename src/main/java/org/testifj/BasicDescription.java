@@ -1,33 +1,35 @@
 package org.testifj;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 
+/**
+ * <p>
+ * Immutable description composed of text, values and sub-descriptions.
+ * </p>
+ * <p>
+ * The parts of a description are kept in a persistent binary tree (a rope), whose leaves are the parts.
+ * Appending or prepending a part creates a new root that shares the existing tree, so each operation is
+ * O(1) regardless of the size of the description. The flat list of parts is created when first requested.
+ * </p>
+ */
 public final class BasicDescription implements Description {
 
-    private final List<Part> parts;
+    private final Rope parts;
+
+    private volatile List<Part> partList;
 
     public BasicDescription() {
-        this(Collections.emptyList());
+        this(null);
     }
 
-    private BasicDescription(List<Part> parts) {
+    private BasicDescription(Rope parts) {
         this.parts = parts;
     }
 
-    private BasicDescription(List<Part> parts, Part newPart) {
-        this.parts = new ArrayList<>(parts.size() + 1);
-        this.parts.addAll(parts);
-        this.parts.add(newPart);
-    }
-
-    private BasicDescription(Part newPart, List<Part> parts) {
-        this.parts = new ArrayList<>(parts.size() + 1);
-        this.parts.add(newPart);
-        this.parts.addAll(parts);
-    }
-
     public Description prependText(String text) {
         assert text != null : "text can't be null";
 
@@ -35,7 +37,7 @@ public final class BasicDescription implements Description {
             return this;
         }
 
-        return new BasicDescription(new TextPartImpl(text), parts);
+        return new BasicDescription(Rope.concat(new Leaf(new TextPartImpl(text)), parts));
     }
 
     @Override
@@ -46,23 +48,30 @@ public final class BasicDescription implements Description {
             return this;
         }
 
-        return new BasicDescription(parts, new TextPartImpl(text));
+        return append(new TextPartImpl(text));
     }
 
     @Override
     public Description appendDescription(Description description) {
         assert description != null : "Description can't be null";
-        return new BasicDescription(parts, new DescriptionPartImpl(description));
+        return append(new DescriptionPartImpl(description));
     }
 
     @Override
     public Description appendValue(Object value) {
-        return new BasicDescription(parts, new ValuePartImpl(value));
+        return append(new ValuePartImpl(value));
     }
 
     @Override
     public List<Part> getParts() {
-        return Collections.unmodifiableList(parts);
+        List<Part> partList = this.partList;
+
+        if (partList == null) {
+            partList = Collections.unmodifiableList(Rope.flatten(parts));
+            this.partList = partList;
+        }
+
+        return partList;
     }
 
     public static Description from(String text) {
@@ -74,7 +83,7 @@ public final class BasicDescription implements Description {
     public String toString() {
         final StringBuilder buffer = new StringBuilder();
 
-        for (Part part : parts) {
+        for (Part part : getParts()) {
             buffer.append(part.toString());
         }
 
@@ -88,14 +97,95 @@ public final class BasicDescription implements Description {
 
         BasicDescription that = (BasicDescription) o;
 
-        if (!parts.equals(that.parts)) return false;
+        if (Rope.size(parts) != Rope.size(that.parts)) return false;
+        if (!getParts().equals(that.getParts())) return false;
 
         return true;
     }
 
     @Override
     public int hashCode() {
-        return parts.hashCode();
+        return getParts().hashCode();
+    }
+
+    private BasicDescription append(Part part) {
+        return new BasicDescription(Rope.concat(parts, new Leaf(part)));
+    }
+
+    private abstract static class Rope {
+
+        private final int size;
+
+        private Rope(int size) {
+            this.size = size;
+        }
+
+        private static int size(Rope rope) {
+            return rope == null ? 0 : rope.size;
+        }
+
+        private static Rope concat(Rope left, Rope right) {
+            if (left == null) {
+                return right;
+            }
+
+            if (right == null) {
+                return left;
+            }
+
+            return new Concatenation(left, right);
+        }
+
+        /**
+         * Collects the leaves of a rope in order. The tree is traversed iteratively, since a description
+         * built by repeated appends is as deep as it is long.
+         */
+        private static List<Part> flatten(Rope rope) {
+            final List<Part> parts = new ArrayList<>(size(rope));
+            final Deque<Rope> stack = new ArrayDeque<>();
+
+            if (rope != null) {
+                stack.push(rope);
+            }
+
+            while (!stack.isEmpty()) {
+                final Rope current = stack.pop();
+
+                if (current instanceof Leaf) {
+                    parts.add(((Leaf) current).part);
+                } else {
+                    final Concatenation concatenation = (Concatenation) current;
+
+                    stack.push(concatenation.right);
+                    stack.push(concatenation.left);
+                }
+            }
+
+            return parts;
+        }
+    }
+
+    private static final class Leaf extends Rope {
+
+        private final Part part;
+
+        private Leaf(Part part) {
+            super(1);
+            this.part = part;
+        }
+    }
+
+    private static final class Concatenation extends Rope {
+
+        private final Rope left;
+
+        private final Rope right;
+
+        private Concatenation(Rope left, Rope right) {
+            super(left.size + right.size);
+            this.left = left;
+            this.right = right;
+        }
     }
 
     private static final class TextPartImpl implements TextPart {
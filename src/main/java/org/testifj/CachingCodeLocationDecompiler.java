@@ -0,0 +1,209 @@
+package org.testifj;
+
+import io.recode.Caller;
+import io.recode.decompile.CodeLocationDecompiler;
+import io.recode.decompile.CodePointer;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * A <code>CodeLocationDecompiler</code> that caches the decompiled code locations of a target decompiler.
+ * Decompiling a code location requires the class file to be read and the method to be decompiled; when the
+ * same location fails repeatedly (e.g. in a data driven test), this is only done once.
+ * </p>
+ * <p>
+ * Cached code locations are keyed by class, method and line number and are indexed per class loader (the
+ * loader that defined the class of the caller, so that threads with different context class loaders share
+ * the cached locations of a class, and classes of the same name in different loaders don't). Locations in
+ * classes that can't be resolved are not cached. The number of cached locations per class loader is bounded;
+ * the least recently used location is evicted when the bound is exceeded. This class is thread-safe.
+ * </p>
+ */
+public final class CachingCodeLocationDecompiler implements CodeLocationDecompiler {
+
+    public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+    private final CodeLocationDecompiler targetDecompiler;
+
+    private final int maximumSize;
+
+    private final Map<ClassLoader, Map<CodeLocation, CodePointer[]>> cachesByClassLoader = new WeakHashMap<>();
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    public CachingCodeLocationDecompiler(CodeLocationDecompiler targetDecompiler) {
+        this(targetDecompiler, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public CachingCodeLocationDecompiler(CodeLocationDecompiler targetDecompiler, int maximumSize) {
+        assert targetDecompiler != null : "Target decompiler can't be null";
+        assert maximumSize > 0 : "Maximum size must be positive";
+
+        this.targetDecompiler = targetDecompiler;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public CodePointer[] decompileCodeLocation(Caller caller) throws IOException {
+        assert caller != null : "Caller can't be null";
+
+        final Optional<Class<?>> callerClass = resolveClass(caller.getClassName());
+
+        if (!callerClass.isPresent()) {
+            return targetDecompiler.decompileCodeLocation(caller);
+        }
+
+        final CodeLocation codeLocation = new CodeLocation(caller.getClassName(), caller.getMethodName(), caller.getLineNumber());
+        final Map<CodeLocation, CodePointer[]> cache = getCache(callerClass.get().getClassLoader());
+
+        CodePointer[] codePointers;
+
+        synchronized (cache) {
+            codePointers = cache.get(codeLocation);
+        }
+
+        if (codePointers != null) {
+            hitCount.incrementAndGet();
+            return codePointers.clone();
+        }
+
+        missCount.incrementAndGet();
+
+        codePointers = targetDecompiler.decompileCodeLocation(caller);
+
+        synchronized (cache) {
+            cache.put(codeLocation, codePointers);
+        }
+
+        return codePointers.clone();
+    }
+
+    /**
+     * Evicts all cached code locations in classes defined by the provided class loader.
+     *
+     * @param classLoader The class loader whose code locations should be evicted.
+     */
+    public void evict(ClassLoader classLoader) {
+        synchronized (cachesByClassLoader) {
+            cachesByClassLoader.remove(classLoader);
+        }
+    }
+
+    /**
+     * Evicts all cached code locations.
+     */
+    public void evictAll() {
+        synchronized (cachesByClassLoader) {
+            cachesByClassLoader.clear();
+        }
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    /**
+     * Returns the number of currently cached code locations, across all class loaders.
+     *
+     * @return The number of cached code locations.
+     */
+    public int size() {
+        int size = 0;
+
+        synchronized (cachesByClassLoader) {
+            for (Map<CodeLocation, CodePointer[]> cache : cachesByClassLoader.values()) {
+                synchronized (cache) {
+                    size += cache.size();
+                }
+            }
+        }
+
+        return size;
+    }
+
+    /**
+     * Resolves a class through the context class loader of the calling thread, or the loader of this class
+     * if the class isn't visible to it. The class is not initialized.
+     */
+    private static Optional<Class<?>> resolveClass(String className) {
+        final ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+
+        if (contextClassLoader != null) {
+            try {
+                return Optional.of(Class.forName(className, false, contextClassLoader));
+            } catch (ClassNotFoundException e) {
+                // Fall back to the loader of this class
+            }
+        }
+
+        try {
+            return Optional.of(Class.forName(className, false, CachingCodeLocationDecompiler.class.getClassLoader()));
+        } catch (ClassNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Map<CodeLocation, CodePointer[]> getCache(ClassLoader classLoader) {
+        synchronized (cachesByClassLoader) {
+            return cachesByClassLoader.computeIfAbsent(classLoader, cl -> new LinkedHashMap<CodeLocation, CodePointer[]>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<CodeLocation, CodePointer[]> eldest) {
+                    return size() > maximumSize;
+                }
+            });
+        }
+    }
+
+    private static final class CodeLocation {
+
+        private final String className;
+
+        private final String methodName;
+
+        private final int lineNumber;
+
+        private CodeLocation(String className, String methodName, int lineNumber) {
+            this.className = className;
+            this.methodName = methodName;
+            this.lineNumber = lineNumber;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            CodeLocation that = (CodeLocation) o;
+
+            if (lineNumber != that.lineNumber) return false;
+            if (!className.equals(that.className)) return false;
+            if (!methodName.equals(that.methodName)) return false;
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = className.hashCode();
+            result = 31 * result + methodName.hashCode();
+            result = 31 * result + lineNumber;
+            return result;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.testifj;
+
+import io.recode.Caller;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A captured, not necessarily resolved, call site of a DSL entry point. The {@link io.recode.Caller} is
+ * resolved at most once, when first requested.
+ */
+abstract class CallSite {
+
+    /**
+     * Classes whose frames are part of the DSL and should be skipped when resolving the call site from
+     * the stack of a failing expectation.
+     */
+    private static final String[] DSL_CLASS_NAMES = {
+            Expect.class.getName(),
+            ExpectValueContinuation.class.getName(),
+            ExpectIntContinuation.class.getName(),
+            ExpectLongContinuation.class.getName(),
+            ExpectDoubleContinuation.class.getName(),
+            ExpectEventuallyContinuation.class.getName(),
+            ExpectLatencyContinuation.class.getName(),
+            ExpectAllocationContinuation.class.getName(),
+            Outcome.class.getName(),
+            OutcomeExpectation.class.getName(),
+            CallSite.class.getName()
+    };
+
+    /**
+     * Call site resolved from the stack of the failing expectation. This is stateless and hence shared,
+     * so that capturing it doesn't allocate.
+     */
+    private static final CallSite ON_FAILURE_CALL_SITE = new CallSite() {
+        @Override
+        public Caller getCaller() {
+            return resolve();
+        }
+
+        @Override
+        protected Caller resolve() {
+            return resolveFromCurrentStack();
+        }
+    };
+
+    private volatile Caller caller;
+
+    public Caller getCaller() {
+        Caller caller = this.caller;
+
+        if (caller == null) {
+            caller = resolve();
+            this.caller = caller;
+        }
+
+        return caller;
+    }
+
+    protected abstract Caller resolve();
+
+    /**
+     * Returns an already resolved call site.
+     *
+     * @param caller The caller of the call site.
+     * @return A call site that returns the provided caller.
+     */
+    public static CallSite of(Caller caller) {
+        assert caller != null : "Caller can't be null";
+
+        final CallSite callSite = new CallSite() {
+            @Override
+            protected Caller resolve() {
+                return caller;
+            }
+        };
+
+        callSite.caller = caller;
+
+        return callSite;
+    }
+
+    /**
+     * Captures the call site of the method calling this method. This must be called directly from
+     * the DSL entry point, whose caller is the call site.
+     *
+     * @param mode The capture mode.
+     * @return The captured call site.
+     */
+    public static CallSite capture(CallerCaptureMode mode) {
+        assert mode != null : "Mode can't be null";
+
+        switch (mode) {
+            case EAGER: {
+                // [0] = Thread.getStackTrace, [1] = CallSite.capture, [2] = DSL entry point, [3] = call site
+                final List<StackTraceElement> stackTrace = Arrays.asList(Thread.currentThread().getStackTrace());
+
+                return of(new Caller(stackTrace.subList(2, stackTrace.size()), 1));
+            }
+            case DEFERRED: {
+                // [0] = CallSite.capture, [1] = DSL entry point, [2] = call site
+                final Throwable backTrace = new Throwable();
+
+                return new CallSite() {
+                    @Override
+                    protected Caller resolve() {
+                        final List<StackTraceElement> stackTrace = Arrays.asList(backTrace.getStackTrace());
+
+                        return new Caller(stackTrace.subList(1, stackTrace.size()), 1);
+                    }
+                };
+            }
+            case ON_FAILURE:
+                return ON_FAILURE_CALL_SITE;
+            default:
+                throw new IllegalArgumentException("Unsupported caller capture mode: " + mode);
+        }
+    }
+
+    private static Caller resolveFromCurrentStack() {
+        final List<StackTraceElement> stackTrace = Arrays.asList(Thread.currentThread().getStackTrace());
+
+        // Index 0 is Thread.getStackTrace, which is not part of the DSL
+        int index = 1;
+
+        while (index < stackTrace.size() - 1 && isDSLFrame(stackTrace.get(index))) {
+            index++;
+        }
+
+        return new Caller(stackTrace.subList(index - 1, stackTrace.size()), 1);
+    }
+
+    private static boolean isDSLFrame(StackTraceElement element) {
+        final String className = element.getClassName();
+
+        for (String dslClassName : DSL_CLASS_NAMES) {
+            if (className.equals(dslClassName) || className.startsWith(dslClassName + "$")) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
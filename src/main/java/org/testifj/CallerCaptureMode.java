@@ -0,0 +1,34 @@
+package org.testifj;
+
+/**
+ * Specifies how the call site of an expectation is captured by the {@link org.testifj.Expect} DSL. The
+ * call site is only required to describe an expectation failure, so capturing it eagerly makes every
+ * passing expectation pay for a full stack walk.
+ */
+public enum CallerCaptureMode {
+
+    /**
+     * The stack trace is materialized when the expectation is created. This is the most expensive mode.
+     */
+    EAGER,
+
+    /**
+     * The native back trace is recorded when the expectation is created, but stack trace elements are
+     * only materialized if the expectation fails. The resolved call site is identical to that of
+     * {@link #EAGER}. This mode only saves the materialization of the stack trace elements: recording the
+     * back trace through <code>new Throwable()</code> still walks the whole stack and allocates the
+     * <code>Throwable</code> and its back trace for every expectation, so its cost grows with the depth of
+     * the stack. That {@link Thread#getStackTrace()} isn't called doesn't make this mode cheap.
+     */
+    DEFERRED,
+
+    /**
+     * Nothing is recorded when the expectation is created. The call site is resolved from the stack of
+     * the failing expectation, i.e. the first frame outside of the DSL. Note that for statements spanning
+     * multiple lines, this is the line of the terminating call (e.g. <code>toBe(...)</code>) rather than
+     * the line of the <code>expect(...)</code> call. Capturing the call site in this mode doesn't allocate,
+     * which is why this is the default mode.
+     */
+    ON_FAILURE
+
+}
@@ -0,0 +1,65 @@
+package org.testifj;
+
+import io.recode.Caller;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>
+ * A <code>CodeDescriptionStore</code> retains code generated for a call site (e.g. the source of the
+ * expressions of a failed expectation), so that the call site doesn't need to be decompiled again.
+ * </p>
+ * <p>
+ * A store is a cache; implementations must not fail if a description can't be read or written, but
+ * should rather report it as missing.
+ * </p>
+ */
+public interface CodeDescriptionStore {
+
+    /**
+     * System property that specifies the directory of the {@link org.testifj.FileCodeDescriptionStore}
+     * used by default, e.g. <code>-Dtestifj.cache.directory=target/testifj-cache</code>.
+     */
+    String CACHE_DIRECTORY_PROPERTY = "testifj.cache.directory";
+
+    Optional<List<String>> get(Caller caller, String key);
+
+    void put(Caller caller, String key, List<String> descriptions);
+
+    /**
+     * Returns a store that stores nothing.
+     *
+     * @return A store without storage.
+     */
+    static CodeDescriptionStore none() {
+        return new CodeDescriptionStore() {
+            @Override
+            public Optional<List<String>> get(Caller caller, String key) {
+                return Optional.empty();
+            }
+
+            @Override
+            public void put(Caller caller, String key, List<String> descriptions) {
+            }
+        };
+    }
+
+    /**
+     * Returns the store configured through system properties. If the {@link #CACHE_DIRECTORY_PROPERTY}
+     * is set, a file store in the specified directory is returned, otherwise a store that stores nothing.
+     *
+     * @return The store configured through system properties.
+     */
+    static CodeDescriptionStore fromSystemProperties() {
+        final String cacheDirectory = System.getProperty(CACHE_DIRECTORY_PROPERTY);
+
+        if (cacheDirectory == null || cacheDirectory.isEmpty()) {
+            return none();
+        }
+
+        return new FileCodeDescriptionStore(Paths.get(cacheDirectory));
+    }
+
+}
@@ -0,0 +1,103 @@
+package org.testifj;
+
+import io.recode.Caller;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * <p>
+ * An <code>ExpectationFailureHandler</code> that collects expectation failures rather than aborting the
+ * execution on the first failure. The collected failures are reported in one batch through {@link #verify()},
+ * which fails with a single error describing all failures.
+ * </p>
+ * <p>
+ * Failures are collected without locking, so that expectations failing on other threads (e.g. worker threads
+ * started by the test) are retained as well. When the failures are described, the call site of each distinct
+ * caller is decompiled once and failures repeated at the same call site with the same description are reported
+ * once, together with the number of occurrences.
+ * </p>
+ */
+public final class CollectingExpectationFailureHandler implements ExpectationFailureHandler {
+
+    private final DefaultExpectationFailureHandler describingHandler;
+
+    private final Queue<ExpectationFailure> failures = new ConcurrentLinkedQueue<>();
+
+    public CollectingExpectationFailureHandler(DefaultExpectationFailureHandler describingHandler) {
+        assert describingHandler != null : "Describing handler can't be null";
+
+        this.describingHandler = describingHandler;
+    }
+
+    @Override
+    public void handleExpectationFailure(ExpectationFailure failure) {
+        assert failure != null : "Failure can't be null";
+
+        failures.add(failure);
+    }
+
+    /**
+     * Returns the failures collected so far, in the order they were reported.
+     *
+     * @return The collected failures.
+     */
+    public List<ExpectationFailure> getFailures() {
+        return Collections.unmodifiableList(new ArrayList<>(failures));
+    }
+
+    /**
+     * Verifies that no expectation has failed. If any failures have been collected, they're removed from
+     * this handler and an <code>AssertionError</code> describing all failures is thrown.
+     */
+    public void verify() {
+        final List<ExpectationFailure> collectedFailures = new ArrayList<>();
+
+        for (ExpectationFailure failure = failures.poll(); failure != null; failure = failures.poll()) {
+            collectedFailures.add(failure);
+        }
+
+        if (collectedFailures.isEmpty()) {
+            return;
+        }
+
+        throw new AssertionError(describeFailures(collectedFailures));
+    }
+
+    private String describeFailures(List<ExpectationFailure> failures) {
+        final List<String> descriptions = describingHandler.describeExpectationFailures(failures);
+        final Map<String, Integer> occurrences = new LinkedHashMap<>();
+
+        for (int i = 0; i < failures.size(); i++) {
+            final String description = descriptions.get(i) + " (at " + describeCaller(failures.get(i).getCaller()) + ")";
+
+            occurrences.merge(description, 1, Integer::sum);
+        }
+
+        final StringBuilder buffer = new StringBuilder()
+                .append(failures.size())
+                .append(failures.size() == 1 ? " expectation failed:" : " expectations failed:");
+
+        int index = 1;
+
+        for (Map.Entry<String, Integer> entry : occurrences.entrySet()) {
+            buffer.append("\n  ").append(index++).append(") ").append(entry.getKey());
+
+            if (entry.getValue() > 1) {
+                buffer.append(" [").append(entry.getValue()).append(" times]");
+            }
+        }
+
+        return buffer.toString();
+    }
+
+    private static String describeCaller(Caller caller) {
+        return caller.getClassName() + "." + caller.getMethodName() + ":" + caller.getLineNumber();
+    }
+
+}
@@ -10,11 +10,10 @@ import io.recode.classfile.impl.ClassFileReaderImpl;
 import io.recode.codegeneration.impl.CodePointerCodeGenerator;
 import io.recode.decompile.impl.DecompilerImpl;
 
-import java.util.concurrent.atomic.AtomicReference;
 
 public final class Configuration {
 
-    private static final AtomicReference<Configuration> CONFIGURATION_REFERENCE = new AtomicReference<>(getDefaultConfiguration());
+    private static final ScopedReference<Configuration> CONFIGURATION_REFERENCE = new ScopedReference<>(getDefaultConfiguration());
 
     private final ServiceContext serviceContext;
 
@@ -43,17 +42,46 @@ public final class Configuration {
         return CONFIGURATION_REFERENCE.getAndSet(configuration);
     }
 
+    /**
+     * Executes a procedure with the provided configuration in effect for the current thread and threads
+     * created by it while the procedure executes. Other threads are unaffected, so that tests with different
+     * configurations can execute concurrently.
+     *
+     * @param configuration The configuration in effect while the procedure executes. Can't be null.
+     * @param procedure The procedure to execute. Can't be null.
+     * @throws Exception Thrown if the procedure fails.
+     */
+    public static void withScope(Configuration configuration, Procedure procedure) throws Exception {
+        assert configuration != null : "Configuration can't be null";
+        assert procedure != null : "Procedure can't be null";
+
+        CONFIGURATION_REFERENCE.withScope(configuration, procedure);
+    }
+
+    /**
+     * Binds a task to the configuration scope of the current thread, e.g. before submitting it to a
+     * thread pool whose threads haven't inherited the scope.
+     *
+     * @param task The task to bind. Can't be null.
+     * @return A task that executes in the configuration scope of the current thread.
+     */
+    public static Runnable inCurrentScope(Runnable task) {
+        assert task != null : "Task can't be null";
+
+        return CONFIGURATION_REFERENCE.bind(task);
+    }
+
     @SuppressWarnings("unchecked")
     private static Configuration getDefaultConfiguration() {
         final ServiceContext componentServiceContext = new ServiceContextFromConfiguration(Configuration::get);
 
         final ExpectationDelegate expectationDelegate = new DefaultExpectationDelegate(componentServiceContext, new ExpectationDelegateConfiguration.Builder()
-                .on(e -> e.getExpectation() instanceof GivenThenExpectation).then((ExpectationDelegateExtension) new GivenThenExpectationDelegateExtension())
+                .onType(GivenThenExpectation.class).then(new GivenThenExpectationDelegateExtension())
                 .build());
 
         final Decompiler decompiler = new DecompilerImpl();
         final ClassFileReader classFileReader = new ClassFileReaderImpl();
-        final CodeLocationDecompiler codeLocationDecompiler = new CodeLocationDecompilerImpl(classFileReader, decompiler);
+        final CodeLocationDecompiler codeLocationDecompiler = new CachingCodeLocationDecompiler(new CodeLocationDecompilerImpl(classFileReader, decompiler));
         final CodePointerCodeGenerator codePointerCodeGenerator = new CodePointerCodeGenerator(decompiler, JavaSyntaxCodeGeneration.configuration());
 
         final ServiceContext serviceContext = ServiceContextImpl.newBuilder()
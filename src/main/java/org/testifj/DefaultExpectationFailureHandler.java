@@ -14,11 +14,25 @@ import io.recode.model.Element;
 import io.recode.model.ElementType;
 import io.recode.model.Expression;
 import io.recode.model.MethodCall;
+import org.testifj.diff.Edit;
+import org.testifj.diff.SequenceDiff;
+import org.testifj.diff.SequenceDiffDescription;
+import org.testifj.diff.TextDiff;
+import org.testifj.matchers.core.Equal;
 
 import java.io.IOException;
+import java.lang.reflect.Array;
 import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * TODO use some MessageBuilder of sorts...
@@ -35,6 +49,19 @@ import java.util.function.Function;
  */
 public final class DefaultExpectationFailureHandler implements ExpectationFailureHandler {
 
+    private static final String VALUE_MISMATCH_KEY = "value-mismatch";
+
+    private static final String EXPECTED_EXCEPTION_NOT_THROWN_KEY = "expected-exception-not-thrown";
+
+    /**
+     * Sequences with more elements than this are described through a diff rather than in full.
+     */
+    private static final int SEQUENCE_DIFF_THRESHOLD = 10;
+
+    private final SequenceDiff sequenceDiff = new SequenceDiff();
+
+    private final TextDiff textDiff = new TextDiff();
+
     private final ClassFileReader classFileReader;
 
     private final Decompiler decompiler;
@@ -45,36 +72,95 @@ public final class DefaultExpectationFailureHandler implements ExpectationFailur
 
     private final CodeLocationDecompiler codeLocationDecompiler;
 
+    private final CodeDescriptionStore codeDescriptionStore;
+
     private DefaultExpectationFailureHandler(ClassFileReader classFileReader,
                                              Decompiler decompiler,
                                              CodeGenerator<CodePointer> syntaxElementCodeGenerator,
-                                             DescriptionFormat descriptionFormat) {
+                                             DescriptionFormat descriptionFormat,
+                                             CodeLocationDecompiler codeLocationDecompiler,
+                                             CodeDescriptionStore codeDescriptionStore) {
         this.classFileReader = classFileReader;
         this.decompiler = decompiler;
         this.syntaxElementCodeGenerator = syntaxElementCodeGenerator;
         this.descriptionFormat = descriptionFormat;
-        this.codeLocationDecompiler = new CodeLocationDecompilerImpl(classFileReader, decompiler);
+        this.codeLocationDecompiler = codeLocationDecompiler;
+        this.codeDescriptionStore = codeDescriptionStore;
+    }
+
+    CodeLocationDecompiler getCodeLocationDecompiler() {
+        return codeLocationDecompiler;
     }
 
     @Override
     public void handleExpectationFailure(ExpectationFailure failure) {
+        final Optional<String> message = describeExpectationFailure(failure, codeDescriptionStore);
+
+        if (message.isPresent()) {
+            throw new AssertionError(message.get());
+        }
+    }
+
+    /**
+     * Describes a batch of expectation failures, e.g. failures collected by a
+     * {@link org.testifj.CollectingExpectationFailureHandler}. The call site of each distinct caller is
+     * decompiled at most once, regardless of how many failures originate from it.
+     *
+     * @param failures The failures to describe.
+     * @return The descriptions of the failures, in the order of the failures.
+     */
+    public List<String> describeExpectationFailures(List<? extends ExpectationFailure> failures) {
+        assert failures != null : "Failures can't be null";
+
+        final CodeDescriptionStore batchCodeDescriptionStore = new BatchCodeDescriptionStore(codeDescriptionStore);
+        final List<String> descriptions = new ArrayList<>(failures.size());
+
+        for (ExpectationFailure failure : failures) {
+            descriptions.add(describeExpectationFailure(failure, batchCodeDescriptionStore).orElse(failure.toString()));
+        }
+
+        return descriptions;
+    }
+
+    private Optional<String> describeExpectationFailure(ExpectationFailure failure, CodeDescriptionStore codeDescriptionStore) {
         if (failure instanceof ValueMismatchFailure) {
-            handleValueMismatchFailure((ValueMismatchFailure) failure);
+            return Optional.of(describeValueMismatchFailure((ValueMismatchFailure) failure, codeDescriptionStore));
         } else if (failure instanceof ExpectedExceptionNotThrown) {
-            handleExpectedExceptionNotThrownException((ExpectedExceptionNotThrown) failure);
+            return Optional.of(describeExpectedExceptionNotThrown((ExpectedExceptionNotThrown) failure, codeDescriptionStore));
         }
+
+        return Optional.empty();
     }
 
-    private void handleValueMismatchFailure(ValueMismatchFailure failure) {
-        final Description description = forCaller(failure.getCaller(), (codePointers)
-                -> describeValueMismatch(codePointers[0], failure.getValue(), failure.getExpectedValue()));
+    private String describeValueMismatchFailure(ValueMismatchFailure failure, CodeDescriptionStore codeDescriptionStore) {
+        final List<String> callSiteDescription = describeCallSite(codeDescriptionStore, failure.getCaller(), VALUE_MISMATCH_KEY, this::describeValueMismatchCallSite);
+        final Description description = describeValueMismatch(callSiteDescription, failure.getValue(), failure.getExpectedValue());
+
+        if (failure.getMatchResult().isPresent()) {
+            final Optional<Description> resultDescription = failure.getMatchResult().get().describe();
+
+            if (resultDescription.isPresent()) {
+                return descriptionFormat.format(description
+                        .appendText(" (")
+                        .appendDescription(resultDescription.get())
+                        .appendText(")"));
+            }
+        } else if (failure.getMatcher() instanceof MismatchDescribingMatcher) {
+            @SuppressWarnings("unchecked")
+            final MismatchDescribingMatcher<Object> matcher = (MismatchDescribingMatcher<Object>) failure.getMatcher();
+
+            return descriptionFormat.format(description
+                    .appendText(" (")
+                    .appendDescription(matcher.describeMismatch(failure.getValue()))
+                    .appendText(")"));
+        }
 
-        throw new AssertionError(descriptionFormat.format(description));
+        return descriptionFormat.format(description);
     }
 
-    private void handleExpectedExceptionNotThrownException(ExpectedExceptionNotThrown failure) {
-        final Description description = forCaller(failure.getCaller(), (codePointers) -> {
-            Description procedureDescription = null;
+    private String describeExpectedExceptionNotThrown(ExpectedExceptionNotThrown failure, CodeDescriptionStore codeDescriptionStore) {
+        final List<String> callSiteDescription = describeCallSite(codeDescriptionStore, failure.getCaller(), EXPECTED_EXCEPTION_NOT_THROWN_KEY, (codePointers) -> {
+            String procedureDescription = null;
             boolean inverted = false;
             final CodePointer codePointer = codePointers[0];
             final Element element = codePointer.getElement();
@@ -90,20 +176,23 @@ public final class DefaultExpectationFailureHandler implements ExpectationFailur
                         inverted = true;
                     }
 
-                    procedureDescription = BasicDescription.from(syntaxElementCodeGenerator.generateCode(codePointer.forElement(expectCall.getParameters().get(0)), StandardCharsets.UTF_8));
+                    procedureDescription = syntaxElementCodeGenerator.generateCode(codePointer.forElement(expectCall.getParameters().get(0)), StandardCharsets.UTF_8);
                 }
             }
 
             if (procedureDescription == null) {
-                procedureDescription = BasicDescription.from(syntaxElementCodeGenerator.generateCode(codePointers[0], StandardCharsets.UTF_8));
+                procedureDescription = syntaxElementCodeGenerator.generateCode(codePointers[0], StandardCharsets.UTF_8);
             }
 
-            return BasicDescription.from("Expected [")
-                    .appendDescription(procedureDescription)
-                    .appendText("] " + (inverted ? "not" : "") + " to throw " + failure.getExpectedException().getName());
+            return Arrays.asList(procedureDescription, String.valueOf(inverted));
         });
 
-        throw new AssertionError(description.toString());
+        final boolean inverted = Boolean.parseBoolean(callSiteDescription.get(1));
+        final Description description = BasicDescription.from("Expected [")
+                .appendText(callSiteDescription.get(0))
+                .appendText("] " + (inverted ? "not" : "") + " to throw " + failure.getExpectedException().getName());
+
+        return description.toString();
     }
 
     public static final Object NULL = new Object() {
@@ -113,7 +202,13 @@ public final class DefaultExpectationFailureHandler implements ExpectationFailur
         }
     };
 
-    private Description describeValueMismatch(CodePointer codePointer, Object actualValue, Optional<Object> expectedValue) {
+    /**
+     * Generates the code of a failed value expectation. For <code>expect(actual).toBe(expected)</code>-
+     * expectations, the result is <code>[actual, expected, inverted]</code>, otherwise the code of the
+     * entire expression.
+     */
+    private List<String> describeValueMismatchCallSite(CodePointer[] codePointers) {
+        final CodePointer codePointer = codePointers[0];
         final Element element = codePointer.getElement();
 
         if (element.getElementType() == ElementType.METHOD_CALL) {
@@ -133,21 +228,134 @@ public final class DefaultExpectationFailureHandler implements ExpectationFailur
 
                 final Expression actualValueExpression = expectCall.getParameters().get(0);
 
-                final Description actualValueDescription = getValueDescription(codePointer.forElement(actualValueExpression), Optional.of(actualValue == null ? NULL : actualValue));
-                final Description expectedValueDescription = getValueDescription(codePointer.forElement(expectedValueExpression), expectedValue);
+                return Arrays.asList(
+                        syntaxElementCodeGenerator.generateCode(codePointer.forElement(actualValueExpression), StandardCharsets.UTF_8),
+                        syntaxElementCodeGenerator.generateCode(codePointer.forElement(expectedValueExpression), StandardCharsets.UTF_8),
+                        String.valueOf(inverted));
+            }
+        }
+
+        return Collections.singletonList(syntaxElementCodeGenerator.generateCode(codePointer, StandardCharsets.UTF_8));
+    }
+
+    private Description describeValueMismatch(List<String> callSiteDescription, Object actualValue, Optional<Object> expectedValue) {
+        if (callSiteDescription.size() == 1) {
+            return BasicDescription.from(callSiteDescription.get(0));
+        }
+
+        final boolean inverted = Boolean.parseBoolean(callSiteDescription.get(2));
+
+        if (!inverted && expectedValue.isPresent()) {
+            Optional<Description> diffDescription = describeTextDiff(actualValue, expectedValue.get());
+
+            if (!diffDescription.isPresent()) {
+                diffDescription = describeSequenceDiff(actualValue, expectedValue.get());
+            }
+
+            if (diffDescription.isPresent()) {
+                return BasicDescription.from("Expected " + callSiteDescription.get(0) + " to be " + callSiteDescription.get(1) + ":\n")
+                        .appendDescription(diffDescription.get());
+            }
+        }
+
+        final Description actualValueDescription = getValueDescription(callSiteDescription.get(0), Optional.of(actualValue == null ? NULL : actualValue));
+        final Description expectedValueDescription = getValueDescription(callSiteDescription.get(1), expectedValue);
+
+        final Description description = BasicDescription.from("Expected ")
+                .appendDescription(actualValueDescription)
+                .appendDescription(BasicDescription.from((inverted ? " not " : " ") + "to be "))
+                .appendDescription(expectedValueDescription);
+
+        if (!inverted && expectedValue.isPresent() && isArray(actualValue) && isArray(expectedValue.get())) {
+            final int mismatchIndex = Equal.indexOfFirstMismatch(expectedValue.get(), actualValue);
 
-                return BasicDescription.from("Expected ")
-                        .appendDescription(actualValueDescription)
-                        .appendDescription(BasicDescription.from((inverted ? " not " : " ") + "to be "))
-                        .appendDescription(expectedValueDescription);
+            if (mismatchIndex != Equal.NO_MISMATCH) {
+                return description.appendText(" (first mismatch at index " + mismatchIndex + ")");
             }
         }
 
-        return BasicDescription.from(syntaxElementCodeGenerator.generateCode(codePointer, StandardCharsets.UTF_8));
+        return description;
     }
 
-    private Description getValueDescription(CodePointer valueExpressionPointer, Optional<Object> optionalValue) {
-        final Description actualValueExpressionDescription = BasicDescription.from(syntaxElementCodeGenerator.generateCode(valueExpressionPointer, StandardCharsets.UTF_8));
+    private static boolean isArray(Object value) {
+        return value != null && value.getClass().isArray();
+    }
+
+    /**
+     * Describes the line differences between an actual and expected string, provided that either of them
+     * spans multiple lines.
+     */
+    private Optional<Description> describeTextDiff(Object actualValue, Object expectedValue) {
+        if (!(actualValue instanceof String) || !(expectedValue instanceof String)) {
+            return Optional.empty();
+        }
+
+        final String actualText = (String) actualValue;
+        final String expectedText = (String) expectedValue;
+
+        if (actualText.indexOf('\n') == -1 && expectedText.indexOf('\n') == -1) {
+            return Optional.empty();
+        }
+
+        final List<Edit> edits = textDiff.diff(expectedText, actualText);
+
+        if (edits.stream().allMatch(edit -> edit.getType() == Edit.Type.EQUAL)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(BasicDescription.from("--- expected\n+++ actual\n")
+                .appendDescription(SequenceDiffDescription.describeLines(TextDiff.lines(expectedText), TextDiff.lines(actualText), edits)));
+    }
+
+    /**
+     * Describes the differences between an actual and expected list or array, provided that either of them
+     * is too large to be described in full.
+     */
+    private Optional<Description> describeSequenceDiff(Object actualValue, Object expectedValue) {
+        final List<?> actualSequence = asSequence(actualValue);
+        final List<?> expectedSequence = asSequence(expectedValue);
+
+        if (actualSequence == null || expectedSequence == null) {
+            return Optional.empty();
+        }
+
+        if (actualSequence.size() <= SEQUENCE_DIFF_THRESHOLD && expectedSequence.size() <= SEQUENCE_DIFF_THRESHOLD) {
+            return Optional.empty();
+        }
+
+        final List<Edit> edits = sequenceDiff.diff(expectedSequence, actualSequence);
+
+        if (edits.stream().allMatch(edit -> edit.getType() == Edit.Type.EQUAL)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(SequenceDiffDescription.describe(expectedSequence, actualSequence, edits));
+    }
+
+    private static List<?> asSequence(Object value) {
+        if (value instanceof List) {
+            return (List<?>) value;
+        }
+
+        if (isArray(value)) {
+            return new AbstractList<Object>() {
+                @Override
+                public Object get(int index) {
+                    return Array.get(value, index);
+                }
+
+                @Override
+                public int size() {
+                    return Array.getLength(value);
+                }
+            };
+        }
+
+        return null;
+    }
+
+    private Description getValueDescription(String valueExpressionCode, Optional<Object> optionalValue) {
+        final Description actualValueExpressionDescription = BasicDescription.from(valueExpressionCode);
 
         if (optionalValue.isPresent()) {
             final Description actualValueDescription = new BasicDescription().appendValue(optionalValue.get());
@@ -167,6 +375,24 @@ public final class DefaultExpectationFailureHandler implements ExpectationFailur
         return formattedDescription1.equals(formattedDescription2);
     }
 
+    /**
+     * Returns the code generated for a call site. The code is read from the code description store if
+     * available; otherwise the call site is decompiled and the generated code is stored.
+     */
+    private List<String> describeCallSite(CodeDescriptionStore codeDescriptionStore, Caller caller, String key, Function<CodePointer[], List<String>> syntaxElementsHandler) {
+        final Optional<List<String>> storedDescription = codeDescriptionStore.get(caller, key);
+
+        if (storedDescription.isPresent()) {
+            return storedDescription.get();
+        }
+
+        final List<String> description = forCaller(caller, syntaxElementsHandler);
+
+        codeDescriptionStore.put(caller, key, description);
+
+        return description;
+    }
+
     private <T> T forCaller(Caller caller, Function<CodePointer[], T> syntaxElementsHandler) {
         final CodePointer[] codePointers;
 
@@ -179,16 +405,62 @@ public final class DefaultExpectationFailureHandler implements ExpectationFailur
         return syntaxElementsHandler.apply(codePointers);
     }
 
+    /**
+     * Store that retains the call site descriptions of a single batch in memory, so that each call site is
+     * only described once per batch even if the target store stores nothing.
+     */
+    private static final class BatchCodeDescriptionStore implements CodeDescriptionStore {
+
+        private final CodeDescriptionStore targetStore;
+
+        private final Map<String, List<String>> descriptions = new HashMap<>();
+
+        private BatchCodeDescriptionStore(CodeDescriptionStore targetStore) {
+            this.targetStore = targetStore;
+        }
+
+        @Override
+        public Optional<List<String>> get(Caller caller, String key) {
+            final List<String> description = descriptions.get(keyOf(caller, key));
+
+            if (description != null) {
+                return Optional.of(description);
+            }
+
+            final Optional<List<String>> storedDescription = targetStore.get(caller, key);
+
+            if (storedDescription.isPresent()) {
+                descriptions.put(keyOf(caller, key), storedDescription.get());
+            }
+
+            return storedDescription;
+        }
+
+        @Override
+        public void put(Caller caller, String key, List<String> description) {
+            descriptions.put(keyOf(caller, key), description);
+            targetStore.put(caller, key, description);
+        }
+
+        private static String keyOf(Caller caller, String key) {
+            return caller.getClassName() + "#" + caller.getMethodName() + ":" + caller.getLineNumber() + "/" + key;
+        }
+    }
+
     public static final class Builder {
 
-        private ClassFileReader classFileReader = new ClassFileReaderImpl();
+        private ClassFileReader classFileReader;
 
-        private Decompiler decompiler = new DecompilerImpl();
+        private Decompiler decompiler;
 
         private CodeGenerator<CodePointer> syntaxElementCodeGenerator = new CodePointerCodeGenerator();
 
         private DescriptionFormat descriptionFormat = new StandardDescriptionFormat();
 
+        private CodeLocationDecompiler codeLocationDecompiler;
+
+        private CodeDescriptionStore codeDescriptionStore = CodeDescriptionStore.fromSystemProperties();
+
         public void setClassFileReader(ClassFileReader classFileReader) {
             assert classFileReader != null : "Class file reader can't be null";
 
@@ -212,8 +484,62 @@ public final class DefaultExpectationFailureHandler implements ExpectationFailur
             this.descriptionFormat = descriptionFormat;
         }
 
+        /**
+         * Sets the code location decompiler used to decompile the call site of failed expectations. If not
+         * set, the code location decompiler of the service context of the active
+         * {@link org.testifj.Configuration} is used (if it provides one), so that decompiled call sites are
+         * cached across handlers.
+         * If a class file reader or decompiler is set, a {@link org.testifj.CachingCodeLocationDecompiler}
+         * based on them is created instead.
+         *
+         * @param codeLocationDecompiler The code location decompiler. Can't be null.
+         */
+        public void setCodeLocationDecompiler(CodeLocationDecompiler codeLocationDecompiler) {
+            assert codeLocationDecompiler != null : "Code location decompiler can't be null";
+            this.codeLocationDecompiler = codeLocationDecompiler;
+        }
+
+        /**
+         * Sets the store of code generated for failed expectations. By default, the store is configured
+         * through system properties (see {@link org.testifj.CodeDescriptionStore#fromSystemProperties()}).
+         *
+         * @param codeDescriptionStore The code description store. Can't be null.
+         */
+        public void setCodeDescriptionStore(CodeDescriptionStore codeDescriptionStore) {
+            assert codeDescriptionStore != null : "Code description store can't be null";
+            this.codeDescriptionStore = codeDescriptionStore;
+        }
+
         public DefaultExpectationFailureHandler build() {
-            return new DefaultExpectationFailureHandler(classFileReader, decompiler, syntaxElementCodeGenerator, descriptionFormat);
+            final ServiceContext serviceContext = Configuration.get().getServiceContext();
+            final ClassFileReader classFileReader = (this.classFileReader != null ? this.classFileReader : resolve(serviceContext, ClassFileReader.class, ClassFileReaderImpl::new));
+            final Decompiler decompiler = (this.decompiler != null ? this.decompiler : resolve(serviceContext, Decompiler.class, DecompilerImpl::new));
+            final CodeLocationDecompiler codeLocationDecompiler;
+
+            if (this.codeLocationDecompiler != null) {
+                codeLocationDecompiler = this.codeLocationDecompiler;
+            } else if (this.classFileReader != null || this.decompiler != null) {
+                codeLocationDecompiler = new CachingCodeLocationDecompiler(new CodeLocationDecompilerImpl(classFileReader, decompiler));
+            } else {
+                codeLocationDecompiler = resolve(serviceContext, CodeLocationDecompiler.class,
+                        () -> new CachingCodeLocationDecompiler(new CodeLocationDecompilerImpl(classFileReader, decompiler)));
+            }
+
+            return new DefaultExpectationFailureHandler(classFileReader, decompiler, syntaxElementCodeGenerator, descriptionFormat, codeLocationDecompiler, codeDescriptionStore);
+        }
+
+        /**
+         * Resolves a component from the service context, or creates it if the service context (e.g. a
+         * custom context of a scoped configuration) doesn't provide it.
+         */
+        private static <T> T resolve(ServiceContext serviceContext, Class<T> type, Supplier<T> defaultComponent) {
+            try {
+                final T component = serviceContext.get(type);
+
+                return (component != null ? component : defaultComponent.get());
+            } catch (DependencyResolutionException e) {
+                return defaultComponent.get();
+            }
         }
     }
 }
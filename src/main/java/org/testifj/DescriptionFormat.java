@@ -1,7 +1,23 @@
 package org.testifj;
 
+import java.io.IOException;
+
 public interface DescriptionFormat {
 
     String format(Description description);
 
+    /**
+     * Formats a description into an <code>Appendable</code>, e.g. a <code>Writer</code>. Implementations
+     * should stream the formatted description rather than creating it in memory.
+     *
+     * @param description The description to format.
+     * @param out The target of the formatted description.
+     * @throws IOException Thrown if the formatted description can't be appended to the target.
+     */
+    default void format(Description description, Appendable out) throws IOException {
+        assert out != null : "Output can't be null";
+
+        out.append(format(description));
+    }
+
 }
@@ -0,0 +1,65 @@
+package org.testifj;
+
+import io.recode.annotations.DSL;
+
+/**
+ * A matcher specialized for <code>double</code> values. Values are matched without boxing; the matcher can still
+ * be used wherever a <code>Matcher&lt;Double&gt;</code> is accepted, in which case <code>null</code> never matches.
+ */
+@DSL
+@FunctionalInterface
+public interface DoubleMatcher extends Matcher<Double> {
+
+    boolean matches(double value);
+
+    @Override
+    default boolean matches(Double instance) {
+        return instance != null && matches(instance.doubleValue());
+    }
+
+    default DoubleMatcher or(DoubleMatcher matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return new DoubleMatcher() {
+            @Override
+            public boolean matches(double value) {
+                return DoubleMatcher.this.matches(value) || matcher.matches(value);
+            }
+
+            @Override
+            public MatchResult evaluate(Double instance) {
+                // Each alternative is evaluated at most once; a successful result is shared and doesn't allocate
+                final MatchResult first = DoubleMatcher.this.evaluate(instance);
+
+                if (first.isMatch()) {
+                    return first;
+                }
+
+                return MatchResult.either(this, instance, first, matcher.evaluate(instance));
+            }
+        };
+    }
+
+    default DoubleMatcher and(DoubleMatcher matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return new DoubleMatcher() {
+            @Override
+            public boolean matches(double value) {
+                return DoubleMatcher.this.matches(value) && matcher.matches(value);
+            }
+
+            @Override
+            public MatchResult evaluate(Double instance) {
+                final MatchResult result = DoubleMatcher.this.evaluate(instance);
+
+                if (!result.isMatch()) {
+                    return result;
+                }
+
+                return matcher.evaluate(instance);
+            }
+        };
+    }
+
+}
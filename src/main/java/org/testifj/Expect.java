@@ -1,14 +1,12 @@
 package org.testifj;
 
-import io.recode.Caller;
 import io.recode.annotations.DSL;
 import org.testifj.impl.ExpectedExceptionNotThrownImpl;
 import org.testifj.matchers.core.Equal;
 
-import java.util.Arrays;
-import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @DSL
 @SuppressWarnings("unchecked")
@@ -35,37 +33,185 @@ public final class Expect {
      * <code>AssertionError</code> with a descriptive message.
      * </p>
      *
+     * <p>
+     * The call site of the expectation is captured according to the configured
+     * {@link org.testifj.CallerCaptureMode}; by default, the stack trace is only materialized if the
+     * expectation fails.
+     * </p>
+     *
      * @param instance The instance that subsequent matchers are being applied to.
      * @param <T> The type of the instance. This restricts the permissible matchers that can be used in the DSL.
      * @return A DLS continuation that allows further specification of the instance constraint.
      */
     public static <T> ExpectValueContinuation<T> expect(T instance) {
-        final List<StackTraceElement> stackTrace = Arrays.asList(Thread.currentThread().getStackTrace());
-        final Caller caller = new Caller(stackTrace.subList(1, stackTrace.size()), 1);
+        final CallSite callSite = CallSite.capture(Configuration.get().getCallerCaptureMode());
 
         return new ExpectValueContinuation<T>() {
             @Override
             public void to(Matcher<T> matcher) {
-                if (!matcher.matches(instance)) {
-                    final ValueMismatchFailureImpl failure = new ValueMismatchFailureImpl(caller, matcher, Optional.empty(), instance);
-
-                    Configuration.get().getExpectationFailureHandler().handleExpectationFailure(failure);
-                }
+                verify(callSite, matcher, instance);
             }
 
             @Override
             public void toBe(T expectedValue) {
                 if (expectedValue instanceof Matcher) {
-                    to((Matcher) expectedValue);
+                    verify(callSite, (Matcher) expectedValue, instance);
                     return;
                 }
 
                 final Matcher<T> matcher = Equal.equal(expectedValue);
 
                 if (!matcher.matches(instance)) {
-                    final ValueMismatchFailureImpl failure = new ValueMismatchFailureImpl(caller, matcher, Optional.of(expectedValue), instance);
+                    handleValueMismatch(callSite, matcher, Optional.of(expectedValue), instance);
+                }
+            }
+        };
+    }
+
+    /**
+     * Initializes an expectation on a value that should eventually satisfy a matcher, e.g. the state of an
+     * asynchronous service:
+     * <pre>{@code
+     * expectEventually(() -> service.getStatus()).within(2, TimeUnit.SECONDS).toBe("RUNNING");
+     * }</pre>
+     * The supplier is polled on a shared scheduler with exponential backoff until its value matches or the
+     * timeout expires, in which case the last value is reported as a {@link ValueMismatchFailure}.
+     *
+     * @param supplier The supplier of the value. Can't be null. Should not block.
+     * @param <T> The type of the value.
+     * @return A continuation that allows the matcher and the polling to be specified.
+     */
+    public static <T> ExpectEventuallyContinuation<T> expectEventually(Supplier<T> supplier) {
+        assert supplier != null : "Supplier can't be null";
+
+        final Configuration configuration = Configuration.get();
+
+        // The failure may be reported on a scheduler thread, from whose stack the call site can't be resolved
+        final CallSite callSite = CallSite.capture(configuration.getCallerCaptureMode() == CallerCaptureMode.ON_FAILURE
+                ? CallerCaptureMode.DEFERRED
+                : configuration.getCallerCaptureMode());
+
+        return new ExpectEventuallyContinuation<>(supplier, callSite, configuration.getExpectationFailureHandler());
+    }
+
+    /**
+     * Initializes an expectation on an <code>int</code> value. The value is only boxed if the expectation
+     * fails or a generic <code>Matcher&lt;Integer&gt;</code> is used; <code>IntMatcher</code>s, such as those of
+     * {@link org.testifj.matchers.core.NumberThatIs}, are applied to the primitive value.
+     *
+     * @param value The value that subsequent matchers are being applied to.
+     * @return A DSL continuation that allows further specification of the value constraint.
+     */
+    public static ExpectIntContinuation expect(int value) {
+        final CallSite callSite = CallSite.capture(Configuration.get().getCallerCaptureMode());
+
+        return new ExpectIntContinuation() {
+            @Override
+            public void to(IntMatcher matcher) {
+                if (!matcher.matches(value)) {
+                    handleValueMismatch(callSite, matcher, Optional.empty(), value);
+                }
+            }
+
+            @Override
+            public void to(Matcher<Integer> matcher) {
+                if (matcher instanceof IntMatcher) {
+                    if (!((IntMatcher) matcher).matches(value)) {
+                        handleValueMismatch(callSite, matcher, Optional.empty(), value);
+                    }
+
+                    return;
+                }
+
+                verify(callSite, matcher, value);
+            }
+
+            @Override
+            public void toBe(int expectedValue) {
+                if (value != expectedValue) {
+                    handleValueMismatch(callSite, Equal.equal(expectedValue), Optional.of(expectedValue), value);
+                }
+            }
+        };
+    }
+
+    /**
+     * Initializes an expectation on a <code>long</code> value. The value is only boxed if the expectation
+     * fails or a generic <code>Matcher&lt;Long&gt;</code> is used; <code>LongMatcher</code>s, such as those of
+     * {@link org.testifj.matchers.core.NumberThatIs}, are applied to the primitive value.
+     *
+     * @param value The value that subsequent matchers are being applied to.
+     * @return A DSL continuation that allows further specification of the value constraint.
+     */
+    public static ExpectLongContinuation expect(long value) {
+        final CallSite callSite = CallSite.capture(Configuration.get().getCallerCaptureMode());
+
+        return new ExpectLongContinuation() {
+            @Override
+            public void to(LongMatcher matcher) {
+                if (!matcher.matches(value)) {
+                    handleValueMismatch(callSite, matcher, Optional.empty(), value);
+                }
+            }
+
+            @Override
+            public void to(Matcher<Long> matcher) {
+                if (matcher instanceof LongMatcher) {
+                    if (!((LongMatcher) matcher).matches(value)) {
+                        handleValueMismatch(callSite, matcher, Optional.empty(), value);
+                    }
+
+                    return;
+                }
 
-                    Configuration.get().getExpectationFailureHandler().handleExpectationFailure(failure);
+                verify(callSite, matcher, value);
+            }
+
+            @Override
+            public void toBe(long expectedValue) {
+                if (value != expectedValue) {
+                    handleValueMismatch(callSite, Equal.equal(expectedValue), Optional.of(expectedValue), value);
+                }
+            }
+        };
+    }
+
+    /**
+     * Initializes an expectation on a <code>double</code> value. The value is only boxed if the expectation
+     * fails or a generic <code>Matcher&lt;Double&gt;</code> is used; <code>DoubleMatcher</code>s, such as those of
+     * {@link org.testifj.matchers.core.NumberThatIs}, are applied to the primitive value.
+     *
+     * @param value The value that subsequent matchers are being applied to.
+     * @return A DSL continuation that allows further specification of the value constraint.
+     */
+    public static ExpectDoubleContinuation expect(double value) {
+        final CallSite callSite = CallSite.capture(Configuration.get().getCallerCaptureMode());
+
+        return new ExpectDoubleContinuation() {
+            @Override
+            public void to(DoubleMatcher matcher) {
+                if (!matcher.matches(value)) {
+                    handleValueMismatch(callSite, matcher, Optional.empty(), value);
+                }
+            }
+
+            @Override
+            public void to(Matcher<Double> matcher) {
+                if (matcher instanceof DoubleMatcher) {
+                    if (!((DoubleMatcher) matcher).matches(value)) {
+                        handleValueMismatch(callSite, matcher, Optional.empty(), value);
+                    }
+
+                    return;
+                }
+
+                verify(callSite, matcher, value);
+            }
+
+            @Override
+            public void toBe(double expectedValue) {
+                if (Double.compare(value, expectedValue) != 0) {
+                    handleValueMismatch(callSite, Equal.equal(expectedValue), Optional.of(expectedValue), value);
                 }
             }
         };
@@ -78,24 +224,106 @@ public final class Expect {
      * @param procedure The procedure executed by the expectation.
      * @return A continuance that allows for further expectation specification.
      */
-    public static ExpectProcedureContinuation expect(Procedure procedure) {
-        final List<StackTraceElement> stackTrace = Arrays.asList(Thread.currentThread().getStackTrace());
-        final Caller caller = new Caller(stackTrace.subList(1, stackTrace.size()), 1);
-
-        return expectation -> {
-            Outcome outcome;
-
-            try {
-                procedure.call();
-                outcome = Outcome.successful(caller);
-            } catch (Throwable e) {
-                outcome = Outcome.exceptional(caller, e);
+    public static ExpectMeasurableProcedureContinuation expect(Procedure procedure) {
+        final CallSite callSite = CallSite.capture(Configuration.get().getCallerCaptureMode());
+
+        return new ExpectMeasurableProcedureContinuation() {
+            @Override
+            public void to(OutcomeExpectation<Outcome> expectation) {
+                Outcome outcome;
+
+                try {
+                    procedure.call();
+                    outcome = Outcome.successfulAt(callSite);
+                } catch (Throwable e) {
+                    outcome = Outcome.exceptionalAt(callSite, e);
+                }
+
+                expectation.verify(outcome);
             }
 
-            expectation.verify(outcome);
+            @Override
+            public ExpectLatencyContinuation latency() {
+                return new ExpectLatencyContinuation(procedure, callSite);
+            }
+
+            @Override
+            public ExpectAllocationContinuation allocation() {
+                return new ExpectAllocationContinuation(procedure, callSite);
+            }
         };
     }
 
+    /**
+     * Executes a procedure and collects all expectation failures raised while it runs, rather than aborting
+     * on the first failure. When the procedure has completed, a single <code>AssertionError</code> describing
+     * all failures is thrown, if any expectation has failed. Expectations that fail on threads created by the
+     * procedure, or on tasks bound through {@link Configuration#inCurrentScope(Runnable)}, are collected as well.
+     *
+     * @param procedure The procedure whose expectation failures should be collected.
+     */
+    public static void collectFailures(Procedure procedure) {
+        assert procedure != null : "Procedure can't be null";
+
+        final Configuration configuration = Configuration.get();
+        final ExpectationFailureHandler currentHandler = configuration.getExpectationFailureHandler();
+        final DefaultExpectationFailureHandler describingHandler = (currentHandler instanceof DefaultExpectationFailureHandler
+                ? (DefaultExpectationFailureHandler) currentHandler
+                : new DefaultExpectationFailureHandler.Builder().build());
+        final CollectingExpectationFailureHandler collectingHandler = new CollectingExpectationFailureHandler(describingHandler);
+
+        Throwable procedureException = null;
+
+        try {
+            Configuration.withScope(configuration.withExpectationFailureHandler(collectingHandler), procedure);
+        } catch (Throwable e) {
+            procedureException = e;
+        }
+
+        try {
+            collectingHandler.verify();
+        } catch (AssertionError e) {
+            if (procedureException != null) {
+                e.addSuppressed(procedureException);
+            }
+
+            throw e;
+        }
+
+        if (procedureException instanceof RuntimeException) {
+            throw (RuntimeException) procedureException;
+        } else if (procedureException instanceof Error) {
+            throw (Error) procedureException;
+        } else if (procedureException != null) {
+            throw new AssertionError("Expectation failed with exception", procedureException);
+        }
+    }
+
+    /**
+     * Verifies a value against a matcher. This is static rather than a method of the continuation, so that
+     * the continuation doesn't escape from a successful expectation, even if this method isn't inlined, and
+     * the continuation can be eliminated through escape analysis.
+     */
+    private static <T> void verify(CallSite callSite, Matcher<T> matcher, T value) {
+        final MatchResult result = matcher.evaluate(value);
+
+        if (!result.isMatch()) {
+            handleValueMismatch(callSite, matcher, Optional.empty(), value, result);
+        }
+    }
+
+    private static void handleValueMismatch(CallSite callSite, Matcher<?> matcher, Optional<Object> expectedValue, Object value) {
+        final ValueMismatchFailureImpl failure = new ValueMismatchFailureImpl(callSite.getCaller(), matcher, expectedValue, value);
+
+        Configuration.get().getExpectationFailureHandler().handleExpectationFailure(failure);
+    }
+
+    private static void handleValueMismatch(CallSite callSite, Matcher<?> matcher, Optional<Object> expectedValue, Object value, MatchResult result) {
+        final ValueMismatchFailureImpl failure = new ValueMismatchFailureImpl(callSite.getCaller(), matcher, expectedValue, value, Optional.of(result));
+
+        Configuration.get().getExpectationFailureHandler().handleExpectationFailure(failure);
+    }
+
     @FunctionalInterface
     public interface ExpectProcedureContinuation {
 
@@ -103,12 +331,22 @@ public final class Expect {
 
         default ExpectProcedureContinuation not() {
             return expectation -> ExpectProcedureContinuation.this.to(outcome -> {
+                // The inverted expectation is verified with a handler that aborts on failure, so that its failure
+                // is detected even if the configured handler collects failures (see Expect.collectFailures)
+                final Configuration abortingConfiguration = Configuration.get().withExpectationFailureHandler(failure -> {
+                    throw new AssertionError("Inverted expectation failed");
+                });
+
                 boolean failed = false;
 
                 try {
-                    expectation.verify(outcome);
+                    Configuration.withScope(abortingConfiguration, () -> expectation.verify(outcome));
                 } catch (AssertionError e) {
                     failed = true;
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new AssertionError("Expectation failed with exception", e);
                 }
 
                 if (!failed) {
@@ -127,6 +365,9 @@ public final class Expect {
                 if (!outcome.isExceptional()) {
                     Configuration.get().getExpectationFailureHandler().handleExpectationFailure(
                             new ExpectedExceptionNotThrownImpl(outcome.getCaller(), exceptionType));
+
+                    // The failure handler may collect rather than abort (see Expect.collectFailures)
+                    return;
                 }
 
                 assert outcome.isExceptional() : "Exception of type '" + exceptionType.getName() + "' was expected";
@@ -147,12 +388,63 @@ public final class Expect {
             to(expectation.capture(capturedOutcome));
 
             return matcher -> {
+                if (!capturedOutcome.get().isExceptional()) {
+                    return;
+                }
+
                 assert ((Matcher) matcher).matches(capturedOutcome.get().getException().get());
             };
         }
 
     }
 
+    /**
+     * Continuation of an expectation on a procedure that can be executed repeatedly, which can also measure
+     * the procedure. Expectations derived from it, e.g. through {@link #not()}, can't be measured.
+     */
+    public interface ExpectMeasurableProcedureContinuation extends ExpectProcedureContinuation {
+
+        /**
+         * Returns a continuation that measures the latency of the procedure, e.g.
+         * <code>expect(procedure).latency().withIterations(10000).atPercentile(99).toCompleteWithin(1, MILLISECONDS)</code>.
+         *
+         * @return A continuation that measures the latency of the procedure.
+         */
+        ExpectLatencyContinuation latency();
+
+        /**
+         * Verifies that the median latency of the procedure doesn't exceed the budget, with the default
+         * number of warm-up and measured iterations.
+         *
+         * @param budget The maximum median latency.
+         * @param unit The unit of the budget. Can't be null.
+         * @see ExpectLatencyContinuation#toCompleteWithin(long, TimeUnit)
+         */
+        default void toCompleteWithin(long budget, TimeUnit unit) {
+            latency().toCompleteWithin(budget, unit);
+        }
+
+        /**
+         * Returns a continuation that measures the bytes allocated by the procedure, e.g.
+         * <code>expect(procedure).allocation().withIterations(10000).toAllocateAtMost(0)</code>.
+         *
+         * @return A continuation that measures the bytes allocated by the procedure.
+         */
+        ExpectAllocationContinuation allocation();
+
+        /**
+         * Verifies that the procedure allocates at most the provided number of bytes per invocation, on
+         * average over the default number of measured iterations, in the best of the measured rounds.
+         *
+         * @param bytes The maximum number of bytes allocated per invocation.
+         * @see ExpectAllocationContinuation#toAllocateAtMost(long)
+         */
+        default void toAllocateAtMost(long bytes) {
+            allocation().toAllocateAtMost(bytes);
+        }
+
+    }
+
     @FunctionalInterface
     public interface ToThrowContinuance<E extends Throwable> {
 
@@ -179,21 +471,52 @@ public final class Expect {
          * handles expectation failures by aborting the test execution and reporting the error to the
          * user.
          */
-        private static final AtomicReference<Configuration> CONFIGURATION_REFERENCE = new AtomicReference<>(
+        private static final ScopedReference<Configuration> CONFIGURATION_REFERENCE = new ScopedReference<>(
                 Configuration.newBuilder()
                         .configureExpectationFailureHandler(new DefaultExpectationFailureHandler.Builder().build())
                         .build());
 
         private final ExpectationFailureHandler expectationFailureHandler;
 
-        private Configuration(ExpectationFailureHandler expectationFailureHandler) {
+        private final CallerCaptureMode callerCaptureMode;
+
+        private Configuration(ExpectationFailureHandler expectationFailureHandler, CallerCaptureMode callerCaptureMode) {
             this.expectationFailureHandler = expectationFailureHandler;
+            this.callerCaptureMode = callerCaptureMode;
         }
 
         public ExpectationFailureHandler getExpectationFailureHandler() {
             return expectationFailureHandler;
         }
 
+        public CallerCaptureMode getCallerCaptureMode() {
+            return callerCaptureMode;
+        }
+
+        /**
+         * Returns a copy of this configuration with the provided caller capture mode.
+         *
+         * @param callerCaptureMode The mode used to capture the call site of expectations. Can't be null.
+         * @return A new configuration with the specified caller capture mode.
+         */
+        public Configuration withCallerCaptureMode(CallerCaptureMode callerCaptureMode) {
+            assert callerCaptureMode != null : "Caller capture mode can't be null";
+
+            return new Configuration(expectationFailureHandler, callerCaptureMode);
+        }
+
+        /**
+         * Returns a copy of this configuration with the provided expectation failure handler.
+         *
+         * @param expectationFailureHandler The handler of expectation failures. Can't be null.
+         * @return A new configuration with the specified expectation failure handler.
+         */
+        public Configuration withExpectationFailureHandler(ExpectationFailureHandler expectationFailureHandler) {
+            assert expectationFailureHandler != null : "Expectation failure handler can't be null";
+
+            return new Configuration(expectationFailureHandler, callerCaptureMode);
+        }
+
         /**
          * Returns the currently active configuration. This is never null.
          *
@@ -205,7 +528,9 @@ public final class Expect {
 
         /**
          * Changes the active configuration to the provided configuration. Subsequent expectation failures etc
-         * will be handled by the configured expectation failure handler.
+         * will be handled by the configured expectation failure handler. If called within
+         * {@link #withScope(Configuration, Procedure)}, only the configuration of the innermost scope is
+         * replaced and the change is discarded when the scope closes.
          *
          * @param configuration The configuration that should become active. This can't be null.
          * @return The old configuration.
@@ -217,12 +542,42 @@ public final class Expect {
         }
 
         /**
-         * Creates a new builder that provides support for creating a new configuration instance.
+         * Executes a procedure with the provided configuration in effect for the current thread and threads
+         * created by it while the procedure executes. Other threads are unaffected, so that tests with
+         * different configurations (e.g. expectation failure handlers) can execute concurrently.
+         *
+         * @param configuration The configuration in effect while the procedure executes. Can't be null.
+         * @param procedure The procedure to execute. Can't be null.
+         * @throws Exception Thrown if the procedure fails.
+         */
+        public static void withScope(Configuration configuration, Procedure procedure) throws Exception {
+            assert configuration != null : "Configuration can't be null";
+            assert procedure != null : "Procedure can't be null";
+
+            CONFIGURATION_REFERENCE.withScope(configuration, procedure);
+        }
+
+        /**
+         * Binds a task to the configuration scope of the current thread, e.g. before submitting it to a
+         * thread pool whose threads haven't inherited the scope.
+         *
+         * @param task The task to bind. Can't be null.
+         * @return A task that executes in the configuration scope of the current thread.
+         */
+        public static Runnable inCurrentScope(Runnable task) {
+            assert task != null : "Task can't be null";
+
+            return CONFIGURATION_REFERENCE.bind(task);
+        }
+
+        /**
+         * Creates a new builder that provides support for creating a new configuration instance. Call sites
+         * of expectations are captured with {@link CallerCaptureMode#ON_FAILURE} unless configured otherwise.
          *
          * @return A new builder that provides support for creating a configuration.
          */
         public static NewBuilderContinuation newBuilder() {
-            return handler -> () -> new Configuration(handler);
+            return handler -> () -> new Configuration(handler, CallerCaptureMode.ON_FAILURE);
         }
 
         @FunctionalInterface
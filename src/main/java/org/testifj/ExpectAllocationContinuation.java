@@ -0,0 +1,221 @@
+package org.testifj;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Continuation of {@link Expect.ExpectMeasurableProcedureContinuation#allocation()}, which measures the number of
+ * bytes allocated by a procedure and compares the average per invocation with a budget.
+ * <p>
+ * Whether an allocation is eliminated through escape analysis depends on whether the procedure has been
+ * compiled, which happens after an unpredictable number of invocations. The procedure is therefore measured
+ * in rounds, each of which executes a number of warm-up iterations that aren't measured, followed by the
+ * measured iterations. The expectation is met as soon as a round is within the budget; it fails if no round
+ * is within the budget when the timeout expires (by default {@link #DEFAULT_TIMEOUT_MILLIS}). Rounds are
+ * limited by time rather than by count, since compilation is done in the background and lags behind when
+ * the compiler is busy.
+ * <p>
+ * Allocations are measured with the allocated bytes counter of the current thread, as provided by
+ * <code>com.sun.management.ThreadMXBean</code>; allocations made by other threads on behalf of the procedure
+ * aren't included. The counter is read once before and once after the measured iterations, and the bytes
+ * allocated by reading the counter itself are calibrated and subtracted. Instances are immutable.
+ */
+public final class ExpectAllocationContinuation {
+
+    public static final int DEFAULT_WARM_UP_ITERATIONS = 10_000;
+
+    public static final int DEFAULT_ITERATIONS = 1000;
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 2000;
+
+    static final int CALIBRATION_ITERATIONS = 100;
+
+    private final Procedure procedure;
+
+    private final CallSite callSite;
+
+    private final int warmUpIterations;
+
+    private final int iterations;
+
+    private final long timeoutNanos;
+
+    ExpectAllocationContinuation(Procedure procedure, CallSite callSite) {
+        this(procedure, callSite, DEFAULT_WARM_UP_ITERATIONS, DEFAULT_ITERATIONS, TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIMEOUT_MILLIS));
+    }
+
+    private ExpectAllocationContinuation(Procedure procedure, CallSite callSite, int warmUpIterations, int iterations, long timeoutNanos) {
+        this.procedure = procedure;
+        this.callSite = callSite;
+        this.warmUpIterations = warmUpIterations;
+        this.iterations = iterations;
+        this.timeoutNanos = timeoutNanos;
+    }
+
+    public ExpectAllocationContinuation withWarmUp(int warmUpIterations) {
+        assert warmUpIterations >= 0 : "Warm-up iterations can't be negative";
+
+        return new ExpectAllocationContinuation(procedure, callSite, warmUpIterations, iterations, timeoutNanos);
+    }
+
+    /**
+     * Returns a continuation that averages the allocated bytes over the provided number of invocations.
+     *
+     * @param iterations The number of measured invocations. Must be positive.
+     * @return A continuation that averages over the provided number of invocations.
+     */
+    public ExpectAllocationContinuation withIterations(int iterations) {
+        assert iterations > 0 : "Iterations must be positive";
+
+        return new ExpectAllocationContinuation(procedure, callSite, warmUpIterations, iterations, timeoutNanos);
+    }
+
+    /**
+     * Returns a continuation that measures rounds until the provided time has passed. At least one round
+     * is measured.
+     *
+     * @param timeout The time after which no further rounds are measured.
+     * @param unit The unit of the timeout. Can't be null.
+     * @return A continuation that measures rounds until the provided time has passed.
+     */
+    public ExpectAllocationContinuation within(long timeout, TimeUnit unit) {
+        assert timeout >= 0 : "Timeout can't be negative";
+        assert unit != null : "Unit can't be null";
+
+        return new ExpectAllocationContinuation(procedure, callSite, warmUpIterations, iterations, unit.toNanos(timeout));
+    }
+
+    public int getWarmUpIterations() {
+        return warmUpIterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public long getTimeout(TimeUnit unit) {
+        return unit.convert(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Measures the bytes allocated by the procedure and verifies that the average per invocation doesn't
+     * exceed the budget in at least one round. This is a best-of-N measurement: rounds are repeated until one
+     * is within the budget, and rounds that exceed it before then are disregarded as not yet compiled. A
+     * procedure that allocates only in some rounds (e.g. when a cache is resized) therefore meets the
+     * expectation; the expectation verifies the steady state of the procedure, not a bound on every
+     * invocation. Exceptions thrown by the procedure abort the measurement and are propagated; checked
+     * exceptions are wrapped in an <code>AssertionError</code>.
+     *
+     * @param bytes The maximum number of bytes allocated per invocation, on average.
+     * @throws UnsupportedOperationException If the JVM doesn't measure allocated bytes per thread.
+     */
+    public void toAllocateAtMost(long bytes) {
+        assert bytes >= 0 : "Bytes can't be negative";
+
+        final AllocationCounter counter = AllocationCounter.forCurrentThread();
+        final long overheadBytes = counter.calibrateOverhead(CALIBRATION_ITERATIONS);
+        final long deadline = System.nanoTime() + timeoutNanos;
+        long allocatedBytes = Long.MAX_VALUE;
+        int rounds = 0;
+
+        try {
+            do {
+                rounds++;
+
+                // The warm-up runs through the measurement loop, so that the procedure is compiled as it's measured
+                measure(procedure, warmUpIterations, counter, 0);
+
+                allocatedBytes = Math.min(allocatedBytes, measure(procedure, iterations, counter, overheadBytes));
+
+                if ((double) allocatedBytes / iterations <= bytes) {
+                    return;
+                }
+            } while (System.nanoTime() - deadline < 0);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AssertionError("Expectation failed with exception", e);
+        }
+
+        final double bytesPerInvocation = (double) allocatedBytes / iterations;
+        final Matcher<Double> matcher = actualBytes -> actualBytes <= bytes;
+        final Description description = BasicDescription.from(String.format(Locale.ROOT,
+                "%.1f bytes allocated per invocation exceeds budget of %d bytes; at least %d bytes allocated in %d invocations in each of %d rounds",
+                bytesPerInvocation, bytes, allocatedBytes, iterations, rounds));
+
+        Expect.Configuration.get().getExpectationFailureHandler().handleExpectationFailure(new ValueMismatchFailureImpl(
+                callSite.getCaller(), matcher, Optional.empty(), bytesPerInvocation, Optional.of(MatchResult.mismatch(matcher, bytesPerInvocation, description))));
+    }
+
+    /**
+     * Returns the bytes allocated by the provided number of invocations of the procedure, less the overhead
+     * of reading the counter.
+     */
+    static long measure(Procedure procedure, int iterations, AllocationCounter counter, long overheadBytes) throws Exception {
+        final long startBytes = counter.getAllocatedBytes();
+
+        for (int i = 0; i < iterations; i++) {
+            procedure.call();
+        }
+
+        final long allocatedBytes = counter.getAllocatedBytes() - startBytes - overheadBytes;
+
+        return (allocatedBytes < 0 ? 0 : allocatedBytes);
+    }
+
+    /**
+     * Counter of the bytes allocated by a thread.
+     */
+    static final class AllocationCounter {
+
+        private final com.sun.management.ThreadMXBean threadMXBean;
+
+        private final long threadId;
+
+        private AllocationCounter(com.sun.management.ThreadMXBean threadMXBean, long threadId) {
+            this.threadMXBean = threadMXBean;
+            this.threadId = threadId;
+        }
+
+        static AllocationCounter forCurrentThread() {
+            final java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+            if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)
+                    || !((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+                throw new UnsupportedOperationException("Allocated bytes per thread can't be measured by this JVM");
+            }
+
+            final com.sun.management.ThreadMXBean allocationMXBean = (com.sun.management.ThreadMXBean) threadMXBean;
+
+            if (!allocationMXBean.isThreadAllocatedMemoryEnabled()) {
+                allocationMXBean.setThreadAllocatedMemoryEnabled(true);
+            }
+
+            return new AllocationCounter(allocationMXBean, Thread.currentThread().getId());
+        }
+
+        long getAllocatedBytes() {
+            return threadMXBean.getThreadAllocatedBytes(threadId);
+        }
+
+        /**
+         * Returns the smallest observed number of bytes allocated between two consecutive readings of the
+         * counter, which is the overhead included in a measurement.
+         */
+        long calibrateOverhead(int iterations) {
+            long overhead = Long.MAX_VALUE;
+
+            for (int i = 0; i < iterations; i++) {
+                final long startBytes = getAllocatedBytes();
+                final long endBytes = getAllocatedBytes();
+
+                overhead = Math.min(overhead, endBytes - startBytes);
+            }
+
+            return overhead;
+        }
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.testifj;
+
+/**
+ * Continuation of an expectation on a <code>double</code> value. Expectations expressed through
+ * <code>DoubleMatcher</code>s or expected <code>double</code> values are verified without boxing the value.
+ */
+public interface ExpectDoubleContinuation extends ExpectValueContinuation<Double> {
+
+    void to(DoubleMatcher matcher);
+
+    default void toBe(DoubleMatcher matcher) {
+        to(matcher);
+    }
+
+    void toBe(double expectedValue);
+
+    @Override
+    default ExpectDoubleContinuation not() {
+        final ExpectDoubleContinuation continuation = this;
+
+        return new ExpectDoubleContinuation() {
+            @Override
+            public void to(DoubleMatcher matcher) {
+                continuation.to((double value) -> !matcher.matches(value));
+            }
+
+            @Override
+            public void to(Matcher<Double> matcher) {
+                continuation.to((Matcher<Double>) instance -> !matcher.matches(instance));
+            }
+
+            @Override
+            public void toBe(double expectedValue) {
+                to((double value) -> Double.compare(value, expectedValue) == 0);
+            }
+        };
+    }
+
+}
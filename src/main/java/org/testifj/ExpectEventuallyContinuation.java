@@ -0,0 +1,217 @@
+package org.testifj;
+
+import org.testifj.matchers.core.Equal;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Continuation of {@link Expect#expectEventually(Supplier)}. The supplier is polled until it provides a
+ * matching value or the timeout expires, with an interval that starts at the initial interval and doubles
+ * after every attempt, up to the maximum interval. Polling is scheduled on a scheduler shared by all
+ * pending expectations, so that waiting for a value doesn't occupy a thread.
+ * <p>
+ * If no matching value is provided in time, the last value provided by the supplier is reported as a
+ * {@link ValueMismatchFailure} to the expectation failure handler that was configured when the expectation
+ * was created. Instances are immutable.
+ *
+ * @param <T> The type of the polled value.
+ */
+public final class ExpectEventuallyContinuation<T> {
+
+    public static final long DEFAULT_TIMEOUT_MILLIS = 5000;
+
+    public static final long DEFAULT_INITIAL_INTERVAL_MILLIS = 10;
+
+    public static final long DEFAULT_MAXIMUM_INTERVAL_MILLIS = 1000;
+
+    private final Supplier<T> supplier;
+
+    private final CallSite callSite;
+
+    private final ExpectationFailureHandler expectationFailureHandler;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final long timeoutNanos;
+
+    private final long initialIntervalNanos;
+
+    private final long maximumIntervalNanos;
+
+    ExpectEventuallyContinuation(Supplier<T> supplier, CallSite callSite, ExpectationFailureHandler expectationFailureHandler) {
+        this(supplier, callSite, expectationFailureHandler, Poll.sharedScheduler(),
+                TimeUnit.MILLISECONDS.toNanos(DEFAULT_TIMEOUT_MILLIS),
+                TimeUnit.MILLISECONDS.toNanos(DEFAULT_INITIAL_INTERVAL_MILLIS),
+                TimeUnit.MILLISECONDS.toNanos(DEFAULT_MAXIMUM_INTERVAL_MILLIS));
+    }
+
+    private ExpectEventuallyContinuation(Supplier<T> supplier, CallSite callSite, ExpectationFailureHandler expectationFailureHandler,
+                                         ScheduledExecutorService scheduler, long timeoutNanos, long initialIntervalNanos, long maximumIntervalNanos) {
+        this.supplier = supplier;
+        this.callSite = callSite;
+        this.expectationFailureHandler = expectationFailureHandler;
+        this.scheduler = scheduler;
+        this.timeoutNanos = timeoutNanos;
+        this.initialIntervalNanos = initialIntervalNanos;
+        this.maximumIntervalNanos = maximumIntervalNanos;
+    }
+
+    public ExpectEventuallyContinuation<T> within(long timeout, TimeUnit unit) {
+        assert timeout >= 0 : "Timeout can't be negative";
+        assert unit != null : "Unit can't be null";
+
+        return new ExpectEventuallyContinuation<>(supplier, callSite, expectationFailureHandler, scheduler,
+                unit.toNanos(timeout), initialIntervalNanos, maximumIntervalNanos);
+    }
+
+    public ExpectEventuallyContinuation<T> pollingEvery(long initialInterval, TimeUnit unit) {
+        assert initialInterval > 0 : "Initial interval must be positive";
+        assert unit != null : "Unit can't be null";
+
+        final long initialIntervalNanos = unit.toNanos(initialInterval);
+
+        return new ExpectEventuallyContinuation<>(supplier, callSite, expectationFailureHandler, scheduler,
+                timeoutNanos, initialIntervalNanos, Math.max(initialIntervalNanos, maximumIntervalNanos));
+    }
+
+    public ExpectEventuallyContinuation<T> withMaximumInterval(long maximumInterval, TimeUnit unit) {
+        assert maximumInterval > 0 : "Maximum interval must be positive";
+        assert unit != null : "Unit can't be null";
+
+        final long maximumIntervalNanos = unit.toNanos(maximumInterval);
+
+        return new ExpectEventuallyContinuation<>(supplier, callSite, expectationFailureHandler, scheduler,
+                timeoutNanos, Math.min(initialIntervalNanos, maximumIntervalNanos), maximumIntervalNanos);
+    }
+
+    /**
+     * Returns a continuation that polls on the provided scheduler rather than the shared scheduler.
+     *
+     * @param scheduler The scheduler on which the supplier is polled. Can't be null.
+     * @return A continuation that polls on the provided scheduler.
+     */
+    public ExpectEventuallyContinuation<T> on(ScheduledExecutorService scheduler) {
+        assert scheduler != null : "Scheduler can't be null";
+
+        return new ExpectEventuallyContinuation<>(supplier, callSite, expectationFailureHandler, scheduler,
+                timeoutNanos, initialIntervalNanos, maximumIntervalNanos);
+    }
+
+    public long getTimeout(TimeUnit unit) {
+        return unit.convert(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getInitialInterval(TimeUnit unit) {
+        return unit.convert(initialIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public long getMaximumInterval(TimeUnit unit) {
+        return unit.convert(maximumIntervalNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Waits until the supplier provides a value matching the matcher. If the timeout expires, the last
+     * provided value is reported to the expectation failure handler on the calling thread.
+     *
+     * @param matcher The matcher that the value should eventually match. Can't be null.
+     */
+    public void to(Matcher<T> matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        final Poll<T> poll;
+
+        try {
+            poll = start(matcher).join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+
+        if (!poll.isMatched()) {
+            handleTimeout(matcher, Optional.empty(), poll);
+        }
+    }
+
+    public void toBe(Matcher<T> matcher) {
+        to(matcher);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void toBe(T expectedValue) {
+        if (expectedValue instanceof Matcher) {
+            to((Matcher<T>) expectedValue);
+            return;
+        }
+
+        final Matcher<T> matcher = Equal.equal(expectedValue);
+        final Poll<T> poll;
+
+        try {
+            poll = start(matcher).join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+
+        if (!poll.isMatched()) {
+            handleTimeout(matcher, Optional.of(expectedValue), poll);
+        }
+    }
+
+    /**
+     * Polls the supplier without blocking the calling thread. The returned future completes with the
+     * matching value. If the timeout expires, the last provided value is reported to the expectation failure
+     * handler on a thread of the scheduler; the future completes exceptionally with the error raised by the
+     * handler, or with the last provided value if the handler doesn't raise an error (e.g. when failures
+     * are being collected).
+     *
+     * @param matcher The matcher that the value should eventually match. Can't be null.
+     * @return A future that completes when a value has matched or the timeout has expired.
+     */
+    public CompletableFuture<T> toBecome(Matcher<T> matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return start(matcher).thenApply(poll -> {
+            if (!poll.isMatched()) {
+                handleTimeout(matcher, Optional.empty(), poll);
+            }
+
+            return poll.getLastValue();
+        });
+    }
+
+    private CompletableFuture<Poll<T>> start(Matcher<T> matcher) {
+        return Poll.start(supplier, matcher, scheduler, timeoutNanos, initialIntervalNanos, maximumIntervalNanos);
+    }
+
+    private void handleTimeout(Matcher<T> matcher, Optional<Object> expectedValue, Poll<T> poll) {
+        final Optional<MatchResult> result = Optional.ofNullable(poll.getLastResult());
+        final ValueMismatchFailureImpl failure = new ValueMismatchFailureImpl(callSite.getCaller(), matcher, expectedValue, poll.getLastValue(), result);
+
+        try {
+            expectationFailureHandler.handleExpectationFailure(failure);
+        } catch (AssertionError e) {
+            if (poll.getLastException() != null) {
+                e.addSuppressed(poll.getLastException());
+            }
+
+            throw e;
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable throwable) {
+        if (throwable instanceof RuntimeException) {
+            throw (RuntimeException) throwable;
+        }
+
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+
+        throw new CompletionException(throwable);
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.testifj;
+
+/**
+ * Continuation of an expectation on a <code>int</code> value. Expectations expressed through
+ * <code>IntMatcher</code>s or expected <code>int</code> values are verified without boxing the value.
+ */
+public interface ExpectIntContinuation extends ExpectValueContinuation<Integer> {
+
+    void to(IntMatcher matcher);
+
+    default void toBe(IntMatcher matcher) {
+        to(matcher);
+    }
+
+    void toBe(int expectedValue);
+
+    @Override
+    default ExpectIntContinuation not() {
+        final ExpectIntContinuation continuation = this;
+
+        return new ExpectIntContinuation() {
+            @Override
+            public void to(IntMatcher matcher) {
+                continuation.to((int value) -> !matcher.matches(value));
+            }
+
+            @Override
+            public void to(Matcher<Integer> matcher) {
+                continuation.to((Matcher<Integer>) instance -> !matcher.matches(instance));
+            }
+
+            @Override
+            public void toBe(int expectedValue) {
+                to((int value) -> value == expectedValue);
+            }
+        };
+    }
+
+}
@@ -0,0 +1,184 @@
+package org.testifj;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Continuation of {@link Expect.ExpectMeasurableProcedureContinuation#latency()}, which measures the latency of a
+ * procedure and compares a statistic of the measured latencies (by default the median) with a budget.
+ * The procedure is first executed for a number of warm-up iterations that aren't recorded, so that it's
+ * compiled before it's measured. The warm-up iterations run through the same loop as the measured ones,
+ * since a procedure that is compiled as part of a separate warm-up loop isn't necessarily compiled when
+ * it's called from the measurement loop.
+ * <p>
+ * Each iteration is timed with <code>System.nanoTime</code>. The overhead of reading the clock is
+ * calibrated before the measurement and subtracted from every sample. The samples are recorded in an array
+ * allocated before the measurement starts, so that the measurement loop itself doesn't allocate and
+ * doesn't cause garbage collections that would be attributed to the procedure. If the budget is exceeded,
+ * the failure includes a summary and a histogram of the samples. Instances are immutable.
+ */
+public final class ExpectLatencyContinuation {
+
+    public static final int DEFAULT_WARM_UP_ITERATIONS = 1000;
+
+    public static final int DEFAULT_ITERATIONS = 1000;
+
+    static final int CALIBRATION_ITERATIONS = 1000;
+
+    private final Procedure procedure;
+
+    private final CallSite callSite;
+
+    private final int warmUpIterations;
+
+    private final int iterations;
+
+    private final double percentile;
+
+    ExpectLatencyContinuation(Procedure procedure, CallSite callSite) {
+        this(procedure, callSite, DEFAULT_WARM_UP_ITERATIONS, DEFAULT_ITERATIONS, 50);
+    }
+
+    private ExpectLatencyContinuation(Procedure procedure, CallSite callSite, int warmUpIterations, int iterations, double percentile) {
+        this.procedure = procedure;
+        this.callSite = callSite;
+        this.warmUpIterations = warmUpIterations;
+        this.iterations = iterations;
+        this.percentile = percentile;
+    }
+
+    public ExpectLatencyContinuation withWarmUp(int warmUpIterations) {
+        assert warmUpIterations >= 0 : "Warm-up iterations can't be negative";
+
+        return new ExpectLatencyContinuation(procedure, callSite, warmUpIterations, iterations, percentile);
+    }
+
+    public ExpectLatencyContinuation withIterations(int iterations) {
+        assert iterations > 0 : "Iterations must be positive";
+
+        return new ExpectLatencyContinuation(procedure, callSite, warmUpIterations, iterations, percentile);
+    }
+
+    public ExpectLatencyContinuation atMedian() {
+        return atPercentile(50);
+    }
+
+    public ExpectLatencyContinuation atMaximum() {
+        return atPercentile(100);
+    }
+
+    /**
+     * Returns a continuation that compares the latency at the provided percentile with the budget, e.g.
+     * <code>atPercentile(99)</code> to require that 99% of the iterations complete within the budget.
+     *
+     * @param percentile The percentile, greater than 0 and at most 100.
+     * @return A continuation that compares the latency at the percentile with the budget.
+     */
+    public ExpectLatencyContinuation atPercentile(double percentile) {
+        assert percentile > 0 && percentile <= 100 : "Percentile must be in (0, 100]";
+
+        return new ExpectLatencyContinuation(procedure, callSite, warmUpIterations, iterations, percentile);
+    }
+
+    public int getWarmUpIterations() {
+        return warmUpIterations;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    /**
+     * Measures the latency of the procedure and verifies that the latency at the configured percentile
+     * doesn't exceed the budget. Exceptions thrown by the procedure abort the measurement and are
+     * propagated; checked exceptions are wrapped in an <code>AssertionError</code>.
+     *
+     * @param budget The maximum latency.
+     * @param unit The unit of the budget. Can't be null.
+     */
+    public void toCompleteWithin(long budget, TimeUnit unit) {
+        assert budget >= 0 : "Budget can't be negative";
+        assert unit != null : "Unit can't be null";
+
+        final long budgetNanos = unit.toNanos(budget);
+        final long[] samples = new long[iterations];
+
+        try {
+            // The warm-up runs through the measurement loop, so that the procedure is compiled as it's measured
+            for (int remaining = warmUpIterations; remaining > 0; remaining -= samples.length) {
+                measure(procedure, samples, Math.min(remaining, samples.length), 0);
+            }
+
+            measure(procedure, samples, samples.length, calibrateOverhead());
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new AssertionError("Expectation failed with exception", e);
+        }
+
+        final LatencyStatistics statistics = LatencyStatistics.of(samples);
+        final long latency = statistics.getPercentile(percentile);
+
+        if (latency <= budgetNanos) {
+            return;
+        }
+
+        final Matcher<Long> matcher = actualLatency -> actualLatency <= budgetNanos;
+        final Description description = BasicDescription.from(describePercentile(percentile) + " latency "
+                + LatencyStatistics.formatNanos(latency) + " exceeds budget of " + LatencyStatistics.formatNanos(budgetNanos) + "; ")
+                .appendDescription(statistics.describe());
+
+        Expect.Configuration.get().getExpectationFailureHandler().handleExpectationFailure(new ValueMismatchFailureImpl(
+                callSite.getCaller(), matcher, Optional.empty(), latency, Optional.of(MatchResult.mismatch(matcher, latency, description))));
+    }
+
+    /**
+     * Records the latency of one call of the procedure in each of the first <code>count</code> samples, less
+     * the overhead of reading the clock.
+     */
+    static void measure(Procedure procedure, long[] samples, int count, long overheadNanos) throws Exception {
+        for (int i = 0; i < count; i++) {
+            final long startTime = System.nanoTime();
+
+            procedure.call();
+
+            final long latency = System.nanoTime() - startTime - overheadNanos;
+
+            samples[i] = (latency < 0 ? 0 : latency);
+        }
+    }
+
+    /**
+     * Returns the smallest observed difference between two consecutive readings of the clock, which is the
+     * overhead included in every sample.
+     */
+    static long calibrateOverhead() {
+        long overhead = Long.MAX_VALUE;
+
+        for (int i = 0; i < CALIBRATION_ITERATIONS; i++) {
+            final long startTime = System.nanoTime();
+            final long endTime = System.nanoTime();
+
+            overhead = Math.min(overhead, endTime - startTime);
+        }
+
+        return overhead;
+    }
+
+    static String describePercentile(double percentile) {
+        if (percentile == 50) {
+            return "median";
+        }
+
+        if (percentile == 100) {
+            return "maximum";
+        }
+
+        return (percentile == Math.rint(percentile) ? "p" + (long) percentile : "p" + percentile);
+    }
+
+}
@@ -0,0 +1,39 @@
+package org.testifj;
+
+/**
+ * Continuation of an expectation on a <code>long</code> value. Expectations expressed through
+ * <code>LongMatcher</code>s or expected <code>long</code> values are verified without boxing the value.
+ */
+public interface ExpectLongContinuation extends ExpectValueContinuation<Long> {
+
+    void to(LongMatcher matcher);
+
+    default void toBe(LongMatcher matcher) {
+        to(matcher);
+    }
+
+    void toBe(long expectedValue);
+
+    @Override
+    default ExpectLongContinuation not() {
+        final ExpectLongContinuation continuation = this;
+
+        return new ExpectLongContinuation() {
+            @Override
+            public void to(LongMatcher matcher) {
+                continuation.to((long value) -> !matcher.matches(value));
+            }
+
+            @Override
+            public void to(Matcher<Long> matcher) {
+                continuation.to((Matcher<Long>) instance -> !matcher.matches(instance));
+            }
+
+            @Override
+            public void toBe(long expectedValue) {
+                to((long value) -> value == expectedValue);
+            }
+        };
+    }
+
+}
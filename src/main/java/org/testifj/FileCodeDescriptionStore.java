@@ -0,0 +1,395 @@
+package org.testifj;
+
+import io.recode.Caller;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+/**
+ * <p>
+ * A {@link org.testifj.CodeDescriptionStore} that persists descriptions in an append-only file, which
+ * allows the descriptions to be shared across JVMs (e.g. forked test runs). Entries are keyed by a digest
+ * of the content of the class file of the caller and the method and line number of the caller, since a
+ * lambda and its enclosing method may share a line; an entry is hence implicitly invalidated when the class
+ * file changes.
+ * </p>
+ * <p>
+ * The file is read through memory mapping. Records are written under an exclusive file lock; incomplete
+ * records at the end of the file (being written by another process) are read once complete. This class
+ * is thread-safe.
+ * </p>
+ * <p>
+ * Entries of modified class files are never removed, since the file is shared with other processes that
+ * may still use them. Instead, records are no longer appended once the file has reached a maximum size;
+ * descriptions that don't fit are retained in memory only. Deleting the file (e.g. on a clean build)
+ * discards all entries.
+ * </p>
+ */
+public final class FileCodeDescriptionStore implements CodeDescriptionStore {
+
+    public static final String FILE_NAME = "code-descriptions.idx";
+
+    /**
+     * Default maximum size of the store file, in bytes.
+     */
+    public static final long DEFAULT_MAXIMUM_SIZE = 16 * 1024 * 1024;
+
+    private static final int RECORD_MAGIC = 0x54494a32;
+
+    private static final int RECORD_HEADER_LENGTH = 8;
+
+    private static final int RECORD_TRAILER_LENGTH = 8;
+
+    private final Path file;
+
+    private final Function<String, byte[]> classFileLoader;
+
+    private final long maximumSize;
+
+    private final Map<String, String> classFileDigests = new ConcurrentHashMap<>();
+
+    private final Map<EntryKey, List<String>> entries = new ConcurrentHashMap<>();
+
+    private long readPosition = 0;
+
+    public FileCodeDescriptionStore(Path directory) {
+        this(directory, FileCodeDescriptionStore::loadClassFile);
+    }
+
+    /**
+     * Creates a file store with a custom class file loader.
+     *
+     * @param directory The directory where the store file is kept. Created if it doesn't exist.
+     * @param classFileLoader Function that returns the contents of a class file given a class name, or
+     *                        null if the class file can't be found.
+     */
+    public FileCodeDescriptionStore(Path directory, Function<String, byte[]> classFileLoader) {
+        this(directory, classFileLoader, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Creates a file store with a custom class file loader and maximum file size.
+     *
+     * @param directory The directory where the store file is kept. Created if it doesn't exist.
+     * @param classFileLoader Function that returns the contents of a class file given a class name, or
+     *                        null if the class file can't be found.
+     * @param maximumSize The size in bytes beyond which no records are appended to the store file. Must be
+     *                    positive.
+     */
+    public FileCodeDescriptionStore(Path directory, Function<String, byte[]> classFileLoader, long maximumSize) {
+        assert directory != null : "Directory can't be null";
+        assert classFileLoader != null : "Class file loader can't be null";
+        assert maximumSize > 0 : "Maximum size must be positive";
+
+        this.file = directory.resolve(FILE_NAME);
+        this.classFileLoader = classFileLoader;
+        this.maximumSize = maximumSize;
+    }
+
+    @Override
+    public Optional<List<String>> get(Caller caller, String key) {
+        assert caller != null : "Caller can't be null";
+        assert key != null : "Key can't be null";
+
+        final Optional<EntryKey> entryKey = entryKey(caller, key);
+
+        if (!entryKey.isPresent()) {
+            return Optional.empty();
+        }
+
+        List<String> descriptions = entries.get(entryKey.get());
+
+        if (descriptions == null) {
+            readAppendedRecords();
+            descriptions = entries.get(entryKey.get());
+        }
+
+        return Optional.ofNullable(descriptions);
+    }
+
+    @Override
+    public void put(Caller caller, String key, List<String> descriptions) {
+        assert caller != null : "Caller can't be null";
+        assert key != null : "Key can't be null";
+        assert descriptions != null : "Descriptions can't be null";
+
+        final Optional<EntryKey> entryKey = entryKey(caller, key);
+
+        if (!entryKey.isPresent()) {
+            return;
+        }
+
+        final List<String> copiedDescriptions = Collections.unmodifiableList(new ArrayList<>(descriptions));
+
+        if (entries.putIfAbsent(entryKey.get(), copiedDescriptions) != null) {
+            return;
+        }
+
+        try {
+            appendRecord(entryKey.get(), copiedDescriptions);
+        } catch (IOException e) {
+            // The store is a cache; the description is retained in memory only
+        }
+    }
+
+    private Optional<EntryKey> entryKey(Caller caller, String key) {
+        final String className = caller.getClassName();
+        String classFileDigest = classFileDigests.get(className);
+
+        if (classFileDigest == null) {
+            final byte[] classFile = classFileLoader.apply(className);
+
+            if (classFile == null) {
+                return Optional.empty();
+            }
+
+            classFileDigest = digest(classFile);
+            classFileDigests.put(className, classFileDigest);
+        }
+
+        return Optional.of(new EntryKey(classFileDigest, caller.getMethodName(), caller.getLineNumber(), key));
+    }
+
+    private void appendRecord(EntryKey entryKey, List<String> descriptions) throws IOException {
+        final ByteBuffer record = encodeRecord(entryKey, descriptions);
+
+        Files.createDirectories(file.getParent());
+
+        // File locks are held on behalf of the JVM, so writers within the JVM must be serialized as well
+        synchronized (FileCodeDescriptionStore.class) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                // The lock is released when the channel is closed
+                channel.lock();
+
+                // The size is checked under the lock, so that concurrent writers can't exceed it together
+                if (channel.size() + record.remaining() <= maximumSize) {
+                    write(channel, record);
+                }
+            }
+        }
+    }
+
+    private static ByteBuffer encodeRecord(EntryKey entryKey, List<String> descriptions) throws IOException {
+        final ByteArrayOutputStream payloadBuffer = new ByteArrayOutputStream();
+
+        try (DataOutputStream out = new DataOutputStream(payloadBuffer)) {
+            writeString(out, entryKey.classFileDigest);
+            writeString(out, entryKey.methodName);
+            out.writeInt(entryKey.lineNumber);
+            writeString(out, entryKey.key);
+            out.writeInt(descriptions.size());
+
+            for (String description : descriptions) {
+                writeString(out, description);
+            }
+        }
+
+        final byte[] payload = payloadBuffer.toByteArray();
+        final CRC32 checksum = new CRC32();
+
+        checksum.update(payload);
+
+        final ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_LENGTH + payload.length + RECORD_TRAILER_LENGTH);
+
+        record.putInt(RECORD_MAGIC);
+        record.putInt(payload.length);
+        record.put(payload);
+        record.putLong(checksum.getValue());
+        record.flip();
+
+        return record;
+    }
+
+    private static void write(FileChannel channel, ByteBuffer record) throws IOException {
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+    }
+
+    private synchronized void readAppendedRecords() {
+        if (!Files.exists(file)) {
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            final long size = channel.size();
+
+            if (size <= readPosition) {
+                return;
+            }
+
+            final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, readPosition, size - readPosition);
+
+            while (buffer.remaining() >= RECORD_HEADER_LENGTH) {
+                final int recordStart = buffer.position();
+
+                if (buffer.getInt() != RECORD_MAGIC) {
+                    // Corrupt store; nothing beyond this point can be trusted
+                    readPosition = size;
+                    return;
+                }
+
+                final int payloadLength = buffer.getInt();
+
+                if (payloadLength < 0 || buffer.remaining() < payloadLength + RECORD_TRAILER_LENGTH) {
+                    // Incomplete record, possibly being written; retry on next read
+                    buffer.position(recordStart);
+                    break;
+                }
+
+                final byte[] payload = new byte[payloadLength];
+
+                buffer.get(payload);
+
+                final long expectedChecksum = buffer.getLong();
+                final CRC32 checksum = new CRC32();
+
+                checksum.update(payload);
+
+                if (checksum.getValue() == expectedChecksum) {
+                    readRecord(ByteBuffer.wrap(payload));
+                }
+            }
+
+            readPosition += buffer.position();
+        } catch (IOException e) {
+            // The store is a cache; unreadable records are treated as missing
+        }
+    }
+
+    private void readRecord(ByteBuffer payload) {
+        final String classFileDigest = readString(payload);
+        final String methodName = readString(payload);
+        final int lineNumber = payload.getInt();
+        final String key = readString(payload);
+        final int count = payload.getInt();
+        final List<String> descriptions = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            descriptions.add(readString(payload));
+        }
+
+        entries.putIfAbsent(new EntryKey(classFileDigest, methodName, lineNumber, key), Collections.unmodifiableList(descriptions));
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+
+        buffer.get(bytes);
+
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static String digest(byte[] contents) {
+        final MessageDigest messageDigest;
+
+        try {
+            messageDigest = MessageDigest.getInstance("SHA-1");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-1 is not supported", e);
+        }
+
+        final StringBuilder buffer = new StringBuilder();
+
+        for (byte b : messageDigest.digest(contents)) {
+            buffer.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return buffer.toString();
+    }
+
+    private static byte[] loadClassFile(String className) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+
+        if (classLoader == null) {
+            classLoader = FileCodeDescriptionStore.class.getClassLoader();
+        }
+
+        final String resourceName = className.replace('.', '/') + ".class";
+
+        try (InputStream in = classLoader.getResourceAsStream(resourceName)) {
+            if (in == null) {
+                return null;
+            }
+
+            final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            final byte[] chunk = new byte[4096];
+
+            for (int n = in.read(chunk); n != -1; n = in.read(chunk)) {
+                buffer.write(chunk, 0, n);
+            }
+
+            return buffer.toByteArray();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static final class EntryKey {
+
+        private final String classFileDigest;
+
+        private final String methodName;
+
+        private final int lineNumber;
+
+        private final String key;
+
+        private EntryKey(String classFileDigest, String methodName, int lineNumber, String key) {
+            this.classFileDigest = classFileDigest;
+            this.methodName = methodName;
+            this.lineNumber = lineNumber;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            EntryKey entryKey = (EntryKey) o;
+
+            if (lineNumber != entryKey.lineNumber) return false;
+            if (!classFileDigest.equals(entryKey.classFileDigest)) return false;
+            if (!methodName.equals(entryKey.methodName)) return false;
+            if (!key.equals(entryKey.key)) return false;
+
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int result = classFileDigest.hashCode();
+            result = 31 * result + methodName.hashCode();
+            result = 31 * result + lineNumber;
+            result = 31 * result + key.hashCode();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.testifj;
+
+import io.recode.annotations.DSL;
+
+/**
+ * A matcher specialized for <code>int</code> values. Values are matched without boxing; the matcher can still
+ * be used wherever a <code>Matcher&lt;Integer&gt;</code> is accepted, in which case <code>null</code> never matches.
+ */
+@DSL
+@FunctionalInterface
+public interface IntMatcher extends Matcher<Integer> {
+
+    boolean matches(int value);
+
+    @Override
+    default boolean matches(Integer instance) {
+        return instance != null && matches(instance.intValue());
+    }
+
+    default IntMatcher or(IntMatcher matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return new IntMatcher() {
+            @Override
+            public boolean matches(int value) {
+                return IntMatcher.this.matches(value) || matcher.matches(value);
+            }
+
+            @Override
+            public MatchResult evaluate(Integer instance) {
+                // Each alternative is evaluated at most once; a successful result is shared and doesn't allocate
+                final MatchResult first = IntMatcher.this.evaluate(instance);
+
+                if (first.isMatch()) {
+                    return first;
+                }
+
+                return MatchResult.either(this, instance, first, matcher.evaluate(instance));
+            }
+        };
+    }
+
+    default IntMatcher and(IntMatcher matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return new IntMatcher() {
+            @Override
+            public boolean matches(int value) {
+                return IntMatcher.this.matches(value) && matcher.matches(value);
+            }
+
+            @Override
+            public MatchResult evaluate(Integer instance) {
+                final MatchResult result = IntMatcher.this.evaluate(instance);
+
+                if (!result.isMatch()) {
+                    return result;
+                }
+
+                return matcher.evaluate(instance);
+            }
+        };
+    }
+
+}
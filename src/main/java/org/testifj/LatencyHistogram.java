@@ -0,0 +1,322 @@
+package org.testifj;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A histogram of latencies, in nanoseconds, with logarithmically sized buckets. Each power-of-two range of
+ * values is divided into linear sub-buckets, so that every value is recorded with a bounded relative error
+ * that is determined by the number of significant decimal digits of the histogram, e.g. 0.1% with three
+ * significant digits. The memory used by a histogram depends on its precision and range, but not on the
+ * number of recorded values, so that millions of samples can be recorded and queried without being
+ * retained or sorted.
+ * <p>
+ * Values can be recorded concurrently by any number of threads. Recording doesn't lock or allocate; it
+ * increments the count of the bucket of the value atomically. Histograms recorded by separate threads can
+ * be merged through {@link #add(LatencyHistogram)}. Queries are consistent only if no values are being
+ * recorded concurrently.
+ */
+public final class LatencyHistogram {
+
+    public static final int DEFAULT_SIGNIFICANT_DIGITS = 3;
+
+    public static final long DEFAULT_HIGHEST_TRACKABLE_VALUE = TimeUnit.HOURS.toNanos(1);
+
+    static final double[] REPORTED_PERCENTILES = {50, 75, 90, 95, 99, 99.9, 99.99, 100};
+
+    private final long highestTrackableValue;
+
+    private final int significantDigits;
+
+    private final int subBucketHalfCountMagnitude;
+
+    private final int subBucketHalfCount;
+
+    private final long subBucketMask;
+
+    private final int leadingZeroCountBase;
+
+    private final AtomicLongArray counts;
+
+    private final AtomicLong minimum = new AtomicLong(Long.MAX_VALUE);
+
+    private final AtomicLong maximum = new AtomicLong(0);
+
+    /**
+     * Creates a histogram of latencies up to {@link #DEFAULT_HIGHEST_TRACKABLE_VALUE}, with
+     * {@link #DEFAULT_SIGNIFICANT_DIGITS} significant digits.
+     */
+    public LatencyHistogram() {
+        this(DEFAULT_HIGHEST_TRACKABLE_VALUE, DEFAULT_SIGNIFICANT_DIGITS);
+    }
+
+    /**
+     * Creates a histogram.
+     *
+     * @param highestTrackableValue The highest value that can be recorded. Must be at least 2.
+     * @param significantDigits The number of significant decimal digits of recorded values, between 1 and 5.
+     */
+    public LatencyHistogram(long highestTrackableValue, int significantDigits) {
+        assert highestTrackableValue >= 2 : "Highest trackable value must be at least 2";
+        assert significantDigits >= 1 && significantDigits <= 5 : "Significant digits must be between 1 and 5";
+
+        final long largestValueWithSingleUnitResolution = 2 * (long) Math.pow(10, significantDigits);
+        final int subBucketCountMagnitude = (int) Math.ceil(Math.log(largestValueWithSingleUnitResolution) / Math.log(2));
+
+        this.highestTrackableValue = highestTrackableValue;
+        this.significantDigits = significantDigits;
+        this.subBucketHalfCountMagnitude = subBucketCountMagnitude - 1;
+        this.subBucketHalfCount = 1 << subBucketHalfCountMagnitude;
+        this.subBucketMask = (1L << subBucketCountMagnitude) - 1;
+        this.leadingZeroCountBase = Long.SIZE - subBucketHalfCountMagnitude - 1;
+        this.counts = new AtomicLongArray((bucketCount(highestTrackableValue, 1L << subBucketCountMagnitude) + 1) * subBucketHalfCount);
+    }
+
+    /**
+     * Returns the number of power-of-two buckets needed to cover the values up to the highest trackable value.
+     */
+    private static int bucketCount(long highestTrackableValue, long subBucketCount) {
+        long smallestUntrackableValue = subBucketCount;
+        int bucketCount = 1;
+
+        while (smallestUntrackableValue <= highestTrackableValue) {
+            if (smallestUntrackableValue > Long.MAX_VALUE / 2) {
+                return bucketCount + 1;
+            }
+
+            smallestUntrackableValue <<= 1;
+            bucketCount++;
+        }
+
+        return bucketCount;
+    }
+
+    public long getHighestTrackableValue() {
+        return highestTrackableValue;
+    }
+
+    public int getSignificantDigits() {
+        return significantDigits;
+    }
+
+    /**
+     * Records a value. This can be called concurrently by multiple threads and doesn't allocate.
+     *
+     * @param value The value, between 0 and the highest trackable value.
+     */
+    public void record(long value) {
+        record(value, 1);
+    }
+
+    /**
+     * Records a value a number of times.
+     *
+     * @param value The value, between 0 and the highest trackable value.
+     * @param count The number of times the value is recorded. Can't be negative.
+     */
+    public void record(long value, long count) {
+        assert value >= 0 && value <= highestTrackableValue : "Value must be between 0 and " + highestTrackableValue + ": " + value;
+        assert count >= 0 : "Count can't be negative";
+
+        counts.getAndAdd(indexOf(value), count);
+
+        updateMinimum(value);
+        updateMaximum(value);
+    }
+
+    /**
+     * Records the values of another histogram in this histogram, e.g. to combine the histograms recorded
+     * by several threads. The other histogram can have a different precision and range, as long as its
+     * values are trackable by this histogram.
+     *
+     * @param other The histogram whose values should be recorded. Can't be null.
+     */
+    public void add(LatencyHistogram other) {
+        assert other != null : "Other histogram can't be null";
+
+        for (int index = 0; index < other.counts.length(); index++) {
+            final long count = other.counts.get(index);
+
+            if (count > 0) {
+                counts.getAndAdd(indexOf(other.valueOf(index)), count);
+            }
+        }
+
+        if (other.getTotalCount() > 0) {
+            updateMinimum(other.minimum.get());
+            updateMaximum(other.maximum.get());
+        }
+    }
+
+    public long getTotalCount() {
+        long totalCount = 0;
+
+        for (int index = 0; index < counts.length(); index++) {
+            totalCount += counts.get(index);
+        }
+
+        return totalCount;
+    }
+
+    /**
+     * Returns the smallest recorded value, or 0 if no values have been recorded.
+     */
+    public long getMinimum() {
+        final long minimum = this.minimum.get();
+
+        return (minimum == Long.MAX_VALUE ? 0 : minimum);
+    }
+
+    /**
+     * Returns the largest recorded value, or 0 if no values have been recorded.
+     */
+    public long getMaximum() {
+        return maximum.get();
+    }
+
+    public double getMean() {
+        long totalCount = 0;
+        double total = 0;
+
+        for (int index = 0; index < counts.length(); index++) {
+            final long count = counts.get(index);
+
+            if (count > 0) {
+                totalCount += count;
+                total += (double) count * medianEquivalentValue(valueOf(index));
+            }
+        }
+
+        return (totalCount == 0 ? 0 : total / totalCount);
+    }
+
+    /**
+     * Returns a value such that at least the provided percentage of all recorded values are less than or
+     * equal to it, within the precision of the histogram. The value is never larger than the maximum
+     * recorded value.
+     *
+     * @param percentile The percentile, greater than 0 and at most 100.
+     * @return The value at the percentile, or 0 if no values have been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        assert percentile > 0 && percentile <= 100 : "Percentile must be in (0, 100]";
+
+        final long totalCount = getTotalCount();
+
+        if (totalCount == 0) {
+            return 0;
+        }
+
+        final long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long cumulativeCount = 0;
+
+        for (int index = 0; index < counts.length(); index++) {
+            cumulativeCount += counts.get(index);
+
+            if (cumulativeCount >= rank) {
+                return Math.min(highestEquivalentValue(valueOf(index)), getMaximum());
+            }
+        }
+
+        return getMaximum();
+    }
+
+    /**
+     * Describes the histogram as a table of the values at common percentiles, followed by a summary of the
+     * recorded values.
+     */
+    public Description describe() {
+        final long totalCount = getTotalCount();
+        Description description = BasicDescription.from(String.format(Locale.ROOT, "%10s %12s", "percentile", "value"));
+
+        if (totalCount > 0) {
+            for (double percentile : REPORTED_PERCENTILES) {
+                description = description.appendText(String.format(Locale.ROOT, "\n%10s %12s",
+                        describePercentile(percentile), formatNanos(getValueAtPercentile(percentile))));
+            }
+        }
+
+        return description
+                .appendText("\n" + totalCount + " values")
+                .appendText(", min " + formatNanos(getMinimum()))
+                .appendText(", mean " + formatNanos(Math.round(getMean())))
+                .appendText(", max " + formatNanos(getMaximum()));
+    }
+
+    /**
+     * Formats a latency in the largest unit in which it is at least one, e.g. <code>1.5 ms</code>.
+     *
+     * @param nanos The latency in nanoseconds.
+     * @return The formatted latency.
+     */
+    public static String formatNanos(long nanos) {
+        return LatencyStatistics.formatNanos(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{totalCount=" + getTotalCount() + ", minimum=" + getMinimum() + ", maximum=" + getMaximum() + "}";
+    }
+
+    static String describePercentile(double percentile) {
+        return (percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile)) + "%";
+    }
+
+    int indexOf(long value) {
+        final int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+        final int subBucketIndex = (int) (value >>> bucketIndex);
+
+        return ((bucketIndex + 1) << subBucketHalfCountMagnitude) + (subBucketIndex - subBucketHalfCount);
+    }
+
+    /**
+     * Returns the lowest value of the bucket at the provided index.
+     */
+    long valueOf(int index) {
+        int bucketIndex = (index >> subBucketHalfCountMagnitude) - 1;
+        int subBucketIndex = (index & (subBucketHalfCount - 1)) + subBucketHalfCount;
+
+        if (bucketIndex < 0) {
+            subBucketIndex -= subBucketHalfCount;
+            bucketIndex = 0;
+        }
+
+        return (long) subBucketIndex << bucketIndex;
+    }
+
+    /**
+     * Returns the number of distinct values that are recorded in the same bucket as the provided value.
+     */
+    long sizeOfEquivalentRange(long value) {
+        final int bucketIndex = leadingZeroCountBase - Long.numberOfLeadingZeros(value | subBucketMask);
+
+        return 1L << bucketIndex;
+    }
+
+    long highestEquivalentValue(long value) {
+        return valueOf(indexOf(value)) + sizeOfEquivalentRange(value) - 1;
+    }
+
+    private long medianEquivalentValue(long value) {
+        return valueOf(indexOf(value)) + (sizeOfEquivalentRange(value) >> 1);
+    }
+
+    private void updateMinimum(long value) {
+        long current = minimum.get();
+
+        while (value < current && !minimum.compareAndSet(current, value)) {
+            current = minimum.get();
+        }
+    }
+
+    private void updateMaximum(long value) {
+        long current = maximum.get();
+
+        while (value > current && !maximum.compareAndSet(current, value)) {
+            current = maximum.get();
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+package org.testifj;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Order statistics of latency samples, in nanoseconds. Percentiles are computed with the nearest-rank
+ * method on the sorted samples, so that every reported latency is a latency that was actually measured.
+ */
+final class LatencyStatistics {
+
+    static final int HISTOGRAM_WIDTH = 40;
+
+    private final long[] sortedSamples;
+
+    private LatencyStatistics(long[] sortedSamples) {
+        this.sortedSamples = sortedSamples;
+    }
+
+    /**
+     * Creates statistics of the provided samples. The samples are sorted in place and must not be modified
+     * afterwards.
+     *
+     * @param samples The samples, in nanoseconds. Can't be null or empty.
+     * @return Statistics of the samples.
+     */
+    static LatencyStatistics of(long[] samples) {
+        assert samples != null && samples.length > 0 : "Samples can't be null or empty";
+
+        Arrays.sort(samples);
+
+        return new LatencyStatistics(samples);
+    }
+
+    int getCount() {
+        return sortedSamples.length;
+    }
+
+    long getMinimum() {
+        return sortedSamples[0];
+    }
+
+    long getMaximum() {
+        return sortedSamples[sortedSamples.length - 1];
+    }
+
+    long getMedian() {
+        return getPercentile(50);
+    }
+
+    /**
+     * Returns the smallest sample such that at least the provided percentage of all samples are less than
+     * or equal to it.
+     *
+     * @param percentile The percentile, greater than 0 and at most 100.
+     * @return The sample at the percentile.
+     */
+    long getPercentile(double percentile) {
+        assert percentile > 0 && percentile <= 100 : "Percentile must be in (0, 100]";
+
+        final int rank = (int) Math.ceil(percentile / 100 * sortedSamples.length);
+
+        return sortedSamples[Math.max(0, Math.min(sortedSamples.length, rank) - 1)];
+    }
+
+    /**
+     * Describes the statistics as a summary line, followed by a histogram of the samples in buckets whose
+     * bounds are powers of two nanoseconds.
+     */
+    Description describe() {
+        final StringBuilder buffer = new StringBuilder()
+                .append(sortedSamples.length).append(" samples")
+                .append(": min ").append(formatNanos(getMinimum()))
+                .append(", median ").append(formatNanos(getMedian()))
+                .append(", p90 ").append(formatNanos(getPercentile(90)))
+                .append(", p99 ").append(formatNanos(getPercentile(99)))
+                .append(", p99.9 ").append(formatNanos(getPercentile(99.9)))
+                .append(", max ").append(formatNanos(getMaximum()));
+
+        final int[] bucketCounts = new int[Long.SIZE];
+        int maximumCount = 0;
+
+        for (long sample : sortedSamples) {
+            maximumCount = Math.max(maximumCount, ++bucketCounts[bucketOf(sample)]);
+        }
+
+        final int firstBucket = bucketOf(getMinimum());
+        final int lastBucket = bucketOf(getMaximum());
+
+        for (int bucket = firstBucket; bucket <= lastBucket; bucket++) {
+            final int count = bucketCounts[bucket];
+            final int barLength = (count == 0 ? 0 : Math.max(1, (int) ((long) count * HISTOGRAM_WIDTH / maximumCount)));
+
+            buffer.append(String.format(Locale.ROOT, "\n  [%10s, %10s) %8d ",
+                    formatNanos(bucket == 0 ? 0 : 1L << (bucket - 1)),
+                    formatNanos(bucket == Long.SIZE - 1 ? Long.MAX_VALUE : 1L << bucket),
+                    count));
+
+            for (int i = 0; i < barLength; i++) {
+                buffer.append('#');
+            }
+        }
+
+        return BasicDescription.from(buffer.toString());
+    }
+
+    /**
+     * Returns the index of the power-of-two bucket of a sample; bucket <code>k</code> covers the range
+     * <code>[2^(k-1), 2^k)</code> and bucket 0 contains only zero. Samples must not be negative.
+     */
+    static int bucketOf(long sample) {
+        return Long.SIZE - Long.numberOfLeadingZeros(sample);
+    }
+
+    static String formatNanos(long nanos) {
+        if (nanos < 1000) {
+            return nanos + " ns";
+        }
+
+        if (nanos < 1000_000) {
+            return String.format(Locale.ROOT, "%.1f us", nanos / 1e3);
+        }
+
+        if (nanos < 1000_000_000) {
+            return String.format(Locale.ROOT, "%.1f ms", nanos / 1e6);
+        }
+
+        return String.format(Locale.ROOT, "%.2f s", nanos / 1e9);
+    }
+
+}
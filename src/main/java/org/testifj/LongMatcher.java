@@ -0,0 +1,65 @@
+package org.testifj;
+
+import io.recode.annotations.DSL;
+
+/**
+ * A matcher specialized for <code>long</code> values. Values are matched without boxing; the matcher can still
+ * be used wherever a <code>Matcher&lt;Long&gt;</code> is accepted, in which case <code>null</code> never matches.
+ */
+@DSL
+@FunctionalInterface
+public interface LongMatcher extends Matcher<Long> {
+
+    boolean matches(long value);
+
+    @Override
+    default boolean matches(Long instance) {
+        return instance != null && matches(instance.longValue());
+    }
+
+    default LongMatcher or(LongMatcher matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return new LongMatcher() {
+            @Override
+            public boolean matches(long value) {
+                return LongMatcher.this.matches(value) || matcher.matches(value);
+            }
+
+            @Override
+            public MatchResult evaluate(Long instance) {
+                // Each alternative is evaluated at most once; a successful result is shared and doesn't allocate
+                final MatchResult first = LongMatcher.this.evaluate(instance);
+
+                if (first.isMatch()) {
+                    return first;
+                }
+
+                return MatchResult.either(this, instance, first, matcher.evaluate(instance));
+            }
+        };
+    }
+
+    default LongMatcher and(LongMatcher matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return new LongMatcher() {
+            @Override
+            public boolean matches(long value) {
+                return LongMatcher.this.matches(value) && matcher.matches(value);
+            }
+
+            @Override
+            public MatchResult evaluate(Long instance) {
+                final MatchResult result = LongMatcher.this.evaluate(instance);
+
+                if (!result.isMatch()) {
+                    return result;
+                }
+
+                return matcher.evaluate(instance);
+            }
+        };
+    }
+
+}
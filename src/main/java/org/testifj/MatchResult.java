@@ -0,0 +1,170 @@
+package org.testifj;
+
+import java.util.Optional;
+
+/**
+ * The result of evaluating a {@link Matcher} through {@link Matcher#evaluate(Object)}. A failed result
+ * identifies the innermost matcher that failed, the path from the matched instance to the value that
+ * matcher was applied to (e.g. <code>[3]</code> for the element at index 3) and the value itself, so that a
+ * failure can be explained without evaluating the matcher again.
+ * <p>
+ * All successful evaluations share a single result, so that a passing match doesn't allocate.
+ */
+public final class MatchResult {
+
+    private static final MatchResult MATCH = new MatchResult(null, "", null, null);
+
+    private final Matcher<?> matcher;
+
+    private final String path;
+
+    private final Object value;
+
+    private final Description description;
+
+    private MatchResult(Matcher<?> matcher, String path, Object value, Description description) {
+        this.matcher = matcher;
+        this.path = path;
+        this.value = value;
+        this.description = description;
+    }
+
+    public static MatchResult match() {
+        return MATCH;
+    }
+
+    public static MatchResult mismatch(Matcher<?> matcher, Object value) {
+        assert matcher != null : "Matcher can't be null";
+
+        return new MatchResult(matcher, "", value, null);
+    }
+
+    public static MatchResult mismatch(Matcher<?> matcher, Object value, Description description) {
+        assert matcher != null : "Matcher can't be null";
+        assert description != null : "Description can't be null";
+
+        return new MatchResult(matcher, "", value, description);
+    }
+
+    /**
+     * Returns the result of a disjunction of two matchers, given the results of both alternatives. If both
+     * failed, the result reports the disjunction itself, with a description of both failures.
+     */
+    static MatchResult either(Matcher<?> matcher, Object value, MatchResult first, MatchResult second) {
+        if (first.isMatch()) {
+            return first;
+        }
+
+        if (second.isMatch()) {
+            return second;
+        }
+
+        return mismatch(matcher, value, BasicDescription.from("neither alternative matched (first: ")
+                .appendDescription(first.describeAlternative())
+                .appendText("; second: ")
+                .appendDescription(second.describeAlternative())
+                .appendText(")"));
+    }
+
+    private Description describeAlternative() {
+        return describe().orElseGet(() -> new BasicDescription().appendValue(value).appendText(" doesn't match"));
+    }
+
+    public boolean isMatch() {
+        return matcher == null;
+    }
+
+    /**
+     * Returns the innermost matcher that failed.
+     *
+     * @return The failed matcher, or empty if the evaluation succeeded.
+     */
+    public Optional<Matcher<?>> getFailedMatcher() {
+        return Optional.ofNullable(matcher);
+    }
+
+    /**
+     * Returns the path from the evaluated instance to the value that failed, e.g. <code>[3]</code>. The path
+     * is empty if the evaluated instance itself failed.
+     *
+     * @return The path of the failed value.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the value that the failed matcher was applied to.
+     *
+     * @return The failed value; null if the evaluation succeeded.
+     */
+    public Object getValue() {
+        return value;
+    }
+
+    /**
+     * Returns a description of the mismatch, provided by the failed matcher if it's a
+     * {@link MismatchDescribingMatcher}.
+     *
+     * @return The description of the mismatch, if any.
+     */
+    public Optional<Description> getDescription() {
+        return Optional.ofNullable(description);
+    }
+
+    /**
+     * Returns a result located within a containing value, e.g. <code>result.at("[3]")</code> for a result of
+     * the element at index 3. Successful results are returned as is.
+     *
+     * @param pathElement The path element to prepend to the path of this result. Can't be null.
+     * @return A result with the extended path.
+     */
+    public MatchResult at(String pathElement) {
+        assert pathElement != null : "Path element can't be null";
+
+        if (isMatch()) {
+            return this;
+        }
+
+        return new MatchResult(matcher, pathElement + path, value, description);
+    }
+
+    /**
+     * Describes a failed result for inclusion in a failure message, e.g. <code>at [3]: -4 doesn't match</code>.
+     * Results without a path or description have nothing to add to the description of the failed value,
+     * in which case nothing is returned.
+     *
+     * @return The description of the failure, if any.
+     */
+    public Optional<Description> describe() {
+        if (isMatch() || (path.isEmpty() && description == null)) {
+            return Optional.empty();
+        }
+
+        if (path.isEmpty()) {
+            return Optional.of(description);
+        }
+
+        final Description location = BasicDescription.from("at " + path + ": ");
+
+        if (description != null) {
+            return Optional.of(location.appendDescription(description));
+        }
+
+        return Optional.of(location.appendValue(value).appendText(" doesn't match"));
+    }
+
+    @Override
+    public String toString() {
+        if (isMatch()) {
+            return "MatchResult{match}";
+        }
+
+        return "MatchResult{" +
+                "matcher=" + matcher +
+                ", path='" + path + '\'' +
+                ", value=" + value +
+                ", description=" + description +
+                '}';
+    }
+}
@@ -3,8 +3,11 @@ package org.testifj;
 import io.recode.annotations.DSL;
 
 /**
- * TODO Should not return true false, but rather a match-result? No... would be cool though, since it would
- * be possible to determine which precise matcher failed in a sequence.
+ * Matches instances of a type. Matchers are typically lambdas implementing {@link #matches(Object)}; matchers
+ * that are composed of other matchers, or that can explain a mismatch, additionally implement
+ * {@link #evaluate(Object)} to report which part of the instance failed.
+ *
+ * @param <T> The type of the matched instances.
  */
 @DSL
 @FunctionalInterface
@@ -12,15 +15,62 @@ public interface Matcher<T> {
 
     boolean matches(T instance);
 
+    /**
+     * Evaluates an instance and returns a result that identifies the failing matcher, the path to the
+     * failing value and the value itself, if the instance doesn't match. The default implementation
+     * delegates to {@link #matches(Object)} and reports this matcher and the instance on failure.
+     * Implementations must return {@link MatchResult#match()} if the instance matches, so that a successful
+     * evaluation doesn't allocate.
+     *
+     * @param instance The instance to evaluate.
+     * @return The result of the evaluation.
+     */
+    default MatchResult evaluate(T instance) {
+        return matches(instance) ? MatchResult.match() : MatchResult.mismatch(this, instance);
+    }
+
     default Matcher<T> or(Matcher<T> matcher)  {
         assert matcher != null : "Matcher can't be null";
 
-        return (e) -> Matcher.this.matches(e) || matcher.matches(e);
+        return new Matcher<T>() {
+            @Override
+            public boolean matches(T instance) {
+                return Matcher.this.matches(instance) || matcher.matches(instance);
+            }
+
+            @Override
+            public MatchResult evaluate(T instance) {
+                // Each alternative is evaluated at most once; a successful result is shared and doesn't allocate
+                final MatchResult first = Matcher.this.evaluate(instance);
+
+                if (first.isMatch()) {
+                    return first;
+                }
+
+                return MatchResult.either(this, instance, first, matcher.evaluate(instance));
+            }
+        };
     }
 
     default Matcher<T> and(Matcher<T> matcher) {
         assert matcher != null : "Matcher can't be null";
 
-        return (e) -> Matcher.this.matches(e) && matcher.matches(e);
+        return new Matcher<T>() {
+            @Override
+            public boolean matches(T instance) {
+                return Matcher.this.matches(instance) && matcher.matches(instance);
+            }
+
+            @Override
+            public MatchResult evaluate(T instance) {
+                final MatchResult result = Matcher.this.evaluate(instance);
+
+                if (!result.isMatch()) {
+                    return result;
+                }
+
+                return matcher.evaluate(instance);
+            }
+        };
     }
 }
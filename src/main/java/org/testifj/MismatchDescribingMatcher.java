@@ -0,0 +1,30 @@
+package org.testifj;
+
+/**
+ * A matcher that can describe why an instance doesn't match, e.g. which elements are missing from a
+ * collection. The description is included in the failure message of a failed expectation.
+ *
+ * @param <T> The type of the matched instances.
+ */
+public interface MismatchDescribingMatcher<T> extends Matcher<T> {
+
+    /**
+     * Describes why an instance doesn't match this matcher. Only called for instances that don't match.
+     *
+     * @param instance The instance that didn't match.
+     * @return A description of the mismatch.
+     */
+    Description describeMismatch(T instance);
+
+    /**
+     * Evaluates an instance and includes the description of a mismatch in the result.
+     *
+     * @param instance The instance to evaluate.
+     * @return The result of the evaluation.
+     */
+    @Override
+    default MatchResult evaluate(T instance) {
+        return matches(instance) ? MatchResult.match() : MatchResult.mismatch(this, instance, describeMismatch(instance));
+    }
+
+}
@@ -6,12 +6,12 @@ import java.util.Optional;
 
 public final class Outcome {
 
-    private final Caller caller;
+    private final CallSite callSite;
 
     private final Optional<Throwable> exception;
 
-    private Outcome(Caller caller, Optional<Throwable> optionalThrowable) {
-        this.caller = caller;
+    private Outcome(CallSite callSite, Optional<Throwable> optionalThrowable) {
+        this.callSite = callSite;
         this.exception = optionalThrowable;
     }
 
@@ -24,18 +24,30 @@ public final class Outcome {
     }
 
     public Caller getCaller() {
-        return caller;
+        return callSite.getCaller();
     }
 
     public static Outcome exceptional(Caller caller, Throwable exception) {
         assert caller != null : "Caller can't be null";
-        assert exception != null : "Exception can't be null for exceptional outcomes";
 
-        return new Outcome(caller, Optional.of(exception));
+        return exceptionalAt(CallSite.of(caller), exception);
     }
 
     public static Outcome successful(Caller caller) {
         assert caller != null : "Caller can't be null";
-        return new Outcome(caller, Optional.empty());
+
+        return successfulAt(CallSite.of(caller));
+    }
+
+    static Outcome exceptionalAt(CallSite callSite, Throwable exception) {
+        assert callSite != null : "Call site can't be null";
+        assert exception != null : "Exception can't be null for exceptional outcomes";
+
+        return new Outcome(callSite, Optional.of(exception));
+    }
+
+    static Outcome successfulAt(CallSite callSite) {
+        assert callSite != null : "Call site can't be null";
+        return new Outcome(callSite, Optional.empty());
     }
 }
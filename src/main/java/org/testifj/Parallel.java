@@ -0,0 +1,25 @@
+package org.testifj;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables parallel execution of the <code>describe</code>-blocks of a {@link org.testifj.Specification}.
+ * The blocks are executed on a dedicated fork-join pool, whose degree of parallelism is bounded by
+ * {@link #parallelism()}. Blocks of a parallel specification must not depend on each other.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface Parallel {
+
+    /**
+     * The maximum number of describe-blocks executed concurrently. If not positive, the number of
+     * available processors is used.
+     *
+     * @return The degree of parallelism.
+     */
+    int parallelism() default 0;
+
+}
@@ -0,0 +1,72 @@
+package org.testifj;
+
+import java.util.Locale;
+
+/**
+ * Timing of a parallel run of the <code>describe</code>-blocks of a specification, as reported by
+ * {@link SpecificationRunner#getParallelRunStatistics()}. The speedup is the summed execution time of the
+ * blocks divided by the wall-clock time of the run, i.e. how much faster the run was than a sequential run
+ * of the same blocks.
+ */
+public final class ParallelRunStatistics {
+
+    private final int descriptionCount;
+
+    private final int parallelism;
+
+    private final long wallClockTime;
+
+    private final long executionTime;
+
+    ParallelRunStatistics(int descriptionCount, int parallelism, long wallClockTime, long executionTime) {
+        assert descriptionCount >= 0 : "Description count can't be negative";
+        assert parallelism > 0 : "Parallelism must be positive";
+        assert wallClockTime >= 0 : "Wall-clock time can't be negative";
+        assert executionTime >= 0 : "Execution time can't be negative";
+
+        this.descriptionCount = descriptionCount;
+        this.parallelism = parallelism;
+        this.wallClockTime = wallClockTime;
+        this.executionTime = executionTime;
+    }
+
+    public int getDescriptionCount() {
+        return descriptionCount;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the time from the submission of the first block to the completion of the last block.
+     *
+     * @return The wall-clock time of the run, in nanoseconds.
+     */
+    public long getWallClockTime() {
+        return wallClockTime;
+    }
+
+    /**
+     * Returns the summed execution time of all blocks, i.e. the approximate time of a sequential run.
+     *
+     * @return The summed execution time of the blocks, in nanoseconds.
+     */
+    public long getExecutionTime() {
+        return executionTime;
+    }
+
+    public double getSpeedup() {
+        return wallClockTime == 0 ? 1d : (double) executionTime / wallClockTime;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d descriptions in %d ms on %d threads (%d ms sequential, speedup %.2fx)",
+                descriptionCount,
+                wallClockTime / 1000000,
+                parallelism,
+                executionTime / 1000000,
+                getSpeedup());
+    }
+}
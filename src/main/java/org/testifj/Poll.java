@@ -0,0 +1,171 @@
+package org.testifj;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Polls a supplier until its value matches a matcher or a deadline passes. The first attempt is made by
+ * the thread starting the poll; subsequent attempts are scheduled on a scheduler, with an interval that
+ * doubles after every attempt up to a maximum. No thread is blocked between attempts, so any number of
+ * polls can share a few scheduler threads. The final attempt is made at the deadline.
+ * <p>
+ * Attempts of a poll never overlap; each attempt is scheduled by the previous one. A supplier that throws a
+ * runtime exception is considered not (yet) to provide a matching value. Suppliers and matchers must not
+ * block, since they're executed on the shared scheduler.
+ */
+final class Poll<T> implements Runnable {
+
+    private final Supplier<T> supplier;
+
+    private final Matcher<T> matcher;
+
+    private final ScheduledExecutorService scheduler;
+
+    private final long deadline;
+
+    private final long maximumIntervalNanos;
+
+    private final CompletableFuture<Poll<T>> completion = new CompletableFuture<>();
+
+    private long intervalNanos;
+
+    private boolean matched;
+
+    private int attempts;
+
+    private T lastValue;
+
+    private MatchResult lastResult;
+
+    private RuntimeException lastException;
+
+    private Poll(Supplier<T> supplier, Matcher<T> matcher, ScheduledExecutorService scheduler, long timeoutNanos, long initialIntervalNanos, long maximumIntervalNanos) {
+        this.supplier = supplier;
+        this.matcher = matcher;
+        this.scheduler = scheduler;
+        this.deadline = System.nanoTime() + timeoutNanos;
+        this.intervalNanos = initialIntervalNanos;
+        this.maximumIntervalNanos = maximumIntervalNanos;
+    }
+
+    /**
+     * Starts a poll. The returned future completes with the poll when a value has matched or the deadline
+     * has passed. Cancelling the future stops the poll.
+     */
+    static <T> CompletableFuture<Poll<T>> start(Supplier<T> supplier, Matcher<T> matcher, ScheduledExecutorService scheduler,
+                                                long timeoutNanos, long initialIntervalNanos, long maximumIntervalNanos) {
+        final Poll<T> poll = new Poll<>(supplier, matcher, scheduler, timeoutNanos, initialIntervalNanos, maximumIntervalNanos);
+
+        poll.run();
+
+        return poll.completion;
+    }
+
+    /**
+     * Returns the scheduler shared by all polls that don't specify a scheduler. Its threads are daemon
+     * threads, so that pending polls don't prevent the process from exiting.
+     */
+    static ScheduledExecutorService sharedScheduler() {
+        return SharedScheduler.INSTANCE;
+    }
+
+    @Override
+    public void run() {
+        if (completion.isDone()) {
+            return;
+        }
+
+        attempts++;
+
+        try {
+            final T value = supplier.get();
+            final MatchResult result = matcher.evaluate(value);
+
+            lastValue = value;
+            lastResult = result;
+            lastException = null;
+
+            if (result.isMatch()) {
+                matched = true;
+                completion.complete(this);
+                return;
+            }
+        } catch (RuntimeException e) {
+            lastException = e;
+        } catch (Throwable e) {
+            completion.completeExceptionally(e);
+            return;
+        }
+
+        final long remainingNanos = deadline - System.nanoTime();
+
+        if (remainingNanos <= 0) {
+            completion.complete(this);
+            return;
+        }
+
+        final long delayNanos = Math.min(intervalNanos, remainingNanos);
+
+        intervalNanos = Math.min(intervalNanos * 2, maximumIntervalNanos);
+
+        try {
+            scheduler.schedule(this, delayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            completion.completeExceptionally(e);
+        }
+    }
+
+    boolean isMatched() {
+        return matched;
+    }
+
+    int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * Returns the value provided by the last attempt that didn't fail, or null if every attempt failed.
+     */
+    T getLastValue() {
+        return lastValue;
+    }
+
+    MatchResult getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * Returns the exception thrown by the supplier in the last attempt, if it failed.
+     */
+    RuntimeException getLastException() {
+        return lastException;
+    }
+
+    private static final class SharedScheduler {
+
+        private static final ScheduledExecutorService INSTANCE = createScheduler();
+
+        private static ScheduledExecutorService createScheduler() {
+            final AtomicInteger threadCount = new AtomicInteger();
+            final ThreadFactory threadFactory = task -> {
+                final Thread thread = new Thread(task, "testifj-poll-" + threadCount.incrementAndGet());
+
+                thread.setDaemon(true);
+
+                return thread;
+            };
+
+            final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2, threadFactory);
+
+            executor.setRemoveOnCancelPolicy(true);
+
+            return executor;
+        }
+    }
+}
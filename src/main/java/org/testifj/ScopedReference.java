@@ -0,0 +1,124 @@
+package org.testifj;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * <p>
+ * A reference with a process wide value that can be overridden within a scope. A scope is bound to the
+ * thread that opened it and is inherited by threads created while the scope is open. Tasks executed on
+ * threads that already exist (e.g. pooled threads) can be bound to the current scope through
+ * {@link #bind(Runnable)}.
+ * </p>
+ * <p>
+ * Reading the value is a thread local read and does not contend with other threads. A scope that has been
+ * closed is ignored by threads that have inherited it, so that scoped values can't leak into long-lived
+ * threads created within a scope.
+ * </p>
+ *
+ * @param <T> The type of the referenced value.
+ */
+final class ScopedReference<T> {
+
+    private final AtomicReference<T> globalValue;
+
+    private final InheritableThreadLocal<Scope<T>> currentScope = new InheritableThreadLocal<>();
+
+    ScopedReference(T initialValue) {
+        this.globalValue = new AtomicReference<>(initialValue);
+    }
+
+    T get() {
+        Scope<T> scope = currentScope.get();
+
+        while (scope != null) {
+            if (!scope.closed) {
+                return scope.value;
+            }
+
+            scope = scope.parent;
+        }
+
+        return globalValue.get();
+    }
+
+    /**
+     * Replaces the value of the innermost open scope of the current thread, or the process wide value if
+     * no scope is open. A value replaced within a scope is discarded when the scope closes.
+     *
+     * @param value The new value.
+     * @return The value that was replaced.
+     */
+    T getAndSet(T value) {
+        Scope<T> scope = currentScope.get();
+
+        while (scope != null) {
+            if (!scope.closed) {
+                synchronized (scope) {
+                    final T previousValue = scope.value;
+
+                    scope.value = value;
+
+                    return previousValue;
+                }
+            }
+
+            scope = scope.parent;
+        }
+
+        return globalValue.getAndSet(value);
+    }
+
+    void withScope(T value, Procedure procedure) throws Exception {
+        assert value != null : "Value can't be null";
+        assert procedure != null : "Procedure can't be null";
+
+        final Scope<T> parentScope = currentScope.get();
+        final Scope<T> scope = new Scope<>(parentScope, value);
+
+        currentScope.set(scope);
+
+        try {
+            procedure.call();
+        } finally {
+            scope.closed = true;
+            currentScope.set(parentScope);
+        }
+    }
+
+    Runnable bind(Runnable task) {
+        assert task != null : "Task can't be null";
+
+        final Scope<T> scope = currentScope.get();
+
+        if (scope == null) {
+            return task;
+        }
+
+        return () -> {
+            final Scope<T> previousScope = currentScope.get();
+
+            currentScope.set(scope);
+
+            try {
+                task.run();
+            } finally {
+                currentScope.set(previousScope);
+            }
+        };
+    }
+
+    private static final class Scope<T> {
+
+        private final Scope<T> parent;
+
+        private volatile T value;
+
+        private volatile boolean closed;
+
+        private Scope(Scope<T> parent, T value) {
+            this.parent = parent;
+            this.value = value;
+        }
+    }
+
+}
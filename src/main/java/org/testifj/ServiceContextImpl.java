@@ -4,38 +4,77 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 @SuppressWarnings("unchecked")
 public final class ServiceContextImpl implements ServiceContext {
 
     private final List<Object> components;
 
+    private final ConcurrentMap<Class<?>, Resolution> resolutions = new ConcurrentHashMap<>();
+
     private ServiceContextImpl(List<Object> components) {
         this.components = new ArrayList<>(components);
     }
 
+    /**
+     * Returns the component of the specified type. The components are only searched the first time a type
+     * is requested; the result (or failure) is retained for subsequent requests of the same type.
+     *
+     * @param type The type of the requested component.
+     * @param <T> The type of the requested component.
+     * @return The single component matching the type.
+     * @throws DependencyResolutionException Thrown if none or multiple components match the type.
+     */
     @Override
     public <T> T get(Class<T> type) {
         assert type != null : "Type can't be null";
 
+        Resolution resolution = resolutions.get(type);
+
+        if (resolution == null) {
+            resolution = resolutions.computeIfAbsent(type, this::resolve);
+        }
+
+        if (resolution.component == null) {
+            throw new DependencyResolutionException(resolution.errorMessage);
+        }
+
+        return (T) resolution.component;
+    }
+
+    private Resolution resolve(Class<?> type) {
         final Object[] matchingComponents = components.stream()
                 .filter(c -> type.isInstance(c))
                 .toArray(Object[]::new);
 
         if (matchingComponents.length == 0) {
-            throw new DependencyResolutionException("No component exists for type: " + type.getName());
+            return new Resolution(null, "No component exists for type: " + type.getName());
         } else if (matchingComponents.length > 1) {
-            throw new DependencyResolutionException("Multiple matching components exists for type: "
+            return new Resolution(null, "Multiple matching components exists for type: "
                     + type.getName() + ", " + Arrays.asList(matchingComponents));
         }
 
-        return (T) matchingComponents[0];
+        return new Resolution(matchingComponents[0], null);
     }
 
     public static ServiceContextBuilder newBuilder() {
         return new ServiceContextBuilder();
     }
 
+    private static final class Resolution {
+
+        private final Object component;
+
+        private final String errorMessage;
+
+        private Resolution(Object component, String errorMessage) {
+            this.component = component;
+            this.errorMessage = errorMessage;
+        }
+    }
+
     public static final class ServiceContextBuilder {
 
         private final List<Object> components = new LinkedList<>();
@@ -6,15 +6,63 @@ import org.junit.runner.Runner;
 import org.junit.runner.notification.Failure;
 import org.junit.runner.notification.RunNotifier;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <p>
+ * JUnit runner of {@link org.testifj.Specification}s. The <code>describe</code>-blocks of a specification are
+ * executed sequentially on the calling thread, unless the specification is annotated with
+ * {@link org.testifj.Parallel} or a fork-join pool is provided, in which case the blocks are executed
+ * concurrently on the pool.
+ * </p>
+ * <p>
+ * When executed in parallel, the notifications of each block are fired in order (started, failure, finished)
+ * and notifications of different blocks are never fired concurrently. The blocks execute in the
+ * {@link org.testifj.Configuration} and {@link org.testifj.Expect.Configuration} scopes of the thread that
+ * runs the specification, also if the threads of the pool were created outside of those scopes.
+ * </p>
+ */
 public class SpecificationRunner extends Runner {
 
     private final Class<?> testClass;
 
+    private final ForkJoinPool forkJoinPool;
+
+    private volatile ParallelRunStatistics parallelRunStatistics;
+
     public SpecificationRunner(Class<?> testClass) {
+        this(testClass, null);
+    }
+
+    /**
+     * Creates a runner that executes the describe-blocks of the specification on the provided pool. The
+     * pool is not shut down by the runner.
+     *
+     * @param testClass The specification class.
+     * @param forkJoinPool The pool on which the describe-blocks are executed, or null if the blocks should be
+     *                     executed as configured by the specification class.
+     */
+    public SpecificationRunner(Class<?> testClass, ForkJoinPool forkJoinPool) {
         assert testClass != null : "Test class can't be null";
         assert Specification.class.isAssignableFrom(testClass) : "Test class must be a sub-class of " + Specification.class.getName();
 
         this.testClass = testClass;
+        this.forkJoinPool = forkJoinPool;
+    }
+
+    /**
+     * Returns the timing of the last run of this runner, if the blocks were executed in parallel. The
+     * statistics report the wall-clock speedup of the parallel run over a sequential run of the same blocks.
+     *
+     * @return The statistics of the last parallel run, or empty if the runner hasn't run in parallel.
+     */
+    public Optional<ParallelRunStatistics> getParallelRunStatistics() {
+        return Optional.ofNullable(parallelRunStatistics);
     }
 
     @Override
@@ -38,25 +86,74 @@ public class SpecificationRunner extends Runner {
             return;
         }
 
+        final Parallel parallel = testClass.getAnnotation(Parallel.class);
+
+        if (forkJoinPool != null) {
+            runInParallel(notifier, specification, forkJoinPool);
+        } else if (parallel != null) {
+            final ForkJoinPool forkJoinPool = new ForkJoinPool(parallel.parallelism() > 0
+                    ? parallel.parallelism()
+                    : Runtime.getRuntime().availableProcessors());
+
+            try {
+                runInParallel(notifier, specification, forkJoinPool);
+            } finally {
+                forkJoinPool.shutdown();
+            }
+        } else {
+            for (SpecificationDescription specificationDescription : specification.getSpecificationDescriptions()) {
+                runSpecificationDescription(notifier, specificationDescription);
+            }
+        }
+
+        notifier.fireTestRunFinished(result);
+    }
+
+    private void runInParallel(RunNotifier notifier, Specification specification, ForkJoinPool forkJoinPool) {
+        final List<ForkJoinTask<?>> tasks = new ArrayList<>();
+        final AtomicLong executionTime = new AtomicLong();
+        final long startTime = System.nanoTime();
+
         for (SpecificationDescription specificationDescription : specification.getSpecificationDescriptions()) {
-            final Description testDescription = Description.createTestDescription(testClass.getName(), specificationDescription.getTargetName()); // Hierarchical
+            tasks.add(forkJoinPool.submit(Configuration.inCurrentScope(Expect.Configuration.inCurrentScope(() -> {
+                final long taskStartTime = System.nanoTime();
+
+                runSpecificationDescription(notifier, specificationDescription);
+
+                executionTime.addAndGet(System.nanoTime() - taskStartTime);
+            }))));
+        }
+
+        for (ForkJoinTask<?> task : tasks) {
+            task.join();
+        }
+
+        parallelRunStatistics = new ParallelRunStatistics(tasks.size(), forkJoinPool.getParallelism(),
+                System.nanoTime() - startTime, executionTime.get());
+    }
+
+    private void runSpecificationDescription(RunNotifier notifier, SpecificationDescription specificationDescription) {
+        final Description testDescription = Description.createTestDescription(testClass.getName(), specificationDescription.getTargetName()); // Hierarchical
 
+        synchronized (notifier) {
             notifier.fireTestStarted(testDescription);
+        }
 
-            try {
-                specificationDescription.getAction().execute((description, procedure) -> new Specifier() {
-                    @Override
-                    public void should(String description, Procedure procedure) {
-                        System.out.println("it.should('" + description + "')");
-                    }
-                });
-            } catch (Exception e) {
-                throw new AssertionError(); // TODO FIX
+        try {
+            specificationDescription.getAction().execute((description, procedure) -> new Specifier() {
+                @Override
+                public void should(String description, Procedure procedure) {
+                    System.out.println("it.should('" + description + "')");
+                }
+            });
+        } catch (Throwable e) {
+            synchronized (notifier) {
+                notifier.fireTestFailure(new Failure(testDescription, e));
             }
+        }
 
+        synchronized (notifier) {
             notifier.fireTestFinished(testDescription);
         }
-
-        notifier.fireTestRunFinished(result);
     }
 }
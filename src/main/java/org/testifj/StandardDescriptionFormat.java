@@ -1,59 +1,358 @@
 package org.testifj;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
 
+/**
+ * <p>
+ * Formats descriptions as plain text. Text parts are formatted as is, values as Java literals where
+ * applicable (e.g. <code>"foo"</code> for strings) and arrays as <code>[e1, e2, ...]</code>. Collections
+ * and maps are formatted like their <code>toString</code>, but element by element, so that a huge
+ * collection is never formatted in its entirety.
+ * </p>
+ * <p>
+ * The formatted output is bounded, so that a description of a huge value doesn't produce a huge message.
+ * At most {@link #getMaximumElements()} elements of an array, collection or map are formatted, followed by a marker like
+ * <code>... 9,999,000 more</code>. Values nested deeper than {@link #getMaximumDepth()} are elided as
+ * <code>...</code>. When {@link #getMaximumLength()} characters have been written, formatting stops and
+ * <code>... (truncated)</code> is appended. Primitive arrays are formatted without boxing their elements.
+ * </p>
+ */
 public final class StandardDescriptionFormat implements DescriptionFormat {
 
+    public static final int DEFAULT_MAXIMUM_LENGTH = 65536;
+
+    public static final int DEFAULT_MAXIMUM_ELEMENTS = 1000;
+
+    public static final int DEFAULT_MAXIMUM_DEPTH = 16;
+
+    private static final String ELISION = "...";
+
+    private static final String TRUNCATION_MARKER = "... (truncated)";
+
+    private final int maximumLength;
+
+    private final int maximumElements;
+
+    private final int maximumDepth;
+
+    public StandardDescriptionFormat() {
+        this(DEFAULT_MAXIMUM_LENGTH, DEFAULT_MAXIMUM_ELEMENTS, DEFAULT_MAXIMUM_DEPTH);
+    }
+
+    private StandardDescriptionFormat(int maximumLength, int maximumElements, int maximumDepth) {
+        this.maximumLength = maximumLength;
+        this.maximumElements = maximumElements;
+        this.maximumDepth = maximumDepth;
+    }
+
+    public int getMaximumLength() {
+        return maximumLength;
+    }
+
+    public int getMaximumElements() {
+        return maximumElements;
+    }
+
+    public int getMaximumDepth() {
+        return maximumDepth;
+    }
+
+    /**
+     * Returns a copy of this format that writes at most the specified number of characters, excluding
+     * the truncation marker.
+     *
+     * @param maximumLength The maximum number of characters. Must be positive.
+     * @return A new format with the specified maximum length.
+     */
+    public StandardDescriptionFormat withMaximumLength(int maximumLength) {
+        assert maximumLength > 0 : "Maximum length must be positive";
+
+        return new StandardDescriptionFormat(maximumLength, maximumElements, maximumDepth);
+    }
+
+    /**
+     * Returns a copy of this format that formats at most the specified number of elements per array,
+     * collection or map.
+     *
+     * @param maximumElements The maximum number of elements. Can't be negative.
+     * @return A new format with the specified maximum number of elements.
+     */
+    public StandardDescriptionFormat withMaximumElements(int maximumElements) {
+        assert maximumElements >= 0 : "Maximum elements can't be negative";
+
+        return new StandardDescriptionFormat(maximumLength, maximumElements, maximumDepth);
+    }
+
+    /**
+     * Returns a copy of this format that formats sub descriptions and nested values to at most the
+     * specified depth.
+     *
+     * @param maximumDepth The maximum depth. Must be positive.
+     * @return A new format with the specified maximum depth.
+     */
+    public StandardDescriptionFormat withMaximumDepth(int maximumDepth) {
+        assert maximumDepth > 0 : "Maximum depth must be positive";
+
+        return new StandardDescriptionFormat(maximumLength, maximumElements, maximumDepth);
+    }
+
     @Override
     public String format(Description description) {
         assert description != null : "Description can't be null";
 
         final StringBuilder buffer = new StringBuilder();
 
-        appendDescription(description, buffer);
+        try {
+            format(description, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
 
         return buffer.toString();
     }
 
-    private void appendDescription(Description description, StringBuilder buffer) {
-        description.getParts().forEach(part -> {
+    @Override
+    public void format(Description description, Appendable out) throws IOException {
+        assert description != null : "Description can't be null";
+        assert out != null : "Output can't be null";
+
+        final BoundedOutput boundedOutput = new BoundedOutput(out, maximumLength);
+
+        appendDescription(description, boundedOutput, 0);
+
+        if (boundedOutput.isExhausted()) {
+            out.append(TRUNCATION_MARKER);
+        }
+    }
+
+    private void appendDescription(Description description, BoundedOutput out, int depth) throws IOException {
+        if (depth >= maximumDepth) {
+            out.append(ELISION);
+            return;
+        }
+
+        for (Description.Part part : description.getParts()) {
+            if (out.isExhausted()) {
+                return;
+            }
+
             if (part instanceof Description.TextPart) {
                 final Description.TextPart textPart = (Description.TextPart) part;
 
-                buffer.append(textPart.getText());
+                out.append(textPart.getText());
             } else if (part instanceof Description.ValuePart) {
                 final Description.ValuePart valuePart = (Description.ValuePart) part;
 
-                appendValue(valuePart.getValue(), buffer);
+                appendValue(valuePart.getValue(), out, depth);
             } else if (part instanceof Description.DescriptionPart) {
                 final Description.DescriptionPart descriptionPart = (Description.DescriptionPart) part;
 
-                appendDescription(descriptionPart.getDescription(), buffer);
+                appendDescription(descriptionPart.getDescription(), out, depth + 1);
             }
-        });
+        }
     }
 
-    private void appendValue(Object value, StringBuilder buffer) {
+    private void appendValue(Object value, BoundedOutput out, int depth) throws IOException {
         if (value == null) {
-            buffer.append("null");
+            out.append("null");
         } else if (value instanceof String) {
-            buffer.append("\"").append(value).append("\"");
+            out.append("\"").append((String) value).append("\"");
         } else if (value.getClass().isArray()) {
-            final int length = Array.getLength(value);
+            appendArray(value, out, depth);
+        } else if (value instanceof Collection) {
+            appendCollection((Collection<?>) value, out, depth);
+        } else if (value instanceof Map) {
+            appendMap((Map<?, ?>) value, out, depth);
+        } else {
+            out.append(String.valueOf(value));
+        }
+    }
 
-            buffer.append("[");
+    private void appendCollection(Collection<?> collection, BoundedOutput out, int depth) throws IOException {
+        if (depth >= maximumDepth) {
+            out.append("[").append(ELISION).append("]");
+            return;
+        }
+
+        final Iterator<?> iterator = collection.iterator();
+        int formattedLength = 0;
 
-            for (int i = 0; i < length; i++) {
-                appendValue(Array.get(value, i), buffer);
+        out.append("[");
 
-                if (i != length - 1) {
-                    buffer.append(", ");
-                }
+        while (formattedLength < maximumElements && iterator.hasNext() && !out.isExhausted()) {
+            if (formattedLength++ > 0) {
+                out.append(", ");
             }
 
-            buffer.append("]");
+            final Object element = iterator.next();
+
+            if (element == collection) {
+                out.append("(this Collection)");
+            } else {
+                appendElement(element, out, depth);
+            }
+        }
+
+        appendRemainder(collection.size(), formattedLength, out);
+
+        out.append("]");
+    }
+
+    private void appendMap(Map<?, ?> map, BoundedOutput out, int depth) throws IOException {
+        if (depth >= maximumDepth) {
+            out.append("{").append(ELISION).append("}");
+            return;
+        }
+
+        final Iterator<? extends Map.Entry<?, ?>> iterator = map.entrySet().iterator();
+        int formattedLength = 0;
+
+        out.append("{");
+
+        while (formattedLength < maximumElements && iterator.hasNext() && !out.isExhausted()) {
+            if (formattedLength++ > 0) {
+                out.append(", ");
+            }
+
+            final Map.Entry<?, ?> entry = iterator.next();
+
+            if (entry.getKey() == map) {
+                out.append("(this Map)");
+            } else {
+                appendElement(entry.getKey(), out, depth);
+            }
+
+            out.append("=");
+
+            if (entry.getValue() == map) {
+                out.append("(this Map)");
+            } else {
+                appendElement(entry.getValue(), out, depth);
+            }
+        }
+
+        appendRemainder(map.size(), formattedLength, out);
+
+        out.append("}");
+    }
+
+    /**
+     * Appends an element of a collection or map. Nested arrays, collections and maps are formatted with the
+     * same budgets; other elements are formatted through <code>toString</code>, as by the collection itself.
+     */
+    private void appendElement(Object element, BoundedOutput out, int depth) throws IOException {
+        if (element != null && (element.getClass().isArray() || element instanceof Collection || element instanceof Map)) {
+            appendValue(element, out, depth + 1);
         } else {
-            buffer.append(String.valueOf(value));
+            out.append(String.valueOf(element));
+        }
+    }
+
+    private static void appendRemainder(int length, int formattedLength, BoundedOutput out) throws IOException {
+        if (formattedLength < length && !out.isExhausted()) {
+            if (formattedLength > 0) {
+                out.append(", ");
+            }
+
+            out.append(ELISION).append(" ").append(String.format(Locale.ROOT, "%,d", length - formattedLength)).append(" more");
+        }
+    }
+
+    private void appendArray(Object array, BoundedOutput out, int depth) throws IOException {
+        if (depth >= maximumDepth) {
+            out.append("[").append(ELISION).append("]");
+            return;
+        }
+
+        final int length = Array.getLength(array);
+        final int formattedLength = Math.min(length, maximumElements);
+        final Class<?> componentType = array.getClass().getComponentType();
+
+        out.append("[");
+
+        for (int i = 0; i < formattedLength && !out.isExhausted(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+
+            if (!componentType.isPrimitive()) {
+                appendValue(((Object[]) array)[i], out, depth + 1);
+            } else if (componentType == int.class) {
+                out.append(Integer.toString(((int[]) array)[i]));
+            } else if (componentType == long.class) {
+                out.append(Long.toString(((long[]) array)[i]));
+            } else if (componentType == byte.class) {
+                out.append(Byte.toString(((byte[]) array)[i]));
+            } else if (componentType == short.class) {
+                out.append(Short.toString(((short[]) array)[i]));
+            } else if (componentType == char.class) {
+                out.append(((char[]) array)[i]);
+            } else if (componentType == boolean.class) {
+                out.append(((boolean[]) array)[i] ? "true" : "false");
+            } else if (componentType == float.class) {
+                out.append(Float.toString(((float[]) array)[i]));
+            } else if (componentType == double.class) {
+                out.append(Double.toString(((double[]) array)[i]));
+            }
+        }
+
+        appendRemainder(length, formattedLength, out);
+
+        out.append("]");
+    }
+
+    /**
+     * Output that discards everything written after a maximum number of characters.
+     */
+    private static final class BoundedOutput {
+
+        private final Appendable out;
+
+        private int remaining;
+
+        private boolean exhausted;
+
+        private BoundedOutput(Appendable out, int maximumLength) {
+            this.out = out;
+            this.remaining = maximumLength;
+        }
+
+        private boolean isExhausted() {
+            return exhausted;
+        }
+
+        private BoundedOutput append(CharSequence text) throws IOException {
+            if (exhausted) {
+                return this;
+            }
+
+            if (text.length() > remaining) {
+                out.append(text, 0, remaining);
+                remaining = 0;
+                exhausted = true;
+            } else {
+                out.append(text);
+                remaining -= text.length();
+            }
+
+            return this;
+        }
+
+        private BoundedOutput append(char c) throws IOException {
+            if (remaining == 0) {
+                exhausted = true;
+            } else if (!exhausted) {
+                out.append(c);
+                remaining--;
+            }
+
+            return this;
         }
     }
 }
@@ -10,4 +10,14 @@ public interface ValueMismatchFailure extends ExpectationFailure {
 
     Matcher<?> getMatcher();
 
+    /**
+     * Returns the result of evaluating the matcher, if the matcher was evaluated through
+     * {@link Matcher#evaluate(Object)}.
+     *
+     * @return The match result of the failure, if available.
+     */
+    default Optional<MatchResult> getMatchResult() {
+        return Optional.empty();
+    }
+
 }
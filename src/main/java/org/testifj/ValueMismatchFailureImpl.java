@@ -14,14 +14,22 @@ public class ValueMismatchFailureImpl implements ValueMismatchFailure {
 
     private final Object value;
 
+    private final Optional<MatchResult> matchResult;
+
     public ValueMismatchFailureImpl(Caller caller, Matcher<?> matcher, Optional<Object> expectedValue, Object value) {
+        this(caller, matcher, expectedValue, value, Optional.empty());
+    }
+
+    public ValueMismatchFailureImpl(Caller caller, Matcher<?> matcher, Optional<Object> expectedValue, Object value, Optional<MatchResult> matchResult) {
         assert caller != null : "Caller can't be null";
         assert matcher != null : "Matcher can't be null";
+        assert matchResult != null : "Match result can't be null";
 
         this.caller = caller;
         this.matcher = matcher;
         this.expectedValue = expectedValue;
         this.value = value;
+        this.matchResult = matchResult;
     }
 
     @Override
@@ -39,6 +47,11 @@ public class ValueMismatchFailureImpl implements ValueMismatchFailure {
         return matcher;
     }
 
+    @Override
+    public Optional<MatchResult> getMatchResult() {
+        return matchResult;
+    }
+
     public Caller getCaller() {
         return caller;
     }
@@ -74,6 +87,7 @@ public class ValueMismatchFailureImpl implements ValueMismatchFailure {
                 ", matcher=" + matcher +
                 ", expectedValue=" + expectedValue +
                 ", value=" + value +
+                ", matchResult=" + matchResult +
                 '}';
     }
 }
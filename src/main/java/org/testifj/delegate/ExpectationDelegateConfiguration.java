@@ -2,30 +2,109 @@ package org.testifj.delegate;
 
 import org.testifj.Predicate;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
-
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * <p>
+ * Configuration of the extensions that verify expectations. Extensions are either registered for an
+ * expectation type, or matched by a predicate on the expectation.
+ * </p>
+ * <p>
+ * Extensions registered by type take precedence. The extension registered for the exact type of an
+ * expectation is selected, or otherwise the extension registered for its nearest super type. The selected
+ * type extension is cached per expectation class. If no type extension applies, the predicates are tested
+ * in registration order.
+ * </p>
+ */
 @SuppressWarnings("unchecked")
 public final class ExpectationDelegateConfiguration {
 
+    private final Map<Class<?>, ExpectationDelegateExtension> typeExtensions;
+
     private final List<MatchedExpectationDelegateExtension> extensions;
 
-    private ExpectationDelegateConfiguration(List<MatchedExpectationDelegateExtension> extensions) {
+    private final ConcurrentMap<Class<?>, Optional<ExpectationDelegateExtension>> dispatchTable = new ConcurrentHashMap<>();
+
+    private ExpectationDelegateConfiguration(Map<Class<?>, ExpectationDelegateExtension> typeExtensions,
+                                             List<MatchedExpectationDelegateExtension> extensions) {
+        this.typeExtensions = typeExtensions;
         this.extensions = extensions;
     }
 
     public <T extends Expectation> ExpectationDelegateExtension<T> getExtension(ExpectationVerificationContext<T> expectation) {
         assert expectation != null : "Expectation can't be null";
 
-        return extensions.stream()
-                .filter(e -> e.getPredicate().test(expectation))
-                .map(MatchedExpectationDelegateExtension::getExtension)
-                .findFirst()
-                .orElse(null);
+        if (!typeExtensions.isEmpty() && expectation.getExpectation() != null) {
+            final Class<?> expectationType = expectation.getExpectation().getClass();
+
+            Optional<ExpectationDelegateExtension> extension = dispatchTable.get(expectationType);
+
+            if (extension == null) {
+                extension = dispatchTable.computeIfAbsent(expectationType, this::resolveTypeExtension);
+            }
+
+            if (extension.isPresent()) {
+                return extension.get();
+            }
+        }
+
+        for (MatchedExpectationDelegateExtension extension : extensions) {
+            if (extension.getPredicate().test(expectation)) {
+                return extension.getExtension();
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Resolves the extension registered for the nearest type of an expectation class, by searching the
+     * type hierarchy of the class breadth first.
+     */
+    private Optional<ExpectationDelegateExtension> resolveTypeExtension(Class<?> expectationType) {
+        final Deque<Class<?>> types = new ArrayDeque<>();
+        final Set<Class<?>> visitedTypes = new HashSet<>();
+
+        types.add(expectationType);
+
+        while (!types.isEmpty()) {
+            final Class<?> type = types.removeFirst();
+
+            if (!visitedTypes.add(type)) {
+                continue;
+            }
+
+            final ExpectationDelegateExtension extension = typeExtensions.get(type);
+
+            if (extension != null) {
+                return Optional.of(extension);
+            }
+
+            if (type.getSuperclass() != null) {
+                types.add(type.getSuperclass());
+            }
+
+            Collections.addAll(types, type.getInterfaces());
+        }
+
+        return Optional.empty();
     }
 
     public static final class Builder {
 
+        private final Map<Class<?>, ExpectationDelegateExtension> typeExtensions = new LinkedHashMap<>();
+
         private final List<MatchedExpectationDelegateExtension> extensions = new ArrayList<>();
 
         public <T extends Expectation> OnContinuation<T> on(Predicate<ExpectationVerificationContext<T>> expectationPredicate) {
@@ -40,8 +119,29 @@ public final class ExpectationDelegateConfiguration {
             };
         }
 
+        /**
+         * Registers an extension for expectations of the specified type, including sub types of the type
+         * for which no more specific extension is registered.
+         *
+         * @param expectationType The type of expectations handled by the extension.
+         * @param <T> The type of expectations handled by the extension.
+         * @return A continuation that accepts the extension.
+         */
+        public <T extends Expectation> OnContinuation<T> onType(Class<T> expectationType) {
+            assert expectationType != null : "Expectation type can't be null";
+
+            return extension -> {
+                assert extension != null : "Extension can't be null";
+                assert !typeExtensions.containsKey(expectationType) : "Extension already registered for type: " + expectationType.getName();
+
+                typeExtensions.put(expectationType, extension);
+
+                return Builder.this;
+            };
+        }
+
         public ExpectationDelegateConfiguration build() {
-            return new ExpectationDelegateConfiguration(extensions);
+            return new ExpectationDelegateConfiguration(new LinkedHashMap<>(typeExtensions), new ArrayList<>(extensions));
         }
 
         public interface OnContinuation<T extends Expectation> {
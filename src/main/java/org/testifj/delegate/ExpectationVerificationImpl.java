@@ -3,6 +3,7 @@ package org.testifj.delegate;
 import org.testifj.Description;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 public final class ExpectationVerificationImpl implements ExpectationVerification {
 
@@ -10,16 +11,20 @@ public final class ExpectationVerificationImpl implements ExpectationVerificatio
 
     private final boolean compliant;
 
-    private final Description expectationDescription;
+    private final Supplier<Description> expectationDescriptionSupplier;
+
+    private volatile Description expectationDescription;
 
     private final Optional<Description> verificationFailureDescription;
 
     private ExpectationVerificationImpl(ExpectationVerificationContext<? extends Expectation> expectation,
                                         boolean compliant,
+                                        Supplier<Description> expectationDescriptionSupplier,
                                         Description expectationDescription,
                                         Optional<Description> verificationFailureDescription) {
         this.expectation = expectation;
         this.compliant = compliant;
+        this.expectationDescriptionSupplier = expectationDescriptionSupplier;
         this.expectationDescription = expectationDescription;
         this.verificationFailureDescription = verificationFailureDescription;
     }
@@ -34,9 +39,31 @@ public final class ExpectationVerificationImpl implements ExpectationVerificatio
         return compliant;
     }
 
+    /**
+     * Returns the description of the expectation. The description is created when first requested, since
+     * describing an expectation can be expensive (e.g. involve decompilation of the expectation call site).
+     *
+     * @return The description of the expectation.
+     */
     @Override
     public Description getExpectationDescription() {
-        return expectationDescription;
+        Description description = expectationDescription;
+
+        if (description == null) {
+            synchronized (this) {
+                description = expectationDescription;
+
+                if (description == null) {
+                    description = expectationDescriptionSupplier.get();
+
+                    assert description != null : "Expectation description supplier returned null";
+
+                    expectationDescription = description;
+                }
+            }
+        }
+
+        return description;
     }
 
     @Override
@@ -44,6 +71,10 @@ public final class ExpectationVerificationImpl implements ExpectationVerificatio
         return verificationFailureDescription;
     }
 
+    /**
+     * Compares the expectation descriptions only if both have been created, so that comparing verifications
+     * (e.g. in a set) doesn't describe their expectations.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -53,7 +84,11 @@ public final class ExpectationVerificationImpl implements ExpectationVerificatio
 
         if (compliant != that.compliant) return false;
         if (!expectation.equals(that.expectation)) return false;
-        if (!expectationDescription.equals(that.expectationDescription)) return false;
+
+        final Description description = expectationDescription;
+        final Description otherDescription = that.expectationDescription;
+
+        if (description != null && otherDescription != null && !description.equals(otherDescription)) return false;
         if (!verificationFailureDescription.equals(that.verificationFailureDescription)) return false;
 
         return true;
@@ -63,7 +98,6 @@ public final class ExpectationVerificationImpl implements ExpectationVerificatio
     public int hashCode() {
         int result = expectation.hashCode();
         result = 31 * result + (compliant ? 1 : 0);
-        result = 31 * result + expectationDescription.hashCode();
         result = 31 * result + verificationFailureDescription.hashCode();
         return result;
     }
@@ -73,7 +107,7 @@ public final class ExpectationVerificationImpl implements ExpectationVerificatio
         return "ExpectationVerification{" +
                 "expectation=" + expectation +
                 ", compliant=" + compliant +
-                ", expectationDescription=" + expectationDescription +
+                ", expectationDescription=" + (expectationDescription != null ? expectationDescription : "<not described>") +
                 ", verificationFailureDescription=" + verificationFailureDescription +
                 '}';
     }
@@ -82,7 +116,22 @@ public final class ExpectationVerificationImpl implements ExpectationVerificatio
         assert expectation != null : "Expectation can't be null";
         assert description != null : "Description can't be null";
 
-        return new ExpectationVerificationImpl(expectation, true, description, Optional.empty());
+        return new ExpectationVerificationImpl(expectation, true, () -> description, description, Optional.empty());
+    }
+
+    /**
+     * Creates a compliant verification whose expectation description is created on demand.
+     *
+     * @param expectation The verified expectation.
+     * @param descriptionSupplier Supplier of the expectation description, called at most once.
+     * @return A compliant verification.
+     */
+    public static ExpectationVerificationImpl compliantDescribedBy(ExpectationVerificationContext<? extends Expectation> expectation,
+                                                                   Supplier<Description> descriptionSupplier) {
+        assert expectation != null : "Expectation can't be null";
+        assert descriptionSupplier != null : "Description supplier can't be null";
+
+        return new ExpectationVerificationImpl(expectation, true, descriptionSupplier, null, Optional.empty());
     }
 
     public static ExpectationVerificationImpl notCompliant(ExpectationVerificationContext<? extends Expectation> expectation,
@@ -92,6 +141,24 @@ public final class ExpectationVerificationImpl implements ExpectationVerificatio
         assert description != null : "Description can't be null";
         assert verificationFailureDescription != null : "Verification failure description can't be null";
 
-        return new ExpectationVerificationImpl(expectation, false, description, Optional.of(verificationFailureDescription));
+        return new ExpectationVerificationImpl(expectation, false, () -> description, description, Optional.of(verificationFailureDescription));
+    }
+
+    /**
+     * Creates a non-compliant verification whose expectation description is created on demand.
+     *
+     * @param expectation The verified expectation.
+     * @param descriptionSupplier Supplier of the expectation description, called at most once.
+     * @param verificationFailureDescription Description of the verification failure.
+     * @return A non-compliant verification.
+     */
+    public static ExpectationVerificationImpl notCompliantDescribedBy(ExpectationVerificationContext<? extends Expectation> expectation,
+                                                                      Supplier<Description> descriptionSupplier,
+                                                                      Description verificationFailureDescription) {
+        assert expectation != null : "Expectation can't be null";
+        assert descriptionSupplier != null : "Description supplier can't be null";
+        assert verificationFailureDescription != null : "Verification failure description can't be null";
+
+        return new ExpectationVerificationImpl(expectation, false, descriptionSupplier, null, Optional.of(verificationFailureDescription));
     }
 }
@@ -22,13 +22,13 @@ public final class GivenThenExpectationDelegateExtension implements ExpectationD
         try {
             expectation.getVerificationAction().execute(expectation.getProvidedValue());
         } catch (AssertionError e) {
-            return ExpectationVerificationImpl.notCompliant(context, describe(context), BasicDescription.from(e.getMessage()));
+            return ExpectationVerificationImpl.notCompliantDescribedBy(context, () -> describe(context), BasicDescription.from(e.getMessage()));
         } catch (Exception e) {
             // TODO: Handle
             throw new RuntimeException(e);
         }
 
-        return ExpectationVerificationImpl.compliant(context, describe(context));
+        return ExpectationVerificationImpl.compliantDescribedBy(context, () -> describe(context));
     }
 
     @Override
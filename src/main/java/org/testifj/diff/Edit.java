@@ -0,0 +1,102 @@
+package org.testifj.diff;
+
+/**
+ * An operation of an edit script that transforms an expected sequence into an actual sequence. An edit
+ * covers a run of consecutive elements: <code>EQUAL</code> edits cover elements present in both sequences,
+ * <code>DELETE</code> edits elements only present in the expected sequence and <code>INSERT</code> edits
+ * elements only present in the actual sequence.
+ */
+public final class Edit {
+
+    public enum Type {
+
+        EQUAL,
+
+        DELETE,
+
+        INSERT
+
+    }
+
+    private final Type type;
+
+    private final int expectedIndex;
+
+    private final int actualIndex;
+
+    private final int length;
+
+    public Edit(Type type, int expectedIndex, int actualIndex, int length) {
+        assert type != null : "Type can't be null";
+        assert expectedIndex >= 0 : "Expected index can't be negative";
+        assert actualIndex >= 0 : "Actual index can't be negative";
+        assert length > 0 : "Length must be positive";
+
+        this.type = type;
+        this.expectedIndex = expectedIndex;
+        this.actualIndex = actualIndex;
+        this.length = length;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the index of the first element of the edit in the expected sequence. For insertions, this is
+     * the index in the expected sequence at which the elements are inserted.
+     *
+     * @return The index of the edit in the expected sequence.
+     */
+    public int getExpectedIndex() {
+        return expectedIndex;
+    }
+
+    /**
+     * Returns the index of the first element of the edit in the actual sequence. For deletions, this is
+     * the index in the actual sequence at which the elements were deleted.
+     *
+     * @return The index of the edit in the actual sequence.
+     */
+    public int getActualIndex() {
+        return actualIndex;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+
+        Edit edit = (Edit) o;
+
+        if (actualIndex != edit.actualIndex) return false;
+        if (expectedIndex != edit.expectedIndex) return false;
+        if (length != edit.length) return false;
+        if (type != edit.type) return false;
+
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = type.hashCode();
+        result = 31 * result + expectedIndex;
+        result = 31 * result + actualIndex;
+        result = 31 * result + length;
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "Edit{" +
+                "type=" + type +
+                ", expectedIndex=" + expectedIndex +
+                ", actualIndex=" + actualIndex +
+                ", length=" + length +
+                '}';
+    }
+}
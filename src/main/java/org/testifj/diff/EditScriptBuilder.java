@@ -0,0 +1,63 @@
+package org.testifj.diff;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Builds an edit script from single edits or runs, merging adjacent edits of the same type.
+ */
+final class EditScriptBuilder {
+
+    private final List<Edit> edits = new ArrayList<>();
+
+    private boolean reversed;
+
+    void add(Edit.Type type, int expectedIndex, int actualIndex, int length) {
+        if (length == 0) {
+            return;
+        }
+
+        if (!edits.isEmpty()) {
+            final Edit last = edits.get(edits.size() - 1);
+
+            if (last.getType() == type && endOf(last, type) == startOf(type, expectedIndex, actualIndex)) {
+                edits.set(edits.size() - 1, new Edit(type, last.getExpectedIndex(), last.getActualIndex(), last.getLength() + length));
+                return;
+            }
+        }
+
+        edits.add(new Edit(type, expectedIndex, actualIndex, length));
+    }
+
+    void prepend(Edit.Type type, int expectedIndex, int actualIndex, int length) {
+        reversed = true;
+
+        if (!edits.isEmpty()) {
+            final Edit first = edits.get(edits.size() - 1);
+
+            if (first.getType() == type && startOf(type, expectedIndex, actualIndex) + length == startOf(type, first.getExpectedIndex(), first.getActualIndex())) {
+                edits.set(edits.size() - 1, new Edit(type, expectedIndex, actualIndex, first.getLength() + length));
+                return;
+            }
+        }
+
+        edits.add(new Edit(type, expectedIndex, actualIndex, length));
+    }
+
+    List<Edit> build() {
+        if (reversed) {
+            Collections.reverse(edits);
+        }
+
+        return edits;
+    }
+
+    private static int startOf(Edit.Type type, int expectedIndex, int actualIndex) {
+        return type == Edit.Type.INSERT ? actualIndex : expectedIndex;
+    }
+
+    private static int endOf(Edit edit, Edit.Type type) {
+        return startOf(type, edit.getExpectedIndex(), edit.getActualIndex()) + edit.getLength();
+    }
+}
@@ -0,0 +1,364 @@
+package org.testifj.diff;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Computes an edit script between two sequences, using the O(ND) difference algorithm by Myers. The
+ * common prefix and suffix of the sequences are stripped before the algorithm is applied, so that a few
+ * changes in long sequences are cheap to find.
+ * </p>
+ * <p>
+ * The cost of the algorithm grows with the number of differences. The search is abandoned when the edit
+ * distance exceeds {@link #getMaximumEditDistance()} or the time limit is exceeded. The sequences are
+ * then split into content defined chunks (chunk boundaries are determined by element hashes, so that
+ * an insertion doesn't shift all subsequent chunks) which are diffed instead of the elements. If this
+ * fails as well, the differing regions are reported as replaced in their entirety. The result is always
+ * a valid edit script, but not necessarily a minimal one.
+ * </p>
+ */
+public final class SequenceDiff {
+
+    public static final int DEFAULT_MAXIMUM_EDIT_DISTANCE = 1000;
+
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 200;
+
+    private static final int MINIMUM_CHUNK_SIZE = 8;
+
+    private static final int TARGET_CHUNK_COUNT = 4096;
+
+    private final int maximumEditDistance;
+
+    private final long timeLimitMillis;
+
+    public SequenceDiff() {
+        this(DEFAULT_MAXIMUM_EDIT_DISTANCE, DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    private SequenceDiff(int maximumEditDistance, long timeLimitMillis) {
+        this.maximumEditDistance = maximumEditDistance;
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    public int getMaximumEditDistance() {
+        return maximumEditDistance;
+    }
+
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+
+    public SequenceDiff withMaximumEditDistance(int maximumEditDistance) {
+        assert maximumEditDistance >= 0 : "Maximum edit distance can't be negative";
+
+        return new SequenceDiff(maximumEditDistance, timeLimitMillis);
+    }
+
+    public SequenceDiff withTimeLimit(long timeLimit, TimeUnit timeUnit) {
+        assert timeLimit >= 0 : "Time limit can't be negative";
+        assert timeUnit != null : "Time unit can't be null";
+
+        return new SequenceDiff(maximumEditDistance, timeUnit.toMillis(timeLimit));
+    }
+
+    /**
+     * Computes the edit script that transforms the expected sequence into the actual sequence. Elements are
+     * compared by <code>equals</code>. Adjacent edits of the same type are merged.
+     *
+     * @param expected The expected sequence.
+     * @param actual The actual sequence.
+     * @return The edit script, which is empty if both sequences are empty.
+     */
+    public List<Edit> diff(List<?> expected, List<?> actual) {
+        assert expected != null : "Expected sequence can't be null";
+        assert actual != null : "Actual sequence can't be null";
+
+        final Map<Object, Integer> elementIds = new HashMap<>();
+        final int[] expectedIds = elementIds(expected, elementIds);
+        final int[] actualIds = elementIds(actual, elementIds);
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeLimitMillis);
+
+        return diff(expectedIds, actualIds, deadline);
+    }
+
+    private List<Edit> diff(int[] expected, int[] actual, long deadline) {
+        final EditScriptBuilder builder = new EditScriptBuilder();
+
+        int prefixLength = 0;
+
+        while (prefixLength < expected.length && prefixLength < actual.length && expected[prefixLength] == actual[prefixLength]) {
+            prefixLength++;
+        }
+
+        int suffixLength = 0;
+
+        while (suffixLength < expected.length - prefixLength && suffixLength < actual.length - prefixLength
+                && expected[expected.length - suffixLength - 1] == actual[actual.length - suffixLength - 1]) {
+            suffixLength++;
+        }
+
+        builder.add(Edit.Type.EQUAL, 0, 0, prefixLength);
+
+        final int expectedLength = expected.length - prefixLength - suffixLength;
+        final int actualLength = actual.length - prefixLength - suffixLength;
+
+        List<Edit> edits = myers(expected, prefixLength, expectedLength, actual, prefixLength, actualLength, deadline);
+
+        if (edits == null) {
+            edits = chunkedDiff(expected, prefixLength, expectedLength, actual, prefixLength, actualLength, deadline);
+        }
+
+        for (Edit edit : edits) {
+            builder.add(edit.getType(), edit.getExpectedIndex(), edit.getActualIndex(), edit.getLength());
+        }
+
+        builder.add(Edit.Type.EQUAL, expected.length - suffixLength, actual.length - suffixLength, suffixLength);
+
+        return builder.build();
+    }
+
+    /**
+     * Finds the shortest edit script of two regions using the greedy algorithm by Myers. The furthest
+     * reaching paths of each edit distance are retained to reconstruct the script, which requires
+     * O(D^2) memory for an edit distance of D. Returns null if the edit distance exceeds the maximum
+     * edit distance or the deadline passes.
+     */
+    private List<Edit> myers(int[] a, int aOffset, int aLength, int[] b, int bOffset, int bLength, long deadline) {
+        final int maximumDistance = Math.min(aLength + bLength, maximumEditDistance);
+        final int offset = maximumDistance + 1;
+        final int[] v = new int[2 * maximumDistance + 3];
+        final List<int[]> trace = new ArrayList<>();
+
+        for (int d = 0; d <= maximumDistance; d++) {
+            if ((d & 0x3f) == 0 && d > 0 && System.nanoTime() > deadline) {
+                return null;
+            }
+
+            final int[] snapshot = new int[2 * d + 3];
+
+            System.arraycopy(v, offset - d - 1, snapshot, 0, snapshot.length);
+            trace.add(snapshot);
+
+            for (int k = -d; k <= d; k += 2) {
+                int x;
+
+                if (k == -d || (k != d && v[offset + k - 1] < v[offset + k + 1])) {
+                    x = v[offset + k + 1];
+                } else {
+                    x = v[offset + k - 1] + 1;
+                }
+
+                int y = x - k;
+
+                while (x < aLength && y < bLength && a[aOffset + x] == b[bOffset + y]) {
+                    x++;
+                    y++;
+                }
+
+                v[offset + k] = x;
+
+                if (x >= aLength && y >= bLength) {
+                    return backtrack(trace, aOffset, aLength, bOffset, bLength);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private List<Edit> backtrack(List<int[]> trace, int aOffset, int aLength, int bOffset, int bLength) {
+        final EditScriptBuilder builder = new EditScriptBuilder();
+
+        int x = aLength;
+        int y = bLength;
+
+        for (int d = trace.size() - 1; d >= 0; d--) {
+            final int[] v = trace.get(d);
+            final int k = x - y;
+            final int previousK;
+
+            if (k == -d || (k != d && v[k - 1 + d + 1] < v[k + 1 + d + 1])) {
+                previousK = k + 1;
+            } else {
+                previousK = k - 1;
+            }
+
+            final int previousX = v[previousK + d + 1];
+            final int previousY = previousX - previousK;
+
+            while (x > previousX && y > previousY) {
+                x--;
+                y--;
+                builder.prepend(Edit.Type.EQUAL, aOffset + x, bOffset + y, 1);
+            }
+
+            if (d > 0) {
+                if (x == previousX) {
+                    builder.prepend(Edit.Type.INSERT, aOffset + x, bOffset + y - 1, 1);
+                } else {
+                    builder.prepend(Edit.Type.DELETE, aOffset + x - 1, bOffset + y, 1);
+                }
+            }
+
+            x = previousX;
+            y = previousY;
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Diffs two regions by splitting them into content defined chunks and diffing the chunks. Chunks that
+     * are considered equal are verified element by element; chunks that differ are reported as replaced.
+     */
+    private List<Edit> chunkedDiff(int[] a, int aOffset, int aLength, int[] b, int bOffset, int bLength, long deadline) {
+        final int chunkMask = chunkMask(Math.max(aLength, bLength));
+        final List<int[]> aChunks = chunks(a, aOffset, aLength, chunkMask);
+        final List<int[]> bChunks = chunks(b, bOffset, bLength, chunkMask);
+        final Map<Long, Integer> chunkIds = new HashMap<>();
+        final int[] aChunkIds = chunkIds(a, aChunks, chunkIds);
+        final int[] bChunkIds = chunkIds(b, bChunks, chunkIds);
+        final List<Edit> chunkEdits = myers(aChunkIds, 0, aChunkIds.length, bChunkIds, 0, bChunkIds.length, deadline);
+        final EditScriptBuilder builder = new EditScriptBuilder();
+
+        if (chunkEdits == null) {
+            builder.add(Edit.Type.DELETE, aOffset, bOffset, aLength);
+            builder.add(Edit.Type.INSERT, aOffset + aLength, bOffset, bLength);
+
+            return builder.build();
+        }
+
+        for (Edit chunkEdit : chunkEdits) {
+            for (int i = 0; i < chunkEdit.getLength(); i++) {
+                final int[] aChunk = chunkEdit.getExpectedIndex() + i < aChunks.size() ? aChunks.get(chunkEdit.getExpectedIndex() + i) : null;
+                final int[] bChunk = chunkEdit.getActualIndex() + i < bChunks.size() ? bChunks.get(chunkEdit.getActualIndex() + i) : null;
+                final int aStart = aChunk != null ? aChunk[0] : aOffset + aLength;
+                final int bStart = bChunk != null ? bChunk[0] : bOffset + bLength;
+
+                switch (chunkEdit.getType()) {
+                    case EQUAL:
+                        if (regionsEqual(a, aChunk, b, bChunk)) {
+                            builder.add(Edit.Type.EQUAL, aStart, bStart, aChunk[1]);
+                        } else {
+                            builder.add(Edit.Type.DELETE, aStart, bStart, aChunk[1]);
+                            builder.add(Edit.Type.INSERT, aStart + aChunk[1], bStart, bChunk[1]);
+                        }
+                        break;
+                    case DELETE:
+                        builder.add(Edit.Type.DELETE, aStart, bStart, aChunk[1]);
+                        break;
+                    case INSERT:
+                        builder.add(Edit.Type.INSERT, aStart, bStart, bChunk[1]);
+                        break;
+                }
+            }
+        }
+
+        return builder.build();
+    }
+
+    private static int chunkMask(int length) {
+        int chunkSize = MINIMUM_CHUNK_SIZE;
+
+        while (chunkSize < length / TARGET_CHUNK_COUNT) {
+            chunkSize <<= 1;
+        }
+
+        return chunkSize - 1;
+    }
+
+    /**
+     * Splits a region into chunks of <code>[start, length]</code>. A chunk ends after an element whose mixed
+     * id has all mask bits cleared, or when it reaches four times the average chunk size.
+     */
+    private static List<int[]> chunks(int[] ids, int offset, int length, int chunkMask) {
+        final List<int[]> chunks = new ArrayList<>();
+        final int maximumChunkSize = (chunkMask + 1) * 4;
+
+        int chunkStart = offset;
+
+        for (int i = offset; i < offset + length; i++) {
+            final int chunkLength = i - chunkStart + 1;
+
+            if ((mix(ids[i]) & chunkMask) == 0 || chunkLength == maximumChunkSize || i == offset + length - 1) {
+                chunks.add(new int[]{chunkStart, chunkLength});
+                chunkStart = i + 1;
+            }
+        }
+
+        return chunks;
+    }
+
+    private static int[] chunkIds(int[] ids, List<int[]> chunks, Map<Long, Integer> chunkIds) {
+        final int[] result = new int[chunks.size()];
+
+        for (int i = 0; i < result.length; i++) {
+            final int[] chunk = chunks.get(i);
+
+            long hash = chunk[1];
+
+            for (int j = chunk[0]; j < chunk[0] + chunk[1]; j++) {
+                hash = hash * 0x9e3779b97f4a7c15L + ids[j];
+            }
+
+            final Integer existingId = chunkIds.get(hash);
+
+            if (existingId != null) {
+                result[i] = existingId;
+            } else {
+                result[i] = chunkIds.size();
+                chunkIds.put(hash, result[i]);
+            }
+        }
+
+        return result;
+    }
+
+    private static boolean regionsEqual(int[] a, int[] aChunk, int[] b, int[] bChunk) {
+        if (aChunk[1] != bChunk[1]) {
+            return false;
+        }
+
+        for (int i = 0; i < aChunk[1]; i++) {
+            if (a[aChunk[0] + i] != b[bChunk[0] + i]) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static int mix(int id) {
+        int h = id * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    private static int[] elementIds(List<?> elements, Map<Object, Integer> elementIds) {
+        final int[] ids = new int[elements.size()];
+        int index = 0;
+
+        for (Object element : elements) {
+            final Object key = (element == null ? NullElement.INSTANCE : element);
+            final Integer existingId = elementIds.get(key);
+
+            if (existingId != null) {
+                ids[index++] = existingId;
+            } else {
+                ids[index] = elementIds.size();
+                elementIds.put(key, ids[index++]);
+            }
+        }
+
+        return ids;
+    }
+
+    private enum NullElement {
+
+        INSTANCE
+
+    }
+}
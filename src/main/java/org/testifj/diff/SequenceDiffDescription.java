@@ -0,0 +1,217 @@
+package org.testifj.diff;
+
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <p>
+ * Describes the differences between two sequences as hunks of a unified diff, i.e. only the changed
+ * elements and a number of unchanged elements around each change are included:
+ * </p>
+ * <pre>
+ * &#64;&#64; -4,3 +4,4 &#64;&#64;
+ *   3
+ * - 4
+ * + 40
+ * + 41
+ *   5
+ * </pre>
+ * <p>
+ * Hunk headers contain the (zero-based) index and length of the hunk in the expected and the actual
+ * sequence respectively. Hunks beyond a maximum number are summarized, as are the lines of a hunk beyond
+ * a maximum number, so that the size of the description is bounded even if the sequences are replaced
+ * in their entirety (e.g. when a diff exceeds its time limit).
+ * </p>
+ */
+public final class SequenceDiffDescription {
+
+    public static final int DEFAULT_CONTEXT_SIZE = 3;
+
+    public static final int DEFAULT_MAXIMUM_HUNKS = 10;
+
+    public static final int DEFAULT_MAXIMUM_HUNK_LINES = 100;
+
+    private SequenceDiffDescription() {
+    }
+
+    public static Description describe(List<?> expected, List<?> actual, List<Edit> edits) {
+        return describe(expected, actual, edits, DEFAULT_CONTEXT_SIZE, DEFAULT_MAXIMUM_HUNKS);
+    }
+
+    /**
+     * Describes an edit script of two sequences.
+     *
+     * @param expected The expected sequence.
+     * @param actual The actual sequence.
+     * @param edits The edit script that transforms the expected sequence into the actual sequence.
+     * @param contextSize The number of unchanged elements included before and after each change.
+     * @param maximumHunks The maximum number of hunks described.
+     * @return A description of the differences; empty if the sequences are equal.
+     */
+    public static Description describe(List<?> expected, List<?> actual, List<Edit> edits, int contextSize, int maximumHunks) {
+        return describe(expected, actual, edits, contextSize, maximumHunks, DEFAULT_MAXIMUM_HUNK_LINES);
+    }
+
+    /**
+     * Describes an edit script of two sequences.
+     *
+     * @param expected The expected sequence.
+     * @param actual The actual sequence.
+     * @param edits The edit script that transforms the expected sequence into the actual sequence.
+     * @param contextSize The number of unchanged elements included before and after each change.
+     * @param maximumHunks The maximum number of hunks described.
+     * @param maximumHunkLines The maximum number of elements described per hunk.
+     * @return A description of the differences; empty if the sequences are equal.
+     */
+    public static Description describe(List<?> expected, List<?> actual, List<Edit> edits, int contextSize, int maximumHunks, int maximumHunkLines) {
+        return describe(expected, actual, edits, contextSize, maximumHunks, maximumHunkLines, false);
+    }
+
+    public static Description describeLines(List<String> expectedLines, List<String> actualLines, List<Edit> edits) {
+        return describeLines(expectedLines, actualLines, edits, DEFAULT_MAXIMUM_HUNK_LINES);
+    }
+
+    /**
+     * Describes a line edit script of two texts (see {@link org.testifj.diff.TextDiff}). Lines are included
+     * verbatim and line numbers in hunk headers are one-based, as in the output of <code>diff -u</code>.
+     * Texts that {@link org.testifj.diff.TextDiff} reports as replaced in their entirety, because the time
+     * limit of the diff was exceeded, form a single hunk, of which only the leading lines are described.
+     *
+     * @param expectedLines The lines of the expected text.
+     * @param actualLines The lines of the actual text.
+     * @param edits The line edit script that transforms the expected text into the actual text.
+     * @param maximumHunkLines The maximum number of lines described per hunk.
+     * @return A description of the differences; empty if the texts are equal.
+     */
+    public static Description describeLines(List<String> expectedLines, List<String> actualLines, List<Edit> edits, int maximumHunkLines) {
+        return describe(expectedLines, actualLines, edits, DEFAULT_CONTEXT_SIZE, DEFAULT_MAXIMUM_HUNKS, maximumHunkLines, true);
+    }
+
+    private static Description describe(List<?> expected, List<?> actual, List<Edit> edits, int contextSize, int maximumHunks, int maximumHunkLines, boolean lines) {
+        assert expected != null : "Expected sequence can't be null";
+        assert actual != null : "Actual sequence can't be null";
+        assert edits != null : "Edits can't be null";
+        assert contextSize >= 0 : "Context size can't be negative";
+        assert maximumHunks > 0 : "Maximum hunks must be positive";
+        assert maximumHunkLines > 0 : "Maximum hunk lines must be positive";
+
+        final List<int[]> hunks = hunks(edits, contextSize);
+
+        Description description = new BasicDescription();
+
+        for (int i = 0; i < hunks.size() && i < maximumHunks; i++) {
+            if (i > 0) {
+                description = description.appendText("\n");
+            }
+
+            description = describeHunk(description, expected, actual, edits, hunks.get(i), contextSize, maximumHunkLines, lines);
+        }
+
+        if (hunks.size() > maximumHunks) {
+            description = description.appendText("\n... " + (hunks.size() - maximumHunks) + " more differences");
+        }
+
+        return description;
+    }
+
+    /**
+     * Groups the changes of an edit script into hunks of <code>[first change, last change]</code> (indices
+     * in the edit list). Changes separated by at most twice the context size are grouped together.
+     */
+    private static List<int[]> hunks(List<Edit> edits, int contextSize) {
+        final List<int[]> hunks = new ArrayList<>();
+
+        int[] currentHunk = null;
+
+        for (int i = 0; i < edits.size(); i++) {
+            if (edits.get(i).getType() == Edit.Type.EQUAL) {
+                continue;
+            }
+
+            if (currentHunk != null && (currentHunk[1] == i - 1
+                    || (currentHunk[1] == i - 2 && edits.get(i - 1).getLength() <= 2 * contextSize))) {
+                currentHunk[1] = i;
+            } else {
+                currentHunk = new int[]{i, i};
+                hunks.add(currentHunk);
+            }
+        }
+
+        return hunks;
+    }
+
+    private static Description describeHunk(Description description, List<?> expected, List<?> actual, List<Edit> edits, int[] hunk, int contextSize, int maximumHunkLines, boolean lines) {
+        final Edit firstChange = edits.get(hunk[0]);
+        final Edit lastChange = edits.get(hunk[1]);
+        final int leadingContext = hunk[0] > 0 ? Math.min(contextSize, edits.get(hunk[0] - 1).getLength()) : 0;
+        final int trailingContext = hunk[1] < edits.size() - 1 ? Math.min(contextSize, edits.get(hunk[1] + 1).getLength()) : 0;
+        final int expectedStart = firstChange.getExpectedIndex() - leadingContext;
+        final int actualStart = firstChange.getActualIndex() - leadingContext;
+        final int expectedEnd = endIndex(lastChange, true) + trailingContext;
+        final int actualEnd = endIndex(lastChange, false) + trailingContext;
+
+        final int firstIndex = lines ? 1 : 0;
+
+        description = description.appendText("@@ -" + (expectedStart + firstIndex) + "," + (expectedEnd - expectedStart)
+                + " +" + (actualStart + firstIndex) + "," + (actualEnd - actualStart) + " @@");
+
+        long lineCount = leadingContext + trailingContext;
+        int describedLines = 0;
+
+        for (int i = hunk[0]; i <= hunk[1]; i++) {
+            lineCount += edits.get(i).getLength();
+        }
+
+        for (int i = expectedStart; i < firstChange.getExpectedIndex() && describedLines < maximumHunkLines; i++, describedLines++) {
+            description = appendLine(description, "  ", lines, expected.get(i));
+        }
+
+        for (int i = hunk[0]; i <= hunk[1] && describedLines < maximumHunkLines; i++) {
+            final Edit edit = edits.get(i);
+
+            for (int j = 0; j < edit.getLength() && describedLines < maximumHunkLines; j++, describedLines++) {
+                switch (edit.getType()) {
+                    case EQUAL:
+                        description = appendLine(description, "  ", lines, expected.get(edit.getExpectedIndex() + j));
+                        break;
+                    case DELETE:
+                        description = appendLine(description, "- ", lines, expected.get(edit.getExpectedIndex() + j));
+                        break;
+                    case INSERT:
+                        description = appendLine(description, "+ ", lines, actual.get(edit.getActualIndex() + j));
+                        break;
+                }
+            }
+        }
+
+        for (int i = endIndex(lastChange, true); i < expectedEnd && describedLines < maximumHunkLines; i++, describedLines++) {
+            description = appendLine(description, "  ", lines, expected.get(i));
+        }
+
+        if (lineCount > describedLines) {
+            description = description.appendText("\n... " + (lineCount - describedLines) + " more lines");
+        }
+
+        return description;
+    }
+
+    private static int endIndex(Edit edit, boolean expected) {
+        if (expected) {
+            return edit.getExpectedIndex() + (edit.getType() == Edit.Type.INSERT ? 0 : edit.getLength());
+        } else {
+            return edit.getActualIndex() + (edit.getType() == Edit.Type.DELETE ? 0 : edit.getLength());
+        }
+    }
+
+    private static Description appendLine(Description description, String prefix, boolean lines, Object element) {
+        if (lines) {
+            return description.appendText("\n" + prefix.charAt(0) + element);
+        }
+
+        return description.appendText("\n" + prefix).appendValue(element);
+    }
+
+}
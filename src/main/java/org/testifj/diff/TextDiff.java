@@ -0,0 +1,469 @@
+package org.testifj.diff;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <p>
+ * Computes a line oriented edit script between two texts. Lines are hashed and interned to integer ids
+ * in a single pass, without copying the lines, so that lines are compared through their ids. The common
+ * leading and trailing lines are stripped and the remainder is diffed with the linear space variant of
+ * the Myers algorithm, which recursively splits the texts at the middle snake of the edit graph
+ * (in the spirit of Hirschberg's algorithm). Memory use is hence linear in the number of lines,
+ * regardless of the number of differences.
+ * </p>
+ * <p>
+ * Regions of more than {@value #ANCHORING_THRESHOLD} lines are first split at anchors: lines that occur
+ * exactly once in both regions, in the same relative order (as in patience diff). This keeps the cost
+ * close to linear for texts with many differences, at the expense of minimality for those regions.
+ * </p>
+ * <p>
+ * If the time limit is exceeded, the regions that haven't been diffed yet are reported as replaced in
+ * their entirety. The result is always a valid edit script, but not necessarily a minimal one.
+ * </p>
+ */
+public final class TextDiff {
+
+    public static final long DEFAULT_TIME_LIMIT_MILLIS = 500;
+
+    private static final int ANCHORING_THRESHOLD = 2048;
+
+    private final long timeLimitMillis;
+
+    public TextDiff() {
+        this(DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    private TextDiff(long timeLimitMillis) {
+        this.timeLimitMillis = timeLimitMillis;
+    }
+
+    public long getTimeLimitMillis() {
+        return timeLimitMillis;
+    }
+
+    public TextDiff withTimeLimit(long timeLimit, TimeUnit timeUnit) {
+        assert timeLimit >= 0 : "Time limit can't be negative";
+        assert timeUnit != null : "Time unit can't be null";
+
+        return new TextDiff(timeUnit.toMillis(timeLimit));
+    }
+
+    /**
+     * Returns the lines of a text. Lines are separated by <code>\n</code> or <code>\r\n</code>. The lines
+     * are created on access; only the line offsets are retained.
+     *
+     * @param text The text.
+     * @return The lines of the text.
+     */
+    public static List<String> lines(String text) {
+        assert text != null : "Text can't be null";
+
+        final int[] lineStarts = lineStarts(text);
+
+        return new AbstractList<String>() {
+            @Override
+            public String get(int index) {
+                if (index < 0 || index >= size()) {
+                    throw new IndexOutOfBoundsException("Index " + index + " out of bounds for " + size() + " lines");
+                }
+
+                return text.substring(lineStarts[index], lineEnd(text, lineStarts, index));
+            }
+
+            @Override
+            public int size() {
+                return lineStarts.length - 1;
+            }
+        };
+    }
+
+    /**
+     * Computes the edit script that transforms the lines of the expected text into the lines of the
+     * actual text. Indices in the edits are line indices, see {@link #lines(String)}.
+     *
+     * @param expected The expected text.
+     * @param actual The actual text.
+     * @return The line edit script.
+     */
+    public List<Edit> diff(String expected, String actual) {
+        assert expected != null : "Expected text can't be null";
+        assert actual != null : "Actual text can't be null";
+
+        final int[] expectedLineStarts = lineStarts(expected);
+        final int[] actualLineStarts = lineStarts(actual);
+        final LineTable lineTable = new LineTable(expectedLineStarts.length + actualLineStarts.length);
+        final int[] expectedIds = lineTable.intern(expected, expectedLineStarts);
+        final int[] actualIds = lineTable.intern(actual, actualLineStarts);
+        final EditScriptBuilder builder = new EditScriptBuilder();
+        final Search search = new Search(expectedIds, actualIds, lineTable.size, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeLimitMillis));
+
+        search.diff(0, expectedIds.length, 0, actualIds.length, builder);
+
+        return builder.build();
+    }
+
+    /**
+     * Returns the start offsets of the lines in a text, followed by the offset after the separator of the
+     * last line (the text length plus one, if the text doesn't end with a line separator).
+     */
+    private static int[] lineStarts(String text) {
+        int[] lineStarts = new int[16];
+        int lineCount = 0;
+
+        if (!text.isEmpty()) {
+            lineStarts[lineCount++] = 0;
+        }
+
+        for (int i = text.indexOf('\n'); i >= 0 && i + 1 < text.length(); i = text.indexOf('\n', i + 1)) {
+            if (lineCount + 1 >= lineStarts.length) {
+                lineStarts = Arrays.copyOf(lineStarts, lineStarts.length * 2);
+            }
+
+            lineStarts[lineCount++] = i + 1;
+        }
+
+        lineStarts[lineCount] = text.endsWith("\n") ? text.length() : text.length() + 1;
+
+        return Arrays.copyOf(lineStarts, lineCount + 1);
+    }
+
+    private static int lineEnd(String text, int[] lineStarts, int index) {
+        final int end = lineStarts[index + 1] - 1;
+
+        if (end > lineStarts[index] && end < text.length() && text.charAt(end - 1) == '\r') {
+            return end - 1;
+        }
+
+        return end;
+    }
+
+    /**
+     * Open addressing hash table that assigns the same id to equal lines. Entries refer to lines in the
+     * texts being interned, so no line is copied.
+     */
+    private static final class LineTable {
+
+        private final String[] texts;
+
+        private final int[] starts;
+
+        private final int[] ends;
+
+        private final int[] hashes;
+
+        private final int[] slots;
+
+        private int size;
+
+        private LineTable(int capacity) {
+            int slotCount = 16;
+
+            while (slotCount < capacity * 2) {
+                slotCount <<= 1;
+            }
+
+            this.texts = new String[capacity];
+            this.starts = new int[capacity];
+            this.ends = new int[capacity];
+            this.hashes = new int[capacity];
+            this.slots = new int[slotCount];
+
+            Arrays.fill(slots, -1);
+        }
+
+        private int[] intern(String text, int[] lineStarts) {
+            final int[] ids = new int[lineStarts.length - 1];
+
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = intern(text, lineStarts[i], lineEnd(text, lineStarts, i));
+            }
+
+            return ids;
+        }
+
+        private int intern(String text, int start, int end) {
+            int hash = 0;
+
+            for (int i = start; i < end; i++) {
+                hash = 31 * hash + text.charAt(i);
+            }
+
+            final int mask = slots.length - 1;
+
+            for (int slot = (hash ^ (hash >>> 16)) & mask; ; slot = (slot + 1) & mask) {
+                final int id = slots[slot];
+
+                if (id == -1) {
+                    texts[size] = text;
+                    starts[size] = start;
+                    ends[size] = end;
+                    hashes[size] = hash;
+                    slots[slot] = size;
+
+                    return size++;
+                }
+
+                if (hashes[id] == hash && ends[id] - starts[id] == end - start
+                        && texts[id].regionMatches(starts[id], text, start, end - start)) {
+                    return id;
+                }
+            }
+        }
+    }
+
+    /**
+     * Linear space Myers search over two id sequences. The forward and backward furthest reaching paths
+     * are shared by all recursion levels, since the sub problems are solved one at a time.
+     */
+    private static final class Search {
+
+        private final int[] a;
+
+        private final int[] b;
+
+        private final long deadline;
+
+        private final int[] forward;
+
+        private final int[] backward;
+
+        private final int[] snake = new int[4];
+
+        private final int[] expectedCounts;
+
+        private final int[] actualCounts;
+
+        private final int[] actualPositions;
+
+        private Search(int[] a, int[] b, int idCount, long deadline) {
+            this.a = a;
+            this.b = b;
+            this.deadline = deadline;
+            this.forward = new int[a.length + b.length + 3];
+            this.backward = new int[a.length + b.length + 3];
+            this.expectedCounts = new int[idCount];
+            this.actualCounts = new int[idCount];
+            this.actualPositions = new int[idCount];
+        }
+
+        private void diff(int aStart, int aEnd, int bStart, int bEnd, EditScriptBuilder builder) {
+            final int prefixStart = aStart;
+
+            while (aStart < aEnd && bStart < bEnd && a[aStart] == b[bStart]) {
+                aStart++;
+                bStart++;
+            }
+
+            builder.add(Edit.Type.EQUAL, prefixStart, bStart - (aStart - prefixStart), aStart - prefixStart);
+
+            int suffixLength = 0;
+
+            while (aEnd > aStart && bEnd > bStart && a[aEnd - 1] == b[bEnd - 1]) {
+                aEnd--;
+                bEnd--;
+                suffixLength++;
+            }
+
+            if (aStart < aEnd && bStart < bEnd && (aEnd - aStart) + (bEnd - bStart) > ANCHORING_THRESHOLD
+                    && diffBetweenAnchors(aStart, aEnd, bStart, bEnd, builder)) {
+                builder.add(Edit.Type.EQUAL, aEnd, bEnd, suffixLength);
+                return;
+            }
+
+            if (aStart == aEnd || bStart == bEnd || !middleSnake(aStart, aEnd, bStart, bEnd)) {
+                builder.add(Edit.Type.DELETE, aStart, bStart, aEnd - aStart);
+                builder.add(Edit.Type.INSERT, aEnd, bStart, bEnd - bStart);
+            } else {
+                final int snakeStartX = snake[0];
+                final int snakeStartY = snake[1];
+                final int snakeEndX = snake[2];
+                final int snakeEndY = snake[3];
+
+                diff(aStart, snakeStartX, bStart, snakeStartY, builder);
+                builder.add(Edit.Type.EQUAL, snakeStartX, snakeStartY, snakeEndX - snakeStartX);
+                diff(snakeEndX, aEnd, snakeEndY, bEnd, builder);
+            }
+
+            builder.add(Edit.Type.EQUAL, aEnd, bEnd, suffixLength);
+        }
+
+        /**
+         * Splits two regions at the longest sequence of lines that are unique in both regions and occur in
+         * the same order, and diffs the regions between these anchors. Returns false if there are no anchors.
+         */
+        private boolean diffBetweenAnchors(int aStart, int aEnd, int bStart, int bEnd, EditScriptBuilder builder) {
+            for (int i = aStart; i < aEnd; i++) {
+                expectedCounts[a[i]]++;
+            }
+
+            for (int i = bStart; i < bEnd; i++) {
+                actualCounts[b[i]]++;
+                actualPositions[b[i]] = i;
+            }
+
+            int candidateCount = 0;
+            final int[] candidates = new int[Math.min(aEnd - aStart, bEnd - bStart)];
+
+            for (int i = aStart; i < aEnd && candidateCount < candidates.length; i++) {
+                if (expectedCounts[a[i]] == 1 && actualCounts[a[i]] == 1) {
+                    candidates[candidateCount++] = i;
+                }
+            }
+
+            for (int i = aStart; i < aEnd; i++) {
+                expectedCounts[a[i]] = 0;
+            }
+
+            for (int i = bStart; i < bEnd; i++) {
+                actualCounts[b[i]] = 0;
+            }
+
+            if (candidateCount == 0) {
+                return false;
+            }
+
+            final int[] anchors = longestIncreasingSequence(candidates, candidateCount);
+
+            int previousX = aStart;
+            int previousY = bStart;
+
+            for (int anchor : anchors) {
+                final int anchorY = actualPositions[a[anchor]];
+
+                diff(previousX, anchor, previousY, anchorY, builder);
+                builder.add(Edit.Type.EQUAL, anchor, anchorY, 1);
+
+                previousX = anchor + 1;
+                previousY = anchorY + 1;
+            }
+
+            diff(previousX, aEnd, previousY, bEnd, builder);
+
+            return true;
+        }
+
+        /**
+         * Returns the candidates (expected line indices, ordered) that form the longest sequence with increasing
+         * positions in the actual region, using patience sorting.
+         */
+        private int[] longestIncreasingSequence(int[] candidates, int candidateCount) {
+            final int[] pileTops = new int[candidateCount];
+            final int[] predecessors = new int[candidateCount];
+            int pileCount = 0;
+
+            for (int i = 0; i < candidateCount; i++) {
+                final int position = actualPositions[a[candidates[i]]];
+
+                int low = 0;
+                int high = pileCount;
+
+                while (low < high) {
+                    final int middle = (low + high) >>> 1;
+
+                    if (actualPositions[a[candidates[pileTops[middle]]]] < position) {
+                        low = middle + 1;
+                    } else {
+                        high = middle;
+                    }
+                }
+
+                predecessors[i] = low > 0 ? pileTops[low - 1] : -1;
+                pileTops[low] = i;
+
+                if (low == pileCount) {
+                    pileCount++;
+                }
+            }
+
+            final int[] sequence = new int[pileCount];
+
+            for (int i = pileCount - 1, candidate = pileTops[pileCount - 1]; i >= 0; i--, candidate = predecessors[candidate]) {
+                sequence[i] = candidates[candidate];
+            }
+
+            return sequence;
+        }
+
+        /**
+         * Finds the middle snake of the shortest edit script of two non-empty regions that differ in their
+         * first and last elements, and stores its (absolute) start and end coordinates in {@link #snake}.
+         * Returns false if the deadline passes before the middle snake is found.
+         */
+        private boolean middleSnake(int aStart, int aEnd, int bStart, int bEnd) {
+            final int n = aEnd - aStart;
+            final int m = bEnd - bStart;
+            final int delta = n - m;
+            final boolean odd = (delta & 1) != 0;
+            final int offset = (n + m + 1) / 2 + 1;
+            final int maximumDistance = (n + m + 1) / 2;
+
+            forward[offset + 1] = 0;
+            backward[offset + 1] = 0;
+
+            for (int d = 0; d <= maximumDistance; d++) {
+                if ((d & 0x3f) == 0 && System.nanoTime() > deadline) {
+                    return false;
+                }
+
+                for (int k = -d; k <= d; k += 2) {
+                    int x = (k == -d || (k != d && forward[offset + k - 1] < forward[offset + k + 1]))
+                            ? forward[offset + k + 1]
+                            : forward[offset + k - 1] + 1;
+                    int y = x - k;
+                    final int startX = x;
+                    final int startY = y;
+
+                    while (x < n && y < m && a[aStart + x] == b[bStart + y]) {
+                        x++;
+                        y++;
+                    }
+
+                    forward[offset + k] = x;
+
+                    final int backwardK = delta - k;
+
+                    if (odd && backwardK >= -(d - 1) && backwardK <= d - 1 && x + backward[offset + backwardK] >= n) {
+                        setSnake(aStart + startX, bStart + startY, aStart + x, bStart + y);
+                        return true;
+                    }
+                }
+
+                for (int k = -d; k <= d; k += 2) {
+                    int x = (k == -d || (k != d && backward[offset + k - 1] < backward[offset + k + 1]))
+                            ? backward[offset + k + 1]
+                            : backward[offset + k - 1] + 1;
+                    int y = x - k;
+                    final int startX = x;
+                    final int startY = y;
+
+                    while (x < n && y < m && a[aEnd - 1 - x] == b[bEnd - 1 - y]) {
+                        x++;
+                        y++;
+                    }
+
+                    backward[offset + k] = x;
+
+                    final int forwardK = delta - k;
+
+                    if (!odd && forwardK >= -d && forwardK <= d && x + forward[offset + forwardK] >= n) {
+                        setSnake(aEnd - x, bEnd - y, aEnd - startX, bEnd - startY);
+                        return true;
+                    }
+                }
+            }
+
+            throw new IllegalStateException("No middle snake found");
+        }
+
+        private void setSnake(int startX, int startY, int endX, int endY) {
+            snake[0] = startX;
+            snake[1] = startY;
+            snake[2] = endX;
+            snake[3] = endY;
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+package org.testifj.matchers.core;
+
+import io.recode.annotations.DSL;
+import org.testifj.BasicDescription;
+import org.testifj.MismatchDescribingMatcher;
+
+import java.util.Arrays;
+
+/**
+ * Containment matchers for primitive and object arrays. The expected elements are indexed in a hash set,
+ * so a match is linear in the length of the array rather than the product of the array length and the
+ * number of expected elements. Mismatches describe the offending elements.
+ */
+@DSL
+public final class ArrayThat {
+
+    public static MismatchDescribingMatcher<int[]> containsAll(int... elements) {
+        assert elements != null : "Elements can't be null";
+
+        final long[] expected = Containment.widen(elements);
+        final LongHashSet expectedSet = LongHashSet.of(elements);
+
+        return DescribingMatchers.describing(
+                array -> Containment.missing(i -> array[i], array.length, expected, expectedSet).isEmpty(),
+                array -> Containment.describeElements("missing elements", Containment.narrow(Containment.missing(i -> array[i], array.length, expected, expectedSet))));
+    }
+
+    public static MismatchDescribingMatcher<long[]> containsAll(long... elements) {
+        assert elements != null : "Elements can't be null";
+
+        final LongHashSet expectedSet = LongHashSet.of(elements);
+
+        return DescribingMatchers.describing(
+                array -> Containment.missing(i -> array[i], array.length, elements, expectedSet).isEmpty(),
+                array -> Containment.describeElements("missing elements", Containment.missing(i -> array[i], array.length, elements, expectedSet)));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> MismatchDescribingMatcher<T[]> containsAll(T... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                array -> Containment.missing(Arrays.asList(array), elements).isEmpty(),
+                array -> Containment.describeElements("missing elements", Containment.missing(Arrays.asList(array), elements)));
+    }
+
+    public static MismatchDescribingMatcher<int[]> containsAny(int... elements) {
+        assert elements != null : "Elements can't be null";
+
+        final LongHashSet expectedSet = LongHashSet.of(elements);
+
+        return DescribingMatchers.describing(
+                array -> !Containment.present(i -> array[i], array.length, expectedSet, 1).isEmpty(),
+                array -> BasicDescription.from("none of ").appendValue(elements).appendText(" is contained"));
+    }
+
+    public static MismatchDescribingMatcher<long[]> containsAny(long... elements) {
+        assert elements != null : "Elements can't be null";
+
+        final LongHashSet expectedSet = LongHashSet.of(elements);
+
+        return DescribingMatchers.describing(
+                array -> !Containment.present(i -> array[i], array.length, expectedSet, 1).isEmpty(),
+                array -> BasicDescription.from("none of ").appendValue(elements).appendText(" is contained"));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> MismatchDescribingMatcher<T[]> containsAny(T... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                array -> !Containment.present(Arrays.asList(array), elements, 1).isEmpty(),
+                array -> BasicDescription.from("none of ").appendValue(elements).appendText(" is contained"));
+    }
+
+    public static MismatchDescribingMatcher<int[]> containsNone(int... elements) {
+        assert elements != null : "Elements can't be null";
+
+        final LongHashSet expectedSet = LongHashSet.of(elements);
+
+        return DescribingMatchers.describing(
+                array -> Containment.present(i -> array[i], array.length, expectedSet, 1).isEmpty(),
+                array -> Containment.describeElements("unexpected elements", Containment.narrow(
+                        Containment.present(i -> array[i], array.length, expectedSet, Containment.MAXIMUM_REPORTED_ELEMENTS))));
+    }
+
+    public static MismatchDescribingMatcher<long[]> containsNone(long... elements) {
+        assert elements != null : "Elements can't be null";
+
+        final LongHashSet expectedSet = LongHashSet.of(elements);
+
+        return DescribingMatchers.describing(
+                array -> Containment.present(i -> array[i], array.length, expectedSet, 1).isEmpty(),
+                array -> Containment.describeElements("unexpected elements",
+                        Containment.present(i -> array[i], array.length, expectedSet, Containment.MAXIMUM_REPORTED_ELEMENTS)));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> MismatchDescribingMatcher<T[]> containsNone(T... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                array -> Containment.present(Arrays.asList(array), elements, 1).isEmpty(),
+                array -> Containment.describeElements("unexpected elements",
+                        Containment.present(Arrays.asList(array), elements, Containment.MAXIMUM_REPORTED_ELEMENTS)));
+    }
+
+    public static MismatchDescribingMatcher<int[]> containsExactlyInAnyOrder(int... elements) {
+        assert elements != null : "Elements can't be null";
+
+        final long[] sortedExpected = Containment.widen(elements);
+
+        Arrays.sort(sortedExpected);
+
+        return DescribingMatchers.describing(
+                array -> array.length == elements.length && Arrays.equals(sortedExpected, sorted(Containment.widen(array))),
+                array -> MultisetComparison.compare(sortedExpected, sorted(Containment.widen(array)), value -> (int) value).describe());
+    }
+
+    public static MismatchDescribingMatcher<long[]> containsExactlyInAnyOrder(long... elements) {
+        assert elements != null : "Elements can't be null";
+
+        final long[] sortedExpected = elements.clone();
+
+        Arrays.sort(sortedExpected);
+
+        return DescribingMatchers.describing(
+                array -> array.length == elements.length && Arrays.equals(sortedExpected, sorted(array.clone())),
+                array -> MultisetComparison.compare(sortedExpected, sorted(array.clone()), Long::valueOf).describe());
+    }
+
+    /**
+     * Matches an array that contains the provided elements in any order, with the same number of
+     * occurrences of each element. Equivalent to {@link ArrayThatIs#arrayOfInAnyOrder(Object[])}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> MismatchDescribingMatcher<T[]> containsExactlyInAnyOrder(T... elements) {
+        return ArrayThatIs.arrayOfInAnyOrder(elements);
+    }
+
+    private static long[] sorted(long[] copy) {
+        Arrays.sort(copy);
+
+        return copy;
+    }
+
+}
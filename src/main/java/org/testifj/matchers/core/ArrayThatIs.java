@@ -1,7 +1,9 @@
 package org.testifj.matchers.core;
 
 import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 public final class ArrayThatIs {
@@ -15,28 +17,11 @@ public final class ArrayThatIs {
     public static Matcher<int[]> arrayWith(int ... elements) {
         assert elements != null : "Elements can't be null";
 
-        return array -> {
-            if (elements.length > array.length) {
-                return false;
-            }
-
-            for (int n1 : elements) {
-                boolean matchFound = false;
-
-                for (int n2 : array) {
-                    if (n1 == n2) {
-                        matchFound = true;
-                        break;
-                    }
-                }
-
-                if (!matchFound) {
-                    return false;
-                }
-            }
+        final long[] expected = Containment.widen(elements);
+        final LongHashSet expectedSet = LongHashSet.of(elements);
 
-            return true;
-        };
+        return array -> elements.length <= array.length
+                && Containment.missing(i -> array[i], array.length, expected, expectedSet).isEmpty();
     }
 
     public static Matcher<int[]> arrayOf(int ... elements) {
@@ -75,4 +60,18 @@ public final class ArrayThatIs {
         };
     }
 
+    /**
+     * Matches an array that contains the specified elements in any order, with the same number of
+     * occurrences of each element.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <T> MismatchDescribingMatcher<T[]> arrayOfInAnyOrder(T ... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                array -> array.length == elements.length && MultisetComparison.matches(elements, Arrays.asList(array).iterator()),
+                array -> MultisetComparison.compare(elements, Arrays.asList(array).iterator()).describe());
+    }
+
 }
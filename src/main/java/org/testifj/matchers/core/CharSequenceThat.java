@@ -0,0 +1,87 @@
+package org.testifj.matchers.core;
+
+import io.recode.annotations.DSL;
+import org.testifj.BasicDescription;
+import org.testifj.MismatchDescribingMatcher;
+
+import java.util.regex.Pattern;
+
+/**
+ * Matchers of arbitrary character sequences, e.g. a <code>StringBuilder</code> or the decoded contents of a
+ * memory mapped file as a <code>CharBuffer</code>. The sequences are searched in place; they're never
+ * copied into a <code>String</code>, so that large logs can be checked without an additional copy.
+ * <p>
+ * Regular expressions are compiled once per process and cached, so that matchers can be created in loops
+ * without recompiling the same expression.
+ */
+@DSL
+public final class CharSequenceThat {
+
+    /**
+     * Matches character sequences that contain a match of a regular expression.
+     *
+     * @param regex The regular expression. Can't be null.
+     * @param <S> The type of the character sequence.
+     * @return A matcher of character sequences.
+     */
+    public static <S extends CharSequence> MismatchDescribingMatcher<S> containsPattern(String regex) {
+        return containsPattern(regex, 0);
+    }
+
+    /**
+     * Matches character sequences that contain a match of a regular expression, compiled with the provided
+     * flags, e.g. <code>Pattern.MULTILINE</code>.
+     *
+     * @param regex The regular expression. Can't be null.
+     * @param flags The flags of the expression, as accepted by <code>Pattern.compile</code>.
+     * @param <S> The type of the character sequence.
+     * @return A matcher of character sequences.
+     */
+    public static <S extends CharSequence> MismatchDescribingMatcher<S> containsPattern(String regex, int flags) {
+        assert regex != null : "Regex can't be null";
+
+        final Pattern pattern = PatternCache.shared().get(regex, flags);
+
+        return DescribingMatchers.describing(
+                sequence -> pattern.matcher(sequence).find(),
+                sequence -> BasicDescription.from("no match of pattern ").appendValue(regex)
+                        .appendText(" in " + sequence.length() + " characters"));
+    }
+
+    /**
+     * Matches character sequences that contain another sequence of characters.
+     *
+     * @param subSequence The sequence to find. Can't be null or empty.
+     * @param <S> The type of the character sequence.
+     * @return A matcher of character sequences.
+     */
+    public static <S extends CharSequence> MismatchDescribingMatcher<S> containsSequence(CharSequence subSequence) {
+        assert subSequence != null && subSequence.length() > 0 : "Sub-sequence can't be null or empty";
+
+        final String literal = subSequence.toString();
+        final Pattern pattern = PatternCache.shared().get(literal, Pattern.LITERAL);
+
+        return DescribingMatchers.describing(
+                sequence -> pattern.matcher(sequence).find(),
+                sequence -> BasicDescription.from("no occurrence of ").appendValue(literal)
+                        .appendText(" in " + sequence.length() + " characters"));
+    }
+
+    /**
+     * Matches character sequences that match a regular expression in their entirety.
+     *
+     * @param regex The regular expression. Can't be null.
+     * @param <S> The type of the character sequence.
+     * @return A matcher of character sequences.
+     */
+    public static <S extends CharSequence> MismatchDescribingMatcher<S> matchesPattern(String regex) {
+        assert regex != null : "Regex can't be null";
+
+        final Pattern pattern = PatternCache.shared().get(regex, 0);
+
+        return DescribingMatchers.describing(
+                sequence -> pattern.matcher(sequence).matches(),
+                sequence -> BasicDescription.from("doesn't match pattern ").appendValue(regex));
+    }
+
+}
@@ -1,6 +1,8 @@
 package org.testifj.matchers.core;
 
+import org.testifj.BasicDescription;
 import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
 import org.testifj.Predicate;
 
 import java.util.Collection;
@@ -20,4 +22,45 @@ public final class CollectionThat {
             return false;
         };
     }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E, C extends Collection<? extends E>> MismatchDescribingMatcher<C> containsAll(E... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                collection -> Containment.missing(collection, elements).isEmpty(),
+                collection -> Containment.describeElements("missing elements", Containment.missing(collection, elements)));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E, C extends Collection<? extends E>> MismatchDescribingMatcher<C> containsAny(E... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                collection -> !Containment.present(collection, elements, 1).isEmpty(),
+                collection -> BasicDescription.from("none of ").appendValue(elements).appendText(" is contained"));
+    }
+
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E, C extends Collection<? extends E>> MismatchDescribingMatcher<C> containsNone(E... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                collection -> Containment.present(collection, elements, 1).isEmpty(),
+                collection -> Containment.describeElements("unexpected elements",
+                        Containment.present(collection, elements, Containment.MAXIMUM_REPORTED_ELEMENTS)));
+    }
+
+    /**
+     * Matches a collection that contains the provided elements in any order, with the same number of
+     * occurrences of each element. Equivalent to {@link CollectionThatIs#collectionOfInAnyOrder(Object[])}.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E, C extends Collection<? extends E>> MismatchDescribingMatcher<C> containsExactlyInAnyOrder(E... elements) {
+        return CollectionThatIs.collectionOfInAnyOrder(elements);
+    }
 }
@@ -1,6 +1,8 @@
 package org.testifj.matchers.core;
 
+import org.testifj.MatchResult;
 import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
 import io.recode.annotations.DSL;
 
 import java.util.Collection;
@@ -23,24 +25,35 @@ public final class CollectionThatIs {
     public static <E, T extends Collection<? extends E>> Matcher<T> collectionWithElements(Matcher<E>... matchers) {
         assert matchers != null : "Matchers can't be null";
 
-        return instance -> {
-            if (instance == null) {
-                return false;
+        return new Matcher<T>() {
+            @Override
+            public boolean matches(T instance) {
+                return evaluate(instance).isMatch();
             }
 
-            if (instance.size() != matchers.length) {
-                return false;
-            }
+            /**
+             * Reports the result of the first element matcher that fails, at the index of the element.
+             */
+            @Override
+            public MatchResult evaluate(T instance) {
+                if (instance == null || instance.size() != matchers.length) {
+                    return MatchResult.mismatch(this, instance);
+                }
 
-            int index = 0;
+                int index = 0;
 
-            for (E element : instance) {
-                if (!matchers[index++].matches(element)) {
-                    return false;
+                for (E element : instance) {
+                    final MatchResult result = matchers[index].evaluate(element);
+
+                    if (!result.isMatch()) {
+                        return result.at("[" + index + "]");
+                    }
+
+                    index++;
                 }
-            }
 
-            return true;
+                return MatchResult.match();
+            }
         };
     }
 
@@ -64,4 +77,18 @@ public final class CollectionThatIs {
             return true;
         };
     }
+
+    /**
+     * Matches a collection that contains the provided elements in any order, with the same number of
+     * occurrences of each element. Mismatches describe the missing and surplus elements with their counts.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E, C extends Collection<? extends E>> MismatchDescribingMatcher<C> collectionOfInAnyOrder(E... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                instance -> instance.size() == elements.length && MultisetComparison.matches(elements, instance.iterator()),
+                instance -> MultisetComparison.compare(elements, instance.iterator()).describe());
+    }
 }
@@ -0,0 +1,163 @@
+package org.testifj.matchers.core;
+
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntToLongFunction;
+
+/**
+ * Containment checks shared by {@link org.testifj.matchers.core.ArrayThat} and
+ * {@link org.testifj.matchers.core.CollectionThat}. The expected elements are indexed in a hash set
+ * (a primitive set for primitive arrays), so that a check is linear in the number of actual and expected
+ * elements. Checks that consider element multiplicity sort primitive arrays and merge them instead.
+ */
+final class Containment {
+
+    /**
+     * Maximum number of elements listed in a mismatch description.
+     */
+    static final int MAXIMUM_REPORTED_ELEMENTS = 20;
+
+    private Containment() {
+    }
+
+    // Primitive arrays
+
+    /**
+     * Returns the expected elements (in order of first occurrence) that are missing from the actual elements.
+     */
+    static List<Long> missing(IntToLongFunction actual, int actualLength, long[] expected, LongHashSet expectedSet) {
+        final boolean[] found = new boolean[expectedSet.capacity()];
+        int foundCount = 0;
+
+        for (int i = 0; i < actualLength && foundCount < expectedSet.size(); i++) {
+            final int slot = expectedSet.slotOf(actual.applyAsLong(i));
+
+            if (slot != -1 && !found[slot]) {
+                found[slot] = true;
+                foundCount++;
+            }
+        }
+
+        final List<Long> missing = new ArrayList<>(expectedSet.size() - foundCount);
+
+        for (int i = 0; i < expected.length && missing.size() < expectedSet.size() - foundCount; i++) {
+            final int slot = expectedSet.slotOf(expected[i]);
+
+            if (!found[slot]) {
+                found[slot] = true;
+                missing.add(expected[i]);
+            }
+        }
+
+        return missing;
+    }
+
+    static List<Long> present(IntToLongFunction actual, int actualLength, LongHashSet expected, int limit) {
+        final List<Long> present = new ArrayList<>();
+        final LongHashSet reported = new LongHashSet(Math.min(expected.size(), limit));
+
+        for (int i = 0; i < actualLength && present.size() < limit; i++) {
+            final long element = actual.applyAsLong(i);
+
+            if (expected.contains(element) && reported.add(element)) {
+                present.add(element);
+            }
+        }
+
+        return present;
+    }
+
+    static long[] widen(int[] elements) {
+        final long[] result = new long[elements.length];
+
+        for (int i = 0; i < elements.length; i++) {
+            result[i] = elements[i];
+        }
+
+        return result;
+    }
+
+    static List<Integer> narrow(List<Long> elements) {
+        final List<Integer> result = new ArrayList<>(elements.size());
+
+        for (Long element : elements) {
+            result.add(element.intValue());
+        }
+
+        return result;
+    }
+
+    // Objects
+
+    /**
+     * Returns the expected elements (in order of first occurrence) that are missing from the actual elements.
+     */
+    static List<Object> missing(Iterable<?> actual, Object[] expected) {
+        final Map<Object, Boolean> expectedElements = new LinkedHashMap<>();
+
+        for (Object element : expected) {
+            expectedElements.put(element, Boolean.FALSE);
+        }
+
+        int foundCount = 0;
+
+        for (Object element : actual) {
+            if (foundCount == expectedElements.size()) {
+                break;
+            }
+
+            if (Boolean.FALSE.equals(expectedElements.get(element))) {
+                expectedElements.put(element, Boolean.TRUE);
+                foundCount++;
+            }
+        }
+
+        final List<Object> missing = new ArrayList<>(expectedElements.size() - foundCount);
+
+        for (Map.Entry<Object, Boolean> entry : expectedElements.entrySet()) {
+            if (!entry.getValue()) {
+                missing.add(entry.getKey());
+            }
+        }
+
+        return missing;
+    }
+
+    static List<Object> present(Iterable<?> actual, Object[] expected, int limit) {
+        final Set<Object> expectedElements = new HashSet<>(Arrays.asList(expected));
+        final Set<Object> reported = new HashSet<>();
+        final List<Object> present = new ArrayList<>();
+
+        for (Object element : actual) {
+            if (present.size() == limit) {
+                break;
+            }
+
+            if (expectedElements.contains(element) && reported.add(element)) {
+                present.add(element);
+            }
+        }
+
+        return present;
+    }
+
+    // Descriptions
+
+    static Description describeElements(String label, List<?> elements) {
+        if (elements.size() > MAXIMUM_REPORTED_ELEMENTS) {
+            return BasicDescription.from(label + " ")
+                    .appendValue(elements.subList(0, MAXIMUM_REPORTED_ELEMENTS).toArray())
+                    .appendText(" and " + (elements.size() - MAXIMUM_REPORTED_ELEMENTS) + " more");
+        }
+
+        return BasicDescription.from(label + " ").appendValue(elements.toArray());
+    }
+}
@@ -0,0 +1,37 @@
+package org.testifj.matchers.core;
+
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
+
+import java.util.function.Function;
+
+/**
+ * Creates {@link org.testifj.MismatchDescribingMatcher}s from a matcher and a function that describes a
+ * mismatch. A null instance never matches and is described as such, so that neither function needs to
+ * handle null.
+ */
+final class DescribingMatchers {
+
+    private DescribingMatchers() {
+    }
+
+    static <T> MismatchDescribingMatcher<T> describing(Matcher<T> matcher, Function<T, Description> mismatchDescriber) {
+        return new MismatchDescribingMatcher<T>() {
+            @Override
+            public boolean matches(T instance) {
+                return instance != null && matcher.matches(instance);
+            }
+
+            @Override
+            public Description describeMismatch(T instance) {
+                if (instance == null) {
+                    return BasicDescription.from("value is null");
+                }
+
+                return mismatchDescriber.apply(instance);
+            }
+        };
+    }
+}
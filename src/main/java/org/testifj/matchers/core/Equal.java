@@ -4,43 +4,259 @@ import org.testifj.Matcher;
 import io.recode.annotations.DSL;
 
 import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.List;
 
 @DSL
 public class Equal {
 
+    /**
+     * Index returned by {@link #indexOfFirstMismatch(Object, Object)} for equal arrays.
+     */
+    public static final int NO_MISMATCH = -1;
+
     public static <T> Matcher<T> equal(T expectedInstance) {
-        return otherInstance -> {
-            if (otherInstance == expectedInstance) {
-                return true;
+        return otherInstance -> equal(expectedInstance, otherInstance, null);
+    }
+
+    /**
+     * Returns the index of the first element that differs between two arrays. If one array is a prefix of
+     * the other, the length of the shorter array is returned. Elements are compared as by
+     * {@link #equal(Object)}.
+     *
+     * @param expectedArray The expected array.
+     * @param actualArray The actual array.
+     * @return The index of the first mismatch, or {@link #NO_MISMATCH} if the arrays are equal.
+     */
+    public static int indexOfFirstMismatch(Object expectedArray, Object actualArray) {
+        assert expectedArray != null && expectedArray.getClass().isArray() : "Expected array must be an array";
+        assert actualArray != null && actualArray.getClass().isArray() : "Actual array must be an array";
+
+        if (expectedArray.getClass() == actualArray.getClass() && expectedArray.getClass().getComponentType().isPrimitive()) {
+            return primitiveArrayMismatch(expectedArray, actualArray);
+        }
+
+        return objectArrayMismatch(expectedArray, actualArray, null);
+    }
+
+    private static boolean equal(Object expectedInstance, Object otherInstance, List<Object> comparisonsInProgress) {
+        if (otherInstance == expectedInstance) {
+            return true;
+        }
+
+        if (expectedInstance == null || otherInstance == null) {
+            return false;
+        }
+
+        if (expectedInstance.equals(otherInstance)) {
+            return true;
+        }
+
+        if (!expectedInstance.getClass().isArray() || !otherInstance.getClass().isArray()) {
+            return false;
+        }
+
+        final Class<?> expectedType = expectedInstance.getClass();
+
+        if (expectedType == otherInstance.getClass() && expectedType.getComponentType().isPrimitive()) {
+            return primitiveArrayMismatch(expectedInstance, otherInstance) == NO_MISMATCH;
+        }
+
+        return objectArrayMismatch(expectedInstance, otherInstance, comparisonsInProgress) == NO_MISMATCH;
+    }
+
+    /**
+     * Compares two arrays of the same primitive type without boxing the elements. Elements are compared
+     * as by the corresponding <code>java.util.Arrays.equals</code> method.
+     */
+    private static int primitiveArrayMismatch(Object expectedArray, Object actualArray) {
+        if (expectedArray instanceof int[]) {
+            final int[] expected = (int[]) expectedArray;
+            final int[] actual = (int[]) actualArray;
+            final int length = Math.min(expected.length, actual.length);
+
+            for (int i = 0; i < length; i++) {
+                if (expected[i] != actual[i]) {
+                    return i;
+                }
             }
 
-            if (expectedInstance == null || otherInstance == null) {
-                return false;
+            return lengthMismatch(expected.length, actual.length);
+        }
+
+        if (expectedArray instanceof long[]) {
+            final long[] expected = (long[]) expectedArray;
+            final long[] actual = (long[]) actualArray;
+            final int length = Math.min(expected.length, actual.length);
+
+            for (int i = 0; i < length; i++) {
+                if (expected[i] != actual[i]) {
+                    return i;
+                }
             }
 
-            if (expectedInstance.equals(otherInstance)) {
-                return true;
+            return lengthMismatch(expected.length, actual.length);
+        }
+
+        if (expectedArray instanceof byte[]) {
+            final byte[] expected = (byte[]) expectedArray;
+            final byte[] actual = (byte[]) actualArray;
+            final int length = Math.min(expected.length, actual.length);
+
+            for (int i = 0; i < length; i++) {
+                if (expected[i] != actual[i]) {
+                    return i;
+                }
+            }
+
+            return lengthMismatch(expected.length, actual.length);
+        }
+
+        if (expectedArray instanceof double[]) {
+            final double[] expected = (double[]) expectedArray;
+            final double[] actual = (double[]) actualArray;
+            final int length = Math.min(expected.length, actual.length);
+
+            for (int i = 0; i < length; i++) {
+                if (Double.doubleToLongBits(expected[i]) != Double.doubleToLongBits(actual[i])) {
+                    return i;
+                }
+            }
+
+            return lengthMismatch(expected.length, actual.length);
+        }
+
+        if (expectedArray instanceof float[]) {
+            final float[] expected = (float[]) expectedArray;
+            final float[] actual = (float[]) actualArray;
+            final int length = Math.min(expected.length, actual.length);
+
+            for (int i = 0; i < length; i++) {
+                if (Float.floatToIntBits(expected[i]) != Float.floatToIntBits(actual[i])) {
+                    return i;
+                }
             }
 
-            if (expectedInstance.getClass().isArray()) {
-                final int expectedLength = Array.getLength(expectedInstance);
-                final int actualLength = Array.getLength(otherInstance);
+            return lengthMismatch(expected.length, actual.length);
+        }
+
+        if (expectedArray instanceof char[]) {
+            final char[] expected = (char[]) expectedArray;
+            final char[] actual = (char[]) actualArray;
+            final int length = Math.min(expected.length, actual.length);
 
-                if (expectedLength != actualLength) {
-                    return false;
+            for (int i = 0; i < length; i++) {
+                if (expected[i] != actual[i]) {
+                    return i;
                 }
+            }
+
+            return lengthMismatch(expected.length, actual.length);
+        }
+
+        if (expectedArray instanceof short[]) {
+            final short[] expected = (short[]) expectedArray;
+            final short[] actual = (short[]) actualArray;
+            final int length = Math.min(expected.length, actual.length);
+
+            for (int i = 0; i < length; i++) {
+                if (expected[i] != actual[i]) {
+                    return i;
+                }
+            }
+
+            return lengthMismatch(expected.length, actual.length);
+        }
+
+        final boolean[] expected = (boolean[]) expectedArray;
+        final boolean[] actual = (boolean[]) actualArray;
+        final int length = Math.min(expected.length, actual.length);
+
+        for (int i = 0; i < length; i++) {
+            if (expected[i] != actual[i]) {
+                return i;
+            }
+        }
+
+        return lengthMismatch(expected.length, actual.length);
+    }
+
+    /**
+     * Compares two arrays element by element, where at least one of the arrays is an object array or the
+     * arrays are of different primitive types (in which case the elements are boxed). Nested arrays are
+     * compared recursively. A pair of arrays that is already being compared further up the stack (i.e. a
+     * cycle) is considered equal, so that cyclic arrays are compared by structure rather than overflowing
+     * the stack.
+     */
+    private static int objectArrayMismatch(Object expectedArray, Object actualArray, List<Object> comparisonsInProgress) {
+        if (comparisonsInProgress != null && isInProgress(comparisonsInProgress, expectedArray, actualArray)) {
+            return NO_MISMATCH;
+        }
+
+        final int expectedLength = Array.getLength(expectedArray);
+        final int actualLength = Array.getLength(actualArray);
+        final int length = Math.min(expectedLength, actualLength);
+
+        if (expectedArray instanceof Object[] && actualArray instanceof Object[]) {
+            final Object[] expected = (Object[]) expectedArray;
+            final Object[] actual = (Object[]) actualArray;
 
-                for (int i = 0; i < expectedLength; i++) {
-                    if (!equal(Array.get(expectedInstance, i)).matches(Array.get(otherInstance, i))) {
-                        return false;
+            for (int i = 0; i < length; i++) {
+                final Object expectedElement = expected[i];
+                final Object actualElement = actual[i];
+
+                if (expectedElement == actualElement || (expectedElement != null && expectedElement.equals(actualElement))) {
+                    continue;
+                }
+
+                if (expectedElement != null && actualElement != null
+                        && expectedElement.getClass().isArray() && actualElement.getClass().isArray()) {
+                    if (comparisonsInProgress == null) {
+                        comparisonsInProgress = new ArrayList<>();
+                    }
+
+                    comparisonsInProgress.add(expectedArray);
+                    comparisonsInProgress.add(actualArray);
+
+                    final boolean elementsEqual = equal(expectedElement, actualElement, comparisonsInProgress);
+
+                    comparisonsInProgress.remove(comparisonsInProgress.size() - 1);
+                    comparisonsInProgress.remove(comparisonsInProgress.size() - 1);
+
+                    if (elementsEqual) {
+                        continue;
                     }
                 }
 
+                return i;
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (!equal(Array.get(expectedArray, i), Array.get(actualArray, i), comparisonsInProgress)) {
+                    return i;
+                }
+            }
+        }
+
+        return lengthMismatch(expectedLength, actualLength);
+    }
+
+    /**
+     * Checks whether a pair of arrays is being compared, by identity. Pairs are stored as consecutive
+     * elements.
+     */
+    private static boolean isInProgress(List<Object> comparisonsInProgress, Object expectedArray, Object actualArray) {
+        for (int i = 0; i < comparisonsInProgress.size(); i += 2) {
+            if (comparisonsInProgress.get(i) == expectedArray && comparisonsInProgress.get(i + 1) == actualArray) {
                 return true;
             }
+        }
 
-            return false;
-        };
+        return false;
+    }
+
+    private static int lengthMismatch(int expectedLength, int actualLength) {
+        return expectedLength == actualLength ? NO_MISMATCH : Math.min(expectedLength, actualLength);
     }
 
 }
@@ -0,0 +1,376 @@
+package org.testifj.matchers.core;
+
+import io.recode.annotations.DSL;
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+import org.testifj.MatchResult;
+import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+
+/**
+ * Matchers of futures. The <code>completed</code> matchers inspect futures that are already done and never
+ * block. The <code>completesWithin</code> matchers wait for completion until a deadline; completion of a
+ * <code>CompletableFuture</code> is awaited through a callback, so that any number of futures can be
+ * awaited with a single wait. If futures don't complete in time, the mismatch includes the stacks of the
+ * threads that are still busy, typically the executor threads running the tasks of the futures.
+ */
+@DSL
+public final class FutureThatIs {
+
+    /**
+     * Matches futures that have completed normally with a value matching the provided matcher.
+     *
+     * @param matcher The matcher of the value. Can't be null.
+     * @param <T> The type of the value.
+     * @param <F> The type of the future.
+     * @return A matcher of futures.
+     */
+    public static <T, F extends Future<T>> MismatchDescribingMatcher<F> completedWith(Matcher<? super T> matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return describing(future -> {
+            final Completion completion = Completion.of(future);
+
+            if (completion.hasValue()) {
+                return valueMismatch(matcher, completion.getValue());
+            }
+
+            return completion.describe();
+        });
+    }
+
+    /**
+     * Matches futures that have completed exceptionally with an exception of the provided type. Exceptions
+     * are unwrapped from <code>ExecutionException</code> and <code>CompletionException</code>.
+     *
+     * @param exceptionType The type of the exception. Can't be null.
+     * @param <F> The type of the future.
+     * @return A matcher of futures.
+     */
+    public static <F extends Future<?>> MismatchDescribingMatcher<F> completedExceptionally(Class<? extends Throwable> exceptionType) {
+        assert exceptionType != null : "Exception type can't be null";
+
+        return completedExceptionally(exception -> exceptionType.isInstance(exception));
+    }
+
+    /**
+     * Matches futures that have completed exceptionally with an exception matching the provided matcher.
+     *
+     * @param matcher The matcher of the exception. Can't be null.
+     * @param <F> The type of the future.
+     * @return A matcher of futures.
+     */
+    public static <F extends Future<?>> MismatchDescribingMatcher<F> completedExceptionally(Matcher<? super Throwable> matcher) {
+        assert matcher != null : "Matcher can't be null";
+
+        return describing(future -> {
+            final Completion completion = Completion.of(future);
+
+            if (completion.getException() != null) {
+                return matcher.matches(completion.getException()) ? null
+                        : BasicDescription.from("future completed exceptionally with ").appendValue(completion.getException());
+            }
+
+            if (completion.hasValue()) {
+                return BasicDescription.from("future completed with ").appendValue(completion.getValue());
+            }
+
+            return completion.describe();
+        });
+    }
+
+    /**
+     * Matches futures that complete, normally or exceptionally, within the provided time.
+     *
+     * @param timeout The maximum time to wait for completion.
+     * @param unit The unit of the timeout. Can't be null.
+     * @param <F> The type of the future.
+     * @return A matcher of futures.
+     */
+    public static <F extends Future<?>> MismatchDescribingMatcher<F> completesWithin(long timeout, TimeUnit unit) {
+        assert timeout >= 0 : "Timeout can't be negative";
+        assert unit != null : "Unit can't be null";
+
+        return describing(future -> await(future, unit.toNanos(timeout)) ? null : describeTimeout(timeout, unit));
+    }
+
+    /**
+     * Matches futures that complete normally within the provided time with a value matching the provided
+     * matcher.
+     *
+     * @param timeout The maximum time to wait for completion.
+     * @param unit The unit of the timeout. Can't be null.
+     * @param matcher The matcher of the value. Can't be null.
+     * @param <T> The type of the value.
+     * @param <F> The type of the future.
+     * @return A matcher of futures.
+     */
+    public static <T, F extends Future<T>> MismatchDescribingMatcher<F> completesWithin(long timeout, TimeUnit unit, Matcher<? super T> matcher) {
+        assert timeout >= 0 : "Timeout can't be negative";
+        assert unit != null : "Unit can't be null";
+        assert matcher != null : "Matcher can't be null";
+
+        final MismatchDescribingMatcher<F> completedWith = completedWith(matcher);
+
+        return describing(future -> {
+            if (!await(future, unit.toNanos(timeout))) {
+                return describeTimeout(timeout, unit);
+            }
+
+            return completedWith.matches(future) ? null : completedWith.describeMismatch(future);
+        });
+    }
+
+    /**
+     * Matches collections of futures that all complete within the provided time, measured from the start of
+     * the match. Completion of <code>CompletableFuture</code>s is awaited through callbacks with a single wait
+     * for all futures, so that thousands of futures can be verified at once.
+     *
+     * @param timeout The maximum time to wait for all futures to complete.
+     * @param unit The unit of the timeout. Can't be null.
+     * @param <C> The type of the collection.
+     * @return A matcher of collections of futures.
+     */
+    public static <C extends Collection<? extends Future<?>>> MismatchDescribingMatcher<C> allCompleteWithin(long timeout, TimeUnit unit) {
+        assert timeout >= 0 : "Timeout can't be negative";
+        assert unit != null : "Unit can't be null";
+
+        return describing(futures -> {
+            awaitAll(futures, unit.toNanos(timeout));
+
+            final List<Integer> incomplete = new ArrayList<>();
+            int index = 0;
+
+            for (Future<?> future : futures) {
+                if (!future.isDone()) {
+                    incomplete.add(index);
+                }
+
+                index++;
+            }
+
+            if (incomplete.isEmpty()) {
+                return null;
+            }
+
+            return BasicDescription.from(incomplete.size() + " of " + futures.size() + " futures didn't complete within " + describeTime(timeout, unit) + ", ")
+                    .appendDescription(Containment.describeElements("at indices", incomplete))
+                    .appendText("; ")
+                    .appendDescription(ThreadDumps.describeBusyThreads());
+        });
+    }
+
+    /**
+     * Waits for a future to complete. Returns whether the future has completed.
+     */
+    private static boolean await(Future<?> future, long timeoutNanos) {
+        if (future.isDone()) {
+            return true;
+        }
+
+        try {
+            if (future instanceof CompletableFuture) {
+                final CountDownLatch latch = new CountDownLatch(1);
+
+                ((CompletableFuture<?>) future).whenComplete((value, exception) -> latch.countDown());
+
+                return latch.await(timeoutNanos, TimeUnit.NANOSECONDS);
+            }
+
+            future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (TimeoutException e) {
+            return false;
+        } catch (ExecutionException | CancellationException e) {
+            // Completed exceptionally
+        }
+
+        return true;
+    }
+
+    /**
+     * Waits for futures to complete until a common deadline. Completable futures count down a shared latch
+     * on completion; other futures are waited for one at a time.
+     */
+    private static void awaitAll(Collection<? extends Future<?>> futures, long timeoutNanos) {
+        final long deadline = System.nanoTime() + timeoutNanos;
+        final List<CompletableFuture<?>> pending = new ArrayList<>();
+        final List<Future<?>> pendingNonCompletable = new ArrayList<>();
+
+        for (Future<?> future : futures) {
+            if (future.isDone()) {
+                continue;
+            }
+
+            if (future instanceof CompletableFuture) {
+                pending.add((CompletableFuture<?>) future);
+            } else {
+                pendingNonCompletable.add(future);
+            }
+        }
+
+        if (!pending.isEmpty()) {
+            final CountDownLatch latch = new CountDownLatch(pending.size());
+
+            for (CompletableFuture<?> future : pending) {
+                future.whenComplete((value, exception) -> latch.countDown());
+            }
+
+            try {
+                latch.await(timeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        for (Future<?> future : pendingNonCompletable) {
+            final long remainingNanos = deadline - System.nanoTime();
+
+            if (remainingNanos <= 0 || !await(future, remainingNanos)) {
+                return;
+            }
+        }
+    }
+
+    private static Description describeTimeout(long timeout, TimeUnit unit) {
+        return BasicDescription.from("future didn't complete within " + describeTime(timeout, unit) + "; ")
+                .appendDescription(ThreadDumps.describeBusyThreads());
+    }
+
+    private static String describeTime(long timeout, TimeUnit unit) {
+        return timeout + " " + unit.name().toLowerCase();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Description valueMismatch(Matcher<?> matcher, Object value) {
+        final Matcher<Object> valueMatcher = (Matcher<Object>) matcher;
+
+        if (valueMatcher.matches(value)) {
+            return null;
+        }
+
+        final Description description = BasicDescription.from("future completed with ").appendValue(value);
+
+        if (valueMatcher instanceof MismatchDescribingMatcher) {
+            return description
+                    .appendText(" (")
+                    .appendDescription(((MismatchDescribingMatcher<Object>) valueMatcher).describeMismatch(value))
+                    .appendText(")");
+        }
+
+        return description;
+    }
+
+    /**
+     * Creates a matcher from a function that describes the mismatch of an instance, or returns null if the
+     * instance matches. Since the state of a future changes over time, the result of
+     * {@link org.testifj.Matcher#evaluate(Object)} includes the description of the mismatch it observed.
+     */
+    private static <T> MismatchDescribingMatcher<T> describing(Function<T, Description> mismatch) {
+        return new MismatchDescribingMatcher<T>() {
+            @Override
+            public boolean matches(T instance) {
+                return evaluate(instance).isMatch();
+            }
+
+            @Override
+            public MatchResult evaluate(T instance) {
+                final Description description = (instance == null ? BasicDescription.from("value is null") : mismatch.apply(instance));
+
+                if (description == null) {
+                    return MatchResult.match();
+                }
+
+                return MatchResult.mismatch(this, instance, description);
+            }
+
+            @Override
+            public Description describeMismatch(T instance) {
+                final Description description = (instance == null ? BasicDescription.from("value is null") : mismatch.apply(instance));
+
+                return description == null ? BasicDescription.from("future matches") : description;
+            }
+        };
+    }
+
+    /**
+     * The state of a future, determined without blocking.
+     */
+    private static final class Completion {
+
+        private final boolean done;
+
+        private final boolean cancelled;
+
+        private final Object value;
+
+        private final Throwable exception;
+
+        private Completion(boolean done, boolean cancelled, Object value, Throwable exception) {
+            this.done = done;
+            this.cancelled = cancelled;
+            this.value = value;
+            this.exception = exception;
+        }
+
+        static Completion of(Future<?> future) {
+            if (!future.isDone()) {
+                return new Completion(false, false, null, null);
+            }
+
+            try {
+                return new Completion(true, false, future.get(), null);
+            } catch (CancellationException e) {
+                return new Completion(true, true, null, null);
+            } catch (ExecutionException e) {
+                return new Completion(true, false, null, e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new Completion(false, false, null, null);
+            }
+        }
+
+        boolean hasValue() {
+            return done && !cancelled && exception == null;
+        }
+
+        Object getValue() {
+            return value;
+        }
+
+        Throwable getException() {
+            return exception;
+        }
+
+        Description describe() {
+            if (!done) {
+                return BasicDescription.from("future is not completed");
+            }
+
+            if (cancelled) {
+                return BasicDescription.from("future was cancelled");
+            }
+
+            if (exception != null) {
+                return BasicDescription.from("future completed exceptionally with ").appendValue(exception);
+            }
+
+            return BasicDescription.from("future completed with ").appendValue(value);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.testifj.matchers.core;
+
+import io.recode.annotations.DSL;
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+import org.testifj.LatencyHistogram;
+import org.testifj.LongMatcher;
+import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Matchers of latency histograms, which compare the value at a percentile with a matcher of numbers, e.g.
+ * <code>expect(histogram).toBe(histogramThat(p99(), lessThan(ms(5))))</code>. Latencies are expressed in
+ * nanoseconds; {@link #us(long)} and {@link #ms(long)} convert budgets to nanoseconds. If the histogram
+ * doesn't match, the mismatch includes a table of the values at common percentiles.
+ */
+@DSL
+public final class HistogramThat {
+
+    /**
+     * Matches histograms whose value at the provided percentile matches the provided matcher.
+     *
+     * @param percentile The percentile whose value is matched. Can't be null.
+     * @param matcher The matcher of the value, in nanoseconds. Can't be null.
+     * @return A matcher of histograms.
+     */
+    public static MismatchDescribingMatcher<LatencyHistogram> histogramThat(Percentile percentile, Matcher<? super Long> matcher) {
+        assert percentile != null : "Percentile can't be null";
+        assert matcher != null : "Matcher can't be null";
+
+        return DescribingMatchers.describing(
+                histogram -> matchesValue(matcher, histogram.getValueAtPercentile(percentile.getValue())),
+                histogram -> BasicDescription.from(percentile + " is ")
+                        .appendText(LatencyHistogram.formatNanos(histogram.getValueAtPercentile(percentile.getValue())))
+                        .appendText("; ")
+                        .appendDescription(histogram.describe()));
+    }
+
+    public static Percentile median() {
+        return p50();
+    }
+
+    public static Percentile p50() {
+        return percentile(50);
+    }
+
+    public static Percentile p90() {
+        return percentile(90);
+    }
+
+    public static Percentile p99() {
+        return percentile(99);
+    }
+
+    public static Percentile p999() {
+        return percentile(99.9);
+    }
+
+    public static Percentile maximum() {
+        return percentile(100);
+    }
+
+    /**
+     * Returns the provided percentile.
+     *
+     * @param value The percentile, greater than 0 and at most 100.
+     * @return The percentile.
+     */
+    public static Percentile percentile(double value) {
+        assert value > 0 && value <= 100 : "Percentile must be in (0, 100]";
+
+        return new Percentile(value);
+    }
+
+    public static long us(long microseconds) {
+        return TimeUnit.MICROSECONDS.toNanos(microseconds);
+    }
+
+    public static long ms(long milliseconds) {
+        return TimeUnit.MILLISECONDS.toNanos(milliseconds);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean matchesValue(Matcher<? super Long> matcher, long value) {
+        if (matcher instanceof LongMatcher) {
+            return ((LongMatcher) matcher).matches(value);
+        }
+
+        return ((Matcher<Long>) matcher).matches(value);
+    }
+
+    /**
+     * A percentile of the values of a histogram.
+     */
+    public static final class Percentile {
+
+        private final double value;
+
+        private Percentile(double value) {
+            this.value = value;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            return Double.compare(((Percentile) o).value, value) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return Double.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            if (value == 100) {
+                return "maximum";
+            }
+
+            return (value == Math.rint(value) ? "p" + (long) value : "p" + value);
+        }
+    }
+
+}
@@ -1,46 +1,46 @@
 package org.testifj.matchers.core;
 
-import org.testifj.Matcher;
+import org.testifj.IntMatcher;
 
 public class IntegerThatIs {
 
-    public static Matcher<Integer> negative() {
-        return value -> value != null && value < 0;
+    public static IntMatcher negative() {
+        return value -> value < 0;
     }
 
-    public static Matcher<Integer> positive() {
-        return value -> value != null && value >= 0;
+    public static IntMatcher positive() {
+        return value -> value >= 0;
     }
 
-    public static Matcher<Integer> natural() {
-        return value -> value != null && value > 0;
+    public static IntMatcher natural() {
+        return value -> value > 0;
     }
 
-    public static Matcher<Integer> even() {
-        return value -> value != null && value % 2 == 0;
+    public static IntMatcher even() {
+        return value -> value % 2 == 0;
     }
 
-    public static Matcher<Integer> odd() {
-        return value -> value != null && value != 0 && Math.abs(value) % 2 == 1;
+    public static IntMatcher odd() {
+        return value -> value != 0 && Math.abs(value) % 2 == 1;
     }
 
-    public static Matcher<Integer> greaterThan(int minValue) {
-        return value -> value != null && value > minValue;
+    public static IntMatcher greaterThan(int minValue) {
+        return value -> value > minValue;
     }
 
-    public static Matcher<Integer> atLeast(int minValue) {
-        return value -> value != null && value >= minValue;
+    public static IntMatcher atLeast(int minValue) {
+        return value -> value >= minValue;
     }
 
-    public static Matcher<Integer> lessThan(int minValue) {
-        return value -> value != null && value < minValue;
+    public static IntMatcher lessThan(int minValue) {
+        return value -> value < minValue;
     }
 
-    public static Matcher<Integer> atMost(int maxValue) {
-        return value -> value != null && value <= maxValue;
+    public static IntMatcher atMost(int maxValue) {
+        return value -> value <= maxValue;
     }
 
-    public static Matcher<Integer> between(int min, int max) {
-        return value -> value != null && value >= min && value <= max;
+    public static IntMatcher between(int min, int max) {
+        return value -> value >= min && value <= max;
     }
 }
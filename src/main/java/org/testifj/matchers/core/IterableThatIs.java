@@ -1,6 +1,7 @@
 package org.testifj.matchers.core;
 
 import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
 
 import java.util.Objects;
 
@@ -31,4 +32,19 @@ public final class IterableThatIs {
         };
     }
 
+    /**
+     * Matches an iterable that provides the specified elements in any order, with the same number of
+     * occurrences of each element. The iterable is traversed once to match it and once more to describe a
+     * mismatch.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static <E, I extends Iterable<E>> MismatchDescribingMatcher<I> iterableOfInAnyOrder(E... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return DescribingMatchers.describing(
+                iterable -> MultisetComparison.matches(elements, iterable.iterator()),
+                iterable -> MultisetComparison.compare(elements, iterable.iterator()).describe());
+    }
+
 }
@@ -1,6 +1,10 @@
 package org.testifj.matchers.core;
 
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+import org.testifj.MatchResult;
 import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
 
 import java.util.Iterator;
 import java.util.Objects;
@@ -47,4 +51,41 @@ public final class IteratorThatIs {
         };
     }
 
+    /**
+     * Matches an iterator that provides the specified elements in any order, with the same number of
+     * occurrences of each element. Since the iterator is exhausted by the match, a mismatch is described
+     * by the result of {@link org.testifj.Matcher#evaluate(Object)}, which traverses the iterator once.
+     */
+    @SafeVarargs
+    public static <T, I extends Iterator<T>> MismatchDescribingMatcher<I> iteratorOfInAnyOrder(T ... elements) {
+        assert elements != null : "Elements can't be null";
+
+        return new MismatchDescribingMatcher<I>() {
+            @Override
+            public boolean matches(I instance) {
+                return instance != null && MultisetComparison.matches(elements, instance);
+            }
+
+            @Override
+            public MatchResult evaluate(I instance) {
+                if (instance == null) {
+                    return MatchResult.mismatch(this, null, BasicDescription.from("value is null"));
+                }
+
+                final MultisetComparison comparison = MultisetComparison.compare(elements, instance);
+
+                return comparison.isEqual() ? MatchResult.match() : MatchResult.mismatch(this, instance, comparison.describe());
+            }
+
+            @Override
+            public Description describeMismatch(I instance) {
+                if (instance == null) {
+                    return BasicDescription.from("value is null");
+                }
+
+                return MultisetComparison.compare(elements, instance).describe();
+            }
+        };
+    }
+
 }
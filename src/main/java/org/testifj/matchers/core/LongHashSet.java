@@ -0,0 +1,113 @@
+package org.testifj.matchers.core;
+
+/**
+ * Open addressing hash set of primitive <code>long</code> values, used to look up elements of primitive
+ * arrays without boxing. Every element is assigned a slot, which remains stable after the set has been
+ * built, so that callers can associate state with the elements through {@link #slotOf(long)}.
+ */
+final class LongHashSet {
+
+    private final long[] values;
+
+    private final boolean[] occupied;
+
+    private final int mask;
+
+    private final int shift;
+
+    private int size;
+
+    LongHashSet(int expectedSize) {
+        int capacity = 8;
+
+        while (capacity < expectedSize * 4) {
+            capacity <<= 1;
+        }
+
+        this.values = new long[capacity];
+        this.occupied = new boolean[capacity];
+        this.mask = capacity - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+    }
+
+    static LongHashSet of(int[] elements) {
+        final LongHashSet set = new LongHashSet(elements.length);
+
+        for (int element : elements) {
+            set.add(element);
+        }
+
+        return set;
+    }
+
+    static LongHashSet of(long[] elements) {
+        final LongHashSet set = new LongHashSet(elements.length);
+
+        for (long element : elements) {
+            set.add(element);
+        }
+
+        return set;
+    }
+
+    boolean add(long value) {
+        for (int slot = slotFor(value); ; slot = (slot + 1) & mask) {
+            if (!occupied[slot]) {
+                occupied[slot] = true;
+                values[slot] = value;
+                size++;
+
+                return true;
+            }
+
+            if (values[slot] == value) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Returns the slot of a value, or -1 if the value is not in the set.
+     */
+    int slotOf(long value) {
+        for (int slot = slotFor(value); occupied[slot]; slot = (slot + 1) & mask) {
+            if (values[slot] == value) {
+                return slot;
+            }
+        }
+
+        return -1;
+    }
+
+    boolean contains(long value) {
+        return slotOf(value) != -1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of slots, i.e. the exclusive upper bound of slots returned by {@link #slotOf(long)}.
+     */
+    int capacity() {
+        return values.length;
+    }
+
+    long valueAt(int slot) {
+        assert occupied[slot] : "Slot is not occupied";
+        return values[slot];
+    }
+
+    boolean isOccupied(int slot) {
+        return occupied[slot];
+    }
+
+    /**
+     * Returns the home slot of a value, using the high bits of the product with the golden ratio
+     * (Fibonacci hashing), which spreads arithmetic progressions of values across the table.
+     */
+    private int slotFor(long value) {
+        return (int) ((value * 0x9e3779b97f4a7c15L) >>> shift);
+    }
+}
@@ -0,0 +1,164 @@
+package org.testifj.matchers.core;
+
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongFunction;
+
+/**
+ * Compares a sequence of actual elements with expected elements irrespective of order, considering the
+ * number of occurrences of each element. Occurrences of the expected elements are counted in a hash map
+ * of mutable <code>int</code> counters (so that counting doesn't box), which the actual elements are then
+ * subtracted from. No element is copied or sorted. Primitive elements are instead compared by merging
+ * sorted arrays, and only the missing and surplus elements are boxed.
+ */
+final class MultisetComparison {
+
+    private static final int MAXIMUM_REPORTED_ELEMENTS = Containment.MAXIMUM_REPORTED_ELEMENTS;
+
+    private final Map<Object, int[]> missing;
+
+    private final Map<Object, int[]> surplus;
+
+    private MultisetComparison(Map<Object, int[]> missing, Map<Object, int[]> surplus) {
+        this.missing = missing;
+        this.surplus = surplus;
+    }
+
+    /**
+     * Checks whether the actual elements are a permutation of the expected elements. Stops at the first
+     * surplus element.
+     */
+    static boolean matches(Object[] expected, Iterator<?> actual) {
+        final Map<Object, int[]> counts = count(expected, new HashMap<>());
+        int remaining = expected.length;
+
+        while (actual.hasNext()) {
+            final int[] count = counts.get(actual.next());
+
+            if (count == null || count[0] == 0) {
+                return false;
+            }
+
+            count[0]--;
+            remaining--;
+        }
+
+        return remaining == 0;
+    }
+
+    /**
+     * Compares all actual elements with the expected elements. Missing and surplus elements are retained
+     * in order of first occurrence.
+     */
+    static MultisetComparison compare(Object[] expected, Iterator<?> actual) {
+        final Map<Object, int[]> counts = count(expected, new LinkedHashMap<>());
+        final Map<Object, int[]> surplus = new LinkedHashMap<>();
+
+        while (actual.hasNext()) {
+            final Object element = actual.next();
+            final int[] count = counts.get(element);
+
+            if (count == null || count[0] == 0) {
+                surplus.computeIfAbsent(element, e -> new int[1])[0]++;
+            } else {
+                count[0]--;
+            }
+        }
+
+        counts.values().removeIf(count -> count[0] == 0);
+
+        return new MultisetComparison(counts, surplus);
+    }
+
+    /**
+     * Compares two sorted arrays of primitive elements by merging them. Missing and surplus elements are
+     * retained in ascending order, boxed through the provided function.
+     */
+    static MultisetComparison compare(long[] sortedExpected, long[] sortedActual, LongFunction<?> boxing) {
+        final Map<Object, int[]> missing = new LinkedHashMap<>();
+        final Map<Object, int[]> surplus = new LinkedHashMap<>();
+
+        int i = 0;
+        int j = 0;
+
+        while (i < sortedExpected.length || j < sortedActual.length) {
+            if (j == sortedActual.length || (i < sortedExpected.length && sortedExpected[i] < sortedActual[j])) {
+                missing.computeIfAbsent(boxing.apply(sortedExpected[i++]), e -> new int[1])[0]++;
+            } else if (i == sortedExpected.length || sortedActual[j] < sortedExpected[i]) {
+                surplus.computeIfAbsent(boxing.apply(sortedActual[j++]), e -> new int[1])[0]++;
+            } else {
+                i++;
+                j++;
+            }
+        }
+
+        return new MultisetComparison(missing, surplus);
+    }
+
+    boolean isEqual() {
+        return missing.isEmpty() && surplus.isEmpty();
+    }
+
+    Map<Object, int[]> getMissing() {
+        return missing;
+    }
+
+    Map<Object, int[]> getSurplus() {
+        return surplus;
+    }
+
+    /**
+     * Describes the missing and surplus elements with their counts, e.g.
+     * <code>missing "a" x 2; surplus "b" x 1</code>.
+     */
+    Description describe() {
+        Description description = new BasicDescription();
+
+        if (!missing.isEmpty()) {
+            description = describeCounts(description.appendText("missing "), missing);
+        }
+
+        if (!surplus.isEmpty()) {
+            description = describeCounts(description.appendText(missing.isEmpty() ? "surplus " : "; surplus "), surplus);
+        }
+
+        return description;
+    }
+
+    private static Description describeCounts(Description description, Map<Object, int[]> counts) {
+        int index = 0;
+
+        for (Map.Entry<Object, int[]> entry : counts.entrySet()) {
+            if (index == MAXIMUM_REPORTED_ELEMENTS) {
+                return description.appendText(" and " + (counts.size() - index) + " more");
+            }
+
+            if (index++ > 0) {
+                description = description.appendText(", ");
+            }
+
+            description = description.appendValue(entry.getKey()).appendText(" x " + entry.getValue()[0]);
+        }
+
+        return description;
+    }
+
+    private static Map<Object, int[]> count(Object[] elements, Map<Object, int[]> counts) {
+        for (Object element : elements) {
+            final int[] count = counts.get(element);
+
+            if (count == null) {
+                counts.put(element, new int[]{1});
+            } else {
+                count[0]++;
+            }
+        }
+
+        return counts;
+    }
+}
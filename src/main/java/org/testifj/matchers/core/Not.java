@@ -1,11 +1,29 @@
 package org.testifj.matchers.core;
 
+import org.testifj.BasicDescription;
+import org.testifj.MatchResult;
 import org.testifj.Matcher;
 
 public final class Not {
 
     public static <T> Matcher<T> not(Matcher<T> matcher) {
-        return t -> !matcher.matches(t);
+        assert matcher != null : "Matcher can't be null";
+
+        return new Matcher<T>() {
+            @Override
+            public boolean matches(T instance) {
+                return !matcher.matches(instance);
+            }
+
+            @Override
+            public MatchResult evaluate(T instance) {
+                if (matches(instance)) {
+                    return MatchResult.match();
+                }
+
+                return MatchResult.mismatch(this, instance, new BasicDescription().appendValue(instance).appendText(" matches the negated matcher"));
+            }
+        };
     }
 
 }
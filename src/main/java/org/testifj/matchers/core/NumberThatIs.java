@@ -1,5 +1,8 @@
 package org.testifj.matchers.core;
 
+import org.testifj.DoubleMatcher;
+import org.testifj.IntMatcher;
+import org.testifj.LongMatcher;
 import org.testifj.Matcher;
 import io.recode.annotations.DSL;
 
@@ -25,4 +28,64 @@ public class NumberThatIs {
     public static<T extends Number & Comparable<T>> Matcher<T> between(T min, T max) {
         return value -> value != null && value.compareTo(min) >= 0 && value.compareTo(max) <= 0;
     }
+
+    public static IntMatcher greaterThan(int other) {
+        return value -> value > other;
+    }
+
+    public static IntMatcher atLeast(int other) {
+        return value -> value >= other;
+    }
+
+    public static IntMatcher lessThan(int other) {
+        return value -> value < other;
+    }
+
+    public static IntMatcher atMost(int other) {
+        return value -> value <= other;
+    }
+
+    public static IntMatcher between(int min, int max) {
+        return value -> value >= min && value <= max;
+    }
+
+    public static LongMatcher greaterThan(long other) {
+        return value -> value > other;
+    }
+
+    public static LongMatcher atLeast(long other) {
+        return value -> value >= other;
+    }
+
+    public static LongMatcher lessThan(long other) {
+        return value -> value < other;
+    }
+
+    public static LongMatcher atMost(long other) {
+        return value -> value <= other;
+    }
+
+    public static LongMatcher between(long min, long max) {
+        return value -> value >= min && value <= max;
+    }
+
+    public static DoubleMatcher greaterThan(double other) {
+        return value -> Double.compare(value, other) > 0;
+    }
+
+    public static DoubleMatcher atLeast(double other) {
+        return value -> Double.compare(value, other) >= 0;
+    }
+
+    public static DoubleMatcher lessThan(double other) {
+        return value -> Double.compare(value, other) < 0;
+    }
+
+    public static DoubleMatcher atMost(double other) {
+        return value -> Double.compare(value, other) <= 0;
+    }
+
+    public static DoubleMatcher between(double min, double max) {
+        return value -> Double.compare(value, min) >= 0 && Double.compare(value, max) <= 0;
+    }
 }
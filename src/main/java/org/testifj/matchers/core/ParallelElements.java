@@ -0,0 +1,221 @@
+package org.testifj.matchers.core;
+
+import io.recode.annotations.DSL;
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+import org.testifj.MatchResult;
+import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
+
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Element-wise matchers that evaluate the elements of large lists, arrays and spliterators in parallel on
+ * a fork-join pool, e.g.
+ * <pre>{@code
+ * expect(records).toBe(ParallelElements.<Record>eachElement(valid()).inPool(pool).inList());
+ * }</pre>
+ * The evaluation stops shortly after a deciding element has been found. The reported index is always the
+ * lowest index of such an element, regardless of the order in which the elements were evaluated. Element
+ * matchers must be safe to use from multiple threads.
+ *
+ * @param <E> The type of the elements.
+ */
+@DSL
+public final class ParallelElements<E> {
+
+    private final Matcher<? super E> elementMatcher;
+
+    private final boolean every;
+
+    private final ForkJoinPool pool;
+
+    private final int batchSize;
+
+    private ParallelElements(Matcher<? super E> elementMatcher, boolean every, ForkJoinPool pool, int batchSize) {
+        this.elementMatcher = elementMatcher;
+        this.every = every;
+        this.pool = pool;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Requires every element to match the provided matcher. A mismatch describes the element with the
+     * lowest index that doesn't match.
+     *
+     * @param elementMatcher The matcher that every element must match. Can't be null.
+     * @param <E> The type of the elements.
+     * @return Parallel element matchers using the common fork-join pool.
+     */
+    public static <E> ParallelElements<E> eachElement(Matcher<? super E> elementMatcher) {
+        assert elementMatcher != null : "Element matcher can't be null";
+
+        return new ParallelElements<>(elementMatcher, true, ForkJoinPool.commonPool(), 0);
+    }
+
+    /**
+     * Requires at least one element to match the provided matcher, i.e. the parallel counterpart of
+     * {@link CollectionThat#containElement(org.testifj.Predicate)}.
+     *
+     * @param elementMatcher The matcher that some element must match. Can't be null.
+     * @param <E> The type of the elements.
+     * @return Parallel element matchers using the common fork-join pool.
+     */
+    public static <E> ParallelElements<E> someElement(Matcher<? super E> elementMatcher) {
+        assert elementMatcher != null : "Element matcher can't be null";
+
+        return new ParallelElements<>(elementMatcher, false, ForkJoinPool.commonPool(), 0);
+    }
+
+    public ParallelElements<E> inPool(ForkJoinPool pool) {
+        assert pool != null : "Pool can't be null";
+
+        return new ParallelElements<>(elementMatcher, every, pool, batchSize);
+    }
+
+    /**
+     * Specifies the number of elements evaluated sequentially by a single task. If not positive, the
+     * elements are split into a few batches per worker of the pool.
+     *
+     * @param batchSize The number of elements per task.
+     * @return Parallel element matchers with the provided batch size.
+     */
+    public ParallelElements<E> withBatchSize(int batchSize) {
+        return new ParallelElements<>(elementMatcher, every, pool, batchSize);
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns a matcher for lists. Lists that don't support random access are split through their
+     * spliterator.
+     *
+     * @param <L> The type of the list.
+     * @return A matcher for lists.
+     */
+    public <L extends List<? extends E>> MismatchDescribingMatcher<L> inList() {
+        return matcher(list -> list instanceof RandomAccess
+                ? ParallelSearch.search(pool, list.size(), i -> list.get(i), target(), batchSize)
+                : ParallelSearch.search(pool, list.spliterator(), target(), batchSize));
+    }
+
+    public MismatchDescribingMatcher<E[]> inArray() {
+        return matcher(array -> ParallelSearch.search(pool, array.length, i -> array[i], target(), batchSize));
+    }
+
+    /**
+     * Returns a matcher for spliterators, e.g. of a stream or a collection. A spliterator can only be
+     * traversed once, so a mismatch is described from the evaluation that found it, i.e. through
+     * {@link Matcher#evaluate(Object)}. {@link MismatchDescribingMatcher#describeMismatch(Object)} searches
+     * the spliterator again and must not be used on a spliterator that has already been matched.
+     *
+     * @param <S> The type of the spliterator.
+     * @return A matcher for spliterators.
+     */
+    public <S extends Spliterator<? extends E>> MismatchDescribingMatcher<S> inSpliterator() {
+        return matcher(spliterator -> ParallelSearch.search(pool, spliterator, target(), batchSize));
+    }
+
+    /**
+     * The matcher of the element the search stops at, i.e. the first mismatch of {@link #eachElement(Matcher)}
+     * or the first match of {@link #someElement(Matcher)}.
+     */
+    private Matcher<E> target() {
+        return every ? element -> !elementMatcher.matches(element) : elementMatcher::matches;
+    }
+
+    /**
+     * Creates a matcher that searches an instance once per call. Expectations evaluate the matcher through
+     * {@link Matcher#evaluate(Object)}, which describes a mismatch from the same search that found it; a
+     * separate call to {@link MismatchDescribingMatcher#describeMismatch(Object)} searches the instance again.
+     */
+    private <T> MismatchDescribingMatcher<T> matcher(Function<T, ParallelSearch.Match> search) {
+        return new MismatchDescribingMatcher<T>() {
+            @Override
+            public boolean matches(T instance) {
+                return evaluate(instance).isMatch();
+            }
+
+            /**
+             * Evaluates the instance in a single search. A mismatch of {@link #eachElement(Matcher)} is the
+             * result of the element matcher for the lowest failing element, at the index of that element.
+             */
+            @Override
+            public MatchResult evaluate(T instance) {
+                if (instance == null) {
+                    return MatchResult.mismatch(this, null, BasicDescription.from("value is null"));
+                }
+
+                final ParallelSearch.Match match = search.apply(instance);
+
+                if (every ? match == null : match != null) {
+                    return MatchResult.match();
+                }
+
+                return mismatch(this, instance, match);
+            }
+
+            @Override
+            public Description describeMismatch(T instance) {
+                if (instance == null) {
+                    return BasicDescription.from("value is null");
+                }
+
+                return describe(search.apply(instance));
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private MatchResult mismatch(Matcher<?> matcher, Object instance, ParallelSearch.Match match) {
+        if (!every) {
+            return MatchResult.mismatch(matcher, instance, BasicDescription.from("no element matches"));
+        }
+
+        final MatchResult elementResult = ((Matcher<Object>) elementMatcher).evaluate(match.getElement());
+
+        if (elementResult.isMatch()) {
+            return MatchResult.mismatch(elementMatcher, match.getElement()).at("[" + match.getIndex() + "]");
+        }
+
+        return elementResult.at("[" + match.getIndex() + "]");
+    }
+
+    private Description describe(ParallelSearch.Match match) {
+        if (match == null) {
+            return BasicDescription.from(every ? "no failing element found" : "no element matches");
+        }
+
+        if (!every) {
+            return BasicDescription.from("element at index " + match.getIndex() + " matches: ").appendValue(match.getElement());
+        }
+
+        return describeElementMismatch(match);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Description describeElementMismatch(ParallelSearch.Match match) {
+        final Description description = BasicDescription.from("element at index " + match.getIndex() + " doesn't match: ")
+                .appendValue(match.getElement());
+
+        if (elementMatcher instanceof MismatchDescribingMatcher) {
+            return description
+                    .appendText(" (")
+                    .appendDescription(((MismatchDescribingMatcher<Object>) elementMatcher).describeMismatch(match.getElement()))
+                    .appendText(")");
+        }
+
+        return description;
+    }
+
+}
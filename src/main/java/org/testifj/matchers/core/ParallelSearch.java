@@ -0,0 +1,215 @@
+package org.testifj.matchers.core;
+
+import org.testifj.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Searches a sequence of elements for the element with the lowest index that matches a target matcher,
+ * on a fork-join pool. The sequence is split recursively into batches. Every batch stops as soon as an
+ * element with a lower index has been found, and batches that start beyond such an element are skipped,
+ * so the search finishes shortly after the first match regardless of how many elements remain.
+ * <p>
+ * The result is deterministic: every element preceding the lowest match is evaluated, since the bound
+ * that the batches are checked against only decreases.
+ */
+final class ParallelSearch<E> {
+
+    private static final int DEFAULT_UNSIZED_BATCH_SIZE = 1024;
+
+    private final Matcher<? super E> target;
+
+    private final int batchSize;
+
+    private final AtomicReference<Match> lowestMatch = new AtomicReference<>();
+
+    private ParallelSearch(Matcher<? super E> target, int batchSize) {
+        this.target = target;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Searches elements accessed by index, i.e. an array or a random access list.
+     *
+     * @return The matching element with the lowest index, or null if no element matches.
+     */
+    static <E> Match search(ForkJoinPool pool, int size, IntFunction<? extends E> elementAt, Matcher<? super E> target, int batchSize) {
+        final ParallelSearch<E> search = new ParallelSearch<>(target, batchSize > 0 ? batchSize : defaultBatchSize(pool, size));
+
+        pool.invoke(search.new RangeTask(elementAt, 0, size));
+
+        return search.lowestMatch.get();
+    }
+
+    /**
+     * Searches the elements of a spliterator. Indices are the encounter order of the elements. Parts split
+     * from the spliterator that don't report their exact size are searched sequentially.
+     *
+     * @return The matching element with the lowest index, or null if no element matches.
+     */
+    static <E> Match search(ForkJoinPool pool, Spliterator<? extends E> spliterator, Matcher<? super E> target, int batchSize) {
+        final long size = spliterator.getExactSizeIfKnown();
+        final int effectiveBatchSize = batchSize > 0 ? batchSize
+                : (size >= 0 ? defaultBatchSize(pool, size) : DEFAULT_UNSIZED_BATCH_SIZE);
+        final ParallelSearch<E> search = new ParallelSearch<>(target, effectiveBatchSize);
+
+        pool.invoke(search.new SpliteratorTask(spliterator, 0));
+
+        return search.lowestMatch.get();
+    }
+
+    /**
+     * Splits the elements into a few batches per worker, so that workers can balance uneven costs.
+     */
+    private static int defaultBatchSize(ForkJoinPool pool, long size) {
+        return (int) Math.max(1, Math.min(Integer.MAX_VALUE, size / (pool.getParallelism() * 8L)));
+    }
+
+    private long bound() {
+        final Match match = lowestMatch.get();
+
+        return match == null ? Long.MAX_VALUE : match.getIndex();
+    }
+
+    private void offer(long index, Object element) {
+        final Match candidate = new Match(index, element);
+
+        for (;;) {
+            final Match current = lowestMatch.get();
+
+            if (current != null && current.getIndex() <= index) {
+                return;
+            }
+
+            if (lowestMatch.compareAndSet(current, candidate)) {
+                return;
+            }
+        }
+    }
+
+    static final class Match {
+
+        private final long index;
+
+        private final Object element;
+
+        Match(long index, Object element) {
+            this.index = index;
+            this.element = element;
+        }
+
+        long getIndex() {
+            return index;
+        }
+
+        Object getElement() {
+            return element;
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class RangeTask extends RecursiveAction {
+
+        private final IntFunction<? extends E> elementAt;
+
+        private final int from;
+
+        private final int to;
+
+        private RangeTask(IntFunction<? extends E> elementAt, int from, int to) {
+            this.elementAt = elementAt;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (from >= bound()) {
+                return;
+            }
+
+            if (to - from <= batchSize) {
+                for (int i = from; i < to && i < bound(); i++) {
+                    final E element = elementAt.apply(i);
+
+                    if (target.matches(element)) {
+                        offer(i, element);
+                        return;
+                    }
+                }
+
+                return;
+            }
+
+            final int middle = (from + to) >>> 1;
+            final RangeTask upper = new RangeTask(elementAt, middle, to);
+
+            upper.fork();
+            new RangeTask(elementAt, from, middle).compute();
+            upper.join();
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class SpliteratorTask extends RecursiveAction implements Consumer<E> {
+
+        private Spliterator<? extends E> spliterator;
+
+        private long index;
+
+        private SpliteratorTask(Spliterator<? extends E> spliterator, long index) {
+            this.spliterator = spliterator;
+            this.index = index;
+        }
+
+        @Override
+        protected void compute() {
+            final List<ForkJoinTask<?>> suffixTasks = new ArrayList<>();
+
+            while (index < bound() && spliterator.estimateSize() > batchSize) {
+                final Spliterator<? extends E> prefix = spliterator.trySplit();
+
+                if (prefix == null) {
+                    break;
+                }
+
+                final long prefixSize = prefix.getExactSizeIfKnown();
+
+                if (prefixSize < 0) {
+                    // The index of the first element of the remainder is only known once the prefix is consumed
+                    scan(prefix);
+                } else {
+                    suffixTasks.add(new SpliteratorTask(spliterator, index + prefixSize).fork());
+                    spliterator = prefix;
+                }
+            }
+
+            scan(spliterator);
+
+            for (int i = suffixTasks.size() - 1; i >= 0; i--) {
+                suffixTasks.get(i).join();
+            }
+        }
+
+        private void scan(Spliterator<? extends E> elements) {
+            while (index < bound() && elements.tryAdvance(this)) {
+                index++;
+            }
+        }
+
+        @Override
+        public void accept(E element) {
+            if (target.matches(element)) {
+                offer(index, element);
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package org.testifj.matchers.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * A bounded cache of compiled regular expressions, shared by the pattern matchers of the process, so that
+ * matchers created repeatedly for the same expression (e.g. in a table driven specification) compile it
+ * only once. Patterns are keyed by expression and flags.
+ * <p>
+ * The cache is split into segments by the hash of the key, each an access ordered map from which the least
+ * recently used pattern is evicted when the segment exceeds its share of the maximum size. Threads only
+ * contend when they access the same segment, and patterns are compiled outside of the segment lock. This
+ * class is thread-safe.
+ */
+final class PatternCache {
+
+    static final int DEFAULT_MAXIMUM_SIZE = 512;
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private static final PatternCache SHARED = new PatternCache(DEFAULT_MAXIMUM_SIZE);
+
+    private final Segment[] segments;
+
+    private final int maximumSize;
+
+    private final AtomicLong hitCount = new AtomicLong();
+
+    private final AtomicLong missCount = new AtomicLong();
+
+    PatternCache(int maximumSize) {
+        assert maximumSize > 0 : "Maximum size must be positive";
+
+        final int segmentCount = Math.min(SEGMENT_COUNT, maximumSize);
+
+        this.maximumSize = maximumSize;
+        this.segments = new Segment[segmentCount];
+
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(maximumSize / segmentCount + (i < maximumSize % segmentCount ? 1 : 0));
+        }
+    }
+
+    static PatternCache shared() {
+        return SHARED;
+    }
+
+    Pattern get(String regex, int flags) {
+        assert regex != null : "Regex can't be null";
+
+        final Key key = new Key(regex, flags);
+        final int hash = key.hashCode();
+        final Segment segment = segments[((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % segments.length];
+
+        Pattern pattern;
+
+        synchronized (segment) {
+            pattern = segment.get(key);
+        }
+
+        if (pattern != null) {
+            hitCount.incrementAndGet();
+            return pattern;
+        }
+
+        missCount.incrementAndGet();
+
+        // Compiled without holding the lock; concurrent misses for the same key may compile it twice
+        pattern = Pattern.compile(regex, flags);
+
+        synchronized (segment) {
+            segment.put(key, pattern);
+        }
+
+        return pattern;
+    }
+
+    long getHitCount() {
+        return hitCount.get();
+    }
+
+    long getMissCount() {
+        return missCount.get();
+    }
+
+    int getMaximumSize() {
+        return maximumSize;
+    }
+
+    int size() {
+        int size = 0;
+
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+
+        return size;
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Segment extends LinkedHashMap<Key, Pattern> {
+
+        private final int maximumSize;
+
+        private Segment(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+            return size() > maximumSize;
+        }
+    }
+
+    private static final class Key {
+
+        private final String regex;
+
+        private final int flags;
+
+        private Key(String regex, int flags) {
+            this.regex = regex;
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+
+            final Key key = (Key) o;
+
+            return flags == key.flags && regex.equals(key.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
+}
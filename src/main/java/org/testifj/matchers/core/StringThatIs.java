@@ -38,8 +38,17 @@ public final class StringThatIs {
         return string -> string != null && string.length() > minimumLength;
     }
 
+    /**
+     * Matches strings that match a regular expression in their entirety. Compiled expressions are cached
+     * across matchers, see {@link CharSequenceThat#matchesPattern(String)}.
+     *
+     * @param pattern The regular expression. Can't be null.
+     * @return A matcher of strings.
+     */
     public static Matcher<String> ofPattern(String pattern) {
-        final Pattern regex = Pattern.compile(pattern);
+        assert pattern != null : "Pattern can't be null";
+
+        final Pattern regex = PatternCache.shared().get(pattern, 0);
 
         return string -> string != null && regex.matcher(string).matches();
     }
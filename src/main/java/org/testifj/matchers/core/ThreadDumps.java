@@ -0,0 +1,80 @@
+package org.testifj.matchers.core;
+
+import org.testifj.BasicDescription;
+import org.testifj.Description;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Describes the stacks of the threads that are busy, e.g. the executor threads that are still running the
+ * tasks of a future that didn't complete. Threads of the <code>system</code> thread group and pool threads
+ * that are idle (waiting for a task) are omitted, as is the describing thread itself.
+ */
+final class ThreadDumps {
+
+    static final int MAXIMUM_FRAMES = 16;
+
+    private static final String[][] IDLE_FRAMES = {
+            {"java.util.concurrent.ThreadPoolExecutor", "getTask"},
+            {"java.util.concurrent.ForkJoinPool", "awaitWork"},
+            {"java.util.concurrent.ScheduledThreadPoolExecutor$DelayedWorkQueue", "take"}
+    };
+
+    private ThreadDumps() {
+    }
+
+    static Description describeBusyThreads() {
+        final List<Map.Entry<Thread, StackTraceElement[]>> busyThreads = new ArrayList<>();
+
+        for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+            if (isBusy(entry.getKey(), entry.getValue())) {
+                busyThreads.add(entry);
+            }
+        }
+
+        busyThreads.sort(Comparator.comparing(entry -> entry.getKey().getName()));
+
+        final StringBuilder buffer = new StringBuilder();
+
+        for (Map.Entry<Thread, StackTraceElement[]> entry : busyThreads) {
+            final Thread thread = entry.getKey();
+            final StackTraceElement[] stack = entry.getValue();
+
+            buffer.append("\n\"").append(thread.getName()).append("\" ").append(thread.getState());
+
+            for (int i = 0; i < stack.length && i < MAXIMUM_FRAMES; i++) {
+                buffer.append("\n    at ").append(stack[i]);
+            }
+
+            if (stack.length > MAXIMUM_FRAMES) {
+                buffer.append("\n    ... ").append(stack.length - MAXIMUM_FRAMES).append(" more");
+            }
+        }
+
+        return BasicDescription.from(busyThreads.size() + " busy threads:" + buffer);
+    }
+
+    static boolean isBusy(Thread thread, StackTraceElement[] stack) {
+        if (thread == Thread.currentThread() || stack.length == 0) {
+            return false;
+        }
+
+        if (thread.getThreadGroup() != null && "system".equals(thread.getThreadGroup().getName())) {
+            return false;
+        }
+
+        for (StackTraceElement frame : stack) {
+            for (String[] idleFrame : IDLE_FRAMES) {
+                if (frame.getClassName().equals(idleFrame[0]) && frame.getMethodName().equals(idleFrame[1])) {
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+}
@@ -165,5 +165,48 @@ public class BasicDescriptionTest {
         assertEquals("barfoo", description.toString());
     }
 
-}
+    @Test
+    public void partsOfInterleavedAppendsAndPrependsShouldBeOrdered() {
+        final Description description = BasicDescription.from("c")
+                .appendText("d")
+                .prependText("b")
+                .appendValue("e")
+                .prependText("a");
+
+        expect(description.toString()).toBe("abcde");
+        expect(description.getParts().size()).toBe(5);
+    }
+
+    @Test
+    public void appendingToDescriptionShouldNotAffectOriginalDescription() {
+        final Description description = BasicDescription.from("foo");
+        final Description extendedDescription1 = description.appendText("bar");
+        final Description extendedDescription2 = description.appendText("baz");
+
+        expect(description.toString()).toBe("foo");
+        expect(extendedDescription1.toString()).toBe("foobar");
+        expect(extendedDescription2.toString()).toBe("foobaz");
+    }
+
+    @Test
+    public void descriptionsWithEqualPartsShouldBeEqualRegardlessOfConstruction() {
+        final Description description1 = BasicDescription.from("b").prependText("a").appendText("c");
+        final Description description2 = BasicDescription.from("a").appendText("b").appendText("c");
 
+        expect(description1).toBe(equalTo(description2));
+        expect(description1.hashCode()).toBe(description2.hashCode());
+    }
+
+    @Test
+    public void largeDescriptionCanBeCreatedIncrementally() {
+        Description description = new BasicDescription();
+
+        for (int i = 0; i < 100000; i++) {
+            description = description.appendValue(i);
+        }
+
+        expect(description.getParts().size()).toBe(100000);
+        expect(((Description.ValuePart) description.getParts().get(99999)).getValue()).toBe((Object) 99999);
+    }
+
+}
@@ -0,0 +1,51 @@
+package org.testifj;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Minimal support for micro benchmarks executed through a <code>main</code> method (benchmarks are not
+ * executed as part of the test suite). The measured operation returns a value that is accumulated, so
+ * that the operation can't be eliminated by the compiler.
+ */
+public final class Benchmark {
+
+    private static volatile long sink;
+
+    private Benchmark() {
+    }
+
+    /**
+     * Measures the average time of an operation, after a warm-up of the same number of iterations.
+     *
+     * @param iterations The number of iterations measured.
+     * @param operation The operation to measure.
+     * @return The average time of the operation, in nanoseconds.
+     */
+    public static double nanosPerOperation(int iterations, LongSupplier operation) {
+        assert iterations > 0 : "Iterations must be positive";
+        assert operation != null : "Operation can't be null";
+
+        long accumulator = 0;
+
+        for (int i = 0; i < iterations; i++) {
+            accumulator += operation.getAsLong();
+        }
+
+        final long startTime = System.nanoTime();
+
+        for (int i = 0; i < iterations; i++) {
+            accumulator += operation.getAsLong();
+        }
+
+        final long elapsedTime = System.nanoTime() - startTime;
+
+        sink += accumulator;
+
+        return (double) elapsedTime / iterations;
+    }
+
+    public static void report(String name, double nanosPerOperation) {
+        System.out.println(String.format("%-60s %12.1f ns/op", name, nanosPerOperation));
+    }
+
+}
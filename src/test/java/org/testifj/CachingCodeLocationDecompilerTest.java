@@ -0,0 +1,150 @@
+package org.testifj;
+
+import io.recode.Caller;
+import io.recode.decompile.CodeLocationDecompiler;
+import io.recode.decompile.CodePointer;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testifj.Expect.expect;
+
+public class CachingCodeLocationDecompilerTest {
+
+    private final CodeLocationDecompiler targetDecompiler = mock(CodeLocationDecompiler.class);
+
+    private final CachingCodeLocationDecompiler decompiler = new CachingCodeLocationDecompiler(targetDecompiler, 2);
+
+    @Test
+    public void constructorShouldNotAcceptInvalidArguments() {
+        expect(() -> new CachingCodeLocationDecompiler(null)).toThrow(AssertionError.class);
+        expect(() -> new CachingCodeLocationDecompiler(targetDecompiler, 0)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void decompileCodeLocationShouldNotAcceptNullCaller() {
+        expect(() -> decompiler.decompileCodeLocation(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void repeatedDecompilationOfSameCodeLocationShouldBeCached() throws IOException {
+        final CodePointer codePointer = mock(CodePointer.class);
+        final Caller caller = Caller.me();
+
+        when(targetDecompiler.decompileCodeLocation(any(Caller.class))).thenReturn(new CodePointer[]{codePointer});
+
+        for (int i = 0; i < 10; i++) {
+            final CodePointer[] codePointers = decompiler.decompileCodeLocation(caller);
+
+            expect(codePointers.length).toBe(1);
+            expect(codePointers[0]).toBe(codePointer);
+        }
+
+        verify(targetDecompiler, times(1)).decompileCodeLocation(any(Caller.class));
+        expect(decompiler.getMissCount()).toBe(1L);
+        expect(decompiler.getHitCount()).toBe(9L);
+    }
+
+    @Test
+    public void cachedCodePointersShouldNotBeModifiableByCaller() throws IOException {
+        final CodePointer codePointer = mock(CodePointer.class);
+        final Caller caller = Caller.me();
+
+        when(targetDecompiler.decompileCodeLocation(any(Caller.class))).thenReturn(new CodePointer[]{codePointer});
+
+        decompiler.decompileCodeLocation(caller)[0] = null;
+
+        expect(decompiler.decompileCodeLocation(caller)[0]).toBe(codePointer);
+    }
+
+    @Test
+    public void leastRecentlyUsedCodeLocationShouldBeEvictedWhenMaximumSizeIsExceeded() throws IOException {
+        when(targetDecompiler.decompileCodeLocation(any(Caller.class))).thenReturn(new CodePointer[0]);
+
+        final Caller caller1 = Caller.me();
+        final Caller caller2 = Caller.me();
+        final Caller caller3 = Caller.me();
+
+        decompiler.decompileCodeLocation(caller1);
+        decompiler.decompileCodeLocation(caller2);
+        decompiler.decompileCodeLocation(caller1);
+        decompiler.decompileCodeLocation(caller3);
+
+        expect(decompiler.size()).toBe(2);
+
+        decompiler.decompileCodeLocation(caller1);
+        decompiler.decompileCodeLocation(caller2);
+
+        expect(decompiler.getHitCount()).toBe(2L);
+        expect(decompiler.getMissCount()).toBe(4L);
+    }
+
+    @Test
+    public void evictedCodeLocationsShouldBeDecompiledAgain() throws IOException {
+        final Caller caller = Caller.me();
+
+        when(targetDecompiler.decompileCodeLocation(any(Caller.class))).thenReturn(new CodePointer[0]);
+
+        decompiler.decompileCodeLocation(caller);
+        decompiler.evict(getClass().getClassLoader());
+        decompiler.decompileCodeLocation(caller);
+        decompiler.evictAll();
+        decompiler.decompileCodeLocation(caller);
+
+        verify(targetDecompiler, times(3)).decompileCodeLocation(any(Caller.class));
+        expect(decompiler.getHitCount()).toBe(0L);
+    }
+
+    @Test
+    public void codeLocationsShouldBeCachedPerDefiningClassLoaderOfCaller() throws Exception {
+        final Caller caller = Caller.me();
+        final Thread thread = Thread.currentThread();
+        final ClassLoader contextClassLoader = thread.getContextClassLoader();
+
+        when(targetDecompiler.decompileCodeLocation(any(Caller.class))).thenReturn(new CodePointer[0]);
+
+        decompiler.decompileCodeLocation(caller);
+
+        try (URLClassLoader otherClassLoader = new URLClassLoader(new URL[0], getClass().getClassLoader())) {
+            thread.setContextClassLoader(otherClassLoader);
+            decompiler.decompileCodeLocation(caller);
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+
+        verify(targetDecompiler, times(1)).decompileCodeLocation(any(Caller.class));
+        expect(decompiler.getHitCount()).toBe(1L);
+    }
+
+    @Test
+    public void codeLocationsOfUnresolvableClassesShouldNotBeCached() throws IOException {
+        final Caller caller = new Caller(Arrays.asList(new StackTraceElement("com.example.Missing", "method", "Missing.java", 1)), 0);
+
+        when(targetDecompiler.decompileCodeLocation(any(Caller.class))).thenReturn(new CodePointer[0]);
+
+        decompiler.decompileCodeLocation(caller);
+        decompiler.decompileCodeLocation(caller);
+
+        verify(targetDecompiler, times(2)).decompileCodeLocation(any(Caller.class));
+        expect(decompiler.size()).toBe(0);
+    }
+
+    @Test
+    public void failedDecompilationShouldNotBeCached() throws IOException {
+        final Caller caller = Caller.me();
+
+        when(targetDecompiler.decompileCodeLocation(any(Caller.class))).thenThrow(new IOException());
+
+        expect(() -> decompiler.decompileCodeLocation(caller)).toThrow(IOException.class);
+        expect(decompiler.size()).toBe(0);
+    }
+
+}
@@ -0,0 +1,183 @@
+package org.testifj;
+
+import io.recode.Caller;
+import io.recode.codegeneration.CodeGenerator;
+import io.recode.decompile.CodeLocationDecompiler;
+import io.recode.decompile.CodePointer;
+import io.recode.model.Element;
+import io.recode.model.ElementType;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.ExceptionWhere.messageIs;
+import static org.testifj.matchers.core.ObjectThatIs.equalTo;
+
+public class CollectingExpectationFailureHandlerTest {
+
+    private final CodeDescriptionStore codeDescriptionStore = mock(CodeDescriptionStore.class);
+
+    private final CodeLocationDecompiler codeLocationDecompiler = mock(CodeLocationDecompiler.class);
+
+    private final Matcher matcher = mock(Matcher.class);
+
+    @Test
+    public void constructorShouldNotAcceptNullDescribingHandler() {
+        expect(() -> new CollectingExpectationFailureHandler(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void handleExpectationFailureShouldNotAcceptNullFailure() {
+        final CollectingExpectationFailureHandler handler = handler();
+
+        expect(() -> handler.handleExpectationFailure(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void verifyShouldNotFailIfNoFailuresHaveBeenCollected() {
+        handler().verify();
+    }
+
+    @Test
+    public void failuresShouldBeCollectedAndReportedInOneError() {
+        final CollectingExpectationFailureHandler handler = handler();
+
+        when(codeDescriptionStore.get(eq(callerAt(10)), any(String.class))).thenReturn(Optional.of(Arrays.asList("foo()", "\"bar\"", "false")));
+        when(codeDescriptionStore.get(eq(callerAt(20)), any(String.class))).thenReturn(Optional.of(Arrays.asList("baz()", "1", "true")));
+
+        handler.handleExpectationFailure(failure(callerAt(10), Optional.of("bar"), "foo"));
+        handler.handleExpectationFailure(failure(callerAt(20), Optional.of(1), 1));
+
+        expect(handler.getFailures().size()).toBe(2);
+
+        expect(handler::verify).toThrow(AssertionError.class).where(messageIs(equalTo(
+                "2 expectations failed:\n" +
+                "  1) Expected foo() => \"foo\" to be \"bar\" (at Example.example:10)\n" +
+                "  2) Expected baz() => 1 not to be 1 (at Example.example:20)")));
+    }
+
+    @Test
+    public void repeatedFailuresAtSameCallSiteShouldBeReportedOnce() {
+        final CollectingExpectationFailureHandler handler = handler();
+
+        when(codeDescriptionStore.get(eq(callerAt(10)), any(String.class))).thenReturn(Optional.of(Arrays.asList("foo()", "\"bar\"", "false")));
+
+        for (int i = 0; i < 3; i++) {
+            handler.handleExpectationFailure(failure(callerAt(10), Optional.of("bar"), "foo"));
+        }
+
+        handler.handleExpectationFailure(failure(callerAt(10), Optional.of("bar"), "baz"));
+
+        expect(handler::verify).toThrow(AssertionError.class).where(messageIs(equalTo(
+                "4 expectations failed:\n" +
+                "  1) Expected foo() => \"foo\" to be \"bar\" (at Example.example:10) [3 times]\n" +
+                "  2) Expected foo() => \"baz\" to be \"bar\" (at Example.example:10)")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void callSiteShouldBeDecompiledOncePerDistinctCaller() throws IOException {
+        final CodeGenerator<CodePointer> codeGenerator = mock(CodeGenerator.class);
+        final CodePointer codePointer = mock(CodePointer.class);
+        final Element element = mock(Element.class);
+        final DefaultExpectationFailureHandler.Builder builder = new DefaultExpectationFailureHandler.Builder();
+
+        when(element.getElementType()).thenReturn(ElementType.RETURN);
+        when(codePointer.getElement()).thenReturn(element);
+        when(codeLocationDecompiler.decompileCodeLocation(any(Caller.class))).thenReturn(new CodePointer[]{codePointer});
+        when(codeGenerator.generateCode(eq(codePointer), any(Charset.class))).thenReturn("foo()");
+
+        builder.setCodeDescriptionStore(CodeDescriptionStore.none());
+        builder.setCodeLocationDecompiler(codeLocationDecompiler);
+        builder.setSyntaxElementCodeGenerator(codeGenerator);
+
+        final CollectingExpectationFailureHandler handler = new CollectingExpectationFailureHandler(builder.build());
+
+        for (int i = 0; i < 5; i++) {
+            handler.handleExpectationFailure(failure(callerAt(10), Optional.empty(), i));
+            handler.handleExpectationFailure(failure(callerAt(20), Optional.empty(), i));
+        }
+
+        expect(handler::verify).toThrow(AssertionError.class);
+
+        verify(codeLocationDecompiler, times(1)).decompileCodeLocation(eq(callerAt(10)));
+        verify(codeLocationDecompiler, times(1)).decompileCodeLocation(eq(callerAt(20)));
+    }
+
+    @Test
+    public void verifyShouldRemoveReportedFailures() {
+        final CollectingExpectationFailureHandler handler = handler();
+
+        when(codeDescriptionStore.get(any(Caller.class), any(String.class))).thenReturn(Optional.of(Collections.singletonList("foo()")));
+
+        handler.handleExpectationFailure(failure(callerAt(10), Optional.empty(), "foo"));
+
+        expect(handler::verify).toThrow(AssertionError.class);
+        expect(handler.getFailures().isEmpty()).toBe(true);
+
+        handler.verify();
+    }
+
+    @Test
+    public void failuresFromConcurrentThreadsShouldBeCollected() throws InterruptedException {
+        final CollectingExpectationFailureHandler handler = handler();
+        final Thread[] threads = new Thread[8];
+        final CountDownLatch startLatch = new CountDownLatch(1);
+
+        for (int i = 0; i < threads.length; i++) {
+            final int line = i;
+
+            threads[i] = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+
+                for (int j = 0; j < 1000; j++) {
+                    handler.handleExpectationFailure(failure(callerAt(line), Optional.empty(), j));
+                }
+            });
+
+            threads[i].start();
+        }
+
+        startLatch.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        expect(handler.getFailures().size()).toBe(8000);
+    }
+
+    private CollectingExpectationFailureHandler handler() {
+        final DefaultExpectationFailureHandler.Builder builder = new DefaultExpectationFailureHandler.Builder();
+
+        builder.setCodeDescriptionStore(codeDescriptionStore);
+        builder.setCodeLocationDecompiler(codeLocationDecompiler);
+
+        return new CollectingExpectationFailureHandler(builder.build());
+    }
+
+    private ValueMismatchFailureImpl failure(Caller caller, Optional<Object> expectedValue, Object actualValue) {
+        return new ValueMismatchFailureImpl(caller, matcher, expectedValue, actualValue);
+    }
+
+    private Caller callerAt(int lineNumber) {
+        return new Caller(Arrays.asList(new StackTraceElement("Example", "example", "Example.java", lineNumber)), 0);
+    }
+
+}
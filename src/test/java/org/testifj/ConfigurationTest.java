@@ -1,6 +1,7 @@
 package org.testifj;
 
 import io.recode.Caller;
+import io.recode.decompile.CodeLocationDecompiler;
 import org.junit.After;
 import org.junit.Test;
 import org.testifj.delegate.ExpectationDelegate;
@@ -8,9 +9,13 @@ import org.testifj.delegate.ExpectationVerification;
 import org.testifj.delegate.GivenThenExpectation;
 import org.testifj.delegate.OnGoingExpectation;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.mockito.Mockito.mock;
 import static org.testifj.Expect.expect;
 import static org.testifj.matchers.core.ObjectThatIs.equalTo;
+import static org.testifj.matchers.core.ObjectThatIs.instanceOf;
 
 public class ConfigurationTest {
 
@@ -50,6 +55,72 @@ public class ConfigurationTest {
         expect(() -> Configuration.get().withServiceContext(null)).toThrow(AssertionError.class);
     }
 
+    @Test
+    public void defaultConfigurationShouldContainCachingCodeLocationDecompiler() {
+        expect(Configuration.get().getServiceContext().get(CodeLocationDecompiler.class)).toBe(instanceOf(CachingCodeLocationDecompiler.class));
+    }
+
+    @Test
+    public void scopedConfigurationShouldOnlyApplyWithinScope() throws Exception {
+        final Configuration scopedConfiguration = Configuration.get().withServiceContext(mock(ServiceContext.class));
+
+        Configuration.withScope(scopedConfiguration, () -> expect(Configuration.get()).toBe(scopedConfiguration));
+
+        expect(Configuration.get()).toBe(originalConfiguration);
+    }
+
+    @Test
+    public void scopedConfigurationShouldNotApplyToOtherThreads() throws Exception {
+        final Configuration scopedConfiguration = Configuration.get().withServiceContext(mock(ServiceContext.class));
+        final Capture<Configuration> otherThreadConfiguration = new Capture<>();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> {}).get();
+
+            Configuration.withScope(scopedConfiguration, () -> {
+                executor.submit(() -> otherThreadConfiguration.set(Configuration.get())).get();
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        expect(otherThreadConfiguration.get()).toBe(originalConfiguration);
+    }
+
+    @Test
+    public void scopedConfigurationShouldBeInheritedByChildThreadsAndBoundTasks() throws Exception {
+        final Configuration scopedConfiguration = Configuration.get().withServiceContext(mock(ServiceContext.class));
+        final Capture<Configuration> childThreadConfiguration = new Capture<>();
+        final Capture<Configuration> boundTaskConfiguration = new Capture<>();
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            executor.submit(() -> {}).get();
+
+            Configuration.withScope(scopedConfiguration, () -> {
+                final Thread thread = new Thread(() -> childThreadConfiguration.set(Configuration.get()));
+
+                thread.start();
+                thread.join();
+
+                executor.submit(Configuration.inCurrentScope(() -> boundTaskConfiguration.set(Configuration.get()))).get();
+            });
+        } finally {
+            executor.shutdown();
+        }
+
+        expect(childThreadConfiguration.get()).toBe(scopedConfiguration);
+        expect(boundTaskConfiguration.get()).toBe(scopedConfiguration);
+    }
+
+    @Test
+    public void withScopeShouldNotAcceptNullArguments() {
+        expect(() -> Configuration.withScope(null, () -> {})).toThrow(AssertionError.class);
+        expect(() -> Configuration.withScope(originalConfiguration, null)).toThrow(AssertionError.class);
+        expect(() -> Configuration.inCurrentScope(null)).toThrow(AssertionError.class);
+    }
+
     @Test
     public void defaultConfigurationShouldSupportGivenThen() {
         final OnGoingExpectation onGoingExpectation = Configuration.get().getServiceContext().get(ExpectationDelegate.class).startExpectation();
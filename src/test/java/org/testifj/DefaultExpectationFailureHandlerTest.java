@@ -1,12 +1,23 @@
 package org.testifj;
 
 import io.recode.Caller;
+import io.recode.decompile.CodeLocationDecompiler;
 import org.junit.Test;
+import org.testifj.matchers.core.ArrayThat;
+import org.testifj.matchers.core.CollectionThatIs;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Optional;
 
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 import static org.testifj.Expect.expect;
 import static org.testifj.matchers.core.ExceptionWhere.messageIs;
 import static org.testifj.matchers.core.ObjectThatIs.equalTo;
@@ -24,6 +35,8 @@ public class DefaultExpectationFailureHandlerTest {
         expect(() -> builder.setClassFileReader(null)).toThrow(AssertionError.class);
         expect(() -> builder.setDescriptionFormat(null)).toThrow(AssertionError.class);
         expect(() -> builder.setSyntaxElementCodeGenerator(null)).toThrow(AssertionError.class);
+        expect(() -> builder.setCodeLocationDecompiler(null)).toThrow(AssertionError.class);
+        expect(() -> builder.setCodeDescriptionStore(null)).toThrow(AssertionError.class);
     }
 
     @Test
@@ -35,6 +48,24 @@ public class DefaultExpectationFailureHandlerTest {
         expect(() -> builder.setSyntaxElementCodeGenerator(null)).toThrow(AssertionError.class);
     }
 
+    @Test
+    public void codeLocationDecompilerShouldBeSharedThroughServiceContext() {
+        final CodeLocationDecompiler sharedDecompiler = Configuration.get().getServiceContext().get(CodeLocationDecompiler.class);
+
+        expect(new DefaultExpectationFailureHandler.Builder().build().getCodeLocationDecompiler()).toBe(sharedDecompiler);
+        expect(new DefaultExpectationFailureHandler.Builder().build().getCodeLocationDecompiler()).toBe(sharedDecompiler);
+    }
+
+    @Test
+    public void handlerShouldBeBuiltForServiceContextWithoutDecompiler() throws Exception {
+        final Configuration configuration = Configuration.get().withServiceContext(ServiceContextImpl.newBuilder().build());
+        final DefaultExpectationFailureHandler[] handler = new DefaultExpectationFailureHandler[1];
+
+        Configuration.withScope(configuration, () -> handler[0] = new DefaultExpectationFailureHandler.Builder().build());
+
+        expect(handler[0].getCodeLocationDecompiler() instanceof CachingCodeLocationDecompiler).toBe(true);
+    }
+
     @Test
     public void failureWithExpectedValueCanBeDescribed() {
         expect(getExampleString()).toBe("foo");
@@ -90,6 +121,136 @@ public class DefaultExpectationFailureHandlerTest {
                 .where(messageIs(equalTo("Expected \"foo\" to be s -> isNonEmpty(s)")));
     }
 
+    @Test
+    public void storedCallSiteDescriptionShouldBeUsedWithoutDecompilation() throws IOException {
+        final CodeLocationDecompiler codeLocationDecompiler = mock(CodeLocationDecompiler.class);
+        final CodeDescriptionStore codeDescriptionStore = mock(CodeDescriptionStore.class);
+        final DefaultExpectationFailureHandler.Builder builder = new DefaultExpectationFailureHandler.Builder();
+        final Caller caller = Caller.me();
+
+        when(codeDescriptionStore.get(eq(caller), any(String.class))).thenReturn(Optional.of(Arrays.asList("getExampleString()", "\"bar\"", "false")));
+
+        builder.setCodeLocationDecompiler(codeLocationDecompiler);
+        builder.setCodeDescriptionStore(codeDescriptionStore);
+
+        expect(() -> builder.build().handleExpectationFailure(failure(caller, Optional.of("bar"), "foo")))
+                .toThrow(AssertionError.class)
+                .where(messageIs(equalTo("Expected getExampleString() => \"foo\" to be \"bar\"")));
+
+        verifyZeroInteractions(codeLocationDecompiler);
+    }
+
+    @Test
+    public void mismatchOfLargeListsShouldBeDescribedWithDiff() {
+        final List<Integer> expected = new ArrayList<>();
+        final List<Integer> actual = new ArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            expected.add(i);
+            actual.add(i == 10 ? 100 : i);
+        }
+
+        expect(() -> handlerWithCallSite("actual", "expected").handleExpectationFailure(failure(Caller.me(), Optional.of(expected), actual)))
+                .toThrow(AssertionError.class)
+                .where(messageIs(equalTo("Expected actual to be expected:\n" +
+                        "@@ -7,7 +7,7 @@\n" +
+                        "  7\n  8\n  9\n- 10\n+ 100\n  11\n  12\n  13")));
+    }
+
+    @Test
+    public void mismatchOfLargeArraysShouldBeDescribedWithDiff() {
+        final int[] expected = new int[100];
+        final int[] actual = new int[101];
+
+        actual[100] = 1;
+
+        expect(() -> handlerWithCallSite("actual", "expected").handleExpectationFailure(failure(Caller.me(), Optional.of(expected), actual)))
+                .toThrow(AssertionError.class)
+                .where(messageIs(equalTo("Expected actual to be expected:\n" +
+                        "@@ -97,3 +97,4 @@\n" +
+                        "  0\n  0\n  0\n+ 1")));
+    }
+
+    @Test
+    public void mismatchOfMultiLineStringsShouldBeDescribedWithLineDiff() {
+        expect(() -> handlerWithCallSite("actual", "expected").handleExpectationFailure(failure(Caller.me(), Optional.of("a\nb\nc\n"), "a\nB\nc\n")))
+                .toThrow(AssertionError.class)
+                .where(messageIs(equalTo("Expected actual to be expected:\n" +
+                        "--- expected\n" +
+                        "+++ actual\n" +
+                        "@@ -1,3 +1,3 @@\n" +
+                        " a\n-b\n+B\n c")));
+    }
+
+    @Test
+    public void mismatchOfSmallArraysShouldIncludeIndexOfFirstMismatch() {
+        expect(() -> handlerWithCallSite("actual", "expected").handleExpectationFailure(failure(Caller.me(), Optional.of(new int[]{1, 2, 3}), new int[]{1, 2, 4})))
+                .toThrow(AssertionError.class)
+                .where(messageIs(equalTo("Expected actual => [1, 2, 4] to be expected => [1, 2, 3] (first mismatch at index 2)")));
+    }
+
+    @Test
+    public void mismatchDescriptionOfMatcherShouldBeIncluded() {
+        final ValueMismatchFailureImpl failure = new ValueMismatchFailureImpl(Caller.me(), ArrayThat.containsAll(new int[]{1, 4}), Optional.empty(), new int[]{1, 2});
+
+        expect(() -> handlerWithCallSite("expect(array).toBe(containsAll(1, 4))").handleExpectationFailure(failure))
+                .toThrow(AssertionError.class)
+                .where(messageIs(equalTo("expect(array).toBe(containsAll(1, 4)) (missing elements [4])")));
+    }
+
+    @Test
+    public void matchResultOfFailureShouldBeIncluded() {
+        final Matcher<List<Integer>> matcher = CollectionThatIs.collectionWithElements(n -> n > 0, n -> n > 0);
+        final List<Integer> value = Arrays.asList(1, -2);
+        final ValueMismatchFailureImpl failure = new ValueMismatchFailureImpl(Caller.me(), matcher, Optional.empty(), value, Optional.of(matcher.evaluate(value)));
+
+        expect(() -> handlerWithCallSite("expect(list).toBe(positiveElements)").handleExpectationFailure(failure))
+                .toThrow(AssertionError.class)
+                .where(messageIs(equalTo("expect(list).toBe(positiveElements) (at [1]: -2 doesn't match)")));
+    }
+
+    @Test
+    public void mismatchOfSmallListsShouldNotBeDescribedWithDiff() {
+        expect(() -> handlerWithCallSite("actual", "expected").handleExpectationFailure(failure(Caller.me(), Optional.of(Arrays.asList(1, 2)), Arrays.asList(1, 3))))
+                .toThrow(AssertionError.class)
+                .where(messageIs(equalTo("Expected actual => [1, 3] to be expected => [1, 2]")));
+    }
+
+    @Test
+    public void decompiledCallSiteDescriptionShouldBeStored() {
+        final CodeDescriptionStore codeDescriptionStore = mock(CodeDescriptionStore.class);
+        final DefaultExpectationFailureHandler.Builder builder = new DefaultExpectationFailureHandler.Builder();
+
+        when(codeDescriptionStore.get(any(Caller.class), any(String.class))).thenReturn(Optional.empty());
+
+        builder.setCodeDescriptionStore(codeDescriptionStore);
+
+        expect("foo").toBe("foo");
+
+        final Caller caller = caller(-2);
+
+        expect(() -> builder.build().handleExpectationFailure(failure(caller, Optional.of("foo"), "foo")))
+                .toThrow(AssertionError.class);
+
+        verify(codeDescriptionStore).put(eq(caller), any(String.class), eq(Arrays.asList("\"foo\"", "\"foo\"", "false")));
+    }
+
+    private ExpectationFailureHandler handlerWithCallSite(String actualCode, String expectedCode) {
+        return handlerWithCallSite(actualCode, expectedCode, "false");
+    }
+
+    private ExpectationFailureHandler handlerWithCallSite(String... callSiteDescription) {
+        final CodeDescriptionStore codeDescriptionStore = mock(CodeDescriptionStore.class);
+        final DefaultExpectationFailureHandler.Builder builder = new DefaultExpectationFailureHandler.Builder();
+
+        when(codeDescriptionStore.get(any(Caller.class), any(String.class))).thenReturn(Optional.of(Arrays.asList(callSiteDescription)));
+
+        builder.setCodeLocationDecompiler(mock(CodeLocationDecompiler.class));
+        builder.setCodeDescriptionStore(codeDescriptionStore);
+
+        return builder.build();
+    }
+
     private boolean isNonEmpty(String s) {
         return !s.isEmpty();
     }
@@ -0,0 +1,72 @@
+package org.testifj;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.testifj.Expect.expect;
+
+public class DoubleMatcherTest {
+
+    private final DoubleMatcher positive = value -> value > 0;
+
+    private final DoubleMatcher even = value -> value % 2 == 0;
+
+    @Test
+    public void boxedValueShouldBeMatchedAsPrimitive() {
+        final Matcher<Double> matcher = positive;
+
+        expect(matcher.matches(Double.valueOf(1.0))).toBe(true);
+        expect(matcher.matches(Double.valueOf(-1.0))).toBe(false);
+    }
+
+    @Test
+    public void boxedNullShouldNotMatch() {
+        expect(((DoubleMatcher) value -> true).matches((Double) null)).toBe(false);
+    }
+
+    @Test
+    public void andShouldNotAcceptNullMatcher() {
+        expect(() -> positive.and((DoubleMatcher) null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void andShouldMatchIfBothMatchersMatch() {
+        expect(positive.and(even).matches(2.0)).toBe(true);
+        expect(positive.and(even).matches(1.0)).toBe(false);
+        expect(positive.and(even).matches(-1.0)).toBe(false);
+    }
+
+    @Test
+    public void orShouldNotAcceptNullMatcher() {
+        expect(() -> positive.or((DoubleMatcher) null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void orShouldMatchIfAnyMatcherMatches() {
+        expect(positive.or(even).matches(1.0)).toBe(true);
+        expect(positive.or(even).matches(-2.0)).toBe(true);
+        expect(positive.or(even).matches(-1.0)).toBe(false);
+    }
+
+    @Test
+    public void andShouldReportFailingBranch() {
+        final DoubleMatcher both = positive.and(even);
+
+        expect(both.evaluate(Double.valueOf(2.0)) == MatchResult.match()).toBe(true);
+        expect(both.evaluate(Double.valueOf(1.0)).getFailedMatcher()).toBe(Optional.of(even));
+        expect(both.evaluate(Double.valueOf(-2.0)).getFailedMatcher()).toBe(Optional.of(positive));
+    }
+
+    @Test
+    public void orShouldReportBothFailingBranches() {
+        final DoubleMatcher either = positive.or(even);
+        final MatchResult result = either.evaluate(Double.valueOf(-1.0));
+
+        expect(either.evaluate(Double.valueOf(-2.0)) == MatchResult.match()).toBe(true);
+        expect(result.getFailedMatcher()).toBe(Optional.of(either));
+        expect(new StandardDescriptionFormat().format(result.getDescription().get()))
+                .toBe("neither alternative matched (first: -1.0 doesn't match; second: -1.0 doesn't match)");
+    }
+
+}
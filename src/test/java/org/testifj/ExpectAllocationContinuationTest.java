@@ -0,0 +1,166 @@
+package org.testifj;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.testifj.matchers.core.Equal;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.StringThatIs.stringContaining;
+
+public class ExpectAllocationContinuationTest {
+
+    private final ExpectationFailureHandler expectationFailureHandler = mock(ExpectationFailureHandler.class);
+
+    private static volatile Object sink;
+
+    /**
+     * Whether escape analysis removes the continuation of a passing expectation depends on the profiles
+     * that other tests in the same JVM leave in the shared DSL methods, so the budget allows for the
+     * continuation (24 bytes). Recording the call site allocates several hundred bytes per expectation.
+     */
+    private static final long CONTINUATION_ALLOCATION_BUDGET = 64;
+
+    @Test
+    public void measurementShouldBeConfigurable() {
+        final ExpectAllocationContinuation continuation = expect(() -> {}).allocation();
+
+        expect(continuation.getWarmUpIterations()).toBe(ExpectAllocationContinuation.DEFAULT_WARM_UP_ITERATIONS);
+        expect(continuation.getIterations()).toBe(ExpectAllocationContinuation.DEFAULT_ITERATIONS);
+        expect(continuation.withWarmUp(0).getWarmUpIterations()).toBe(0);
+        expect(continuation.withIterations(10).getIterations()).toBe(10);
+        expect(continuation.getTimeout(TimeUnit.MILLISECONDS)).toBe(ExpectAllocationContinuation.DEFAULT_TIMEOUT_MILLIS);
+        expect(continuation.within(1, TimeUnit.SECONDS).getTimeout(TimeUnit.MILLISECONDS)).toBe(1000L);
+        expect(() -> continuation.within(-1, TimeUnit.SECONDS)).toThrow(AssertionError.class);
+        expect(() -> continuation.withWarmUp(-1)).toThrow(AssertionError.class);
+        expect(() -> continuation.withIterations(0)).toThrow(AssertionError.class);
+        expect(() -> continuation.toAllocateAtMost(-1)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void procedureWithinBudgetShouldBeCalledForOneRound() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+
+        withFailureHandler(() -> expect(calls::incrementAndGet).allocation().withWarmUp(5).withIterations(10).toAllocateAtMost(1024));
+
+        verify(expectationFailureHandler, never()).handleExpectationFailure(any());
+        expect(calls.get()).toBe(15);
+    }
+
+    @Test
+    public void allocatingProcedureShouldBeReportedAsAverageOverInvocations() throws Exception {
+        final ArgumentCaptor<ValueMismatchFailure> failure = ArgumentCaptor.forClass(ValueMismatchFailure.class);
+
+        withFailureHandler(() -> expect(() -> sink = new byte[1024]).allocation()
+                .withWarmUp(10)
+                .withIterations(100)
+                .within(10, TimeUnit.MILLISECONDS)
+                .toAllocateAtMost(16));
+
+        verify(expectationFailureHandler).handleExpectationFailure(failure.capture());
+
+        final String description = new StandardDescriptionFormat().format(failure.getValue().getMatchResult().get().describe().get());
+
+        expect((Double) failure.getValue().getValue() >= 1024).toBe(true);
+        expect(description).toBe(stringContaining(" bytes allocated per invocation exceeds budget of 16 bytes; at least "));
+        expect(description).toBe(stringContaining(" in 100 invocations in each of "));
+    }
+
+    @Test
+    public void exceptionOfProcedureShouldBePropagated() {
+        expect(() -> expect(() -> {
+            throw new IllegalStateException();
+        }).toAllocateAtMost(0)).toThrow(IllegalStateException.class);
+
+        expect(() -> expect(() -> {
+            throw new IOException();
+        }).toAllocateAtMost(0)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void measurementShouldNotIncludeAllocationsOfCounter() throws Exception {
+        final ExpectAllocationContinuation.AllocationCounter counter = ExpectAllocationContinuation.AllocationCounter.forCurrentThread();
+        final long overheadBytes = counter.calibrateOverhead(ExpectAllocationContinuation.CALIBRATION_ITERATIONS);
+
+        expect(overheadBytes >= 0).toBe(true);
+        expect(ExpectAllocationContinuation.measure(() -> {}, 1000, counter, overheadBytes)).toBe(0L);
+        expect(ExpectAllocationContinuation.measure(() -> sink = new byte[1024], 10, counter, overheadBytes) >= 10 * 1024).toBe(true);
+    }
+
+    @Test
+    public void expectationShouldBeMetByBestRound() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+
+        withFailureHandler(() -> expect(() -> {
+            if (calls.incrementAndGet() <= 15) {
+                sink = new byte[1024];
+            }
+        }).allocation().withWarmUp(5).withIterations(10).toAllocateAtMost(0));
+
+        verify(expectationFailureHandler, never()).handleExpectationFailure(any());
+        expect(calls.get() > 15).toBe(true);
+    }
+
+    @Test
+    public void allocationShouldOnlyBeMeasurableByProcedureExpectations() {
+        expect(Arrays.stream(Expect.ExpectProcedureContinuation.class.getMethods()).anyMatch(method -> method.getName().equals("allocation"))).toBe(false);
+        expect(Arrays.stream(Expect.ExpectProcedureContinuation.class.getMethods()).anyMatch(method -> method.getName().equals("toAllocateAtMost"))).toBe(false);
+    }
+
+    @Test
+    public void matcherCombinatorsShouldNotAllocate() {
+        final Matcher<String> equalToFoo = Equal.equal("foo");
+        final Matcher<String> ofLengthThree = value -> value.length() == 3;
+        final Matcher<String> both = equalToFoo.and(ofLengthThree);
+        final Matcher<String> either = equalToFoo.or(Equal.equal("bar"));
+        final Matcher<String> eitherSecond = Equal.<String>equal("bar").or(equalToFoo);
+
+        expect(() -> both.matches("foo")).toAllocateAtMost(0);
+        expect(() -> both.evaluate("foo")).toAllocateAtMost(0);
+        expect(() -> either.matches("foo")).toAllocateAtMost(0);
+        expect(() -> either.evaluate("foo")).toAllocateAtMost(0);
+        expect(() -> eitherSecond.matches("foo")).toAllocateAtMost(0);
+
+        // The result of the failed first alternative is discarded if the second one matches
+        expect(() -> eitherSecond.evaluate("foo")).toAllocateAtMost(64);
+    }
+
+    @Test
+    public void successfulExpectationsShouldNotCaptureCallSiteIfCapturedOnFailure() throws Exception {
+        final Matcher<String> ofLengthThree = value -> value.length() == 3;
+        final Integer boxed = 42;
+
+        Expect.Configuration.withScope(Expect.Configuration.get().withCallerCaptureMode(CallerCaptureMode.ON_FAILURE), () -> {
+            expect(() -> expect("foo").toBe("foo")).toAllocateAtMost(CONTINUATION_ALLOCATION_BUDGET);
+            expect(() -> expect("foo").toBe(ofLengthThree)).toAllocateAtMost(CONTINUATION_ALLOCATION_BUDGET);
+            expect(() -> expect(boxed).toBe(boxed)).toAllocateAtMost(CONTINUATION_ALLOCATION_BUDGET);
+            expect(() -> expect(42).toBe(42)).toAllocateAtMost(CONTINUATION_ALLOCATION_BUDGET);
+            expect(() -> expect(42L).toBe(42L)).toAllocateAtMost(CONTINUATION_ALLOCATION_BUDGET);
+            expect(() -> expect(true).toBe(true)).toAllocateAtMost(CONTINUATION_ALLOCATION_BUDGET);
+        });
+    }
+
+    @Test
+    public void capturingCallSiteShouldExceedContinuationAllocationBudget() throws Exception {
+        final Expect.Configuration configuration = Expect.Configuration.get()
+                .withCallerCaptureMode(CallerCaptureMode.DEFERRED)
+                .withExpectationFailureHandler(expectationFailureHandler);
+
+        Expect.Configuration.withScope(configuration, () -> expect(() -> expect("foo").toBe("foo")).toAllocateAtMost(CONTINUATION_ALLOCATION_BUDGET));
+
+        verify(expectationFailureHandler).handleExpectationFailure(any());
+    }
+
+    private void withFailureHandler(Procedure procedure) throws Exception {
+        Expect.Configuration.withScope(Expect.Configuration.get().withExpectationFailureHandler(expectationFailureHandler), procedure);
+    }
+
+}
@@ -0,0 +1,124 @@
+package org.testifj;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testifj.Expect.expect;
+import static org.testifj.Expect.expectEventually;
+
+public class ExpectEventuallyContinuationTest {
+
+    private final ExpectationFailureHandler expectationFailureHandler = mock(ExpectationFailureHandler.class);
+
+    @Test
+    public void expectEventuallyShouldNotAcceptNullSupplier() {
+        expect(() -> expectEventually(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void pollingShouldBeConfigurable() {
+        final ExpectEventuallyContinuation<String> continuation = expectEventually(() -> "foo");
+
+        expect(continuation.getTimeout(TimeUnit.MILLISECONDS)).toBe(ExpectEventuallyContinuation.DEFAULT_TIMEOUT_MILLIS);
+        expect(continuation.within(2, TimeUnit.SECONDS).getTimeout(TimeUnit.MILLISECONDS)).toBe(2000L);
+        expect(continuation.pollingEvery(50, TimeUnit.MILLISECONDS).getInitialInterval(TimeUnit.MILLISECONDS)).toBe(50L);
+        expect(continuation.withMaximumInterval(5, TimeUnit.MILLISECONDS).getMaximumInterval(TimeUnit.MILLISECONDS)).toBe(5L);
+        expect(continuation.withMaximumInterval(5, TimeUnit.MILLISECONDS).getInitialInterval(TimeUnit.MILLISECONDS)).toBe(5L);
+        expect(() -> continuation.within(-1, TimeUnit.SECONDS)).toThrow(AssertionError.class);
+        expect(() -> continuation.pollingEvery(0, TimeUnit.SECONDS)).toThrow(AssertionError.class);
+        expect(() -> continuation.on(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void expectationShouldSucceedWhenValueEventuallyMatches() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+
+        withFailureHandler(() -> expectEventually(counter::incrementAndGet).pollingEvery(1, TimeUnit.MILLISECONDS).toBe(3));
+
+        verify(expectationFailureHandler, never()).handleExpectationFailure(any());
+        expect(counter.get()).toBe(3);
+    }
+
+    @Test
+    public void lastValueShouldBeReportedOnTimeout() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final ArgumentCaptor<ValueMismatchFailure> failure = ArgumentCaptor.forClass(ValueMismatchFailure.class);
+
+        withFailureHandler(() -> expectEventually(counter::incrementAndGet)
+                .within(30, TimeUnit.MILLISECONDS)
+                .pollingEvery(1, TimeUnit.MILLISECONDS)
+                .toBe(-1));
+
+        verify(expectationFailureHandler).handleExpectationFailure(failure.capture());
+        expect(failure.getValue().getValue()).toBe(counter.get());
+        expect(failure.getValue().getExpectedValue().get()).toBe(-1);
+        expect(failure.getValue().getMatchResult().isPresent()).toBe(true);
+    }
+
+    @Test
+    public void lastExceptionOfSupplierShouldBeSuppressedByFailure() throws Exception {
+        final IllegalStateException exception = new IllegalStateException("not ready");
+
+        doThrow(new AssertionError("failed")).when(expectationFailureHandler).handleExpectationFailure(any());
+
+        withFailureHandler(() -> {
+            final ExpectEventuallyContinuation<String> continuation = expectEventually((Supplier<String>) () -> {
+                throw exception;
+            }).within(10, TimeUnit.MILLISECONDS);
+
+            expect(() -> continuation.toBe("foo")).toThrow(AssertionError.class)
+                    .where(e -> e.getSuppressed().length == 1 && e.getSuppressed()[0] == exception);
+        });
+    }
+
+    @Test
+    public void toBecomeShouldCompleteWithMatchingValueWithoutBlocking() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        withFailureHandler(() -> {
+            for (int i = 0; i < 1000; i++) {
+                futures.add(expectEventually(counter::incrementAndGet)
+                        .pollingEvery(1, TimeUnit.MILLISECONDS)
+                        .toBecome(n -> n > 3000));
+            }
+        });
+
+        for (CompletableFuture<Integer> future : futures) {
+            expect(future.join() > 3000).toBe(true);
+        }
+
+        verify(expectationFailureHandler, never()).handleExpectationFailure(any());
+    }
+
+    @Test
+    public void toBecomeShouldCompleteExceptionallyWithErrorOfHandler() throws Exception {
+        final AssertionError error = new AssertionError("failed");
+
+        doThrow(error).when(expectationFailureHandler).handleExpectationFailure(any());
+
+        withFailureHandler(() -> {
+            final CompletableFuture<String> future = expectEventually(() -> "foo").within(10, TimeUnit.MILLISECONDS).toBecome("bar"::equals);
+
+            expect(future::join).toThrow(CompletionException.class).where(e -> e.getCause() == error);
+        });
+    }
+
+    private void withFailureHandler(Procedure procedure) throws Exception {
+        Expect.Configuration.withScope(Expect.Configuration.get().withExpectationFailureHandler(expectationFailureHandler), procedure);
+    }
+
+}
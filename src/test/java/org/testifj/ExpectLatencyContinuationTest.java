@@ -0,0 +1,119 @@
+package org.testifj;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.StringThatIs.stringContaining;
+
+public class ExpectLatencyContinuationTest {
+
+    private final ExpectationFailureHandler expectationFailureHandler = mock(ExpectationFailureHandler.class);
+
+    @Test
+    public void measurementShouldBeConfigurable() {
+        final ExpectLatencyContinuation continuation = expect(() -> {}).latency();
+
+        expect(continuation.getWarmUpIterations()).toBe(ExpectLatencyContinuation.DEFAULT_WARM_UP_ITERATIONS);
+        expect(continuation.getIterations()).toBe(ExpectLatencyContinuation.DEFAULT_ITERATIONS);
+        expect(continuation.getPercentile()).toBe(50d);
+        expect(continuation.withWarmUp(0).getWarmUpIterations()).toBe(0);
+        expect(continuation.withIterations(10).getIterations()).toBe(10);
+        expect(continuation.atPercentile(99.9).getPercentile()).toBe(99.9);
+        expect(continuation.atMaximum().getPercentile()).toBe(100d);
+        expect(continuation.atMaximum().atMedian().getPercentile()).toBe(50d);
+        expect(() -> continuation.withWarmUp(-1)).toThrow(AssertionError.class);
+        expect(() -> continuation.withIterations(0)).toThrow(AssertionError.class);
+        expect(() -> continuation.atPercentile(0)).toThrow(AssertionError.class);
+        expect(() -> continuation.atPercentile(100.1)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void procedureShouldBeCalledForWarmUpAndMeasuredIterations() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+
+        withFailureHandler(() -> expect(calls::incrementAndGet).latency().withWarmUp(5).withIterations(10).toCompleteWithin(1, TimeUnit.MINUTES));
+
+        verify(expectationFailureHandler, never()).handleExpectationFailure(any());
+        expect(calls.get()).toBe(15);
+    }
+
+    @Test
+    public void procedureCompletingWithinBudgetShouldNotFail() throws Exception {
+        withFailureHandler(() -> expect(() -> {}).toCompleteWithin(1, TimeUnit.SECONDS));
+
+        verify(expectationFailureHandler, never()).handleExpectationFailure(any());
+    }
+
+    @Test
+    public void latencyExceedingBudgetShouldBeReportedWithHistogram() throws Exception {
+        final ArgumentCaptor<ValueMismatchFailure> failure = ArgumentCaptor.forClass(ValueMismatchFailure.class);
+
+        withFailureHandler(() -> expect(() -> Thread.sleep(2)).latency()
+                .withWarmUp(0)
+                .withIterations(5)
+                .atPercentile(99)
+                .toCompleteWithin(1, TimeUnit.MILLISECONDS));
+
+        verify(expectationFailureHandler).handleExpectationFailure(failure.capture());
+
+        final String description = new StandardDescriptionFormat().format(failure.getValue().getMatchResult().get().describe().get());
+
+        expect((Long) failure.getValue().getValue() > TimeUnit.MILLISECONDS.toNanos(1)).toBe(true);
+        expect(description).toBe(stringContaining("p99 latency "));
+        expect(description).toBe(stringContaining(" exceeds budget of 1.0 ms; 5 samples: min "));
+        expect(description).toBe(stringContaining("\n  ["));
+    }
+
+    @Test
+    public void exceptionOfProcedureShouldBePropagated() {
+        expect(() -> expect(() -> {
+            throw new IllegalStateException();
+        }).toCompleteWithin(1, TimeUnit.SECONDS)).toThrow(IllegalStateException.class);
+
+        expect(() -> expect(() -> {
+            throw new IOException();
+        }).toCompleteWithin(1, TimeUnit.SECONDS)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void samplesShouldExcludeClockOverhead() throws Exception {
+        final long[] samples = new long[100];
+
+        ExpectLatencyContinuation.measure(() -> {}, samples, samples.length, Long.MAX_VALUE / 2);
+
+        for (long sample : samples) {
+            expect(sample).toBe(0L);
+        }
+
+        expect(ExpectLatencyContinuation.calibrateOverhead() >= 0).toBe(true);
+    }
+
+    @Test
+    public void percentilesShouldBeDescribedByName() {
+        expect(ExpectLatencyContinuation.describePercentile(50)).toBe("median");
+        expect(ExpectLatencyContinuation.describePercentile(100)).toBe("maximum");
+        expect(ExpectLatencyContinuation.describePercentile(99)).toBe("p99");
+        expect(ExpectLatencyContinuation.describePercentile(99.9)).toBe("p99.9");
+    }
+
+    @Test
+    public void latencyShouldOnlyBeMeasurableByProcedureExpectations() {
+        expect(Arrays.stream(Expect.ExpectProcedureContinuation.class.getMethods()).anyMatch(method -> method.getName().equals("latency"))).toBe(false);
+        expect(Arrays.stream(Expect.ExpectProcedureContinuation.class.getMethods()).anyMatch(method -> method.getName().equals("toCompleteWithin"))).toBe(false);
+    }
+
+    private void withFailureHandler(Procedure procedure) throws Exception {
+        Expect.Configuration.withScope(Expect.Configuration.get().withExpectationFailureHandler(expectationFailureHandler), procedure);
+    }
+
+}
@@ -1,16 +1,25 @@
 package org.testifj;
 
+import io.recode.Caller;
 import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.testifj.matchers.core.CollectionThatIs;
+import org.testifj.matchers.core.IntegerThatIs;
+import org.testifj.matchers.core.NumberThatIs;
 import io.recode.classfile.ConstantPoolEntry;
 import io.recode.classfile.impl.DefaultConstantPool;
 
 import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
@@ -290,6 +299,296 @@ public class ExpectTest {
         verify(matcher).matches(eq(cause));
     }
 
+    @Test
+    public void passingExpectationShouldNotMaterializeStackTraceUnlessCapturedEagerly() throws Exception {
+        for (CallerCaptureMode mode : new CallerCaptureMode[]{CallerCaptureMode.DEFERRED, CallerCaptureMode.ON_FAILURE}) {
+            final int stackTraceCount = runWithCallerCaptureMode(mode, () -> {
+                expect("foo").toBe("foo");
+                expect(1).toBe(lessThanTwo());
+                expect("foo").not().toBe("bar");
+                expect(() -> { throw new IllegalStateException(); }).toThrow(IllegalStateException.class);
+            });
+
+            expect(stackTraceCount).toBe(0);
+        }
+    }
+
+    @Test
+    public void callSitesShouldBeCapturedOnFailureByDefault() {
+        final Expect.Configuration configuration = Expect.Configuration.newBuilder()
+                .configureExpectationFailureHandler(expectationFailureHandler)
+                .build();
+
+        expect(configuration.getCallerCaptureMode()).toBe(CallerCaptureMode.ON_FAILURE);
+    }
+
+    @Test
+    public void defaultConfigurationShouldNotRecordCallSitesOfExpectations() {
+        expect(Expect.Configuration.get().getCallerCaptureMode()).toBe(CallerCaptureMode.ON_FAILURE);
+        expect(CallSite.capture(CallerCaptureMode.ON_FAILURE) == CallSite.capture(CallerCaptureMode.ON_FAILURE)).toBe(true);
+        expect(CallSite.capture(CallerCaptureMode.DEFERRED) == CallSite.capture(CallerCaptureMode.DEFERRED)).toBe(false);
+    }
+
+    @Test
+    public void eagerCallerCaptureShouldMaterializeStackTrace() throws Exception {
+        final int stackTraceCount = runWithCallerCaptureMode(CallerCaptureMode.EAGER, () -> expect("foo").toBe("foo"));
+
+        expect(stackTraceCount).toBe(1);
+    }
+
+    @Test
+    public void failingExpectationShouldBeDescribedInAllCallerCaptureModes() throws Exception {
+        for (CallerCaptureMode mode : CallerCaptureMode.values()) {
+            final Expect.Configuration originalConfiguration = Expect.Configuration.configure(
+                    Expect.Configuration.get().withCallerCaptureMode(mode));
+
+            try {
+                expect(() -> expect("foo").toBe("bar"))
+                        .toThrow(AssertionError.class)
+                        .where(e -> e.getMessage().contains("\"foo\" to be \"bar\""));
+            } finally {
+                Expect.Configuration.configure(originalConfiguration);
+            }
+        }
+    }
+
+    @Test
+    public void withCallerCaptureModeShouldNotAcceptNullMode() {
+        expect(() -> Expect.Configuration.get().withCallerCaptureMode(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void primitiveExpectationsShouldSucceedIfValuesMatch() {
+        expect(1).toBe(1);
+        expect(1).toBe(IntegerThatIs.odd());
+        expect(1).not().toBe(2);
+        expect(1).not().toBe(IntegerThatIs.even());
+        expect(1L).toBe(1L);
+        expect(1L).toBe(NumberThatIs.between(0L, 2L));
+        expect(1L).not().toBe(2L);
+        expect(1.5).toBe(1.5);
+        expect(1.5).toBe(NumberThatIs.greaterThan(1.0).and(NumberThatIs.lessThan(2.0)));
+        expect(1.5).not().toBe(2.5);
+        expect(Double.NaN).toBe(Double.NaN);
+    }
+
+    @Test
+    public void primitiveExpectationsShouldAcceptGenericMatchers() {
+        expect(1).toBe(equalTo(1));
+        expect(1L).toBe(equalTo(1L));
+        expect(1.5).toBe(equalTo(1.5));
+        expect(1).not().toBe(equalTo(2));
+    }
+
+    @Test
+    public void failedPrimitiveExpectationShouldReportBoxedValue() {
+        final Expect.Configuration defaultConfiguration = Expect.Configuration
+                .configure(Expect.Configuration.newBuilder()
+                        .configureExpectationFailureHandler(expectationFailureHandler)
+                        .build());
+
+        try {
+            expect(1).toBe(2);
+            expect(2L).toBe(NumberThatIs.lessThan(1L));
+            expect(3.0).not().toBe(3.0);
+        } finally {
+            Expect.Configuration.configure(defaultConfiguration);
+        }
+
+        verify(expectationFailureHandler).handleExpectationFailure(argThat(isValueMismatchFailure(Optional.of(2), 1)));
+        verify(expectationFailureHandler).handleExpectationFailure(argThat(isValueMismatchFailure(Optional.empty(), 2L)));
+        verify(expectationFailureHandler).handleExpectationFailure(argThat(isValueMismatchFailure(Optional.empty(), 3.0)));
+    }
+
+    @Test
+    public void scopedConfigurationShouldHandleFailuresWithinScope() throws Exception {
+        final Expect.Configuration defaultConfiguration = Expect.Configuration.get();
+
+        Expect.Configuration.withScope(defaultConfiguration.withExpectationFailureHandler(expectationFailureHandler), () -> {
+            expect(1).toBe(2);
+            expect(Expect.Configuration.get()).not().toBe(defaultConfiguration);
+        });
+
+        verify(expectationFailureHandler).handleExpectationFailure(argThat(isValueMismatchFailure(Optional.of(2), 1)));
+        expect(Expect.Configuration.get()).toBe(defaultConfiguration);
+    }
+
+    @Test
+    public void failureOfMatcherShouldIncludeMatchResult() throws Exception {
+        final Expect.Configuration defaultConfiguration = Expect.Configuration.get();
+        final Matcher<Integer> positive = n -> n > 0;
+        final ArgumentCaptor<ValueMismatchFailure> failure = ArgumentCaptor.forClass(ValueMismatchFailure.class);
+
+        Expect.Configuration.withScope(defaultConfiguration.withExpectationFailureHandler(expectationFailureHandler), () -> {
+            expect(Arrays.asList(1, -2)).to(CollectionThatIs.collectionWithElements(positive, positive));
+        });
+
+        verify(expectationFailureHandler).handleExpectationFailure(failure.capture());
+
+        final MatchResult result = failure.getValue().getMatchResult().get();
+
+        expect(result.getPath()).toBe("[1]");
+        expect(result.getValue()).toBe(-2);
+        expect(result.getFailedMatcher()).toBe(Optional.of(positive));
+    }
+
+    @Test
+    public void collectFailuresShouldReportAllFailuresInOneError() {
+        final Expect.Configuration defaultConfiguration = Expect.Configuration.configure(configurationWithStoredDescriptions());
+
+        try {
+            expect(() -> Expect.collectFailures(() -> {
+                expect(1).toBe(2);
+                expect("foo").toBe("bar");
+
+                final Thread thread = new Thread(() -> expect(false).toBe(true));
+
+                thread.start();
+                thread.join();
+            })).toThrow(AssertionError.class).withMessage(containString("3 expectations failed:"));
+        } finally {
+            Expect.Configuration.configure(defaultConfiguration);
+        }
+    }
+
+    @Test
+    public void collectFailuresShouldSucceedIfNoExpectationFails() {
+        final Expect.Configuration configuration = Expect.Configuration.get();
+
+        Expect.collectFailures(() -> {
+            expect(1).toBe(1);
+            expect("foo").toBe("foo");
+        });
+
+        expect(Expect.Configuration.get()).toBe(configuration);
+    }
+
+    @Test
+    public void collectFailuresShouldRestoreConfigurationAndRethrowExceptionOfProcedure() {
+        final Expect.Configuration configuration = Expect.Configuration.get();
+
+        expect(() -> Expect.collectFailures(() -> {
+            throw new IllegalStateException("foo");
+        })).toThrow(IllegalStateException.class);
+
+        expect(Expect.Configuration.get()).toBe(configuration);
+    }
+
+    @Test
+    public void exceptionOfProcedureShouldBeSuppressedByCollectedFailures() {
+        final Expect.Configuration defaultConfiguration = Expect.Configuration.configure(configurationWithStoredDescriptions());
+        final IllegalStateException exception = new IllegalStateException("foo");
+
+        try {
+            Expect.collectFailures(() -> {
+                expect(1).toBe(2);
+                throw exception;
+            });
+
+            fail("Collected failures should have been reported");
+        } catch (AssertionError e) {
+            expect(e.getSuppressed().length).toBe(1);
+            expect(e.getSuppressed()[0]).toBe(exception);
+        } finally {
+            Expect.Configuration.configure(defaultConfiguration);
+        }
+    }
+
+    @Test
+    public void invertedExceptionExpectationShouldBeVerifiedWhenFailuresAreCollected() throws Exception {
+        final CollectingExpectationFailureHandler collectingHandler = new CollectingExpectationFailureHandler(new DefaultExpectationFailureHandler.Builder().build());
+
+        Expect.collectFailures(() -> expect(() -> {}).not().toThrow());
+
+        expect(() -> Expect.collectFailures(() -> expect(() -> {
+            throw new IllegalStateException();
+        }).not().toThrow())).toThrow(AssertionError.class);
+
+        Expect.Configuration.withScope(Expect.Configuration.get().withExpectationFailureHandler(collectingHandler), () -> {
+            expect(() -> {}).not().toThrow();
+            expect(() -> {}).not().toThrow(IllegalStateException.class);
+        });
+
+        expect(collectingHandler.getFailures().isEmpty()).toBe(true);
+    }
+
+    private Expect.Configuration configurationWithStoredDescriptions() {
+        final CodeDescriptionStore codeDescriptionStore = mock(CodeDescriptionStore.class);
+        final DefaultExpectationFailureHandler.Builder builder = new DefaultExpectationFailureHandler.Builder();
+
+        when(codeDescriptionStore.get(any(Caller.class), any(String.class))).thenReturn(Optional.of(Arrays.asList("failed expectation")));
+        builder.setCodeDescriptionStore(codeDescriptionStore);
+
+        return Expect.Configuration.get().withExpectationFailureHandler(builder.build());
+    }
+
+    private Matcher<Integer> lessThanTwo() {
+        return n -> n < 2;
+    }
+
+    private int runWithCallerCaptureMode(CallerCaptureMode mode, Procedure procedure) throws Exception {
+        final Expect.Configuration originalConfiguration = Expect.Configuration.configure(
+                Expect.Configuration.get().withCallerCaptureMode(mode));
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+
+        try {
+            final StackTraceCountingThread thread = new StackTraceCountingThread(() -> {
+                try {
+                    procedure.call();
+                } catch (Throwable e) {
+                    error.set(e);
+                }
+            });
+
+            thread.start();
+            thread.join();
+
+            if (error.get() != null) {
+                throw new AssertionError("Procedure failed", error.get());
+            }
+
+            return thread.stackTraceCount.get();
+        } finally {
+            Expect.Configuration.configure(originalConfiguration);
+        }
+    }
+
+    private static final class StackTraceCountingThread extends Thread {
+
+        private final AtomicInteger stackTraceCount = new AtomicInteger();
+
+        private StackTraceCountingThread(Runnable target) {
+            super(target);
+        }
+
+        @Override
+        public StackTraceElement[] getStackTrace() {
+            stackTraceCount.incrementAndGet();
+            return super.getStackTrace();
+        }
+    }
+
+    private BaseMatcher<ExpectationFailure> isValueMismatchFailure(final Optional<Object> expectedValue, final Object value) {
+        return new BaseMatcher<ExpectationFailure>() {
+            @Override
+            public boolean matches(Object item) {
+                if (!(item instanceof ValueMismatchFailure)) {
+                    return false;
+                }
+
+                final ValueMismatchFailure valueMismatchFailure = (ValueMismatchFailure) item;
+
+                return valueMismatchFailure.getExpectedValue().equals(expectedValue)
+                        && valueMismatchFailure.getValue().equals(value);
+            }
+
+            @Override
+            public void describeTo(Description description) {
+                description.appendText("isValueMismatchFailure(expectedValue=" + expectedValue + ", value=" + value + ")");
+            }
+        };
+    }
+
     private BaseMatcher<ExpectationFailure> isExpectedExceptionFailure(final Class<? extends Throwable> expectedException) {
         return new BaseMatcher<ExpectationFailure>() {
             @Override
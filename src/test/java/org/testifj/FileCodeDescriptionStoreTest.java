@@ -0,0 +1,183 @@
+package org.testifj;
+
+import io.recode.Caller;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.ObjectThatIs.equalTo;
+
+public class FileCodeDescriptionStoreTest {
+
+    @Rule
+    public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    private final Map<String, byte[]> classFiles = new HashMap<>();
+
+    private final Caller exampleCaller = Caller.me();
+
+    @Test
+    public void constructorShouldNotAcceptInvalidArguments() {
+        expect(() -> new FileCodeDescriptionStore(null)).toThrow(AssertionError.class);
+        expect(() -> new FileCodeDescriptionStore(temporaryFolder.getRoot().toPath(), null)).toThrow(AssertionError.class);
+        expect(() -> new FileCodeDescriptionStore(temporaryFolder.getRoot().toPath(), classFiles::get, 0)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void storedDescriptionShouldBeReturned() {
+        final FileCodeDescriptionStore store = newStore();
+
+        store.put(exampleCaller, "key", Arrays.asList("foo", "bar"));
+
+        expect(store.get(exampleCaller, "key")).toBe(Optional.of(Arrays.asList("foo", "bar")));
+        expect(store.get(exampleCaller, "otherKey")).toBe(Optional.<List<String>>empty());
+    }
+
+    @Test
+    public void storedDescriptionShouldBeSharedWithOtherStoresInSameDirectory() {
+        newStore().put(exampleCaller, "key", Arrays.asList("foo", "bar"));
+
+        expect(newStore().get(exampleCaller, "key")).toBe(Optional.of(Arrays.asList("foo", "bar")));
+    }
+
+    @Test
+    public void descriptionsAppendedByOtherStoreShouldBeVisibleToExistingStore() {
+        final FileCodeDescriptionStore store = newStore();
+        final Caller otherCaller = Caller.me();
+
+        store.put(exampleCaller, "key", Arrays.asList("foo"));
+        newStore().put(otherCaller, "key", Arrays.asList("bar"));
+
+        expect(store.get(otherCaller, "key")).toBe(Optional.of(Arrays.asList("bar")));
+    }
+
+    @Test
+    public void descriptionsOfCallersInDifferentMethodsOnSameLineShouldBeStoredSeparately() {
+        final Caller methodCaller = caller("method", 10);
+        final Caller lambdaCaller = caller("lambda$method$0", 10);
+
+        newStore().put(methodCaller, "key", Arrays.asList("foo"));
+        newStore().put(lambdaCaller, "key", Arrays.asList("bar"));
+
+        expect(newStore().get(methodCaller, "key")).toBe(Optional.of(Arrays.asList("foo")));
+        expect(newStore().get(lambdaCaller, "key")).toBe(Optional.of(Arrays.asList("bar")));
+    }
+
+    @Test
+    public void modifiedClassFileShouldInvalidateStoredDescriptions() {
+        newStore().put(exampleCaller, "key", Arrays.asList("foo"));
+
+        classFiles.put(getClass().getName(), new byte[]{4, 5, 6});
+
+        expect(newStore().get(exampleCaller, "key")).toBe(Optional.<List<String>>empty());
+    }
+
+    @Test
+    public void descriptionsShouldNotBeStoredForUnresolvableClassFile() throws IOException {
+        final FileCodeDescriptionStore store = new FileCodeDescriptionStore(temporaryFolder.getRoot().toPath(), className -> null);
+
+        store.put(exampleCaller, "key", Arrays.asList("foo"));
+
+        expect(store.get(exampleCaller, "key")).toBe(Optional.<List<String>>empty());
+        expect(Files.exists(storeFile())).toBe(false);
+    }
+
+    @Test
+    public void storeFileShouldOnlyBeAppendedTo() throws IOException {
+        final FileCodeDescriptionStore store = newStore();
+
+        store.put(exampleCaller, "key1", Arrays.asList("foo"));
+
+        final byte[] initialContent = Files.readAllBytes(storeFile());
+
+        store.put(exampleCaller, "key2", Arrays.asList("bar"));
+
+        final byte[] content = Files.readAllBytes(storeFile());
+
+        expect(content.length > initialContent.length).toBe(true);
+        expect(Arrays.copyOf(content, initialContent.length)).toBe(initialContent);
+    }
+
+    @Test
+    public void incompleteRecordShouldBeIgnored() throws IOException {
+        newStore().put(exampleCaller, "key", Arrays.asList("foo"));
+
+        Files.write(storeFile(), new byte[]{0x54, 0x49, 0x4a, 0x31, 0, 0}, StandardOpenOption.APPEND);
+
+        expect(newStore().get(exampleCaller, "key")).toBe(Optional.of(Arrays.asList("foo")));
+    }
+
+    @Test
+    public void descriptionsShouldNotBeAppendedBeyondMaximumSize() throws IOException {
+        final FileCodeDescriptionStore store = newStore(200);
+
+        store.put(exampleCaller, "key1", Arrays.asList("foo"));
+
+        final byte[] content = Files.readAllBytes(storeFile());
+
+        for (int i = 2; i < 10; i++) {
+            store.put(exampleCaller, "key" + i, Arrays.asList("bar"));
+        }
+
+        final byte[] cappedContent = Files.readAllBytes(storeFile());
+
+        expect(cappedContent.length <= 200).toBe(true);
+        expect(Arrays.copyOf(cappedContent, content.length)).toBe(content);
+        expect(store.get(exampleCaller, "key9")).toBe(Optional.of(Arrays.asList("bar")));
+        expect(newStore(200).get(exampleCaller, "key1")).toBe(Optional.of(Arrays.asList("foo")));
+        expect(newStore(200).get(exampleCaller, "key9")).toBe(Optional.<List<String>>empty());
+    }
+
+    @Test
+    public void entriesOfOtherStoresShouldBeRetainedWhenMaximumSizeIsReached() {
+        final FileCodeDescriptionStore store = newStore(200);
+        final Caller otherCaller = Caller.me();
+
+        newStore(200).put(otherCaller, "key", Arrays.asList("bar"));
+
+        for (int i = 0; i < 10; i++) {
+            store.put(exampleCaller, "key" + i, Arrays.asList("foo"));
+        }
+
+        expect(newStore(200).get(otherCaller, "key")).toBe(Optional.of(Arrays.asList("bar")));
+    }
+
+    @Test
+    public void noneShouldNotRetainDescriptions() {
+        final CodeDescriptionStore store = CodeDescriptionStore.none();
+
+        store.put(exampleCaller, "key", Arrays.asList("foo"));
+
+        expect(store.get(exampleCaller, "key")).toBe(equalTo(Optional.empty()));
+    }
+
+    private FileCodeDescriptionStore newStore() {
+        return newStore(FileCodeDescriptionStore.DEFAULT_MAXIMUM_SIZE);
+    }
+
+    private FileCodeDescriptionStore newStore(long maximumSize) {
+        classFiles.putIfAbsent(getClass().getName(), new byte[]{1, 2, 3});
+
+        return new FileCodeDescriptionStore(temporaryFolder.getRoot().toPath(), classFiles::get, maximumSize);
+    }
+
+    private Caller caller(String methodName, int lineNumber) {
+        return new Caller(Arrays.asList(new StackTraceElement(getClass().getName(), methodName, "FileCodeDescriptionStoreTest.java", lineNumber)), 0);
+    }
+
+    private Path storeFile() {
+        return temporaryFolder.getRoot().toPath().resolve(FileCodeDescriptionStore.FILE_NAME);
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.testifj;
+
+import org.junit.Test;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testifj.Expect.expect;
+
+public class IntMatcherTest {
+
+    private final IntMatcher positive = value -> value > 0;
+
+    private final IntMatcher even = value -> value % 2 == 0;
+
+    @Test
+    public void boxedValueShouldBeMatchedAsPrimitive() {
+        final Matcher<Integer> matcher = positive;
+
+        expect(matcher.matches(Integer.valueOf(1))).toBe(true);
+        expect(matcher.matches(Integer.valueOf(-1))).toBe(false);
+    }
+
+    @Test
+    public void boxedNullShouldNotMatch() {
+        expect(((IntMatcher) value -> true).matches((Integer) null)).toBe(false);
+    }
+
+    @Test
+    public void andShouldNotAcceptNullMatcher() {
+        expect(() -> positive.and((IntMatcher) null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void andShouldMatchIfBothMatchersMatch() {
+        expect(positive.and(even).matches(2)).toBe(true);
+        expect(positive.and(even).matches(1)).toBe(false);
+        expect(positive.and(even).matches(-1)).toBe(false);
+    }
+
+    @Test
+    public void orShouldNotAcceptNullMatcher() {
+        expect(() -> positive.or((IntMatcher) null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void orShouldMatchIfAnyMatcherMatches() {
+        expect(positive.or(even).matches(1)).toBe(true);
+        expect(positive.or(even).matches(-2)).toBe(true);
+        expect(positive.or(even).matches(-1)).toBe(false);
+    }
+
+    @Test
+    public void andShouldReportFailingBranch() {
+        final IntMatcher both = positive.and(even);
+
+        expect(both.evaluate(Integer.valueOf(2)) == MatchResult.match()).toBe(true);
+        expect(both.evaluate(Integer.valueOf(1)).getFailedMatcher()).toBe(Optional.of(even));
+        expect(both.evaluate(Integer.valueOf(-2)).getFailedMatcher()).toBe(Optional.of(positive));
+    }
+
+    @Test
+    public void orShouldReportBothFailingBranches() {
+        final IntMatcher either = positive.or(even);
+        final MatchResult result = either.evaluate(Integer.valueOf(-1));
+
+        expect(either.evaluate(Integer.valueOf(-2)) == MatchResult.match()).toBe(true);
+        expect(result.getFailedMatcher()).toBe(Optional.of(either));
+        expect(new StandardDescriptionFormat().format(result.getDescription().get()))
+                .toBe("neither alternative matched (first: -1 doesn't match; second: -1 doesn't match)");
+    }
+
+    @Test
+    public void orShouldEvaluateEachBranchOnceOnFailure() {
+        final AtomicInteger calls = new AtomicInteger();
+        final IntMatcher counting = value -> calls.incrementAndGet() < 0;
+
+        expect(counting.or(counting).evaluate(Integer.valueOf(1)).isMatch()).toBe(false);
+        expect(calls.get()).toBe(2);
+    }
+
+}
@@ -0,0 +1,38 @@
+package org.testifj;
+
+import java.util.Random;
+
+/**
+ * Compares the p99 of a number of samples computed by {@link org.testifj.LatencyHistogram} with the p99
+ * computed by {@link org.testifj.LatencyStatistics}, which sorts a copy of all samples.
+ */
+public final class LatencyHistogramBenchmark {
+
+    private static final int ITERATIONS = 100;
+
+    public static void main(String[] args) {
+        for (int sampleCount : new int[]{10_000, 1_000_000}) {
+            final long[] samples = new long[sampleCount];
+            final Random random = new Random(1234);
+
+            for (int i = 0; i < samples.length; i++) {
+                samples[i] = 1000 + (long) (Math.abs(random.nextGaussian()) * 1_000_000);
+            }
+
+            Benchmark.report("sorted samples, " + sampleCount + " samples",
+                    Benchmark.nanosPerOperation(ITERATIONS, () -> LatencyStatistics.of(samples.clone()).getPercentile(99)));
+
+            Benchmark.report("LatencyHistogram, " + sampleCount + " samples",
+                    Benchmark.nanosPerOperation(ITERATIONS, () -> {
+                        final LatencyHistogram histogram = new LatencyHistogram();
+
+                        for (long sample : samples) {
+                            histogram.record(sample);
+                        }
+
+                        return histogram.getValueAtPercentile(99);
+                    }));
+        }
+    }
+
+}
@@ -0,0 +1,214 @@
+package org.testifj;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.NumberThatIs.between;
+import static org.testifj.matchers.core.StringThatIs.stringContaining;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void histogramShouldNotAcceptInvalidConfiguration() {
+        expect(() -> new LatencyHistogram(1, 3)).toThrow(AssertionError.class);
+        expect(() -> new LatencyHistogram(1000, 0)).toThrow(AssertionError.class);
+        expect(() -> new LatencyHistogram(1000, 6)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void histogramShouldRetainConfiguration() {
+        final LatencyHistogram histogram = new LatencyHistogram(TimeUnit.SECONDS.toNanos(1), 2);
+
+        expect(histogram.getHighestTrackableValue()).toBe(TimeUnit.SECONDS.toNanos(1));
+        expect(histogram.getSignificantDigits()).toBe(2);
+    }
+
+    @Test
+    public void recordShouldNotAcceptValuesOutOfRange() {
+        final LatencyHistogram histogram = new LatencyHistogram(1000, 3);
+
+        expect(() -> histogram.record(-1)).toThrow(AssertionError.class);
+        expect(() -> histogram.record(1001)).toThrow(AssertionError.class);
+        expect(() -> histogram.record(1, -1)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void emptyHistogramShouldHaveNoValues() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        expect(histogram.getTotalCount()).toBe(0L);
+        expect(histogram.getMinimum()).toBe(0L);
+        expect(histogram.getMaximum()).toBe(0L);
+        expect(histogram.getMean()).toBe(0d);
+        expect(histogram.getValueAtPercentile(99)).toBe(0L);
+    }
+
+    @Test
+    public void smallValuesShouldBeRecordedExactly() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 1; value <= 100; value++) {
+            histogram.record(value);
+        }
+
+        expect(histogram.getTotalCount()).toBe(100L);
+        expect(histogram.getMinimum()).toBe(1L);
+        expect(histogram.getMaximum()).toBe(100L);
+        expect(histogram.getValueAtPercentile(50)).toBe(50L);
+        expect(histogram.getValueAtPercentile(99)).toBe(99L);
+        expect(histogram.getValueAtPercentile(100)).toBe(100L);
+        expect(histogram.getMean()).toBe(50.5d);
+    }
+
+    @Test
+    public void valuesShouldBeEquivalentWithinPrecision() {
+        for (int significantDigits = 1; significantDigits <= 5; significantDigits++) {
+            final LatencyHistogram histogram = new LatencyHistogram(Long.MAX_VALUE, significantDigits);
+            final double relativeError = Math.pow(10, -significantDigits);
+
+            for (long value : new long[]{1, 1000, 123_456_789, 1L << 40, Long.MAX_VALUE / 3, Long.MAX_VALUE}) {
+                final long lowest = histogram.valueOf(histogram.indexOf(value));
+                final long highest = histogram.highestEquivalentValue(value);
+
+                expect(value).toBe(between(lowest, highest));
+                expect((double) (highest - lowest) / value <= relativeError).toBe(true);
+            }
+        }
+    }
+
+    @Test
+    public void percentilesShouldBeAccurateWithinPrecision() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final long[] values = new long[100_000];
+        final Random random = new Random(1234);
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1000 + (long) (Math.abs(random.nextGaussian()) * 1_000_000);
+            histogram.record(values[i]);
+        }
+
+        Arrays.sort(values);
+
+        for (double percentile : new double[]{10, 50, 90, 99, 99.9}) {
+            final long expected = values[(int) Math.ceil(percentile / 100 * values.length) - 1];
+
+            expect(histogram.getValueAtPercentile(percentile)).toBe(between(expected, expected + expected / 1000));
+        }
+
+        expect(histogram.getValueAtPercentile(100)).toBe(values[values.length - 1]);
+        expect(histogram.getMinimum()).toBe(values[0]);
+    }
+
+    @Test
+    public void recordWithCountShouldRecordValueRepeatedly() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        histogram.record(10, 99);
+        histogram.record(1000, 1);
+
+        expect(histogram.getTotalCount()).toBe(100L);
+        expect(histogram.getValueAtPercentile(99)).toBe(10L);
+        expect(histogram.getValueAtPercentile(99.5)).toBe(1000L);
+    }
+
+    @Test
+    public void addShouldMergeValuesOfOtherHistogram() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final LatencyHistogram other = new LatencyHistogram(TimeUnit.SECONDS.toNanos(1), 2);
+
+        histogram.record(10);
+        other.record(5);
+        other.record(20);
+
+        histogram.add(other);
+        histogram.add(new LatencyHistogram());
+
+        expect(histogram.getTotalCount()).toBe(3L);
+        expect(histogram.getMinimum()).toBe(5L);
+        expect(histogram.getMaximum()).toBe(20L);
+        expect(histogram.getValueAtPercentile(50)).toBe(10L);
+        expect(other.getTotalCount()).toBe(2L);
+        expect(() -> histogram.add(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void valuesShouldBeRecordedConcurrently() throws InterruptedException {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+
+        for (int i = 0; i < 4; i++) {
+            final long offset = i;
+
+            threads.add(new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+
+                for (long value = 1; value <= 10_000; value++) {
+                    histogram.record(value * 4 - offset);
+                }
+            }));
+        }
+
+        threads.forEach(Thread::start);
+        start.countDown();
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        expect(histogram.getTotalCount()).toBe(40_000L);
+        expect(histogram.getMinimum()).toBe(1L);
+        expect(histogram.getMaximum()).toBe(40_000L);
+    }
+
+    @Test
+    public void recordShouldNotAllocate() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        expect(() -> histogram.record(12345)).toAllocateAtMost(0);
+    }
+
+    @Test
+    public void describeShouldIncludePercentileTable() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+
+        for (long value = 1; value <= 1000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        final String description = new StandardDescriptionFormat().format(histogram.describe());
+
+        expect(description).toBe(stringContaining("percentile        value"));
+        expect(description).toBe(stringContaining("\n       50%     500.2 us"));
+        expect(description).toBe(stringContaining("\n       99%     990.2 us"));
+        expect(description).toBe(stringContaining("\n      100%       1.0 ms"));
+        expect(description).toBe(stringContaining("\n1000 values, min 1.0 us, mean 500.5 us, max 1.0 ms"));
+    }
+
+    @Test
+    public void formatNanosShouldUseLargestUnit() {
+        expect(LatencyHistogram.formatNanos(999)).toBe("999 ns");
+        expect(LatencyHistogram.formatNanos(1500)).toBe("1.5 us");
+        expect(LatencyHistogram.formatNanos(10_000_000)).toBe("10.0 ms");
+        expect(LatencyHistogram.formatNanos(2_500_000_000L)).toBe("2.50 s");
+    }
+
+    @Test
+    public void describeShouldOmitPercentilesOfEmptyHistogram() {
+        final String description = new StandardDescriptionFormat().format(new LatencyHistogram().describe());
+
+        expect(description).toBe("percentile        value\n0 values, min 0 ns, mean 0 ns, max 0 ns");
+    }
+
+}
@@ -0,0 +1,73 @@
+package org.testifj;
+
+import org.junit.Test;
+
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.StringThatIs.stringContaining;
+
+public class LatencyStatisticsTest {
+
+    @Test
+    public void statisticsShouldNotAcceptEmptySamples() {
+        expect(() -> LatencyStatistics.of(null)).toThrow(AssertionError.class);
+        expect(() -> LatencyStatistics.of(new long[0])).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void percentilesShouldBeComputedWithNearestRank() {
+        final long[] samples = new long[100];
+
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = 100 - i;
+        }
+
+        final LatencyStatistics statistics = LatencyStatistics.of(samples);
+
+        expect(statistics.getCount()).toBe(100);
+        expect(statistics.getMinimum()).toBe(1L);
+        expect(statistics.getMaximum()).toBe(100L);
+        expect(statistics.getMedian()).toBe(50L);
+        expect(statistics.getPercentile(99)).toBe(99L);
+        expect(statistics.getPercentile(99.5)).toBe(100L);
+        expect(statistics.getPercentile(0.1)).toBe(1L);
+        expect(() -> statistics.getPercentile(0)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void percentileOfSingleSampleShouldBeSample() {
+        final LatencyStatistics statistics = LatencyStatistics.of(new long[]{42});
+
+        expect(statistics.getMedian()).toBe(42L);
+        expect(statistics.getPercentile(99.9)).toBe(42L);
+    }
+
+    @Test
+    public void bucketsShouldBeBoundedByPowersOfTwo() {
+        expect(LatencyStatistics.bucketOf(0)).toBe(0);
+        expect(LatencyStatistics.bucketOf(1)).toBe(1);
+        expect(LatencyStatistics.bucketOf(2)).toBe(2);
+        expect(LatencyStatistics.bucketOf(3)).toBe(2);
+        expect(LatencyStatistics.bucketOf(1024)).toBe(11);
+        expect(LatencyStatistics.bucketOf(Long.MAX_VALUE)).toBe(63);
+    }
+
+    @Test
+    public void nanosShouldBeFormattedInReadableUnit() {
+        expect(LatencyStatistics.formatNanos(999)).toBe("999 ns");
+        expect(LatencyStatistics.formatNanos(1500)).toBe("1.5 us");
+        expect(LatencyStatistics.formatNanos(2_500_000)).toBe("2.5 ms");
+        expect(LatencyStatistics.formatNanos(3_000_000_000L)).toBe("3.00 s");
+    }
+
+    @Test
+    public void descriptionShouldIncludeSummaryAndHistogram() {
+        final String description = new StandardDescriptionFormat().format(LatencyStatistics.of(new long[]{1000, 1100, 1200, 5000}).describe());
+
+        expect(description).toBe(stringContaining("4 samples: min 1.0 us, median 1.1 us, p90 5.0 us, p99 5.0 us, p99.9 5.0 us, max 5.0 us"));
+        expect(description).toBe(stringContaining("\n  [    512 ns,     1.0 us)        1 ####################\n"));
+        expect(description).toBe(stringContaining("\n  [    1.0 us,     2.0 us)        2 ########################################\n"));
+        expect(description).toBe(stringContaining("\n  [    2.0 us,     4.1 us)        0 \n"));
+        expect(description).toBe(stringContaining("\n  [    4.1 us,     8.2 us)        1 ####################"));
+    }
+
+}
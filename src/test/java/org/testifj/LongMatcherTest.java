@@ -0,0 +1,72 @@
+package org.testifj;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.testifj.Expect.expect;
+
+public class LongMatcherTest {
+
+    private final LongMatcher positive = value -> value > 0;
+
+    private final LongMatcher even = value -> value % 2 == 0;
+
+    @Test
+    public void boxedValueShouldBeMatchedAsPrimitive() {
+        final Matcher<Long> matcher = positive;
+
+        expect(matcher.matches(Long.valueOf(1L))).toBe(true);
+        expect(matcher.matches(Long.valueOf(-1L))).toBe(false);
+    }
+
+    @Test
+    public void boxedNullShouldNotMatch() {
+        expect(((LongMatcher) value -> true).matches((Long) null)).toBe(false);
+    }
+
+    @Test
+    public void andShouldNotAcceptNullMatcher() {
+        expect(() -> positive.and((LongMatcher) null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void andShouldMatchIfBothMatchersMatch() {
+        expect(positive.and(even).matches(2L)).toBe(true);
+        expect(positive.and(even).matches(1L)).toBe(false);
+        expect(positive.and(even).matches(-1L)).toBe(false);
+    }
+
+    @Test
+    public void orShouldNotAcceptNullMatcher() {
+        expect(() -> positive.or((LongMatcher) null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void orShouldMatchIfAnyMatcherMatches() {
+        expect(positive.or(even).matches(1L)).toBe(true);
+        expect(positive.or(even).matches(-2L)).toBe(true);
+        expect(positive.or(even).matches(-1L)).toBe(false);
+    }
+
+    @Test
+    public void andShouldReportFailingBranch() {
+        final LongMatcher both = positive.and(even);
+
+        expect(both.evaluate(Long.valueOf(2L)) == MatchResult.match()).toBe(true);
+        expect(both.evaluate(Long.valueOf(1L)).getFailedMatcher()).toBe(Optional.of(even));
+        expect(both.evaluate(Long.valueOf(-2L)).getFailedMatcher()).toBe(Optional.of(positive));
+    }
+
+    @Test
+    public void orShouldReportBothFailingBranches() {
+        final LongMatcher either = positive.or(even);
+        final MatchResult result = either.evaluate(Long.valueOf(-1L));
+
+        expect(either.evaluate(Long.valueOf(-2L)) == MatchResult.match()).toBe(true);
+        expect(result.getFailedMatcher()).toBe(Optional.of(either));
+        expect(new StandardDescriptionFormat().format(result.getDescription().get()))
+                .toBe("neither alternative matched (first: -1 doesn't match; second: -1 doesn't match)");
+    }
+
+}
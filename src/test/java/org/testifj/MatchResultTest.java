@@ -0,0 +1,66 @@
+package org.testifj;
+
+import org.junit.Test;
+
+import java.util.Optional;
+
+import static org.testifj.Expect.expect;
+
+public class MatchResultTest {
+
+    private final Matcher<Object> matcher = (e) -> false;
+
+    @Test
+    public void matchShouldHaveNoFailure() {
+        final MatchResult result = MatchResult.match();
+
+        expect(result.isMatch()).toBe(true);
+        expect(result.getFailedMatcher()).toBe(Optional.empty());
+        expect(result.getDescription()).toBe(Optional.empty());
+        expect(result.describe()).toBe(Optional.empty());
+        expect(result.at("[1]") == result).toBe(true);
+    }
+
+    @Test
+    public void mismatchShouldNotAcceptInvalidArguments() {
+        expect(() -> MatchResult.mismatch(null, "foo")).toThrow(AssertionError.class);
+        expect(() -> MatchResult.mismatch(matcher, "foo", null)).toThrow(AssertionError.class);
+        expect(() -> MatchResult.mismatch(matcher, "foo").at(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void mismatchShouldRetainMatcherValueAndDescription() {
+        final Description description = BasicDescription.from("bar");
+        final MatchResult result = MatchResult.mismatch(matcher, "foo", description);
+
+        expect(result.isMatch()).toBe(false);
+        expect(result.getFailedMatcher()).toBe(Optional.of(matcher));
+        expect(result.getValue()).toBe("foo");
+        expect(result.getDescription()).toBe(Optional.of(description));
+    }
+
+    @Test
+    public void atShouldPrependPathElements() {
+        final MatchResult result = MatchResult.mismatch(matcher, "foo").at("[2]").at("[1]");
+
+        expect(result.getPath()).toBe("[1][2]");
+        expect(result.getValue()).toBe("foo");
+    }
+
+    @Test
+    public void describeShouldBeEmptyForMismatchWithoutPathOrDescription() {
+        expect(MatchResult.mismatch(matcher, "foo").describe()).toBe(Optional.empty());
+    }
+
+    @Test
+    public void describeShouldIncludePathAndValueOrDescription() {
+        expect(format(MatchResult.mismatch(matcher, "foo").at("[3]"))).toBe("at [3]: \"foo\" doesn't match");
+        expect(format(MatchResult.mismatch(matcher, "foo", BasicDescription.from("bar")).at("[3]"))).toBe("at [3]: bar");
+        expect(format(MatchResult.mismatch(matcher, "foo", BasicDescription.from("bar")))).toBe("bar");
+    }
+
+    private static String format(MatchResult result) {
+        return new StandardDescriptionFormat().format(result.describe().get());
+    }
+
+}
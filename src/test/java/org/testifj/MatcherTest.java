@@ -2,6 +2,9 @@ package org.testifj;
 
 import org.junit.Test;
 
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.*;
 import static org.testifj.Expect.expect;
 
@@ -62,4 +65,81 @@ public class MatcherTest {
         expect(matcher3.or(matcher1).matches("foo")).toBe(true);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void evaluateShouldReturnSharedResultForMatch() {
+        final Matcher<String> matcher = (e) -> true;
+
+        expect(matcher.evaluate("foo") == MatchResult.match()).toBe(true);
+        expect(matcher.and(matcher).evaluate("foo") == MatchResult.match()).toBe(true);
+        expect(matcher.or(e -> false).evaluate("foo") == MatchResult.match()).toBe(true);
+        expect(((Matcher<String>) e -> false).or(matcher).evaluate("foo") == MatchResult.match()).toBe(true);
+    }
+
+    @Test
+    public void evaluateShouldReportMatcherAndValueOnMismatch() {
+        final Matcher<String> matcher = (e) -> false;
+        final MatchResult result = matcher.evaluate("foo");
+
+        expect(result.isMatch()).toBe(false);
+        expect(result.getFailedMatcher()).toBe(Optional.of(matcher));
+        expect(result.getValue()).toBe("foo");
+        expect(result.getPath()).toBe("");
+    }
+
+    @Test
+    public void andShouldReportFailingBranch() {
+        final Matcher<String> matcher1 = (e) -> true;
+        final Matcher<String> matcher2 = (e) -> false;
+
+        expect(matcher1.and(matcher2).evaluate("foo").getFailedMatcher()).toBe(Optional.of(matcher2));
+        expect(matcher2.and(matcher1).evaluate("foo").getFailedMatcher()).toBe(Optional.of(matcher2));
+    }
+
+    @Test
+    public void andShouldNotEvaluateSecondBranchIfFirstFails() {
+        final Matcher<String> matcher1 = (e) -> false;
+        final Matcher<String> matcher2 = (e) -> {
+            throw new IllegalStateException();
+        };
+
+        expect(matcher1.and(matcher2).evaluate("foo").getFailedMatcher()).toBe(Optional.of(matcher1));
+    }
+
+    @Test
+    public void orShouldReportBothFailingBranches() {
+        final Matcher<String> matcher1 = (e) -> false;
+        final MismatchDescribingMatcher<String> matcher2 = new MismatchDescribingMatcher<String>() {
+            @Override
+            public Description describeMismatch(String instance) {
+                return BasicDescription.from("too short");
+            }
+
+            @Override
+            public boolean matches(String instance) {
+                return false;
+            }
+        };
+
+        final Matcher<String> either = matcher1.or(matcher2);
+        final MatchResult result = either.evaluate("foo");
+
+        expect(result.isMatch()).toBe(false);
+        expect(result.getFailedMatcher()).toBe(Optional.of(either));
+        expect(result.getValue()).toBe("foo");
+        expect(new StandardDescriptionFormat().format(result.getDescription().get()))
+                .toBe("neither alternative matched (first: \"foo\" doesn't match; second: too short)");
+    }
+
+    @Test
+    public void orShouldEvaluateEachBranchOnceOnFailure() {
+        final AtomicInteger calls1 = new AtomicInteger();
+        final AtomicInteger calls2 = new AtomicInteger();
+        final Matcher<String> matcher1 = (e) -> calls1.incrementAndGet() < 0;
+        final Matcher<String> matcher2 = (e) -> calls2.incrementAndGet() < 0;
+
+        expect(matcher1.or(matcher2).evaluate("foo").isMatch()).toBe(false);
+        expect(calls1.get()).toBe(1);
+        expect(calls2.get()).toBe(1);
+    }
+
+}
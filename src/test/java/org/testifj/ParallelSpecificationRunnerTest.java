@@ -0,0 +1,228 @@
+package org.testifj;
+
+import org.junit.Test;
+import org.junit.runner.Description;
+import org.junit.runner.notification.Failure;
+import org.junit.runner.notification.RunListener;
+import org.junit.runner.notification.RunNotifier;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.testifj.Expect.expect;
+
+public class ParallelSpecificationRunnerTest {
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    private final RunNotifier notifier = new RunNotifier();
+
+    {
+        notifier.addListener(new RunListener() {
+            @Override
+            public void testStarted(Description description) {
+                events.add("started:" + description.getMethodName());
+            }
+
+            @Override
+            public void testFailure(Failure failure) {
+                events.add("failure:" + failure.getDescription().getMethodName());
+            }
+
+            @Override
+            public void testFinished(Description description) {
+                events.add("finished:" + description.getMethodName());
+            }
+        });
+    }
+
+    @Test
+    public void describeBlocksOfParallelSpecificationShouldBeExecutedConcurrently() {
+        new SpecificationRunner(ConcurrentSpecification.class).run(notifier);
+
+        expect(events.size()).toBe(4);
+        expect(events.contains("failure:first")).toBe(false);
+        expect(events.contains("failure:second")).toBe(false);
+    }
+
+    @Test
+    public void notificationsShouldBeOrderedPerDescription() {
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+        try {
+            new SpecificationRunner(ManyDescriptionsSpecification.class, forkJoinPool).run(notifier);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        expect(events.size()).toBe(ManyDescriptionsSpecification.DESCRIPTION_COUNT * 2 + 1);
+
+        for (int i = 0; i < ManyDescriptionsSpecification.DESCRIPTION_COUNT; i++) {
+            final int startedIndex = events.indexOf("started:block" + i);
+            final int finishedIndex = events.indexOf("finished:block" + i);
+
+            expect(startedIndex >= 0).toBe(true);
+            expect(startedIndex < finishedIndex).toBe(true);
+        }
+
+        final int failureIndex = events.indexOf("failure:block0");
+
+        expect(events.indexOf("started:block0") < failureIndex).toBe(true);
+        expect(failureIndex < events.indexOf("finished:block0")).toBe(true);
+    }
+
+    @Test
+    public void descriptionsShouldBeExecutedInConfigurationScopeOfRunner() throws Exception {
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        final Expect.Configuration configuration = Expect.Configuration.get().withExpectationFailureHandler(failure -> {});
+
+        try {
+            // Start the worker threads outside of the scope, so that they don't inherit it
+            forkJoinPool.submit(() -> {}).join();
+
+            Expect.Configuration.withScope(configuration, () ->
+                    new SpecificationRunner(ScopedSpecification.class, forkJoinPool).run(notifier));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        expect(ScopedSpecification.CONFIGURATIONS.size()).toBe(2);
+        expect(ScopedSpecification.CONFIGURATIONS.stream().allMatch(c -> c == configuration)).toBe(true);
+    }
+
+    @Test
+    public void descriptionsShouldBeExecutedInServiceConfigurationScopeOfRunner() throws Exception {
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(2);
+        final Configuration configuration = Configuration.get().withServiceContext(Configuration.get().getServiceContext());
+
+        try {
+            // Start the worker threads outside of the scope, so that they don't inherit it
+            forkJoinPool.submit(() -> {}).join();
+
+            Configuration.withScope(configuration, () ->
+                    new SpecificationRunner(ServiceScopedSpecification.class, forkJoinPool).run(notifier));
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        expect(ServiceScopedSpecification.CONFIGURATIONS.size()).toBe(2);
+        expect(ServiceScopedSpecification.CONFIGURATIONS.stream().allMatch(c -> c == configuration)).toBe(true);
+    }
+
+    @Test
+    public void parallelRunShouldReportSpeedup() {
+        final ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+        final SpecificationRunner runner = new SpecificationRunner(SleepingSpecification.class, forkJoinPool);
+
+        expect(runner.getParallelRunStatistics().isPresent()).toBe(false);
+
+        try {
+            runner.run(notifier);
+        } finally {
+            forkJoinPool.shutdown();
+        }
+
+        final ParallelRunStatistics statistics = runner.getParallelRunStatistics().get();
+
+        expect(statistics.getDescriptionCount()).toBe(4);
+        expect(statistics.getParallelism()).toBe(4);
+        expect(statistics.getExecutionTime() >= TimeUnit.MILLISECONDS.toNanos(4 * SleepingSpecification.SLEEP_MILLIS)).toBe(true);
+        expect(statistics.getWallClockTime() >= TimeUnit.MILLISECONDS.toNanos(SleepingSpecification.SLEEP_MILLIS)).toBe(true);
+        expect(statistics.getSpeedup()).toBe((double) statistics.getExecutionTime() / statistics.getWallClockTime());
+        expect(statistics.getSpeedup() > 1).toBe(true);
+    }
+
+    @Test
+    public void sequentialRunShouldNotReportParallelRunStatistics() {
+        final SpecificationRunner runner = new SpecificationRunner(ManyDescriptionsSpecification.class);
+
+        runner.run(notifier);
+
+        expect(runner.getParallelRunStatistics().isPresent()).toBe(false);
+    }
+
+    @Test
+    public void parallelRunStatisticsShouldDescribeSpeedup() {
+        final ParallelRunStatistics statistics = new ParallelRunStatistics(10, 4, 50000000L, 150000000L);
+
+        expect(statistics.getSpeedup()).toBe(3d);
+        expect(statistics.toString()).toBe("10 descriptions in 50 ms on 4 threads (150 ms sequential, speedup 3.00x)");
+    }
+
+    @Test
+    public void failureInSequentialSpecificationShouldBeReportedForDescription() {
+        new SpecificationRunner(ManyDescriptionsSpecification.class).run(notifier);
+
+        expect(events.subList(0, 3).toArray()).toBe(new Object[]{"started:block0", "failure:block0", "finished:block0"});
+    }
+
+    @Parallel(parallelism = 2)
+    public static class ConcurrentSpecification extends Specification {
+
+        private final CountDownLatch latch = new CountDownLatch(2);
+
+        {
+            describe("first", it -> awaitOther());
+            describe("second", it -> awaitOther());
+        }
+
+        private void awaitOther() throws InterruptedException {
+            latch.countDown();
+
+            if (!latch.await(10, TimeUnit.SECONDS)) {
+                throw new AssertionError("Describe blocks were not executed concurrently");
+            }
+        }
+    }
+
+    public static class ScopedSpecification extends Specification {
+
+        private static final List<Expect.Configuration> CONFIGURATIONS = Collections.synchronizedList(new ArrayList<>());
+
+        {
+            describe("first", it -> CONFIGURATIONS.add(Expect.Configuration.get()));
+            describe("second", it -> CONFIGURATIONS.add(Expect.Configuration.get()));
+        }
+    }
+
+    public static class ServiceScopedSpecification extends Specification {
+
+        private static final List<Configuration> CONFIGURATIONS = Collections.synchronizedList(new ArrayList<>());
+
+        {
+            describe("first", it -> CONFIGURATIONS.add(Configuration.get()));
+            describe("second", it -> CONFIGURATIONS.add(Configuration.get()));
+        }
+    }
+
+    public static class SleepingSpecification extends Specification {
+
+        private static final long SLEEP_MILLIS = 50;
+
+        {
+            for (int i = 0; i < 4; i++) {
+                describe("block" + i, it -> Thread.sleep(SLEEP_MILLIS));
+            }
+        }
+    }
+
+    public static class ManyDescriptionsSpecification extends Specification {
+
+        private static final int DESCRIPTION_COUNT = 50;
+
+        {
+            describe("block0", it -> {
+                throw new IllegalStateException("block0 failed");
+            });
+
+            for (int i = 1; i < DESCRIPTION_COUNT; i++) {
+                describe("block" + i, it -> Thread.sleep(1));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,102 @@
+package org.testifj;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.testifj.Expect.expect;
+
+public class PollTest {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void pollShouldCompleteImmediatelyIfFirstValueMatches() {
+        final CompletableFuture<Poll<String>> future = Poll.start(() -> "foo", "foo"::equals, scheduler, millis(1000), millis(10), millis(100));
+
+        expect(future.isDone()).toBe(true);
+        expect(future.join().isMatched()).toBe(true);
+        expect(future.join().getAttempts()).toBe(1);
+    }
+
+    @Test
+    public void pollShouldRetryUntilValueMatches() {
+        final AtomicInteger counter = new AtomicInteger();
+        final Poll<Integer> poll = Poll.start(counter::incrementAndGet, (Integer n) -> n == 5, scheduler, millis(5000), millis(1), millis(2)).join();
+
+        expect(poll.isMatched()).toBe(true);
+        expect(poll.getAttempts()).toBe(5);
+        expect(poll.getLastValue()).toBe(5);
+    }
+
+    @Test
+    public void pollShouldRetainLastValueAndResultOnTimeout() {
+        final AtomicInteger counter = new AtomicInteger();
+        final Poll<Integer> poll = Poll.start(counter::incrementAndGet, (Integer n) -> n < 0, scheduler, millis(50), millis(1), millis(5)).join();
+
+        expect(poll.isMatched()).toBe(false);
+        expect(poll.getAttempts() > 1).toBe(true);
+        expect(poll.getLastValue()).toBe(counter.get());
+        expect(poll.getLastResult().isMatch()).toBe(false);
+    }
+
+    @Test
+    public void intervalShouldBackOffExponentially() {
+        final Poll<String> poll = Poll.start(() -> "foo", "bar"::equals, scheduler, millis(300), millis(10), millis(10000)).join();
+
+        // 0, 10, 30, 70, 150 and 300 (the deadline) ms
+        expect(poll.getAttempts() <= 7).toBe(true);
+        expect(poll.getAttempts() >= 4).toBe(true);
+    }
+
+    @Test
+    public void runtimeExceptionOfSupplierShouldBeRetained() {
+        final IllegalStateException exception = new IllegalStateException();
+        final Poll<String> poll = Poll.<String>start(() -> {
+            throw exception;
+        }, "foo"::equals, scheduler, millis(20), millis(5), millis(5)).join();
+
+        expect(poll.isMatched()).toBe(false);
+        expect(poll.getLastException() == exception).toBe(true);
+        expect(poll.getLastValue()).toBe((String) null);
+    }
+
+    @Test
+    public void errorOfSupplierShouldCompletePollExceptionally() {
+        final CompletableFuture<Poll<String>> future = Poll.<String>start(() -> {
+            throw new AssertionError();
+        }, "foo"::equals, scheduler, millis(1000), millis(5), millis(5));
+
+        expect(future.isCompletedExceptionally()).toBe(true);
+    }
+
+    @Test
+    public void cancelledPollShouldStopPolling() throws Exception {
+        final AtomicInteger counter = new AtomicInteger();
+        final CompletableFuture<Poll<Integer>> future = Poll.start(counter::incrementAndGet, (Integer n) -> false, scheduler, millis(10000), millis(1), millis(1));
+
+        future.cancel(false);
+        Thread.sleep(20);
+
+        final int attempts = counter.get();
+
+        Thread.sleep(20);
+
+        expect(counter.get()).toBe(attempts);
+    }
+
+    private static long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.testifj;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.testifj.Expect.expect;
+
+public class ScopedReferenceTest {
+
+    private final ScopedReference<String> reference = new ScopedReference<>("global");
+
+    @Test
+    public void globalValueShouldBeReturnedOutsideOfScope() {
+        expect(reference.get()).toBe("global");
+        expect(reference.getAndSet("other")).toBe("global");
+        expect(reference.get()).toBe("other");
+    }
+
+    @Test
+    public void scopesCanBeNested() throws Exception {
+        reference.withScope("outer", () -> {
+            expect(reference.get()).toBe("outer");
+
+            reference.withScope("inner", () -> expect(reference.get()).toBe("inner"));
+
+            expect(reference.get()).toBe("outer");
+        });
+
+        expect(reference.get()).toBe("global");
+    }
+
+    @Test
+    public void getAndSetWithinScopeShouldReplaceValueOfInnermostScope() throws Exception {
+        reference.withScope("outer", () -> {
+            reference.withScope("inner", () -> {
+                expect(reference.getAndSet("replaced")).toBe("inner");
+                expect(reference.get()).toBe("replaced");
+            });
+
+            expect(reference.get()).toBe("outer");
+        });
+
+        expect(reference.get()).toBe("global");
+    }
+
+    @Test
+    public void scopeShouldBeClosedIfProcedureFails() {
+        expect(() -> reference.withScope("scoped", () -> {
+            throw new IllegalStateException();
+        })).toThrow(IllegalStateException.class);
+
+        expect(reference.get()).toBe("global");
+    }
+
+    @Test
+    public void closedScopeShouldBeIgnoredByThreadsThatInheritedIt() throws Exception {
+        final CountDownLatch scopeClosed = new CountDownLatch(1);
+        final Capture<String> valueInThread = new Capture<>();
+        final Thread[] thread = new Thread[1];
+
+        reference.withScope("scoped", () -> {
+            thread[0] = new Thread(() -> {
+                try {
+                    scopeClosed.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+
+                valueInThread.set(reference.get());
+            });
+
+            thread[0].start();
+        });
+
+        scopeClosed.countDown();
+        thread[0].join();
+
+        expect(valueInThread.get()).toBe("global");
+    }
+
+    @Test
+    public void taskShouldNotBeWrappedOutsideOfScope() {
+        final Runnable task = () -> {};
+
+        expect(reference.bind(task)).toBe(task);
+    }
+
+}
@@ -43,4 +43,28 @@ public class ServiceContextBuilderTest {
         expect(() -> serviceContext.get(String.class)).toThrow(DependencyResolutionException.class);
     }
 
+    @Test
+    public void getShouldReturnComponentMatchingSuperType() {
+        final ServiceContext serviceContext = ServiceContextImpl.newBuilder()
+                .registerComponent(1)
+                .registerComponent("foo")
+                .build();
+
+        expect(serviceContext.get(CharSequence.class)).toBe("foo");
+        expect(serviceContext.get(CharSequence.class)).toBe("foo");
+    }
+
+    @Test
+    public void repeatedLookupOfUnresolvableTypeShouldFailEachTime() {
+        final ServiceContext serviceContext = ServiceContextImpl.newBuilder()
+                .registerComponent("foo")
+                .registerComponent("bar")
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            expect(() -> serviceContext.get(String.class)).toThrow(DependencyResolutionException.class);
+            expect(() -> serviceContext.get(Integer.class)).toThrow(DependencyResolutionException.class);
+        }
+    }
+
 }
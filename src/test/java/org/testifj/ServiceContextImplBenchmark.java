@@ -0,0 +1,49 @@
+package org.testifj;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares component lookup in {@link org.testifj.ServiceContextImpl} with a linear search of all
+ * registered components (the lookup strategy used before types were indexed).
+ */
+public final class ServiceContextImplBenchmark {
+
+    private static final int ITERATIONS = 1000000;
+
+    public static void main(String[] args) {
+        for (int componentCount : new int[]{5, 500}) {
+            final List<Object> components = new ArrayList<>();
+            final ServiceContextImpl.ServiceContextBuilder builder = ServiceContextImpl.newBuilder();
+
+            for (int i = 0; i < componentCount - 1; i++) {
+                components.add(i);
+            }
+
+            components.add(new StringBuilder("target"));
+            components.forEach(builder::registerComponent);
+
+            final ServiceContext serviceContext = builder.build();
+
+            Benchmark.report("linear search, " + componentCount + " components",
+                    Benchmark.nanosPerOperation(ITERATIONS, () -> linearSearch(components, CharSequence.class).length()));
+
+            Benchmark.report("ServiceContextImpl, " + componentCount + " components",
+                    Benchmark.nanosPerOperation(ITERATIONS, () -> serviceContext.get(CharSequence.class).length()));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T linearSearch(List<Object> components, Class<T> type) {
+        final Object[] matchingComponents = components.stream()
+                .filter(type::isInstance)
+                .toArray(Object[]::new);
+
+        if (matchingComponents.length != 1) {
+            throw new DependencyResolutionException("No single component exists for type: " + type.getName());
+        }
+
+        return (T) matchingComponents[0];
+    }
+
+}
@@ -2,6 +2,16 @@ package org.testifj;
 
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static org.testifj.Expect.expect;
 
 public class StandardDescriptionFormatTest {
@@ -50,4 +60,115 @@ public class StandardDescriptionFormatTest {
         expect(description).toBe("Sub description: foo");
     }
 
+    @Test
+    public void primitiveArraysShouldBeFormattedWithValues() {
+        expect(format.format(new BasicDescription().appendValue(new int[]{1, 2, 3}))).toBe("[1, 2, 3]");
+        expect(format.format(new BasicDescription().appendValue(new long[]{1L, -2L}))).toBe("[1, -2]");
+        expect(format.format(new BasicDescription().appendValue(new byte[]{1, 2}))).toBe("[1, 2]");
+        expect(format.format(new BasicDescription().appendValue(new short[]{1, 2}))).toBe("[1, 2]");
+        expect(format.format(new BasicDescription().appendValue(new char[]{'a', 'b'}))).toBe("[a, b]");
+        expect(format.format(new BasicDescription().appendValue(new boolean[]{true, false}))).toBe("[true, false]");
+        expect(format.format(new BasicDescription().appendValue(new float[]{1.5f}))).toBe("[1.5]");
+        expect(format.format(new BasicDescription().appendValue(new double[]{1.5, 2.0}))).toBe("[1.5, 2.0]");
+    }
+
+    @Test
+    public void nestedArraysShouldBeFormatted() {
+        expect(format.format(new BasicDescription().appendValue(new Object[]{new int[]{1, 2}, new String[]{"foo"}}))).toBe("[[1, 2], [\"foo\"]]");
+    }
+
+    @Test
+    public void arrayElementsExceedingMaximumShouldBeElided() {
+        final String description = format.withMaximumElements(3).format(new BasicDescription().appendValue(new byte[10000000]));
+
+        expect(description).toBe("[0, 0, 0, ... 9,999,997 more]");
+    }
+
+    @Test
+    public void collectionsAndMapsShouldBeFormattedLikeToString() {
+        final Map<String, Object> map = new LinkedHashMap<>();
+
+        map.put("foo", Arrays.asList(1, 2));
+        map.put("bar", null);
+
+        expect(format.format(new BasicDescription().appendValue(Arrays.asList("foo", 1, null)))).toBe("[foo, 1, null]");
+        expect(format.format(new BasicDescription().appendValue(map))).toBe(map.toString());
+        expect(format.format(new BasicDescription().appendValue(Collections.singletonList(new int[]{1, 2})))).toBe("[[1, 2]]");
+    }
+
+    @Test
+    public void collectionElementsExceedingMaximumShouldBeFormattedWithoutMaterializingCollection() {
+        final List<Integer> list = new AbstractList<Integer>() {
+            @Override
+            public Integer get(int index) {
+                return 0;
+            }
+
+            @Override
+            public int size() {
+                return 50_000_000;
+            }
+
+            @Override
+            public String toString() {
+                throw new UnsupportedOperationException("Collection should be formatted element by element");
+            }
+        };
+
+        final Map<Integer, Integer> map = new HashMap<>();
+
+        for (int i = 0; i < 10; i++) {
+            map.put(i, i);
+        }
+
+        expect(format.withMaximumElements(3).format(new BasicDescription().appendValue(list))).toBe("[0, 0, 0, ... 49,999,997 more]");
+        expect(format.withMaximumElements(2).format(new BasicDescription().appendValue(map))).toBe("{0=0, 1=1, ... 8 more}");
+    }
+
+    @Test
+    public void collectionsNestedBeyondMaximumDepthShouldBeElided() {
+        final Map<String, Object> map = Collections.singletonMap("foo", Arrays.asList(1, Arrays.asList(2, Arrays.asList(3))));
+
+        expect(format.withMaximumDepth(3).format(new BasicDescription().appendValue(map))).toBe("{foo=[1, [2, [...]]]}");
+    }
+
+    @Test
+    public void valuesNestedBeyondMaximumDepthShouldBeElided() {
+        final String description = format.withMaximumDepth(2).format(new BasicDescription()
+                .appendValue(new Object[]{1, new Object[]{2, new Object[]{3}}}));
+
+        expect(description).toBe("[1, [2, [...]]]");
+    }
+
+    @Test
+    public void descriptionExceedingMaximumLengthShouldBeTruncated() {
+        final String description = format.withMaximumLength(10).format(new BasicDescription()
+                .appendText("Expected ")
+                .appendValue(new int[1000000]));
+
+        expect(description).toBe("Expected [... (truncated)");
+    }
+
+    @Test
+    public void descriptionOfMaximumLengthShouldNotBeTruncated() {
+        expect(format.withMaximumLength(3).format(BasicDescription.from("foo"))).toBe("foo");
+    }
+
+    @Test
+    public void descriptionCanBeFormattedToAppendable() throws IOException {
+        final StringWriter writer = new StringWriter();
+
+        format.format(new BasicDescription().appendText("foo ").appendValue(new int[]{1, 2}), writer);
+
+        expect(writer.toString()).toBe("foo [1, 2]");
+    }
+
+    @Test
+    public void budgetsShouldBeValidated() {
+        expect(() -> format.withMaximumLength(0)).toThrow(AssertionError.class);
+        expect(() -> format.withMaximumElements(-1)).toThrow(AssertionError.class);
+        expect(() -> format.withMaximumDepth(0)).toThrow(AssertionError.class);
+        expect(() -> format.format(BasicDescription.from("foo"), null)).toThrow(AssertionError.class);
+    }
+
 }
@@ -36,4 +36,14 @@ public class ValueMismatchFailureImplTest {
         expect(failure.getExpectedValue()).toBe(expectedValue);
     }
 
+    @Test
+    public void matchResultShouldBeEmptyUnlessProvided() {
+        final Caller caller = new Caller(Arrays.asList(Thread.currentThread().getStackTrace()), 0);
+        final MatchResult result = MatchResult.mismatch(matcher, "foo");
+
+        expect(new ValueMismatchFailureImpl(caller, matcher, Optional.empty(), "foo").getMatchResult()).toBe(Optional.empty());
+        expect(new ValueMismatchFailureImpl(caller, matcher, Optional.empty(), "foo", Optional.of(result)).getMatchResult()).toBe(Optional.of(result));
+        expect(() -> new ValueMismatchFailureImpl(caller, matcher, Optional.empty(), "foo", null)).toThrow(AssertionError.class);
+    }
+
 }
@@ -1,5 +1,6 @@
 package org.testifj.delegate;
 
+import io.recode.Caller;
 import org.junit.Test;
 import org.testifj.Predicate;
 import org.testifj.ServiceContext;
@@ -9,6 +10,7 @@ import java.util.Collections;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.mockito.Mockito.when;
 import static org.testifj.Expect.expect;
 import static org.testifj.matchers.core.ObjectThatIs.equalTo;
@@ -59,4 +61,81 @@ public class ExpectationDelegateConfigurationTest {
                 serviceContext))).toBe(exampleExtension);
     }
 
+    @Test
+    public void builderOnTypeShouldNotAcceptInvalidArguments() {
+        expect(() -> emptyBuilder.onType(null)).toThrow(AssertionError.class);
+        expect(() -> emptyBuilder.onType(Expectation.class).then(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void builderOnTypeShouldNotAcceptMultipleExtensionsForSameType() {
+        emptyBuilder.onType(ExampleExpectation.class).then(exampleExtension);
+
+        expect(() -> emptyBuilder.onType(ExampleExpectation.class).then(exampleExtension)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void getExtensionShouldReturnExtensionRegisteredForExactType() {
+        final ExpectationDelegateExtension superTypeExtension = mock(ExpectationDelegateExtension.class);
+        final ExpectationDelegateConfiguration configuration = emptyBuilder
+                .onType(Expectation.class).then(superTypeExtension)
+                .onType(ExampleExpectation.class).then(exampleExtension)
+                .build();
+
+        expect(configuration.getExtension(contextOf(new ExampleExpectation()))).toBe(exampleExtension);
+    }
+
+    @Test
+    public void getExtensionShouldReturnExtensionRegisteredForNearestSuperType() {
+        final ExpectationDelegateExtension superTypeExtension = mock(ExpectationDelegateExtension.class);
+        final ExpectationDelegateConfiguration configuration = emptyBuilder
+                .onType(Expectation.class).then(superTypeExtension)
+                .onType(ExampleExpectation.class).then(exampleExtension)
+                .build();
+
+        expect(configuration.getExtension(contextOf(new ExampleSubExpectation()))).toBe(exampleExtension);
+        expect(configuration.getExtension(contextOf(exampleExpectation))).toBe(superTypeExtension);
+    }
+
+    @Test
+    public void typeExtensionShouldTakePrecedenceOverPredicateAndBeCachedPerType() {
+        final ExpectationDelegateConfiguration configuration = emptyBuilder
+                .on(predicate).then(mock(ExpectationDelegateExtension.class))
+                .onType(ExampleExpectation.class).then(exampleExtension)
+                .build();
+
+        for (int i = 0; i < 2; i++) {
+            expect(configuration.getExtension(contextOf(new ExampleExpectation()))).toBe(exampleExtension);
+        }
+
+        verifyZeroInteractions(predicate);
+    }
+
+    @Test
+    public void predicateShouldBeTestedIfNoTypeExtensionApplies() {
+        final ExpectationDelegateConfiguration configuration = emptyBuilder
+                .onType(ExampleExpectation.class).then(mock(ExpectationDelegateExtension.class))
+                .on(predicate).then(exampleExtension)
+                .build();
+
+        when(predicate.test(any())).thenReturn(true);
+
+        expect(configuration.getExtension(contextOf(exampleExpectation))).toBe(exampleExtension);
+    }
+
+    private ExpectationVerificationContext contextOf(Expectation expectation) {
+        return new ExpectationVerificationContextImpl<>(expectation, Collections.emptyList(), serviceContext);
+    }
+
+    private static class ExampleExpectation implements Expectation {
+
+        @Override
+        public Caller getCaller() {
+            return null;
+        }
+    }
+
+    private static class ExampleSubExpectation extends ExampleExpectation {
+    }
+
 }
@@ -3,7 +3,13 @@ package org.testifj.delegate;
 import org.junit.Test;
 import org.testifj.Description;
 
+import java.util.function.Supplier;
+
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
 import static org.testifj.Expect.expect;
 import static org.testifj.Given.given;
 import static org.testifj.matchers.core.ObjectThatIs.equalTo;
@@ -53,6 +59,56 @@ public class ExpectationVerificationTest {
         });
     }
 
+    @Test
+    public void createVerificationDescribedBySupplierShouldNotAcceptInvalidParameters() {
+        expect(() -> ExpectationVerificationImpl.compliantDescribedBy(null, () -> description)).toThrow(AssertionError.class);
+        expect(() -> ExpectationVerificationImpl.compliantDescribedBy(expectationVerificationContext, null)).toThrow(AssertionError.class);
+        expect(() -> ExpectationVerificationImpl.notCompliantDescribedBy(expectationVerificationContext, null, verificationFailureDescription)).toThrow(AssertionError.class);
+        expect(() -> ExpectationVerificationImpl.notCompliantDescribedBy(expectationVerificationContext, () -> description, null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void expectationDescriptionShouldBeCreatedOnceWhenRequested() {
+        final Supplier<Description> descriptionSupplier = mock(Supplier.class);
+
+        when(descriptionSupplier.get()).thenReturn(description);
+
+        final ExpectationVerificationImpl verification = ExpectationVerificationImpl.compliantDescribedBy(expectationVerificationContext, descriptionSupplier);
+
+        expect(verification.isCompliant()).toBe(true);
+        verifyZeroInteractions(descriptionSupplier);
+
+        expect(verification.getExpectationDescription()).toBe(description);
+        expect(verification.getExpectationDescription()).toBe(description);
+        verify(descriptionSupplier, times(1)).get();
+    }
+
+    @Test
+    public void verificationsWithEqualSuppliedDescriptionsShouldBeEqual() {
+        final ExpectationVerificationImpl other = ExpectationVerificationImpl.notCompliantDescribedBy(expectationVerificationContext, () -> description, verificationFailureDescription);
+
+        expect(inCompliantVerification).toBe(equalTo(other));
+        expect(inCompliantVerification.hashCode()).toBe(equalTo(other.hashCode()));
+    }
+
+    @Test
+    public void comparingAndPrintingVerificationShouldNotCreateExpectationDescription() {
+        final Supplier<Description> descriptionSupplier = mock(Supplier.class);
+        final ExpectationVerificationImpl verification = ExpectationVerificationImpl.notCompliantDescribedBy(expectationVerificationContext, descriptionSupplier, verificationFailureDescription);
+
+        expect(verification).toBe(equalTo(inCompliantVerification));
+        expect(verification.hashCode()).toBe(equalTo(inCompliantVerification.hashCode()));
+        expect(verification.toString()).to(containString("<not described>"));
+        verifyZeroInteractions(descriptionSupplier);
+    }
+
+    @Test
+    public void verificationsWithDifferentCreatedDescriptionsShouldNotBeEqual() {
+        final ExpectationVerificationImpl other = ExpectationVerificationImpl.notCompliant(expectationVerificationContext, mock(Description.class), verificationFailureDescription);
+
+        expect(inCompliantVerification).not().toBe(equalTo(other));
+    }
+
     @Test
     public void instanceShouldBeEqualToItSelf() {
         expect(compliantVerification).toBe(equalTo(compliantVerification));
@@ -0,0 +1,69 @@
+package org.testifj.delegate;
+
+import io.recode.codegeneration.impl.CodePointerCodeGenerator;
+import io.recode.decompile.impl.CodeLocationDecompilerImpl;
+import org.testifj.Benchmark;
+import org.testifj.Configuration;
+import org.testifj.ServiceContext;
+import org.testifj.ServiceContextImpl;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.testifj.Expect.expect;
+import static org.testifj.Given.given;
+
+/**
+ * Compares the verification of a compliant given/then-expectation with and without the expectation
+ * description being requested (the description was created eagerly before descriptions were lazy).
+ */
+public final class GivenThenExpectationDelegateExtensionBenchmark {
+
+    private static final int ITERATIONS = 10000;
+
+    public static void main(String[] args) throws Exception {
+        final GivenThenExpectationDelegateExtension extension = new GivenThenExpectationDelegateExtension();
+        final ServiceContext serviceContext = ServiceContextImpl.newBuilder()
+                .registerComponent(new CodePointerCodeGenerator())
+                .registerComponent(new CodeLocationDecompilerImpl())
+                .build();
+
+        final ExpectationVerificationContext<GivenThenExpectation> context = new ExpectationVerificationContextImpl<>(
+                exampleExpectation(),
+                Collections.emptyList(),
+                serviceContext);
+
+        Benchmark.report("verify compliant given/then, described",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> extension.verify(context).getExpectationDescription().hashCode()));
+
+        Benchmark.report("verify compliant given/then",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> extension.verify(context).isCompliant() ? 1 : 0));
+    }
+
+    /**
+     * Returns the expectation created by an example given/then, so that its caller refers to the given/then.
+     */
+    private static GivenThenExpectation exampleExpectation() throws Exception {
+        final AtomicReference<GivenThenExpectation> expectation = new AtomicReference<>();
+        final ExpectationDelegate expectationDelegate = Configuration.get().getServiceContext().get(ExpectationDelegate.class);
+        final ServiceContext capturingServiceContext = ServiceContextImpl.newBuilder()
+                .registerComponent((ExpectationDelegate) () -> {
+                    final OnGoingExpectation onGoingExpectation = expectationDelegate.startExpectation();
+
+                    return completedExpectation -> {
+                        expectation.set((GivenThenExpectation) completedExpectation);
+                        return onGoingExpectation.complete(completedExpectation);
+                    };
+                })
+                .build();
+
+        Configuration.withScope(Configuration.get().withServiceContext(capturingServiceContext), () -> {
+            given("foo").then(str -> {
+                expect(str).toBe("foo");
+            });
+        });
+
+        return expectation.get();
+    }
+
+}
@@ -5,6 +5,7 @@ import org.testifj.Action;
 import io.recode.Caller;
 import org.testifj.ServiceContext;
 import org.testifj.ServiceContextImpl;
+import io.recode.decompile.CodeLocationDecompiler;
 import io.recode.decompile.impl.CodeLocationDecompilerImpl;
 import io.recode.codegeneration.impl.CodePointerCodeGenerator;
 
@@ -14,6 +15,7 @@ import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
 import static org.testifj.Expect.expect;
 import static org.testifj.Given.given;
 import static org.testifj.matchers.core.StringShould.containString;
@@ -53,6 +55,20 @@ public class GivenThenExpectationDelegateExtensionTest {
         expect(verification.getExpectationDescription().toString()).to(containString("\"foo\""));
     }
 
+    @Test
+    public void compliantVerificationShouldNotDecompileCallSiteUnlessDescriptionIsRequested() throws Exception {
+        final CodeLocationDecompiler codeLocationDecompiler = mock(CodeLocationDecompiler.class);
+        final ExpectationVerificationContextImpl<GivenThenExpectation> expectation = new ExpectationVerificationContextImpl<>(
+                exampleCompliantExpectation,
+                Collections.emptyList(),
+                ServiceContextImpl.newBuilder().registerComponent(codeLocationDecompiler).build());
+
+        final ExpectationVerification verification = extension.verify(expectation);
+
+        expect(verification.isCompliant()).toBe(true);
+        verifyZeroInteractions(codeLocationDecompiler);
+    }
+
     private GivenThenExpectation getExampleCompliantExpectation(Action action) {
         given("foo").then(str -> {
             expect(str).toBe("foo");
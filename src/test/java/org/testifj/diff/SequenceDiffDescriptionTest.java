@@ -0,0 +1,167 @@
+package org.testifj.diff;
+
+import org.junit.Test;
+import org.testifj.StandardDescriptionFormat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.StringThatIs.stringContaining;
+
+public class SequenceDiffDescriptionTest {
+
+    private final SequenceDiff diff = new SequenceDiff();
+
+    @Test
+    public void describeShouldNotAcceptInvalidArguments() {
+        expect(() -> SequenceDiffDescription.describe(null, Collections.emptyList(), Collections.emptyList())).toThrow(AssertionError.class);
+        expect(() -> SequenceDiffDescription.describe(Collections.emptyList(), null, Collections.emptyList())).toThrow(AssertionError.class);
+        expect(() -> SequenceDiffDescription.describe(Collections.emptyList(), Collections.emptyList(), null)).toThrow(AssertionError.class);
+        expect(() -> SequenceDiffDescription.describe(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), -1, 1)).toThrow(AssertionError.class);
+        expect(() -> SequenceDiffDescription.describe(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), 1, 0)).toThrow(AssertionError.class);
+        expect(() -> SequenceDiffDescription.describe(Collections.emptyList(), Collections.emptyList(), Collections.emptyList(), 1, 1, 0)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void equalSequencesShouldHaveEmptyDescription() {
+        expect(describe(Arrays.asList(1, 2), Arrays.asList(1, 2))).toBe("");
+    }
+
+    @Test
+    public void changeShouldBeDescribedWithSurroundingContext() {
+        final List<Integer> expected = Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8);
+        final List<Integer> actual = Arrays.asList(0, 1, 2, 3, 40, 41, 5, 6, 7, 8);
+
+        expect(describe(expected, actual)).toBe(
+                "@@ -1,7 +1,8 @@\n" +
+                "  1\n" +
+                "  2\n" +
+                "  3\n" +
+                "- 4\n" +
+                "+ 40\n" +
+                "+ 41\n" +
+                "  5\n" +
+                "  6\n" +
+                "  7");
+    }
+
+    @Test
+    public void nearbyChangesShouldBeDescribedInSameHunk() {
+        expect(describe(Arrays.asList("a", "b", "c", "d"), Arrays.asList("x", "b", "c", "y"))).toBe(
+                "@@ -0,4 +0,4 @@\n" +
+                "- \"a\"\n" +
+                "+ \"x\"\n" +
+                "  \"b\"\n" +
+                "  \"c\"\n" +
+                "- \"d\"\n" +
+                "+ \"y\"");
+    }
+
+    @Test
+    public void distantChangesShouldBeDescribedInSeparateHunks() {
+        final List<Integer> expected = range(20);
+        final List<Integer> actual = new ArrayList<>(expected);
+
+        actual.remove(15);
+        actual.remove(2);
+
+        expect(describe(expected, actual)).toBe(
+                "@@ -0,6 +0,5 @@\n" +
+                "  0\n  1\n- 2\n  3\n  4\n  5\n" +
+                "@@ -12,7 +11,6 @@\n" +
+                "  12\n  13\n  14\n- 15\n  16\n  17\n  18");
+    }
+
+    @Test
+    public void hunksBeyondMaximumShouldBeSummarized() {
+        final List<Integer> expected = range(100);
+        final List<Integer> actual = new ArrayList<>(expected);
+
+        for (int i = 0; i < 100; i += 10) {
+            actual.set(i, -i - 1);
+        }
+
+        final String description = new StandardDescriptionFormat().format(
+                SequenceDiffDescription.describe(expected, actual, diff.diff(expected, actual), 1, 2));
+
+        expect(description).toBe(
+                "@@ -0,2 +0,2 @@\n- 0\n+ -1\n  1\n" +
+                "@@ -9,3 +9,3 @@\n  9\n- 10\n+ -11\n  11\n" +
+                "... 8 more differences");
+    }
+
+    @Test
+    public void linesOfHunkBeyondMaximumShouldBeSummarized() {
+        final List<Integer> expected = range(10);
+        final List<Integer> actual = new ArrayList<>(expected);
+
+        actual.set(4, -5);
+        actual.set(5, -6);
+
+        final String description = new StandardDescriptionFormat().format(
+                SequenceDiffDescription.describe(expected, actual, diff.diff(expected, actual), 1, 1, 3));
+
+        expect(description).toBe("@@ -3,4 +3,4 @@\n  3\n- 4\n- 5\n... 3 more lines");
+    }
+
+    @Test
+    public void descriptionOfEntirelyReplacedSequenceShouldBeBounded() {
+        final List<Integer> expected = range(1_000_000);
+        final List<Integer> actual = range(1_000_000);
+        final List<Edit> edits = Arrays.asList(
+                new Edit(Edit.Type.DELETE, 0, 0, expected.size()),
+                new Edit(Edit.Type.INSERT, expected.size(), 0, actual.size()));
+
+        final String description = new StandardDescriptionFormat().format(SequenceDiffDescription.describe(expected, actual, edits));
+
+        expect(description.split("\n").length).toBe(SequenceDiffDescription.DEFAULT_MAXIMUM_HUNK_LINES + 2);
+        expect(description.endsWith("\n... " + (2_000_000 - SequenceDiffDescription.DEFAULT_MAXIMUM_HUNK_LINES) + " more lines")).toBe(true);
+    }
+
+    @Test
+    public void linesShouldBeDescribedVerbatimWithOneBasedLineNumbers() {
+        final String expected = "a\nb\nc";
+        final String actual = "a\nx\nc";
+        final String description = new StandardDescriptionFormat().format(SequenceDiffDescription.describeLines(
+                TextDiff.lines(expected), TextDiff.lines(actual), new TextDiff().diff(expected, actual)));
+
+        expect(description).toBe("@@ -1,3 +1,3 @@\n a\n-b\n+x\n c");
+    }
+
+    @Test
+    public void descriptionOfTextsExceedingTimeLimitShouldBeBounded() {
+        final StringBuilder expected = new StringBuilder();
+        final StringBuilder actual = new StringBuilder();
+
+        for (int i = 0; i < 200_000; i++) {
+            expected.append(i % 7).append('\n');
+            actual.append(i % 5).append('\n');
+        }
+
+        final List<Edit> edits = new TextDiff().withTimeLimit(0, TimeUnit.MILLISECONDS).diff(expected.toString(), actual.toString());
+        final String description = new StandardDescriptionFormat().format(SequenceDiffDescription.describeLines(
+                TextDiff.lines(expected.toString()), TextDiff.lines(actual.toString()), edits, 10));
+
+        expect(description.split("\n").length <= SequenceDiffDescription.DEFAULT_MAXIMUM_HUNKS * 12 + 1).toBe(true);
+        expect(description).toBe(stringContaining(" more lines"));
+    }
+
+    private String describe(List<?> expected, List<?> actual) {
+        return new StandardDescriptionFormat().format(SequenceDiffDescription.describe(expected, actual, diff.diff(expected, actual)));
+    }
+
+    private static List<Integer> range(int size) {
+        final List<Integer> range = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            range.add(i);
+        }
+
+        return range;
+    }
+
+}
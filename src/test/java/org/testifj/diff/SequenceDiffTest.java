@@ -0,0 +1,180 @@
+package org.testifj.diff;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.testifj.Expect.expect;
+
+public class SequenceDiffTest {
+
+    private final SequenceDiff diff = new SequenceDiff();
+
+    @Test
+    public void defaultLimitsShouldBeSet() {
+        expect(diff.getMaximumEditDistance()).toBe(SequenceDiff.DEFAULT_MAXIMUM_EDIT_DISTANCE);
+        expect(diff.getTimeLimitMillis()).toBe(SequenceDiff.DEFAULT_TIME_LIMIT_MILLIS);
+    }
+
+    @Test
+    public void withMaximumEditDistanceShouldReturnCopyWithLimit() {
+        final SequenceDiff copy = diff.withMaximumEditDistance(10);
+
+        expect(copy.getMaximumEditDistance()).toBe(10);
+        expect(diff.getMaximumEditDistance()).toBe(SequenceDiff.DEFAULT_MAXIMUM_EDIT_DISTANCE);
+        expect(() -> diff.withMaximumEditDistance(-1)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void withTimeLimitShouldReturnCopyWithLimit() {
+        expect(diff.withTimeLimit(2, TimeUnit.SECONDS).getTimeLimitMillis()).toBe(2000L);
+        expect(() -> diff.withTimeLimit(1, null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void diffShouldNotAcceptNullSequences() {
+        expect(() -> diff.diff(null, Collections.emptyList())).toThrow(AssertionError.class);
+        expect(() -> diff.diff(Collections.emptyList(), null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void diffOfEmptySequencesShouldBeEmpty() {
+        expect(diff.diff(Collections.emptyList(), Collections.emptyList()).isEmpty()).toBe(true);
+    }
+
+    @Test
+    public void diffOfEqualSequencesShouldContainSingleEqualEdit() {
+        expect(diff.diff(Arrays.asList(1, 2, 3), Arrays.asList(1, 2, 3)).toArray())
+                .toBe(new Object[]{new Edit(Edit.Type.EQUAL, 0, 0, 3)});
+    }
+
+    @Test
+    public void insertedElementsShouldBeDetected() {
+        expect(diff.diff(Arrays.asList(1, 2, 3), Arrays.asList(1, 2, 4, 5, 3)).toArray()).toBe(new Object[]{
+                new Edit(Edit.Type.EQUAL, 0, 0, 2),
+                new Edit(Edit.Type.INSERT, 2, 2, 2),
+                new Edit(Edit.Type.EQUAL, 2, 4, 1)});
+    }
+
+    @Test
+    public void deletedElementsShouldBeDetected() {
+        expect(diff.diff(Arrays.asList(1, 2, 3), Arrays.asList(2, 3)).toArray()).toBe(new Object[]{
+                new Edit(Edit.Type.DELETE, 0, 0, 1),
+                new Edit(Edit.Type.EQUAL, 1, 0, 2)});
+    }
+
+    @Test
+    public void replacedElementShouldBeDescribedAsDeleteAndInsert() {
+        expect(diff.diff(Arrays.asList("a", "b", "c"), Arrays.asList("a", "x", "c")).toArray()).toBe(new Object[]{
+                new Edit(Edit.Type.EQUAL, 0, 0, 1),
+                new Edit(Edit.Type.DELETE, 1, 1, 1),
+                new Edit(Edit.Type.INSERT, 2, 1, 1),
+                new Edit(Edit.Type.EQUAL, 2, 2, 1)});
+    }
+
+    @Test
+    public void nullElementsShouldBeCompared() {
+        expect(diff.diff(Arrays.asList(null, 1), Arrays.asList(null, 2)).get(0)).toBe(new Edit(Edit.Type.EQUAL, 0, 0, 1));
+    }
+
+    @Test
+    public void diffOfLargeSequencesWithFewChangesShouldBeMinimal() {
+        final List<Integer> expected = sequence(100000, 1);
+        final List<Integer> actual = new ArrayList<>(expected);
+
+        actual.set(10, -1);
+        actual.remove(50000);
+        actual.add(90000, -2);
+
+        final List<Edit> edits = diff.diff(expected, actual);
+
+        expectValidEditScript(expected, actual, edits);
+        expect(editDistance(edits)).toBe(4);
+    }
+
+    @Test
+    public void diffExceedingMaximumEditDistanceShouldFallBackToValidEditScript() {
+        final List<Integer> expected = sequence(20000, 2);
+        final List<Integer> actual = new ArrayList<>(expected);
+
+        for (int i = 0; i < 5; i++) {
+            for (int j = 0; j < 40; j++) {
+                actual.set(i * 4000 + 1000 + j, -j);
+            }
+        }
+
+        final List<Edit> edits = diff.withMaximumEditDistance(100).diff(expected, actual);
+
+        expectValidEditScript(expected, actual, edits);
+        expect(editDistance(edits) > 400).toBe(true);
+        expect(editDistance(edits) < 2000).toBe(true);
+    }
+
+    @Test
+    public void completelyDifferentSequencesShouldBeDescribedAsDeleteAndInsert() {
+        final List<Integer> expected = sequence(5000, 4);
+        final List<Integer> actual = sequence(5000, 5);
+        final List<Edit> edits = diff.withMaximumEditDistance(0).diff(expected, actual);
+
+        expectValidEditScript(expected, actual, edits);
+    }
+
+    private static List<Integer> sequence(int size, long seed) {
+        final Random random = new Random(seed);
+        final List<Integer> sequence = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            sequence.add(random.nextInt());
+        }
+
+        return sequence;
+    }
+
+    private static int editDistance(List<Edit> edits) {
+        return edits.stream().filter(edit -> edit.getType() != Edit.Type.EQUAL).mapToInt(Edit::getLength).sum();
+    }
+
+    /**
+     * Verifies that an edit script covers both sequences in order and that applying it to the
+     * expected sequence yields the actual sequence.
+     */
+    private static void expectValidEditScript(List<?> expected, List<?> actual, List<Edit> edits) {
+        final List<Object> result = new ArrayList<>();
+        int expectedIndex = 0;
+        int actualIndex = 0;
+
+        for (Edit edit : edits) {
+            expect(edit.getExpectedIndex()).toBe(expectedIndex);
+            expect(edit.getActualIndex()).toBe(actualIndex);
+
+            switch (edit.getType()) {
+                case EQUAL:
+                    for (int i = 0; i < edit.getLength(); i++) {
+                        expect(expected.get(expectedIndex + i)).toBe(actual.get(actualIndex + i));
+                        result.add(expected.get(expectedIndex + i));
+                    }
+
+                    expectedIndex += edit.getLength();
+                    actualIndex += edit.getLength();
+                    break;
+                case DELETE:
+                    expectedIndex += edit.getLength();
+                    break;
+                case INSERT:
+                    result.addAll(actual.subList(actualIndex, actualIndex + edit.getLength()));
+                    actualIndex += edit.getLength();
+                    break;
+            }
+        }
+
+        expect(expectedIndex).toBe(expected.size());
+        expect(actualIndex).toBe(actual.size());
+        expect(result.equals(actual)).toBe(true);
+    }
+
+}
@@ -0,0 +1,43 @@
+package org.testifj.diff;
+
+import org.testifj.Benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures line diffs of large texts with few and with many differences.
+ */
+public final class TextDiffBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    public static void main(String[] args) {
+        for (int lineCount : new int[]{100000, 1000000}) {
+            final String expected = text(lineCount, -1);
+            final String fewChanges = text(lineCount, lineCount / 10);
+            final String manyChanges = text(lineCount, 97);
+            final TextDiff textDiff = new TextDiff().withTimeLimit(1, TimeUnit.MINUTES);
+
+            Benchmark.report("TextDiff, " + lineCount + " lines, 10 changes",
+                    Benchmark.nanosPerOperation(ITERATIONS, () -> textDiff.diff(expected, fewChanges).size()));
+
+            Benchmark.report("TextDiff, " + lineCount + " lines, " + (lineCount / 97) + " changes",
+                    Benchmark.nanosPerOperation(ITERATIONS, () -> textDiff.diff(expected, manyChanges).size()));
+        }
+    }
+
+    private static String text(int lineCount, int changeInterval) {
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < lineCount; i++) {
+            if (changeInterval > 0 && i % changeInterval == changeInterval / 2) {
+                text.append("changed line ").append(i).append('\n');
+            } else {
+                text.append("line ").append(i).append('\n');
+            }
+        }
+
+        return text.toString();
+    }
+
+}
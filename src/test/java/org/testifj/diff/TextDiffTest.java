@@ -0,0 +1,163 @@
+package org.testifj.diff;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.testifj.Expect.expect;
+
+public class TextDiffTest {
+
+    private final TextDiff diff = new TextDiff();
+
+    @Test
+    public void linesShouldNotAcceptNullText() {
+        expect(() -> TextDiff.lines(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void linesShouldBeSeparatedByLineFeedOrCarriageReturnLineFeed() {
+        expect(TextDiff.lines("").isEmpty()).toBe(true);
+        expect(TextDiff.lines("foo").toArray()).toBe(new Object[]{"foo"});
+        expect(TextDiff.lines("foo\nbar\r\nbaz").toArray()).toBe(new Object[]{"foo", "bar", "baz"});
+        expect(TextDiff.lines("foo\n\nbar\n").toArray()).toBe(new Object[]{"foo", "", "bar"});
+        expect(TextDiff.lines("\n").toArray()).toBe(new Object[]{""});
+    }
+
+    @Test
+    public void withTimeLimitShouldReturnCopyWithLimit() {
+        expect(diff.withTimeLimit(1, TimeUnit.SECONDS).getTimeLimitMillis()).toBe(1000L);
+        expect(diff.getTimeLimitMillis()).toBe(TextDiff.DEFAULT_TIME_LIMIT_MILLIS);
+        expect(() -> diff.withTimeLimit(-1, TimeUnit.SECONDS)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void diffShouldNotAcceptNullTexts() {
+        expect(() -> diff.diff(null, "")).toThrow(AssertionError.class);
+        expect(() -> diff.diff("", null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void diffOfEqualTextsShouldContainSingleEqualEdit() {
+        expect(diff.diff("a\nb", "a\r\nb\n").toArray()).toBe(new Object[]{new Edit(Edit.Type.EQUAL, 0, 0, 2)});
+    }
+
+    @Test
+    public void changedLineShouldBeDescribedAsDeleteAndInsert() {
+        expect(diff.diff("a\nb\nc", "a\nx\nc").toArray()).toBe(new Object[]{
+                new Edit(Edit.Type.EQUAL, 0, 0, 1),
+                new Edit(Edit.Type.DELETE, 1, 1, 1),
+                new Edit(Edit.Type.INSERT, 2, 1, 1),
+                new Edit(Edit.Type.EQUAL, 2, 2, 1)});
+    }
+
+    @Test
+    public void diffShouldBeMinimal() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 200; i++) {
+            final List<String> expected = randomLines(random, random.nextInt(40));
+            final List<String> actual = randomLines(random, random.nextInt(40));
+            final List<Edit> edits = diff.diff(String.join("\n", expected), String.join("\n", actual));
+
+            expectValidEditScript(expected, actual, edits);
+            expect(editDistance(edits)).toBe(editDistance(new SequenceDiff().diff(expected, actual)));
+        }
+    }
+
+    @Test
+    public void diffOfLargeTextsWithFewChangesShouldBeMinimal() {
+        final List<String> expected = new ArrayList<>();
+
+        for (int i = 0; i < 1000000; i++) {
+            expected.add("line " + i);
+        }
+
+        final List<String> actual = new ArrayList<>(expected);
+
+        actual.set(100, "changed");
+        actual.remove(500000);
+        actual.add(900000, "inserted");
+
+        final List<Edit> edits = diff.diff(String.join("\n", expected), String.join("\n", actual));
+
+        expectValidEditScript(expected, actual, edits);
+        expect(editDistance(edits)).toBe(4);
+    }
+
+    @Test
+    public void largeTextsWithManyChangesShouldBeSplitAtUniqueLines() {
+        final List<String> expected = new ArrayList<>();
+        final List<String> actual = new ArrayList<>();
+
+        for (int i = 0; i < 100000; i++) {
+            expected.add("line " + i);
+            actual.add(i % 97 == 0 ? "changed line " + i : "line " + i);
+        }
+
+        final List<Edit> edits = diff.diff(String.join("\n", expected), String.join("\n", actual));
+
+        expectValidEditScript(expected, actual, edits);
+        expect(editDistance(edits)).toBe(2 * (100000 / 97 + 1));
+    }
+
+    @Test
+    public void diffExceedingTimeLimitShouldReportRemainingRegionsAsReplaced() {
+        final Random random = new Random(2);
+        final List<String> expected = randomLines(random, 20000);
+        final List<String> actual = randomLines(random, 20000);
+        final List<Edit> edits = diff.withTimeLimit(0, TimeUnit.MILLISECONDS).diff(String.join("\n", expected), String.join("\n", actual));
+
+        expectValidEditScript(expected, actual, edits);
+    }
+
+    private static List<String> randomLines(Random random, int count) {
+        final List<String> lines = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            lines.add(String.valueOf((char) ('a' + random.nextInt(4))));
+        }
+
+        return lines;
+    }
+
+    private static int editDistance(List<Edit> edits) {
+        return edits.stream().filter(edit -> edit.getType() != Edit.Type.EQUAL).mapToInt(Edit::getLength).sum();
+    }
+
+    private static void expectValidEditScript(List<String> expected, List<String> actual, List<Edit> edits) {
+        final List<String> result = new ArrayList<>();
+        int expectedIndex = 0;
+        int actualIndex = 0;
+
+        for (Edit edit : edits) {
+            expect(edit.getExpectedIndex()).toBe(expectedIndex);
+            expect(edit.getActualIndex()).toBe(actualIndex);
+
+            switch (edit.getType()) {
+                case EQUAL:
+                    expect(expected.subList(expectedIndex, expectedIndex + edit.getLength())
+                            .equals(actual.subList(actualIndex, actualIndex + edit.getLength()))).toBe(true);
+                    result.addAll(expected.subList(expectedIndex, expectedIndex + edit.getLength()));
+                    expectedIndex += edit.getLength();
+                    actualIndex += edit.getLength();
+                    break;
+                case DELETE:
+                    expectedIndex += edit.getLength();
+                    break;
+                case INSERT:
+                    result.addAll(actual.subList(actualIndex, actualIndex + edit.getLength()));
+                    actualIndex += edit.getLength();
+                    break;
+            }
+        }
+
+        expect(expectedIndex).toBe(expected.size());
+        expect(actualIndex).toBe(actual.size());
+        expect(result.equals(actual)).toBe(true);
+    }
+
+}
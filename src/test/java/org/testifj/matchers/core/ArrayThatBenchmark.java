@@ -0,0 +1,57 @@
+package org.testifj.matchers.core;
+
+import org.testifj.Benchmark;
+import org.testifj.Matcher;
+
+/**
+ * Compares the hash based {@link ArrayThat#containsAll(int...)} with the nested loop search previously
+ * used by {@link ArrayThatIs#arrayWith(int...)}.
+ */
+public final class ArrayThatBenchmark {
+
+    private static final int ITERATIONS = 50;
+
+    public static void main(String[] args) {
+        final int[] array = new int[100000];
+        final int[] elements = new int[1000];
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = array.length - 1 - i * 7;
+        }
+
+        final Matcher<int[]> nestedLoopMatcher = nestedLoopArrayWith(elements);
+        final Matcher<int[]> containsAllMatcher = ArrayThat.containsAll(elements);
+
+        Benchmark.report("nested loops, 1000 of 100000 elements",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> nestedLoopMatcher.matches(array) ? 1 : 0));
+
+        Benchmark.report("ArrayThat.containsAll, 1000 of 100000 elements",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> containsAllMatcher.matches(array) ? 1 : 0));
+    }
+
+    private static Matcher<int[]> nestedLoopArrayWith(int... elements) {
+        return array -> {
+            for (int n1 : elements) {
+                boolean matchFound = false;
+
+                for (int n2 : array) {
+                    if (n1 == n2) {
+                        matchFound = true;
+                        break;
+                    }
+                }
+
+                if (!matchFound) {
+                    return false;
+                }
+            }
+
+            return true;
+        };
+    }
+
+}
@@ -95,4 +95,16 @@ public class ArrayThatIsTest {
         expect(ArrayThatIs.ofLength(2).matches(new Object[2])).toBe(true);
         expect(ArrayThatIs.ofLength(3).matches(new Object[3])).toBe(true);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void arrayOfInAnyOrderShouldMatchPermutation() {
+        expect(ArrayThatIs.arrayOfInAnyOrder("a", "b", "a").matches(new String[]{"b", "a", "a"})).toBe(true);
+    }
+
+    @Test
+    public void arrayOfInAnyOrderShouldNotMatchArrayWithDifferentOccurrences() {
+        expect(ArrayThatIs.arrayOfInAnyOrder("a", "b", "a").matches(new String[]{"b", "a", "b"})).toBe(false);
+        expect(ArrayThatIs.arrayOfInAnyOrder("a").matches(null)).toBe(false);
+    }
+
+}
@@ -0,0 +1,100 @@
+package org.testifj.matchers.core;
+
+import org.junit.Test;
+import org.testifj.Description;
+import org.testifj.StandardDescriptionFormat;
+
+import static org.testifj.Expect.expect;
+
+public class ArrayThatTest {
+
+    @Test
+    public void matchersShouldNotAcceptNullElements() {
+        expect(() -> ArrayThat.containsAll((int[]) null)).toThrow(AssertionError.class);
+        expect(() -> ArrayThat.containsAny((long[]) null)).toThrow(AssertionError.class);
+        expect(() -> ArrayThat.containsNone((Object[]) null)).toThrow(AssertionError.class);
+        expect(() -> ArrayThat.containsExactlyInAnyOrder((int[]) null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void matchersShouldNotMatchNullArray() {
+        expect(ArrayThat.containsAll(new int[]{1}).matches(null)).toBe(false);
+        expect(ArrayThat.containsNone(new long[]{1}).matches(null)).toBe(false);
+        expect(describe(ArrayThat.containsAll(new int[]{1}).describeMismatch(null))).toBe("value is null");
+    }
+
+    @Test
+    public void containsAllShouldMatchIntArrayContainingAllElements() {
+        expect(ArrayThat.containsAll(new int[]{3, 1}).matches(new int[]{1, 2, 3})).toBe(true);
+        expect(ArrayThat.containsAll(new int[]{1, 1}).matches(new int[]{1})).toBe(true);
+        expect(ArrayThat.containsAll(new int[]{1, 4}).matches(new int[]{1, 2, 3})).toBe(false);
+        expect(describe(ArrayThat.containsAll(new int[]{5, 1, 4, 5}).describeMismatch(new int[]{1, 2, 3}))).toBe("missing elements [5, 4]");
+    }
+
+    @Test
+    public void containsAllShouldMatchLongArrayContainingAllElements() {
+        expect(ArrayThat.containsAll(new long[]{Long.MAX_VALUE, 0}).matches(new long[]{0, Long.MAX_VALUE})).toBe(true);
+        expect(describe(ArrayThat.containsAll(new long[]{1, 2}).describeMismatch(new long[]{1}))).toBe("missing elements [2]");
+    }
+
+    @Test
+    public void containsAllShouldMatchObjectArrayContainingAllElements() {
+        expect(ArrayThat.containsAll("a", "b").matches(new String[]{"b", "a"})).toBe(true);
+        expect(describe(ArrayThat.containsAll("a", "b").describeMismatch(new String[]{"a"}))).toBe("missing elements [\"b\"]");
+    }
+
+    @Test
+    public void containsAllShouldBeLinearForLargeArrays() {
+        final int[] array = new int[1000000];
+        final int[] elements = new int[10000];
+
+        for (int i = 0; i < array.length; i++) {
+            array[i] = i;
+        }
+
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = array.length - 1 - i * 7;
+        }
+
+        expect(ArrayThat.containsAll(elements).matches(array)).toBe(true);
+        expect(ArrayThatIs.arrayWith(elements).matches(array)).toBe(true);
+    }
+
+    @Test
+    public void containsAnyShouldMatchArrayContainingAnyElement() {
+        expect(ArrayThat.containsAny(new int[]{4, 3}).matches(new int[]{1, 2, 3})).toBe(true);
+        expect(ArrayThat.containsAny(new int[]{4, 5}).matches(new int[]{1, 2, 3})).toBe(false);
+        expect(ArrayThat.containsAny(new long[]{3}).matches(new long[]{3})).toBe(true);
+        expect(ArrayThat.containsAny("a", "b").matches(new String[]{"c"})).toBe(false);
+        expect(describe(ArrayThat.containsAny(new int[]{4, 5}).describeMismatch(new int[]{1}))).toBe("none of [4, 5] is contained");
+    }
+
+    @Test
+    public void containsNoneShouldMatchArrayContainingNoneOfElements() {
+        expect(ArrayThat.containsNone(new int[]{4, 5}).matches(new int[]{1, 2, 3})).toBe(true);
+        expect(ArrayThat.containsNone(new int[]{3, 2}).matches(new int[]{1, 2, 3})).toBe(false);
+        expect(ArrayThat.containsNone("a").matches(new String[]{"b"})).toBe(true);
+        expect(describe(ArrayThat.containsNone(new int[]{3, 2}).describeMismatch(new int[]{3, 1, 2, 3}))).toBe("unexpected elements [3, 2]");
+        expect(describe(ArrayThat.containsNone(new long[]{2}).describeMismatch(new long[]{2}))).toBe("unexpected elements [2]");
+    }
+
+    @Test
+    public void containsExactlyInAnyOrderShouldConsiderMultiplicity() {
+        expect(ArrayThat.containsExactlyInAnyOrder(new int[]{2, 1, 2}).matches(new int[]{2, 2, 1})).toBe(true);
+        expect(ArrayThat.containsExactlyInAnyOrder(new int[]{2, 1, 2}).matches(new int[]{2, 1, 1})).toBe(false);
+        expect(ArrayThat.containsExactlyInAnyOrder(new long[]{1, 2}).matches(new long[]{2, 1})).toBe(true);
+        expect(ArrayThat.containsExactlyInAnyOrder("a", "b").matches(new String[]{"b", "a"})).toBe(true);
+        expect(ArrayThat.containsExactlyInAnyOrder("a", "b").matches(new String[]{"b", "a", "a"})).toBe(false);
+        expect(describe(ArrayThat.containsExactlyInAnyOrder(new int[]{2, 1, 2}).describeMismatch(new int[]{3, 2, 1})))
+                .toBe("missing 2 x 1; surplus 3 x 1");
+        expect(describe(ArrayThat.containsExactlyInAnyOrder(new long[]{1}).describeMismatch(new long[]{1, 1})))
+                .toBe("surplus 1 x 1");
+        expect(describe(ArrayThat.containsExactlyInAnyOrder(new long[]{3, 1, 3, 3}).describeMismatch(new long[]{1, 2, 2})))
+                .toBe("missing 3 x 3; surplus 2 x 2");
+    }
+
+    private static String describe(Description description) {
+        return new StandardDescriptionFormat().format(description);
+    }
+
+}
@@ -0,0 +1,92 @@
+package org.testifj.matchers.core;
+
+import org.junit.Test;
+import org.testifj.Description;
+import org.testifj.StandardDescriptionFormat;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.regex.Pattern;
+
+import static org.testifj.Expect.expect;
+
+public class CharSequenceThatTest {
+
+    @Test
+    public void containsPatternShouldNotAcceptNullRegex() {
+        expect(() -> CharSequenceThat.containsPattern(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void containsPatternShouldFindPatternInAnyCharSequence() {
+        expect(CharSequenceThat.containsPattern("b+c").matches("abbbcd")).toBe(true);
+        expect(CharSequenceThat.containsPattern("b+c").matches(new StringBuilder("abbbcd"))).toBe(true);
+        expect(CharSequenceThat.containsPattern("b+c").matches(CharBuffer.wrap("xbcx"))).toBe(true);
+        expect(CharSequenceThat.containsPattern("b+c").matches("acb")).toBe(false);
+        expect(CharSequenceThat.containsPattern("b+c").matches(null)).toBe(false);
+    }
+
+    @Test
+    public void containsPatternShouldApplyFlags() {
+        expect(CharSequenceThat.containsPattern("^error", Pattern.MULTILINE).matches("info: ok\nerror: failed")).toBe(true);
+        expect(CharSequenceThat.containsPattern("^error").matches("info: ok\nerror: failed")).toBe(false);
+    }
+
+    @Test
+    public void containsPatternShouldDescribeMismatch() {
+        expect(describe(CharSequenceThat.containsPattern("x+").describeMismatch("abc"))).toBe("no match of pattern \"x+\" in 3 characters");
+    }
+
+    @Test
+    public void containsSequenceShouldFindLiteralSequence() {
+        expect(() -> CharSequenceThat.containsSequence("")).toThrow(AssertionError.class);
+        expect(CharSequenceThat.containsSequence("a.c").matches(new StringBuilder("xa.cx"))).toBe(true);
+        expect(CharSequenceThat.containsSequence("a.c").matches("abc")).toBe(false);
+        expect(describe(CharSequenceThat.containsSequence("a.c").describeMismatch("abc"))).toBe("no occurrence of \"a.c\" in 3 characters");
+    }
+
+    @Test
+    public void matchesPatternShouldMatchEntireSequence() {
+        expect(CharSequenceThat.matchesPattern("[a-c]+").matches(new StringBuilder("abc"))).toBe(true);
+        expect(CharSequenceThat.matchesPattern("[a-c]+").matches("abcd")).toBe(false);
+        expect(describe(CharSequenceThat.matchesPattern("[a-c]+").describeMismatch("abcd"))).toBe("doesn't match pattern \"[a-c]+\"");
+    }
+
+    @Test
+    public void containsPatternShouldSearchMemoryMappedFile() throws Exception {
+        final File file = File.createTempFile("log", ".txt");
+
+        try {
+            final StringBuilder log = new StringBuilder();
+
+            for (int i = 0; i < 10000; i++) {
+                log.append("INFO line ").append(i).append('\n');
+            }
+
+            log.append("ERROR disk full\n");
+
+            Files.write(file.toPath(), log.toString().getBytes(StandardCharsets.US_ASCII));
+
+            try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r")) {
+                final FileChannel channel = randomAccessFile.getChannel();
+                final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                final CharBuffer contents = StandardCharsets.US_ASCII.decode(buffer);
+
+                expect(CharSequenceThat.containsPattern("^ERROR .*full$", Pattern.MULTILINE).matches(contents)).toBe(true);
+                expect(CharSequenceThat.containsSequence("FATAL").matches(contents)).toBe(false);
+            }
+        } finally {
+            file.delete();
+        }
+    }
+
+    private static String describe(Description description) {
+        return new StandardDescriptionFormat().format(description);
+    }
+
+}
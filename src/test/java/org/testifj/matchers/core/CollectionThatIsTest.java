@@ -1,12 +1,15 @@
 package org.testifj.matchers.core;
 
 import org.junit.Test;
+import org.testifj.StandardDescriptionFormat;
+import org.testifj.MatchResult;
 import org.testifj.Matcher;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
@@ -18,6 +21,7 @@ import static org.testifj.matchers.core.CollectionThatIs.collectionOf;
 import static org.testifj.matchers.core.CollectionThatIs.collectionWithElements;
 import static org.testifj.matchers.core.CollectionThatIs.ofSize;
 import static org.testifj.matchers.core.ObjectThatIs.equalTo;
+import static org.testifj.matchers.core.CollectionThatIs.collectionOfInAnyOrder;
 
 @SuppressWarnings("unchecked")
 public class CollectionThatIsTest {
@@ -120,4 +124,44 @@ public class CollectionThatIsTest {
         expect(ofSize(3).matches(Arrays.asList("foo", "bar", "baz"))).toBe(true);
     }
 
+    @Test
+    public void collectionOfInAnyOrderShouldMatchPermutation() {
+        expect(CollectionThatIs.<String, List<String>>collectionOfInAnyOrder("a", "b", "a").matches(Arrays.asList("b", "a", "a"))).toBe(true);
+        expect(CollectionThatIs.<String, List<String>>collectionOfInAnyOrder().matches(Collections.emptyList())).toBe(true);
+    }
+
+    @Test
+    public void collectionOfInAnyOrderShouldNotMatchNullOrDifferentOccurrences() {
+        expect(CollectionThatIs.<String, List<String>>collectionOfInAnyOrder("a").matches(null)).toBe(false);
+        expect(CollectionThatIs.<String, List<String>>collectionOfInAnyOrder("a", "b", "b").matches(Arrays.asList("a", "a", "b"))).toBe(false);
+        expect(CollectionThatIs.<String, List<String>>collectionOfInAnyOrder("a", "b").matches(Arrays.asList("a", "b", "b"))).toBe(false);
+    }
+
+    @Test
+    public void collectionOfInAnyOrderShouldDescribeMissingAndSurplusElements() {
+        final String description = new StandardDescriptionFormat().format(
+                collectionOfInAnyOrder("a", "b", "b").describeMismatch(Arrays.asList("c", "a", "c")));
+
+        expect(description).toBe("missing \"b\" x 2; surplus \"c\" x 2");
+    }
+
+    @Test
+    public void collectionWithElementsShouldReportFailingElementMatcherAndIndex() {
+        final Matcher<String> fooMatcher = equalTo("foo");
+        final Matcher<String> barMatcher = equalTo("bar");
+        final MatchResult result = CollectionThatIs.<String, List<String>>collectionWithElements(fooMatcher, barMatcher).evaluate(Arrays.asList("foo", "baz"));
+
+        expect(result.isMatch()).toBe(false);
+        expect(result.getFailedMatcher()).toBe(Optional.of(barMatcher));
+        expect(result.getPath()).toBe("[1]");
+        expect(result.getValue()).toBe("baz");
+    }
+
+    @Test
+    public void collectionWithElementsShouldReturnSharedResultForMatch() {
+        final MatchResult result = CollectionThatIs.<String, List<String>>collectionWithElements(equalTo("foo")).evaluate(Arrays.asList("foo"));
+
+        expect(result == MatchResult.match()).toBe(true);
+    }
+
 }
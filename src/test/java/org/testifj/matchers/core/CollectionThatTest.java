@@ -1,11 +1,15 @@
 package org.testifj.matchers.core;
 
 import org.junit.Test;
+import org.testifj.Description;
 import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
+import org.testifj.StandardDescriptionFormat;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 import static org.testifj.Expect.expect;
 
@@ -37,4 +41,67 @@ public class CollectionThatTest {
         expect(matcher.matches(Arrays.asList("foo", "bar", "baz"))).toBe(true);
     }
 
+    @Test
+    public void containsAllShouldMatchCollectionContainingAllElements() {
+        expect(CollectionThat.containsAll("a", "b").matches(Arrays.asList("b", "c", "a"))).toBe(true);
+        expect(CollectionThat.containsAll().matches(Collections.emptyList())).toBe(true);
+        expect(CollectionThat.containsAll("a", "b").matches(Arrays.asList("a", "c"))).toBe(false);
+        expect(CollectionThat.containsAll("a").matches(null)).toBe(false);
+    }
+
+    @Test
+    public void containsAllShouldDescribeMissingElementsInExpectedOrder() {
+        final MismatchDescribingMatcher<List<String>> matcher = CollectionThat.containsAll("c", "a", "b", "c");
+
+        expect(describe(matcher.describeMismatch(Arrays.asList("a")))).toBe("missing elements [\"c\", \"b\"]");
+    }
+
+    @Test
+    public void containsAllShouldSupportNullElements() {
+        expect(CollectionThat.containsAll("a", null).matches(Arrays.asList(null, "a"))).toBe(true);
+        expect(CollectionThat.containsAll("a", null).matches(Arrays.asList("a"))).toBe(false);
+    }
+
+    @Test
+    public void containsAnyShouldMatchCollectionContainingAnyElement() {
+        expect(CollectionThat.containsAny("a", "b").matches(Arrays.asList("c", "b"))).toBe(true);
+        expect(CollectionThat.containsAny("a", "b").matches(Arrays.asList("c", "d"))).toBe(false);
+        expect(describe(CollectionThat.<String, List<String>>containsAny("a", "b").describeMismatch(Arrays.asList("c"))))
+                .toBe("none of [\"a\", \"b\"] is contained");
+    }
+
+    @Test
+    public void containsNoneShouldMatchCollectionContainingNoneOfElements() {
+        expect(CollectionThat.containsNone("a", "b").matches(Arrays.asList("c", "d"))).toBe(true);
+        expect(CollectionThat.containsNone("a", "b").matches(Arrays.asList("c", "b"))).toBe(false);
+        expect(describe(CollectionThat.<String, List<String>>containsNone("a", "b").describeMismatch(Arrays.asList("b", "c", "b", "a"))))
+                .toBe("unexpected elements [\"b\", \"a\"]");
+    }
+
+    @Test
+    public void containsExactlyInAnyOrderShouldConsiderMultiplicity() {
+        expect(CollectionThat.containsExactlyInAnyOrder("a", "b", "a").matches(Arrays.asList("a", "a", "b"))).toBe(true);
+        expect(CollectionThat.containsExactlyInAnyOrder("a", "b", "a").matches(Arrays.asList("a", "b", "b"))).toBe(false);
+        expect(CollectionThat.containsExactlyInAnyOrder("a", "b").matches(Arrays.asList("a", "b", "c"))).toBe(false);
+        expect(describe(CollectionThat.<String, List<String>>containsExactlyInAnyOrder("a", "b", "a").describeMismatch(Arrays.asList("a", "b", "b", "c"))))
+                .toBe("missing \"a\" x 1; surplus \"b\" x 1, \"c\" x 1");
+    }
+
+    @Test
+    public void mismatchDescriptionShouldBeLimitedToMaximumReportedElements() {
+        final Integer[] elements = new Integer[100];
+
+        for (int i = 0; i < elements.length; i++) {
+            elements[i] = i;
+        }
+
+        final String description = describe(CollectionThat.<Integer, List<Integer>>containsAll(elements).describeMismatch(Collections.emptyList()));
+
+        expect(description.endsWith("19] and 80 more")).toBe(true);
+    }
+
+    private static String describe(Description description) {
+        return new StandardDescriptionFormat().format(description);
+    }
+
 }
@@ -0,0 +1,77 @@
+package org.testifj.matchers.core;
+
+import org.testifj.Benchmark;
+import org.testifj.Matcher;
+
+import java.lang.reflect.Array;
+
+/**
+ * Compares array equality through {@link Equal#equal(Object)} with the reflective comparison it replaced,
+ * which boxed every element through {@link java.lang.reflect.Array#get(Object, int)}.
+ */
+public final class EqualBenchmark {
+
+    private static final int ITERATIONS = 20000;
+
+    private static final int LENGTH = 10000;
+
+    public static void main(String[] args) {
+        final int[] ints = new int[LENGTH];
+        final double[] doubles = new double[LENGTH];
+        final byte[] bytes = new byte[LENGTH];
+
+        for (int i = 0; i < LENGTH; i++) {
+            ints[i] = i;
+            doubles[i] = i;
+            bytes[i] = (byte) i;
+        }
+
+        compare("int[" + LENGTH + "]", ints, ints.clone());
+        compare("double[" + LENGTH + "]", doubles, doubles.clone());
+        compare("byte[" + LENGTH + "]", bytes, bytes.clone());
+    }
+
+    private static void compare(String name, Object expected, Object actual) {
+        final Matcher<Object> matcher = Equal.equal(expected);
+        final Matcher<Object> reflectiveMatcher = reflectiveEqual(expected);
+
+        Benchmark.report("reflective, " + name, Benchmark.nanosPerOperation(ITERATIONS, () -> reflectiveMatcher.matches(actual) ? 1 : 0));
+        Benchmark.report("Equal.equal, " + name, Benchmark.nanosPerOperation(ITERATIONS, () -> matcher.matches(actual) ? 1 : 0));
+    }
+
+    private static <T> Matcher<T> reflectiveEqual(T expectedInstance) {
+        return otherInstance -> {
+            if (otherInstance == expectedInstance) {
+                return true;
+            }
+
+            if (expectedInstance == null || otherInstance == null) {
+                return false;
+            }
+
+            if (expectedInstance.equals(otherInstance)) {
+                return true;
+            }
+
+            if (expectedInstance.getClass().isArray()) {
+                final int expectedLength = Array.getLength(expectedInstance);
+                final int actualLength = Array.getLength(otherInstance);
+
+                if (expectedLength != actualLength) {
+                    return false;
+                }
+
+                for (int i = 0; i < expectedLength; i++) {
+                    if (!reflectiveEqual(Array.get(expectedInstance, i)).matches(Array.get(otherInstance, i))) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+
+            return false;
+        };
+    }
+
+}
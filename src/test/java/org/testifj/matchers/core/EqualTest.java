@@ -41,6 +41,97 @@ public class EqualTest {
         assertTrue(equal(new byte[]{1, 2, 3, 4}).matches(new byte[]{1, 2, 3, 4}));
     }
 
+    @Test
+    public void equalMatcherShouldCompareAllPrimitiveArrayTypes() {
+        assertTrue(equal(new int[]{1, 2}).matches(new int[]{1, 2}));
+        assertFalse(equal(new int[]{1, 2}).matches(new int[]{1, 3}));
+        assertTrue(equal(new long[]{1L}).matches(new long[]{1L}));
+        assertFalse(equal(new long[]{1L}).matches(new long[]{1L, 2L}));
+        assertTrue(equal(new short[]{1}).matches(new short[]{1}));
+        assertTrue(equal(new char[]{'a'}).matches(new char[]{'a'}));
+        assertFalse(equal(new char[]{'a'}).matches(new char[]{'b'}));
+        assertTrue(equal(new boolean[]{true}).matches(new boolean[]{true}));
+        assertFalse(equal(new boolean[]{true}).matches(new boolean[]{false}));
+        assertFalse(equal(new byte[]{1, 2}).matches(new byte[]{1, 2, 3}));
+    }
+
+    @Test
+    public void floatingPointArraysShouldBeComparedAsByArraysEquals() {
+        assertTrue(equal(new double[]{Double.NaN}).matches(new double[]{Double.NaN}));
+        assertFalse(equal(new double[]{0.0}).matches(new double[]{-0.0}));
+        assertTrue(equal(new float[]{Float.NaN}).matches(new float[]{Float.NaN}));
+        assertFalse(equal(new float[]{0.0f}).matches(new float[]{-0.0f}));
+    }
+
+    @Test
+    public void primitiveArrayShouldMatchBoxedArrayWithEqualElements() {
+        assertTrue(Equal.<Object>equal(new int[]{1, 2}).matches(new Integer[]{1, 2}));
+        assertFalse(Equal.<Object>equal(new int[]{1, 2}).matches(new long[]{1L, 2L}));
+    }
+
+    @Test
+    public void arrayShouldNotMatchNonArray() {
+        assertFalse(Equal.<Object>equal(new int[]{1}).matches("foo"));
+        assertFalse(Equal.<Object>equal("foo").matches(new int[]{1}));
+    }
+
+    @Test
+    public void nestedArraysShouldBeComparedDeeply() {
+        assertTrue(equal(new Object[]{"a", new int[]{1}, new Object[]{new byte[]{2}}})
+                .matches(new Object[]{"a", new int[]{1}, new Object[]{new byte[]{2}}}));
+        assertFalse(equal(new Object[]{"a", new int[]{1}, new Object[]{new byte[]{2}}})
+                .matches(new Object[]{"a", new int[]{1}, new Object[]{new byte[]{3}}}));
+    }
+
+    @Test
+    public void cyclicArraysShouldBeComparedWithoutOverflowingStack() {
+        final Object[] expected = new Object[2];
+        final Object[] actual = new Object[2];
+
+        expected[0] = "a";
+        expected[1] = expected;
+        actual[0] = "a";
+        actual[1] = actual;
+
+        assertTrue(equal(expected).matches(actual));
+
+        actual[0] = "b";
+
+        assertFalse(equal(expected).matches(actual));
+    }
+
+    @Test
+    public void mutuallyCyclicArraysShouldBeCompared() {
+        final Object[] expected1 = new Object[1];
+        final Object[] expected2 = new Object[]{expected1, 1};
+        final Object[] actual1 = new Object[1];
+        final Object[] actual2 = new Object[]{actual1, 1};
+
+        expected1[0] = expected2;
+        actual1[0] = actual2;
+
+        assertTrue(equal(expected1).matches(actual1));
+
+        actual2[1] = 2;
+
+        assertFalse(equal(expected1).matches(actual1));
+    }
+
+    @Test
+    public void indexOfFirstMismatchShouldNotAcceptNonArrays() {
+        expect(() -> Equal.indexOfFirstMismatch(null, new int[0])).toThrow(AssertionError.class);
+        expect(() -> Equal.indexOfFirstMismatch(new int[0], "foo")).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void indexOfFirstMismatchShouldReturnFirstDifferingIndex() {
+        expect(Equal.indexOfFirstMismatch(new int[]{1, 2, 3}, new int[]{1, 2, 3})).toBe(Equal.NO_MISMATCH);
+        expect(Equal.indexOfFirstMismatch(new int[]{1, 2, 3}, new int[]{1, 0, 0})).toBe(1);
+        expect(Equal.indexOfFirstMismatch(new double[]{1, 2}, new double[]{1, 2, 3})).toBe(2);
+        expect(Equal.indexOfFirstMismatch(new String[]{"a", "b"}, new String[]{"a", "c"})).toBe(1);
+        expect(Equal.indexOfFirstMismatch(new Object[]{new int[]{1}, new int[]{2}}, new Object[]{new int[]{1}, new int[]{3}})).toBe(1);
+    }
+
     @Test
     public void failedExpectationShouldContainDescription() {
         final Supplier<String> supplier = () -> "foo";
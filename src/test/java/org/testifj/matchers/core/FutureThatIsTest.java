@@ -0,0 +1,179 @@
+package org.testifj.matchers.core;
+
+import org.junit.After;
+import org.junit.Test;
+import org.testifj.Description;
+import org.testifj.MismatchDescribingMatcher;
+import org.testifj.StandardDescriptionFormat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.Equal.equal;
+import static org.testifj.matchers.core.StringThatIs.stringContaining;
+
+public class FutureThatIsTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(task -> new Thread(task, "future-that-is-test"));
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void completedWithShouldNotAcceptNullMatcher() {
+        expect(() -> FutureThatIs.completedWith(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void completedWithShouldMatchFutureCompletedWithMatchingValue() {
+        expect(FutureThatIs.<String, CompletableFuture<String>>completedWith(equal("foo")).matches(CompletableFuture.completedFuture("foo"))).toBe(true);
+        expect(FutureThatIs.<String, CompletableFuture<String>>completedWith(equal("foo")).matches(CompletableFuture.completedFuture("bar"))).toBe(false);
+        expect(FutureThatIs.<String, CompletableFuture<String>>completedWith(equal("foo")).matches(null)).toBe(false);
+    }
+
+    @Test
+    public void completedWithShouldNotWaitForIncompleteFuture() {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        expect(FutureThatIs.<String, CompletableFuture<String>>completedWith(equal("foo")).matches(future)).toBe(false);
+        expect(describe(FutureThatIs.<String, CompletableFuture<String>>completedWith(equal("foo")).describeMismatch(future))).toBe("future is not completed");
+    }
+
+    @Test
+    public void completedWithShouldDescribeMismatchingCompletion() {
+        final CompletableFuture<String> failed = new CompletableFuture<>();
+        final CompletableFuture<String> cancelled = new CompletableFuture<>();
+
+        failed.completeExceptionally(new IllegalStateException("failed"));
+        cancelled.cancel(false);
+
+        expect(describe(FutureThatIs.<String, CompletableFuture<String>>completedWith(equal("foo")).describeMismatch(CompletableFuture.completedFuture("bar")))).toBe("future completed with \"bar\"");
+        expect(describe(FutureThatIs.<String, CompletableFuture<String>>completedWith(equal("foo")).describeMismatch(failed))).toBe(stringContaining("future completed exceptionally with java.lang.IllegalStateException: failed"));
+        expect(describe(FutureThatIs.<String, CompletableFuture<String>>completedWith(equal("foo")).describeMismatch(cancelled))).toBe("future was cancelled");
+    }
+
+    @Test
+    public void completedExceptionallyShouldMatchUnwrappedException() {
+        final CompletableFuture<String> failed = new CompletableFuture<>();
+        final CompletableFuture<String> chained = failed.thenApply(String::trim);
+
+        failed.completeExceptionally(new IllegalStateException("failed"));
+
+        expect(FutureThatIs.completedExceptionally(IllegalStateException.class).matches(failed)).toBe(true);
+        expect(FutureThatIs.completedExceptionally(IllegalStateException.class).matches(chained)).toBe(true);
+        expect(FutureThatIs.completedExceptionally(IllegalArgumentException.class).matches(failed)).toBe(false);
+        expect(FutureThatIs.completedExceptionally(IllegalStateException.class).matches(CompletableFuture.completedFuture("foo"))).toBe(false);
+        expect(describe(FutureThatIs.completedExceptionally(IllegalStateException.class).describeMismatch(CompletableFuture.completedFuture("foo")))).toBe("future completed with \"foo\"");
+    }
+
+    @Test
+    public void completedExceptionallyShouldMatchExceptionOfPlainFuture() {
+        final FutureTask<String> task = new FutureTask<>(() -> {
+            throw new IllegalArgumentException();
+        });
+
+        task.run();
+
+        expect(FutureThatIs.completedExceptionally(IllegalArgumentException.class).matches(task)).toBe(true);
+    }
+
+    @Test
+    public void completesWithinShouldMatchFutureCompletingBeforeTimeout() {
+        final CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> "foo", executor);
+
+        expect(FutureThatIs.completesWithin(5, TimeUnit.SECONDS).matches(future)).toBe(true);
+        expect(FutureThatIs.<String, CompletableFuture<String>>completesWithin(5, TimeUnit.SECONDS, equal("foo")).matches(future)).toBe(true);
+        expect(FutureThatIs.<String, CompletableFuture<String>>completesWithin(5, TimeUnit.SECONDS, equal("bar")).matches(future)).toBe(false);
+    }
+
+    @Test
+    public void completesWithinShouldMatchPlainFutureCompletingBeforeTimeout() {
+        final Future<String> future = executor.submit(() -> "foo");
+
+        expect(FutureThatIs.completesWithin(5, TimeUnit.SECONDS).matches(future)).toBe(true);
+        expect(FutureThatIs.<String, Future<String>>completesWithin(5, TimeUnit.SECONDS, equal("foo")).matches(future)).toBe(true);
+    }
+
+    @Test
+    public void completesWithinShouldIncludeBusyExecutorThreadsInMismatch() {
+        final CompletableFuture<String> future = CompletableFuture.supplyAsync(this::awaitRelease, executor);
+        final MismatchDescribingMatcher<CompletableFuture<String>> matcher = FutureThatIs.completesWithin(50, TimeUnit.MILLISECONDS);
+
+        expect(matcher.matches(future)).toBe(false);
+
+        final String description = describe(matcher.describeMismatch(future));
+
+        expect(description).toBe(stringContaining("future didn't complete within 50 milliseconds"));
+        expect(description).toBe(stringContaining("\"future-that-is-test\" WAITING"));
+        expect(description).toBe(stringContaining("FutureThatIsTest.awaitRelease"));
+    }
+
+    @Test
+    public void completesWithinShouldNotWaitIfInterrupted() {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+
+        Thread.currentThread().interrupt();
+
+        try {
+            expect(FutureThatIs.completesWithin(1, TimeUnit.MINUTES).matches(future)).toBe(false);
+            expect(Thread.currentThread().isInterrupted()).toBe(true);
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void allCompleteWithinShouldMatchIfAllFuturesComplete() {
+        final List<CompletableFuture<Integer>> futures = new ArrayList<>();
+
+        for (int i = 0; i < 1000; i++) {
+            final int value = i;
+            futures.add(CompletableFuture.supplyAsync(() -> value, executor));
+        }
+
+        expect(FutureThatIs.allCompleteWithin(5, TimeUnit.SECONDS).matches(futures)).toBe(true);
+        expect(FutureThatIs.allCompleteWithin(5, TimeUnit.SECONDS).matches(Arrays.asList(executor.submit(() -> "foo"), CompletableFuture.completedFuture("bar")))).toBe(true);
+    }
+
+    @Test
+    public void allCompleteWithinShouldDescribeIncompleteFutures() {
+        final List<CompletableFuture<String>> futures = Arrays.asList(
+                CompletableFuture.completedFuture("foo"),
+                CompletableFuture.supplyAsync(this::awaitRelease, executor),
+                new CompletableFuture<>());
+        final MismatchDescribingMatcher<List<CompletableFuture<String>>> matcher = FutureThatIs.allCompleteWithin(50, TimeUnit.MILLISECONDS);
+
+        expect(matcher.matches(futures)).toBe(false);
+        expect(describe(matcher.describeMismatch(futures))).toBe(stringContaining("2 of 3 futures didn't complete within 50 milliseconds, at indices [1, 2]"));
+        expect(describe(matcher.describeMismatch(futures))).toBe(stringContaining("\"future-that-is-test\" WAITING"));
+    }
+
+    private String awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return "released";
+    }
+
+    private static String describe(Description description) {
+        return new StandardDescriptionFormat().format(description);
+    }
+
+}
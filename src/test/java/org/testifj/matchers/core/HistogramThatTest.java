@@ -0,0 +1,79 @@
+package org.testifj.matchers.core;
+
+import org.junit.Test;
+import org.testifj.LatencyHistogram;
+import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
+import org.testifj.StandardDescriptionFormat;
+
+import static org.testifj.Expect.expect;
+import static org.testifj.matchers.core.HistogramThat.*;
+import static org.testifj.matchers.core.NumberThatIs.lessThan;
+import static org.testifj.matchers.core.StringThatIs.stringContaining;
+
+public class HistogramThatTest {
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void histogramThatShouldNotAcceptNullArguments() {
+        expect(() -> histogramThat(null, lessThan(1L))).toThrow(AssertionError.class);
+        expect(() -> histogramThat(p99(), null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void percentileShouldNotAcceptValueOutOfRange() {
+        expect(() -> percentile(0)).toThrow(AssertionError.class);
+        expect(() -> percentile(100.1)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void percentilesShouldBeNamed() {
+        expect(median().toString()).toBe("p50");
+        expect(p90().toString()).toBe("p90");
+        expect(p99().toString()).toBe("p99");
+        expect(p999().toString()).toBe("p99.9");
+        expect(maximum().toString()).toBe("maximum");
+        expect(percentile(99.99).getValue()).toBe(99.99);
+        expect(median()).toBe(p50());
+    }
+
+    @Test
+    public void unitsShouldBeConvertedToNanos() {
+        expect(us(3)).toBe(3_000L);
+        expect(ms(5)).toBe(5_000_000L);
+    }
+
+    @Test
+    public void histogramThatShouldMatchValueAtPercentile() {
+        histogram.record(us(100), 99);
+        histogram.record(ms(10));
+
+        expect(histogramThat(p99(), lessThan(ms(5))).matches(histogram)).toBe(true);
+        expect(histogramThat(maximum(), lessThan(ms(5))).matches(histogram)).toBe(false);
+        expect(histogramThat(p50(), (Matcher<Long>) value -> value >= us(100) && value < us(101)).matches(histogram)).toBe(true);
+        expect(histogramThat(p99(), lessThan(ms(5))).matches(null)).toBe(false);
+    }
+
+    @Test
+    public void expectationShouldAcceptMatchingHistogram() {
+        histogram.record(us(100), 1000);
+
+        expect(histogram).toBe(histogramThat(p999(), lessThan(ms(5))));
+    }
+
+    @Test
+    public void mismatchShouldIncludeValueAndPercentileTable() {
+        histogram.record(us(100), 98);
+        histogram.record(ms(10), 2);
+
+        final MismatchDescribingMatcher<LatencyHistogram> matcher = histogramThat(p99(), lessThan(ms(5)));
+        final String description = new StandardDescriptionFormat().format(matcher.describeMismatch(histogram));
+
+        expect(description).toBe(stringContaining("p99 is 10.0 ms; percentile        value"));
+        expect(description).toBe(stringContaining("\n       90%     100.0 us"));
+        expect(description).toBe(stringContaining("\n       99%      10.0 ms"));
+        expect(description).toBe(stringContaining("\n100 values, min 100.0 us"));
+    }
+
+}
@@ -1,6 +1,7 @@
 package org.testifj.matchers.core;
 
 import org.junit.Test;
+import org.testifj.StandardDescriptionFormat;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -39,4 +40,24 @@ public class IterableThatIsTest {
         expect(() -> IterableThatIs.<Object, Iterable<Object>>iterableOf((Object[]) null)).toThrow(AssertionError.class);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void iterableOfInAnyOrderShouldMatchPermutation() {
+        expect(IterableThatIs.iterableOfInAnyOrder(1, 2, 2).matches(Arrays.asList(2, 1, 2))).toBe(true);
+    }
+
+    @Test
+    public void iterableOfInAnyOrderShouldNotMatchIterableWithOtherElements() {
+        expect(IterableThatIs.iterableOfInAnyOrder(1, 2).matches(Arrays.asList(1, 2, 3))).toBe(false);
+        expect(IterableThatIs.iterableOfInAnyOrder(1, 2).matches(Arrays.asList(1))).toBe(false);
+        expect(IterableThatIs.iterableOfInAnyOrder(1, 2).matches(null)).toBe(false);
+    }
+
+    @Test
+    public void iterableOfInAnyOrderShouldDescribeMismatch() {
+        final String description = new StandardDescriptionFormat().format(
+                IterableThatIs.iterableOfInAnyOrder(1, 2).describeMismatch(Arrays.asList(2, 3)));
+
+        expect(description).toBe("missing 1 x 1; surplus 3 x 1");
+    }
+
+}
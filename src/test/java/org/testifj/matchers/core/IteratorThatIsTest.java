@@ -1,6 +1,9 @@
 package org.testifj.matchers.core;
 
 import org.junit.Test;
+import org.testifj.MatchResult;
+import org.testifj.MismatchDescribingMatcher;
+import org.testifj.StandardDescriptionFormat;
 
 import java.util.Arrays;
 import java.util.Iterator;
@@ -57,4 +60,23 @@ public class IteratorThatIsTest {
         expect(IteratorThatIs.iteratorOf("foo", "bar").matches(Arrays.asList("foo").iterator())).toBe(false);
         expect(IteratorThatIs.iteratorOf("foo", "bar").matches(Arrays.asList("foo", "bar", "baz").iterator())).toBe(false);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void iteratorOfInAnyOrderShouldMatchPermutation() {
+        expect(IteratorThatIs.iteratorOfInAnyOrder("a", "b", "a").matches(Arrays.asList("a", "a", "b").iterator())).toBe(true);
+        expect(IteratorThatIs.iteratorOfInAnyOrder("a").matches(null)).toBe(false);
+    }
+
+    @Test
+    public void iteratorOfInAnyOrderShouldDescribeMismatchOfConsumedIterator() {
+        final MismatchDescribingMatcher<Iterator<String>> matcher = IteratorThatIs.iteratorOfInAnyOrder("a", "b");
+        final Iterator<String> iterator = Arrays.asList("b", "c", "c").iterator();
+
+        final MatchResult result = matcher.evaluate(iterator);
+
+        expect(result.isMatch()).toBe(false);
+        expect(iterator.hasNext()).toBe(false);
+        expect(new StandardDescriptionFormat().format(result.describe().get())).toBe("missing \"a\" x 1; surplus \"c\" x 2");
+    }
+
+}
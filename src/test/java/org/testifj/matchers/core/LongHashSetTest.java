@@ -0,0 +1,51 @@
+package org.testifj.matchers.core;
+
+import org.junit.Test;
+
+import static org.testifj.Expect.expect;
+
+public class LongHashSetTest {
+
+    @Test
+    public void addedValuesShouldBeContained() {
+        final LongHashSet set = new LongHashSet(4);
+
+        expect(set.add(1)).toBe(true);
+        expect(set.add(Long.MIN_VALUE)).toBe(true);
+        expect(set.add(1)).toBe(false);
+
+        expect(set.size()).toBe(2);
+        expect(set.contains(1)).toBe(true);
+        expect(set.contains(Long.MIN_VALUE)).toBe(true);
+        expect(set.contains(0)).toBe(false);
+    }
+
+    @Test
+    public void slotOfValueShouldReferToValue() {
+        final LongHashSet set = LongHashSet.of(new int[]{10, 20, 30});
+
+        expect(set.slotOf(40)).toBe(-1);
+        expect(set.valueAt(set.slotOf(20))).toBe(20L);
+        expect(set.isOccupied(set.slotOf(30))).toBe(true);
+    }
+
+    @Test
+    public void setShouldHoldManyCollidingValues() {
+        final long[] values = new long[10000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) i << 32;
+        }
+
+        final LongHashSet set = LongHashSet.of(values);
+
+        expect(set.size()).toBe(values.length);
+
+        for (long value : values) {
+            expect(set.contains(value)).toBe(true);
+        }
+
+        expect(set.contains(1L << 48)).toBe(false);
+    }
+
+}
@@ -0,0 +1,53 @@
+package org.testifj.matchers.core;
+
+import org.testifj.Benchmark;
+import org.testifj.Matcher;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compares {@link CollectionThatIs#collectionOfInAnyOrder(Object[])} with sorting copies of both sides
+ * and comparing them in order.
+ */
+public final class MultisetComparisonBenchmark {
+
+    private static final int ITERATIONS = 20;
+
+    public static void main(String[] args) {
+        final List<String> expected = new ArrayList<>();
+
+        for (int i = 0; i < 200000; i++) {
+            expected.add("element-" + (i % 50000));
+        }
+
+        final List<String> actual = new ArrayList<>(expected);
+
+        Collections.shuffle(actual);
+
+        final String[] elements = expected.toArray(new String[expected.size()]);
+        final Matcher<List<String>> sortingMatcher = sortingCollectionOf(elements);
+        final Matcher<List<String>> multisetMatcher = CollectionThatIs.collectionOfInAnyOrder(elements);
+
+        Benchmark.report("sort and compare, 200000 elements",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> sortingMatcher.matches(actual) ? 1 : 0));
+
+        Benchmark.report("CollectionThatIs.collectionOfInAnyOrder, 200000 elements",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> multisetMatcher.matches(actual) ? 1 : 0));
+    }
+
+    private static Matcher<List<String>> sortingCollectionOf(String... elements) {
+        return instance -> {
+            final List<String> sortedExpected = new ArrayList<>();
+            final List<String> sortedActual = new ArrayList<>(instance);
+
+            Collections.addAll(sortedExpected, elements);
+            Collections.sort(sortedExpected);
+            Collections.sort(sortedActual);
+
+            return sortedExpected.equals(sortedActual);
+        };
+    }
+
+}
@@ -0,0 +1,89 @@
+package org.testifj.matchers.core;
+
+import org.junit.Test;
+import org.testifj.StandardDescriptionFormat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.testifj.Expect.expect;
+
+public class MultisetComparisonTest {
+
+    @Test
+    public void matchesShouldAcceptPermutationOfExpectedElements() {
+        expect(MultisetComparison.matches(new Object[]{"a", "b", "a"}, Arrays.asList("b", "a", "a").iterator())).toBe(true);
+        expect(MultisetComparison.matches(new Object[0], Collections.emptyIterator())).toBe(true);
+    }
+
+    @Test
+    public void matchesShouldConsiderNullElements() {
+        expect(MultisetComparison.matches(new Object[]{null, "a"}, Arrays.asList("a", null).iterator())).toBe(true);
+        expect(MultisetComparison.matches(new Object[]{null, "a"}, Arrays.asList("a", "a").iterator())).toBe(false);
+    }
+
+    @Test
+    public void matchesShouldRejectDifferentNumberOfOccurrences() {
+        expect(MultisetComparison.matches(new Object[]{"a", "b"}, Arrays.asList("a", "b", "b").iterator())).toBe(false);
+        expect(MultisetComparison.matches(new Object[]{"a", "b", "b"}, Arrays.asList("a", "b").iterator())).toBe(false);
+    }
+
+    @Test
+    public void matchesShouldStopAtFirstSurplusElement() {
+        final List<Object> actual = new ArrayList<>(Arrays.asList("a", "c", "b"));
+        final int[] consumed = new int[1];
+
+        final boolean matches = MultisetComparison.matches(new Object[]{"a", "b", "b"}, new Iterator<Object>() {
+            @Override
+            public boolean hasNext() {
+                return consumed[0] < actual.size();
+            }
+
+            @Override
+            public Object next() {
+                return actual.get(consumed[0]++);
+            }
+        });
+
+        expect(matches).toBe(false);
+        expect(consumed[0]).toBe(2);
+    }
+
+    @Test
+    public void compareShouldReportMissingAndSurplusElementsWithCounts() {
+        final MultisetComparison comparison = MultisetComparison.compare(new Object[]{"a", "b", "a", "a"}, Arrays.asList("c", "a", "b", "c").iterator());
+
+        expect(comparison.isEqual()).toBe(false);
+        expect(comparison.getMissing().keySet()).toBe(Collections.singleton("a"));
+        expect(comparison.getMissing().get("a")[0]).toBe(2);
+        expect(comparison.getSurplus().get("c")[0]).toBe(2);
+        expect(describe(comparison)).toBe("missing \"a\" x 2; surplus \"c\" x 2");
+    }
+
+    @Test
+    public void descriptionShouldOmitEmptySides() {
+        expect(describe(MultisetComparison.compare(new Object[]{1}, Collections.emptyIterator()))).toBe("missing 1 x 1");
+        expect(describe(MultisetComparison.compare(new Object[0], Arrays.asList(1, 1).iterator()))).toBe("surplus 1 x 2");
+    }
+
+    @Test
+    public void descriptionShouldBeLimitedToMaximumReportedElements() {
+        final List<Object> actual = new ArrayList<>();
+
+        for (int i = 0; i < Containment.MAXIMUM_REPORTED_ELEMENTS + 5; i++) {
+            actual.add(i);
+        }
+
+        expect(describe(MultisetComparison.compare(new Object[0], actual.iterator()))).toBe(
+                "surplus 0 x 1, 1 x 1, 2 x 1, 3 x 1, 4 x 1, 5 x 1, 6 x 1, 7 x 1, 8 x 1, 9 x 1, 10 x 1, 11 x 1, 12 x 1, "
+                        + "13 x 1, 14 x 1, 15 x 1, 16 x 1, 17 x 1, 18 x 1, 19 x 1 and 5 more");
+    }
+
+    private static String describe(MultisetComparison comparison) {
+        return new StandardDescriptionFormat().format(comparison.describe());
+    }
+
+}
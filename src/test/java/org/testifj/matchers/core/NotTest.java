@@ -1,13 +1,18 @@
 package org.testifj.matchers.core;
 
 import org.junit.Test;
+import org.testifj.MatchResult;
 import org.testifj.Matcher;
+import org.testifj.StandardDescriptionFormat;
+
+import java.util.Optional;
 
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.testifj.Expect.expect;
 
 public class NotTest {
 
@@ -25,4 +30,14 @@ public class NotTest {
         assertTrue(notMatcher.matches("bar"));
     }
 
+    @Test
+    public void evaluateShouldReportValueMatchingNegatedMatcher() {
+        final Matcher<String> notFoo = Not.not("foo"::equals);
+        final MatchResult result = notFoo.evaluate("foo");
+
+        expect(notFoo.evaluate("bar") == MatchResult.match()).toBe(true);
+        expect(result.getFailedMatcher()).toBe(Optional.of(notFoo));
+        expect(new StandardDescriptionFormat().format(result.getDescription().get())).toBe("\"foo\" matches the negated matcher");
+    }
+
 }
@@ -64,4 +64,44 @@ public class NumberThatIsTest {
         assertFalse(NumberThatIs.between(5, 10).matches(null));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void primitiveIntMatchersShouldMatchWithoutBoxing() {
+        assertTrue(NumberThatIs.greaterThan(5).matches(6));
+        assertTrue(NumberThatIs.atLeast(5).matches(5));
+        assertTrue(NumberThatIs.lessThan(5).matches(4));
+        assertTrue(NumberThatIs.atMost(5).matches(5));
+        assertTrue(NumberThatIs.between(5, 10).matches(10));
+        assertFalse(NumberThatIs.between(5, 10).matches(11));
+    }
+
+    @Test
+    public void primitiveLongMatchersShouldMatchLongValues() {
+        assertTrue(NumberThatIs.greaterThan(5L).matches(Long.MAX_VALUE));
+        assertFalse(NumberThatIs.greaterThan(5L).matches(5L));
+        assertTrue(NumberThatIs.atLeast(5L).matches(5L));
+        assertFalse(NumberThatIs.atLeast(5L).matches(4L));
+        assertTrue(NumberThatIs.lessThan(5L).matches(Long.MIN_VALUE));
+        assertFalse(NumberThatIs.lessThan(5L).matches(5L));
+        assertTrue(NumberThatIs.atMost(5L).matches(5L));
+        assertFalse(NumberThatIs.atMost(5L).matches(6L));
+        assertTrue(NumberThatIs.between(5L, 10L).matches(7L));
+        assertFalse(NumberThatIs.between(5L, 10L).matches(11L));
+        assertFalse(NumberThatIs.between(5L, 10L).matches((Long) null));
+    }
+
+    @Test
+    public void primitiveDoubleMatchersShouldMatchDoubleValues() {
+        assertTrue(NumberThatIs.greaterThan(0.5).matches(0.6));
+        assertFalse(NumberThatIs.greaterThan(0.5).matches(0.5));
+        assertTrue(NumberThatIs.atLeast(0.5).matches(0.5));
+        assertFalse(NumberThatIs.atLeast(0.5).matches(0.4));
+        assertTrue(NumberThatIs.lessThan(0.5).matches(-0.5));
+        assertFalse(NumberThatIs.lessThan(0.5).matches(Double.NaN));
+        assertTrue(NumberThatIs.atMost(0.5).matches(0.5));
+        assertFalse(NumberThatIs.atMost(0.5).matches(0.6));
+        assertTrue(NumberThatIs.between(0.5, 1.0).matches(0.75));
+        assertFalse(NumberThatIs.between(0.5, 1.0).matches(1.5));
+        assertFalse(NumberThatIs.between(0.5, 1.0).matches((Double) null));
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.testifj.matchers.core;
+
+import org.testifj.Benchmark;
+import org.testifj.Matcher;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Compares sequential evaluation of an expensive element matcher with {@link ParallelElements}, for a
+ * list whose elements all match and for a list with a mismatch near the start.
+ */
+public final class ParallelElementsBenchmark {
+
+    private static final int ITERATIONS = 10;
+
+    public static void main(String[] args) {
+        final List<Integer> list = new ArrayList<>();
+
+        for (int i = 0; i < 2000000; i++) {
+            list.add(i);
+        }
+
+        final List<Integer> listWithEarlyMismatch = new ArrayList<>(list);
+
+        listWithEarlyMismatch.set(1000, -1);
+
+        final Matcher<Integer> elementMatcher = ParallelElementsBenchmark::expensiveNonNegative;
+        final Matcher<List<Integer>> sequentialMatcher = l -> {
+            for (Integer element : l) {
+                if (!elementMatcher.matches(element)) {
+                    return false;
+                }
+            }
+
+            return true;
+        };
+        final Matcher<List<Integer>> parallelMatcher = ParallelElements.eachElement(elementMatcher).inList();
+
+        Benchmark.report("sequential, 2M elements",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> sequentialMatcher.matches(list) ? 1 : 0));
+        Benchmark.report("ParallelElements, 2M elements",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> parallelMatcher.matches(list) ? 1 : 0));
+        Benchmark.report("ParallelElements, 2M elements, mismatch at 1000",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> parallelMatcher.matches(listWithEarlyMismatch) ? 1 : 0));
+    }
+
+    private static boolean expensiveNonNegative(Integer element) {
+        long hash = element;
+
+        for (int i = 0; i < 100; i++) {
+            hash = hash * 31 + i;
+        }
+
+        return element >= 0 && hash != Long.MIN_VALUE;
+    }
+
+}
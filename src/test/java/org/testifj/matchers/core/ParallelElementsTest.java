@@ -0,0 +1,139 @@
+package org.testifj.matchers.core;
+
+import org.junit.After;
+import org.junit.Test;
+import org.testifj.Description;
+import org.testifj.MatchResult;
+import org.testifj.Matcher;
+import org.testifj.MismatchDescribingMatcher;
+import org.testifj.StandardDescriptionFormat;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.testifj.Expect.expect;
+
+public class ParallelElementsTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void eachElementShouldNotAcceptNullMatcher() {
+        expect(() -> ParallelElements.eachElement(null)).toThrow(AssertionError.class);
+        expect(() -> ParallelElements.eachElement((Integer n) -> true).inPool(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void parallelElementsShouldUseCommonPoolByDefault() {
+        final ParallelElements<Integer> elements = ParallelElements.eachElement((Integer n) -> true);
+
+        expect(elements.getPool()).toBe(ForkJoinPool.commonPool());
+        expect(elements.getBatchSize()).toBe(0);
+        expect(elements.inPool(pool).withBatchSize(10).getPool()).toBe(pool);
+        expect(elements.withBatchSize(10).getBatchSize()).toBe(10);
+    }
+
+    @Test
+    public void eachElementShouldMatchListWithMatchingElements() {
+        final MismatchDescribingMatcher<List<Integer>> matcher = ParallelElements.eachElement(positive()).inPool(pool).withBatchSize(2).inList();
+
+        expect(matcher.matches(Arrays.asList(1, 2, 3, 4, 5))).toBe(true);
+        expect(matcher.matches(new LinkedList<>(Arrays.asList(1, 2, 3)))).toBe(true);
+        expect(matcher.matches(null)).toBe(false);
+    }
+
+    @Test
+    public void eachElementShouldDescribeLowestFailingIndex() {
+        final MismatchDescribingMatcher<List<Integer>> matcher = ParallelElements.eachElement(positive()).inPool(pool).withBatchSize(2).inList();
+        final List<Integer> list = Arrays.asList(1, 2, 3, -4, 5, -6, 7);
+
+        expect(matcher.matches(list)).toBe(false);
+        expect(describe(matcher.describeMismatch(list))).toBe("element at index 3 doesn't match: -4");
+        expect(describe(matcher.describeMismatch(Arrays.asList(1, -2)))).toBe("element at index 1 doesn't match: -2");
+    }
+
+    @Test
+    public void eachElementShouldIncludeMismatchDescriptionOfElementMatcher() {
+        final MismatchDescribingMatcher<List<List<String>>> matcher = ParallelElements.eachElement(CollectionThat.<String, List<String>>containsAll("a"))
+                .inPool(pool)
+                .inList();
+        final List<List<String>> list = Arrays.asList(Arrays.asList("a"), Arrays.asList("b"));
+
+        expect(matcher.matches(list)).toBe(false);
+        expect(describe(matcher.describeMismatch(list))).toBe("element at index 1 doesn't match: [b] (missing elements [\"a\"])");
+    }
+
+    @Test
+    public void eachElementShouldMatchArrays() {
+        final MismatchDescribingMatcher<Integer[]> matcher = ParallelElements.eachElement(positive()).inPool(pool).withBatchSize(1).inArray();
+
+        expect(matcher.matches(new Integer[]{1, 2})).toBe(true);
+        expect(matcher.matches(new Integer[]{1, 0, 2})).toBe(false);
+    }
+
+    @Test
+    public void eachElementShouldDescribeMismatchOfConsumedSpliterator() {
+        final MismatchDescribingMatcher<Spliterator<Integer>> matcher = ParallelElements.eachElement(positive()).inPool(pool).inSpliterator();
+        final Spliterator<Integer> spliterator = Arrays.asList(1, 2, -3).spliterator();
+
+        final MatchResult result = matcher.evaluate(spliterator);
+
+        expect(result.isMatch()).toBe(false);
+        expect(describe(result.describe().get())).toBe("at [2]: -3 doesn't match");
+    }
+
+    @Test
+    public void describeMismatchOfConsumedSpliteratorShouldNotClaimThatNoElementMatches() {
+        final MismatchDescribingMatcher<Spliterator<Integer>> matcher = ParallelElements.eachElement(positive()).inPool(pool).inSpliterator();
+        final Spliterator<Integer> spliterator = Arrays.asList(1, 2, -3).spliterator();
+
+        expect(matcher.matches(spliterator)).toBe(false);
+        expect(describe(matcher.describeMismatch(spliterator))).toBe("no failing element found");
+    }
+
+    @Test
+    public void someElementShouldMatchIfAnyElementMatches() {
+        final MismatchDescribingMatcher<List<Integer>> matcher = ParallelElements.someElement(positive()).inPool(pool).withBatchSize(1).inList();
+
+        expect(matcher.matches(Arrays.asList(-1, -2, 3))).toBe(true);
+        expect(matcher.matches(Arrays.asList(-1, -2))).toBe(false);
+        expect(describe(matcher.describeMismatch(Arrays.asList(-1, -2)))).toBe("no element matches");
+    }
+
+    private static Matcher<Integer> positive() {
+        return n -> n > 0;
+    }
+
+    private static String describe(Description description) {
+        return new StandardDescriptionFormat().format(description);
+    }
+
+    @Test
+    public void evaluateShouldReportResultOfElementMatcherAtLowestFailingIndex() {
+        final Matcher<Integer> positive = positive();
+        final MatchResult result = ParallelElements.eachElement(positive).inPool(pool).withBatchSize(1).<List<Integer>>inList()
+                .evaluate(Arrays.asList(1, 2, -3, -4));
+
+        expect(result.getFailedMatcher()).toBe(Optional.of(positive));
+        expect(result.getPath()).toBe("[2]");
+        expect(result.getValue()).toBe(-3);
+    }
+
+    @Test
+    public void evaluateShouldIncludeDescriptionOfElementMatcher() {
+        final MatchResult result = ParallelElements.eachElement(CollectionThat.<String, List<String>>containsAll("a")).inPool(pool).<List<List<String>>>inList()
+                .evaluate(Arrays.asList(Arrays.asList("a"), Arrays.asList("b")));
+
+        expect(describe(result.describe().get())).toBe("at [1]: missing elements [\"a\"]");
+    }
+
+}
@@ -0,0 +1,80 @@
+package org.testifj.matchers.core;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.testifj.Expect.expect;
+
+public class ParallelSearchTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    @After
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void searchShouldReturnNullIfNoElementMatches() {
+        expect(ParallelSearch.search(pool, 1000, i -> i, (Integer n) -> n < 0, 10) == null).toBe(true);
+        expect(ParallelSearch.search(pool, 0, i -> i, (Integer n) -> true, 10) == null).toBe(true);
+    }
+
+    @Test
+    public void searchShouldReturnLowestMatchingIndex() {
+        for (int attempt = 0; attempt < 20; attempt++) {
+            final ParallelSearch.Match match = ParallelSearch.search(pool, 100000, i -> i, (Integer n) -> n % 997 == 996 || n == 99999, 16);
+
+            expect(match.getIndex()).toBe(996L);
+            expect(match.getElement()).toBe(996);
+        }
+    }
+
+    @Test
+    public void searchShouldSkipElementsBeyondMatch() {
+        final AtomicInteger evaluated = new AtomicInteger();
+
+        ParallelSearch.search(pool, 10000000, i -> i, (Integer n) -> evaluated.incrementAndGet() > 0 && n == 10, 1000);
+
+        expect(evaluated.get() < 1000000).toBe(true);
+    }
+
+    @Test
+    public void searchShouldReturnLowestMatchingIndexOfSizedSpliterator() {
+        final List<Integer> elements = new ArrayList<>();
+
+        IntStream.range(0, 50000).forEach(elements::add);
+
+        final ParallelSearch.Match match = ParallelSearch.search(pool, elements.spliterator(), (Integer n) -> n >= 31415, 64);
+
+        expect(match.getIndex()).toBe(31415L);
+    }
+
+    @Test
+    public void searchShouldReturnLowestMatchingIndexOfUnsizedSpliterator() {
+        final Iterator<Integer> iterator = IntStream.range(0, 50000).iterator();
+        final Spliterator<Integer> spliterator = Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED);
+
+        final ParallelSearch.Match match = ParallelSearch.search(pool, spliterator, (Integer n) -> n == 4242 || n == 40000, 64);
+
+        expect(match.getIndex()).toBe(4242L);
+        expect(match.getElement()).toBe(4242);
+    }
+
+    @Test
+    public void exceptionFromMatcherShouldBePropagated() {
+        expect(() -> ParallelSearch.search(pool, 1000, i -> i, (Integer n) -> {
+            throw new IllegalStateException();
+        }, 10)).toThrow(IllegalStateException.class);
+    }
+
+}
@@ -0,0 +1,31 @@
+package org.testifj.matchers.core;
+
+import org.testifj.Benchmark;
+import org.testifj.Matcher;
+
+import java.util.regex.Pattern;
+
+/**
+ * Compares creating a {@link StringThatIs#ofPattern(String)} matcher with a cached pattern to compiling
+ * the pattern each time, as in a table driven specification that creates matchers in a loop.
+ */
+public final class PatternCacheBenchmark {
+
+    private static final int ITERATIONS = 100000;
+
+    private static final String REGEX = "[a-z]+-\\d{4}-(?:alpha|beta|gamma)\\.[a-z]{2,3}";
+
+    public static void main(String[] args) {
+        Benchmark.report("compile and match",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> {
+                    final Pattern pattern = Pattern.compile(REGEX);
+                    final Matcher<String> matcher = string -> pattern.matcher(string).matches();
+
+                    return matcher.matches("release-2015-beta.io") ? 1 : 0;
+                }));
+
+        Benchmark.report("StringThatIs.ofPattern and match",
+                Benchmark.nanosPerOperation(ITERATIONS, () -> StringThatIs.ofPattern(REGEX).matches("release-2015-beta.io") ? 1 : 0));
+    }
+
+}
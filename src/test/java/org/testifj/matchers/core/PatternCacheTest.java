@@ -0,0 +1,104 @@
+package org.testifj.matchers.core;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Pattern;
+
+import static org.testifj.Expect.expect;
+
+public class PatternCacheTest {
+
+    @Test
+    public void constructorShouldNotAcceptNonPositiveMaximumSize() {
+        expect(() -> new PatternCache(0)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void getShouldNotAcceptNullRegex() {
+        expect(() -> new PatternCache(10).get(null, 0)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void getShouldReturnCachedPatternForSameRegexAndFlags() {
+        final PatternCache cache = new PatternCache(10);
+        final Pattern pattern = cache.get("a+b", 0);
+
+        expect(cache.get("a+b", 0) == pattern).toBe(true);
+        expect(cache.getHitCount()).toBe(1L);
+        expect(cache.getMissCount()).toBe(1L);
+    }
+
+    @Test
+    public void patternsWithDifferentFlagsShouldBeCachedSeparately() {
+        final PatternCache cache = new PatternCache(10);
+
+        final Pattern caseSensitive = cache.get("abc", 0);
+        final Pattern caseInsensitive = cache.get("abc", Pattern.CASE_INSENSITIVE);
+
+        expect(caseSensitive == caseInsensitive).toBe(false);
+        expect(caseInsensitive.flags()).toBe(Pattern.CASE_INSENSITIVE);
+        expect(cache.size()).toBe(2);
+    }
+
+    @Test
+    public void cacheShouldNotExceedMaximumSize() {
+        final PatternCache cache = new PatternCache(32);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.get("x" + i, 0);
+        }
+
+        expect(cache.size() <= cache.getMaximumSize()).toBe(true);
+        expect(cache.getMaximumSize()).toBe(32);
+    }
+
+    @Test
+    public void leastRecentlyUsedPatternShouldBeEvicted() {
+        final PatternCache cache = new PatternCache(2);
+        final Pattern first = cache.get("a", 0);
+
+        // With a single entry per segment, the segment of "a" keeps whichever pattern was used last
+        for (int i = 0; i < 100; i++) {
+            cache.get("b" + i, 0);
+        }
+
+        expect(cache.size() <= 2).toBe(true);
+        expect(cache.get("a", 0) == first).toBe(false);
+    }
+
+    @Test
+    public void cacheShouldBeUsableFromMultipleThreads() throws Exception {
+        final PatternCache cache = new PatternCache(64);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<Boolean>> results = new ArrayList<>();
+
+            for (int t = 0; t < 4; t++) {
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10000; i++) {
+                        if (!cache.get("p" + (i % 100), 0).pattern().equals("p" + (i % 100))) {
+                            return false;
+                        }
+                    }
+
+                    return true;
+                }));
+            }
+
+            for (Future<Boolean> result : results) {
+                expect(result.get()).toBe(true);
+            }
+
+            expect(cache.size() <= 64).toBe(true);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+}
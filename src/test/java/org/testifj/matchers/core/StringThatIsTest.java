@@ -129,4 +129,21 @@ public class StringThatIsTest {
         assertFalse(atLeastOfLength(3).and(alphaNumeric()).matches(null));
         assertFalse(atLeastOfLength(3).and(alphaNumeric()).matches(""));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void ofPatternShouldNotAcceptNullPattern() {
+        expect(() -> StringThatIs.ofPattern(null)).toThrow(AssertionError.class);
+    }
+
+    @Test
+    public void ofPatternShouldReuseCompiledPattern() {
+        final long missCount = PatternCache.shared().getMissCount();
+
+        for (int i = 0; i < 10; i++) {
+            expect(StringThatIs.ofPattern("cached-[0-9]+").matches("cached-" + i)).toBe(true);
+        }
+
+        expect(PatternCache.shared().getMissCount() - missCount <= 1).toBe(true);
+    }
+
+}
@@ -0,0 +1,62 @@
+package org.testifj.matchers.core;
+
+import org.junit.Test;
+import org.testifj.StandardDescriptionFormat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.testifj.Expect.expect;
+import static org.testifj.Expect.expectEventually;
+import static org.testifj.matchers.core.StringThatIs.stringContaining;
+
+public class ThreadDumpsTest {
+
+    @Test
+    public void currentThreadShouldNotBeBusy() {
+        expect(ThreadDumps.isBusy(Thread.currentThread(), Thread.currentThread().getStackTrace())).toBe(false);
+    }
+
+    @Test
+    public void threadWithoutStackShouldNotBeBusy() {
+        expect(ThreadDumps.isBusy(new Thread(), new StackTraceElement[0])).toBe(false);
+    }
+
+    @Test
+    public void idlePoolThreadShouldNotBeBusy() {
+        final StackTraceElement[] stack = {
+                new StackTraceElement("java.util.concurrent.LinkedBlockingQueue", "take", null, -1),
+                new StackTraceElement("java.util.concurrent.ThreadPoolExecutor", "getTask", null, -1),
+                new StackTraceElement("java.util.concurrent.ThreadPoolExecutor", "runWorker", null, -1)
+        };
+
+        expect(ThreadDumps.isBusy(new Thread(), stack)).toBe(false);
+    }
+
+    @Test
+    public void describeBusyThreadsShouldIncludeStackOfBusyThreads() throws Exception {
+        final CountDownLatch release = new CountDownLatch(1);
+        final Thread thread = new Thread(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "thread-dumps-test");
+
+        thread.start();
+
+        try {
+            expectEventually(thread::getState).within(5, TimeUnit.SECONDS).toBe(Thread.State.WAITING);
+
+            final String description = new StandardDescriptionFormat().format(ThreadDumps.describeBusyThreads());
+
+            expect(description).toBe(stringContaining("\"thread-dumps-test\" WAITING"));
+            expect(description).toBe(stringContaining("java.util.concurrent.CountDownLatch.await"));
+        } finally {
+            release.countDown();
+            thread.join();
+        }
+    }
+
+}